@@ -0,0 +1,85 @@
+package com.example.accountz.aop;
+
+import com.example.accountz.config.TransactionProperties;
+import com.example.accountz.exception.GlobalException;
+import com.example.accountz.type.ErrorCode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.OptimisticLockException;
+import java.util.concurrent.ThreadLocalRandom;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@Slf4j
+@Aspect
+@Component
+@RequiredArgsConstructor
+// 트랜잭션 어드바이스(LOWEST_PRECEDENCE)보다 바깥에서 실행되어야 커밋 시점 충돌까지 재시도할 수 있다.
+@Order(Ordered.LOWEST_PRECEDENCE - 1)
+public class OptimisticLockRetryAspect {
+
+  private final TransactionProperties transactionProperties;
+  private final MeterRegistry meterRegistry;
+
+  @Around("@annotation(com.example.accountz.aop.RetryOnOptimisticLock)")
+  public Object retry(ProceedingJoinPoint joinPoint) throws Throwable {
+    // 바깥 트랜잭션에 참여한 경우 롤백 전용으로 표시된 트랜잭션을 재사용하게 되므로
+    // 가장 바깥의 재시도 경계에 맡긴다.
+    if (TransactionSynchronizationManager.isActualTransactionActive()) {
+      return joinPoint.proceed();
+    }
+    String operation = joinPoint.getSignature().getName();
+    TransactionProperties.Retry retry = transactionProperties.getRetry();
+    int maxRetries = Math.max(0, retry.getMaxAttempts() - 1);
+
+    for (int retries = 0; ; retries++) {
+      try {
+        Object result = joinPoint.proceed();
+        retriesPerCall(operation).record(retries);
+        return result;
+      } catch (OptimisticLockingFailureException
+               | OptimisticLockException e) {
+        if (retries >= maxRetries) {
+          retriesPerCall(operation).record(retries);
+          exhaustedRetries(operation).increment();
+          log.warn("Optimistic lock retries exhausted. operation="
+              + operation);
+          throw new GlobalException(ErrorCode.CONCURRENT_UPDATE_CONFLICT);
+        }
+        Thread.sleep(backoffMillis(retry, retries));
+      }
+    }
+  }
+
+  // full jitter: 0 ~ min(max, initial * 2^retries)
+  private static long backoffMillis(
+      TransactionProperties.Retry retry, int retries) {
+    long initial = retry.getInitialBackoff().toMillis();
+    long cap = Math.min(retry.getMaxBackoff().toMillis(),
+        initial << Math.min(retries, 20));
+    return cap <= 0 ? 0L : ThreadLocalRandom.current().nextLong(cap + 1);
+  }
+
+  private DistributionSummary retriesPerCall(String operation) {
+    return DistributionSummary.builder("transaction.optimistic.retries")
+        .description("Optimistic lock retries per call")
+        .tag("operation", operation)
+        .register(meterRegistry);
+  }
+
+  private Counter exhaustedRetries(String operation) {
+    return Counter.builder("transaction.optimistic.retries.exhausted")
+        .description("Calls that failed after using the whole retry budget")
+        .tag("operation", operation)
+        .register(meterRegistry);
+  }
+}
@@ -0,0 +1,16 @@
+package com.example.accountz.aop;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 낙관적 락 충돌 시 {@code @Transactional} 단위 전체를 다시 실행한다.
+ * 트랜잭션 바깥에서 동작하므로 트랜잭션을 시작하는 public 메서드에만 사용한다.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface RetryOnOptimisticLock {
+
+}
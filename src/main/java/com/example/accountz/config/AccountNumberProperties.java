@@ -0,0 +1,14 @@
+package com.example.accountz.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "account-number")
+public class AccountNumberProperties {
+
+  // 시퀀스 한 번으로 예약하는 번호 수 (account_number_seq 의 INCREMENT BY 이하)
+  private int blockSize = 100;
+}
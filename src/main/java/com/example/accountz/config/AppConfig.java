@@ -1,11 +1,18 @@
 package com.example.accountz.config;
 
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+@EnableAsync
+@EnableScheduling
 @Configuration
+@EnableConfigurationProperties({TransactionProperties.class,
+    RequestLimitProperties.class, AccountNumberProperties.class})
 public class AppConfig {
 
   @Bean
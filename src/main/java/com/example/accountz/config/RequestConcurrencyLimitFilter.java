@@ -0,0 +1,154 @@
+package com.example.accountz.config;
+
+import com.example.accountz.exception.ErrorResponse;
+import com.example.accountz.type.ErrorCode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.sql.SQLException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+// 가상 스레드 모드에서 요청이 한꺼번에 커넥션 풀로 몰리지 않도록 동시 처리 수를 제한한다.
+// JWT 필터(사용자 조회)보다 먼저 실행된다.
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+@ConditionalOnProperty(prefix = "request-limit", name = "enabled",
+    havingValue = "true")
+public class RequestConcurrencyLimitFilter extends OncePerRequestFilter {
+
+  private static final int DEFAULT_POOL_SIZE = 10;
+
+  private final Semaphore permits;
+  private final long acquireTimeoutMillis;
+  private final ObjectMapper objectMapper;
+  private final Counter rejected;
+
+  public RequestConcurrencyLimitFilter(RequestLimitProperties properties,
+      DataSource dataSource, ObjectMapper objectMapper,
+      MeterRegistry meterRegistry) {
+    int maxConcurrentRequests = properties.getMaxConcurrentRequests() > 0
+        ? properties.getMaxConcurrentRequests()
+        : poolSize(dataSource);
+    this.permits = new Semaphore(maxConcurrentRequests, true);
+    this.acquireTimeoutMillis = properties.getAcquireTimeout().toMillis();
+    this.objectMapper = objectMapper;
+    this.rejected = Counter.builder("http.server.requests.rejected")
+        .description("Requests rejected by the concurrency limit")
+        .register(meterRegistry);
+    Gauge.builder("http.server.requests.permits.available", permits,
+            Semaphore::availablePermits)
+        .register(meterRegistry);
+    log.info("request concurrency limit : " + maxConcurrentRequests);
+  }
+
+  @Override
+  protected void doFilterInternal(HttpServletRequest request,
+      HttpServletResponse response, FilterChain filterChain)
+      throws ServletException, IOException {
+    boolean acquired;
+    try {
+      acquired = permits.tryAcquire(
+          acquireTimeoutMillis, TimeUnit.MILLISECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      acquired = false;
+    }
+    if (!acquired) {
+      rejected.increment();
+      response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+      response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+      response.setCharacterEncoding("UTF-8");
+      response.getWriter().write(objectMapper.writeValueAsString(
+          new ErrorResponse(ErrorCode.TOO_MANY_CONCURRENT_REQUESTS,
+              ErrorCode.TOO_MANY_CONCURRENT_REQUESTS.getDescription())));
+      return;
+    }
+
+    boolean releaseOnComplete = false;
+    try {
+      filterChain.doFilter(request, response);
+      // 스트리밍 내보내기(StreamingResponseBody)는 첫 dispatch 가 끝난 뒤에도
+      // 다른 스레드에서 DB 를 읽으므로 비동기 처리가 끝날 때 반환한다.
+      if (request.isAsyncStarted()) {
+        request.getAsyncContext().addListener(new ReleaseListener());
+        releaseOnComplete = true;
+      }
+    } finally {
+      if (!releaseOnComplete) {
+        permits.release();
+      }
+    }
+  }
+
+  @Override
+  protected boolean shouldNotFilter(HttpServletRequest request) {
+    String uri = request.getRequestURI();
+    return uri.startsWith("/actuator") || uri.startsWith("/h2-console");
+  }
+
+  // 시간 초과 / 오류 뒤에도 onComplete 가 호출되므로 한 번만 반환한다.
+  private class ReleaseListener implements AsyncListener {
+
+    private final AtomicBoolean released = new AtomicBoolean();
+
+    @Override
+    public void onComplete(AsyncEvent event) {
+      release();
+    }
+
+    @Override
+    public void onTimeout(AsyncEvent event) {
+      release();
+    }
+
+    @Override
+    public void onError(AsyncEvent event) {
+      release();
+    }
+
+    // 비동기 처리를 다시 시작하면 리스너가 지워지므로 다시 등록한다.
+    @Override
+    public void onStartAsync(AsyncEvent event) {
+      event.getAsyncContext().addListener(this);
+    }
+
+    private void release() {
+      if (released.compareAndSet(false, true)) {
+        permits.release();
+      }
+    }
+  }
+
+  private static int poolSize(DataSource dataSource) {
+    try {
+      if (dataSource.isWrapperFor(HikariDataSource.class)) {
+        return dataSource.unwrap(HikariDataSource.class)
+            .getMaximumPoolSize();
+      }
+    } catch (SQLException e) {
+      log.warn("Failed to read connection pool size.", e);
+    }
+    return DEFAULT_POOL_SIZE;
+  }
+}
@@ -0,0 +1,20 @@
+package com.example.accountz.config;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "request-limit")
+public class RequestLimitProperties {
+
+  private boolean enabled;
+
+  // 동시에 처리할 최대 요청 수 (0 이면 DB 커넥션 풀 크기)
+  private int maxConcurrentRequests;
+
+  // 대기 시간을 넘기면 바로 거절
+  private Duration acquireTimeout = Duration.ofSeconds(2);
+}
@@ -0,0 +1,198 @@
+package com.example.accountz.config;
+
+import com.example.accountz.type.BalanceUpdateMode;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.Set;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "transaction")
+public class TransactionProperties {
+
+  // 기본 잔액 변경 방식
+  private BalanceUpdateMode balanceUpdateMode = BalanceUpdateMode.OPTIMISTIC;
+
+  // 경합이 잦아 항상 비관적 락을 사용할 계좌 번호
+  private Set<String> pessimisticAccounts = new HashSet<>();
+
+  private final Retry retry = new Retry();
+
+  private final Idempotency idempotency = new Idempotency();
+
+  private final FailureRecorder failureRecorder = new FailureRecorder();
+
+  private final Engine engine = new Engine();
+
+  private final GroupCommit groupCommit = new GroupCommit();
+
+  private final IdGenerator idGenerator = new IdGenerator();
+
+  private final History history = new History();
+
+  private final Summary summary = new Summary();
+
+  private final Statement statement = new Statement();
+
+  private final ReceiverSearch receiverSearch = new ReceiverSearch();
+
+  private final Partition partition = new Partition();
+
+  private final Archive archive = new Archive();
+
+  @Getter
+  @Setter
+  public static class Retry {
+
+    // 최초 실행을 포함한 최대 실행 횟수
+    private int maxAttempts = 5;
+    private Duration initialBackoff = Duration.ofMillis(5);
+    private Duration maxBackoff = Duration.ofMillis(100);
+  }
+
+  @Getter
+  @Setter
+  public static class Idempotency {
+
+    // 완료된 응답 보관 기간 (메모리 캐시 / 테이블 공통)
+    private Duration ttl = Duration.ofHours(24);
+    private long maxCachedKeys = 100_000;
+    // 같은 키로 처리 중인 요청을 기다리는 최대 시간
+    private Duration waitTimeout = Duration.ofSeconds(10);
+    // 만료된 키 삭제 주기 / 한 트랜잭션에서 지우는 행 수
+    private String purgeCron = "0 15 * * * *";
+    private int purgeBatchSize = 1000;
+  }
+
+  @Getter
+  @Setter
+  public static class FailureRecorder {
+
+    // 대기열이 가득 차면 offerTimeout 만큼 기다린 뒤 버린다.
+    private int capacity = 10_000;
+    private Duration offerTimeout = Duration.ofMillis(5);
+    private int batchSize = 100;
+    private Duration flushInterval = Duration.ofMillis(200);
+  }
+
+  @Getter
+  @Setter
+  public static class Engine {
+
+    // true 면 입금/출금/송금/취소를 계좌 파티션별 단일 쓰기 스레드에서 처리
+    private boolean enabled = false;
+    private int partitions = 4;
+    // 파티션별 ring buffer 크기 (2의 거듭제곱). 가득 차면 요청을 거절한다.
+    private int ringSize = 4096;
+    // 한 번의 그룹 커밋에 담는 최대 명령 수
+    private int maxBatchSize = 256;
+    private Duration responseTimeout = Duration.ofSeconds(10);
+  }
+
+  @Getter
+  @Setter
+  public static class GroupCommit {
+
+    // true 면 입금/출금을 window 단위로 모아 한 트랜잭션으로 커밋
+    private boolean enabled = false;
+    private Duration window = Duration.ofMillis(2);
+    private int maxBatchSize = 64;
+    // 대기열이 가득 차면 그룹 커밋 없이 바로 실행
+    private int capacity = 10_000;
+  }
+
+  @Getter
+  @Setter
+  public static class IdGenerator {
+
+    // 인스턴스마다 다르게 설정 (0 ~ 1023)
+    private int nodeId = 0;
+    // 거래 ID 시각 기준. 운영 중에 바꾸면 ID 가 겹칠 수 있다.
+    private Instant epoch = Instant.parse("2024-01-01T00:00:00Z");
+  }
+
+  @Getter
+  @Setter
+  public static class History {
+
+    // 거래 내역 조회 페이지 크기 (size 미지정 시 default, 초과 요청은 max 로 제한)
+    private int defaultPageSize = 20;
+    private int maxPageSize = 100;
+  }
+
+  @Getter
+  @Setter
+  public static class Summary {
+
+    // 일 집계 조회 기간 (days 미지정 시 default, 초과 요청은 max 로 제한)
+    private int defaultDays = 90;
+    private int maxDays = 90;
+    // hot 계좌의 하루 집계를 나누는 행 수 (입금이 한 행의 잠금에 몰리지 않도록)
+    private int hotShards = 16;
+  }
+
+  @Getter
+  @Setter
+  public static class Statement {
+
+    // 월별 거래 명세서 파일 / 체크포인트 위치 (월마다 하위 디렉터리)
+    private String outputDir = "statements";
+    // 한 번에 읽는 계좌 수. 묶음마다 파일 하나를 쓰고 체크포인트를 남긴다.
+    private int chunkSize = 500;
+    // 계좌별 명세서를 만드는 스레드 수 (DB 커넥션을 그만큼 사용)
+    private int parallelism = 4;
+  }
+
+  @Getter
+  @Setter
+  public static class ReceiverSearch {
+
+    // 메모리에 두는 받는 사람 이름 수 합계 (넘으면 오래 쓰지 않은 사용자 색인부터 제거)
+    private long maxIndexedNames = 1_000_000;
+    private Duration expireAfterAccess = Duration.ofMinutes(30);
+    // 다른 서버에서 저장한 거래를 반영하기 위해 색인을 다시 만드는 주기
+    private Duration rebuildInterval = Duration.ofMinutes(10);
+    // 검색 결과 수 (limit 미지정 시 default, 초과 요청은 max 로 제한)
+    private int defaultResults = 10;
+    private int maxResults = 50;
+  }
+
+  @Getter
+  @Setter
+  public static class Partition {
+
+    // false 면 월 파티션을 새로 만들거나 옮기지 않는다. (이미 옮긴 달은 계속 읽는다.)
+    private boolean enabled = true;
+    // hot 테이블에 두는 최근 개월 수 (이번 달 포함). 취소 가능 기간(1년)은 hot 에 둔다.
+    private int hotMonths = 13;
+    private String cron = "0 30 3 * * *";
+    // 파티션 목록 재조회 주기. 복사한 달은 이 시간이 지난 뒤 hot 에서 삭제한다.
+    private Duration refreshInterval = Duration.ofMinutes(1);
+    // 실행 잠금을 잡아 두는 최대 시간. 실행이 이보다 길면 다른 서버가 같이 실행할 수 있다.
+    private Duration lockAtMost = Duration.ofHours(1);
+  }
+
+  @Getter
+  @Setter
+  public static class Archive {
+
+    // false 면 파티션을 세그먼트 파일로 옮기지 않는다. (이미 옮긴 달은 계속 읽는다.)
+    private boolean enabled = true;
+    // DB 에 두는 개월 수 (이번 달 포함). 이보다 오래된 파티션은 세그먼트 파일로 옮기고
+    // 그 달 transactions 행을 지운다.
+    private int afterMonths = 25;
+    private String cron = "0 0 4 * * *";
+    // 세그먼트 파일 위치. 서버가 여럿이면 공유 디렉터리를 쓴다.
+    private String directory = "archive";
+    // 압축 블록당 행 수. 작을수록 한 사용자 조회 때 읽는 양이 줄고 압축률은 낮아진다.
+    private int blockRows = 1024;
+    // 블록 색인을 메모리에 두는 세그먼트(월) 수
+    private long openSegments = 64;
+    // 실행 잠금을 잡아 두는 최대 시간. 실행이 이보다 길면 다른 서버가 같이 실행할 수 있다.
+    private Duration lockAtMost = Duration.ofHours(6);
+  }
+}
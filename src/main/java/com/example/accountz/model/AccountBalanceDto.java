@@ -0,0 +1,29 @@
+package com.example.accountz.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+public class AccountBalanceDto {
+
+  @Getter
+  @Setter
+  @NoArgsConstructor
+  @AllArgsConstructor
+  @Builder
+  public static class Response {
+
+    private String accountNumber;
+    private Long balance;
+
+    public static Response from(AccountDto accountDto) {
+
+      return Response.builder()
+          .accountNumber(accountDto.getAccountNumber())
+          .balance(accountDto.getBalance())
+          .build();
+    }
+  }
+}
@@ -18,6 +18,7 @@ public class AccountDto {
   private Long userId;
   private String accountNumber;
   private Long balance;
+  private Integer balanceSlotCount;
 
   private LocalDateTime registeredAt;
   private LocalDateTime unRegisteredAt;
@@ -27,6 +28,7 @@ public class AccountDto {
         .userId(account.getId())
         .accountNumber(account.getAccountNumber())
         .balance(account.getBalance())
+        .balanceSlotCount(account.getBalanceSlotCount())
         .registeredAt(account.getRegisteredAt())
         .unRegisteredAt(account.getUnRegisteredAt())
         .build();
@@ -0,0 +1,60 @@
+package com.example.accountz.model;
+
+import com.example.accountz.persist.entity.DailyAccountSummaryEntity;
+import java.time.LocalDate;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// 기간 합계와 거래가 있었던 날의 일 집계
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class AccountSummaryDto {
+
+  private String accountNumber;
+  private LocalDate firstDate;
+  private LocalDate lastDate;
+  private Long creditAmount;
+  private Long debitAmount;
+  private Long transactionCount;
+  private List<Daily> days;
+
+  @Getter
+  @Setter
+  @AllArgsConstructor
+  @NoArgsConstructor
+  @Builder
+  public static class Daily {
+
+    private LocalDate date;
+    private Long creditAmount;
+    private Long debitAmount;
+    private Integer transactionCount;
+    private Long closingBalance;
+
+    // 같은 날 shard 행을 합친다. 마감 잔액 = 전날까지의 잔액 + 그날 순증감
+    public static Daily of(
+        long openingBalance, List<DailyAccountSummaryEntity> shards) {
+      long creditAmount = shards.stream()
+          .mapToLong(DailyAccountSummaryEntity::getCreditAmount).sum();
+      long debitAmount = shards.stream()
+          .mapToLong(DailyAccountSummaryEntity::getDebitAmount).sum();
+      return Daily.builder()
+          .date(shards.get(0).getSummaryDate())
+          .creditAmount(creditAmount)
+          .debitAmount(debitAmount)
+          .transactionCount(shards.stream()
+              .mapToInt(DailyAccountSummaryEntity::getTransactionCount).sum())
+          .closingBalance(openingBalance + shards.stream()
+              .mapToLong(DailyAccountSummaryEntity::getOpeningBalance).sum()
+              + creditAmount - debitAmount)
+          .build();
+    }
+  }
+}
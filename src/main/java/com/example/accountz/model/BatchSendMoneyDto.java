@@ -0,0 +1,59 @@
+package com.example.accountz.model;
+
+import com.example.accountz.type.BatchMode;
+import com.example.accountz.type.TransactionResultType;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+public class BatchSendMoneyDto {
+
+  @Getter
+  @Setter
+  @NoArgsConstructor
+  @AllArgsConstructor
+  public static class Request {
+
+    @NotNull
+    private BatchMode mode = BatchMode.ALL_OR_NOTHING;
+
+    @NotEmpty
+    @Size(max = 1000, message = "한 번에 1000건까지 송금할 수 있습니다.")
+    private List<@Valid SendUnderMillionMoneyDto.Request> items;
+  }
+
+  @Getter
+  @Setter
+  @NoArgsConstructor
+  @AllArgsConstructor
+  @Builder
+  public static class Response {
+
+    private BatchMode mode;
+    private long successCount;
+    private long failCount;
+    private List<BatchTransferDto> results;
+
+    public static Response from(
+        BatchMode mode, List<BatchTransferDto> results) {
+      long successCount = results.stream()
+          .filter(result -> result.getTransactionResultType()
+              == TransactionResultType.SUCCESS)
+          .count();
+
+      return Response.builder()
+          .mode(mode)
+          .successCount(successCount)
+          .failCount(results.size() - successCount)
+          .results(results)
+          .build();
+    }
+  }
+}
@@ -0,0 +1,56 @@
+package com.example.accountz.model;
+
+import com.example.accountz.persist.entity.TransactionEntity;
+import com.example.accountz.persist.entity.TransactionIdConverter;
+import com.example.accountz.type.ErrorCode;
+import com.example.accountz.type.TransactionResultType;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// 일괄 송금 건별 결과
+@Setter
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BatchTransferDto {
+
+  private int index;
+  private String userAccountNumber;
+  private String receiverAccountNumber;
+  private Long amount;
+  private TransactionResultType transactionResultType;
+  private String transactionId;
+  private LocalDateTime transactedAt;
+  private ErrorCode errorCode;
+
+  public static BatchTransferDto success(
+      int index, TransactionEntity transaction) {
+    return BatchTransferDto.builder()
+        .index(index)
+        .userAccountNumber(transaction.getAccount().getAccountNumber())
+        .receiverAccountNumber(transaction.getReceiverAccountNumber())
+        .amount(transaction.getAmount())
+        .transactionResultType(TransactionResultType.SUCCESS)
+        .transactionId(TransactionIdConverter.format(
+            transaction.getTransactionId()))
+        .transactedAt(transaction.getTransactedAt())
+        .build();
+  }
+
+  public static BatchTransferDto fail(int index,
+      SendUnderMillionMoneyDto.Request item, ErrorCode errorCode) {
+    return BatchTransferDto.builder()
+        .index(index)
+        .userAccountNumber(item.getUserAccountNumber())
+        .receiverAccountNumber(item.getReceiverAccountNumber())
+        .amount(item.getAmount())
+        .transactionResultType(TransactionResultType.FAIL)
+        .errorCode(errorCode)
+        .build();
+  }
+}
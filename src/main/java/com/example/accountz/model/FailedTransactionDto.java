@@ -0,0 +1,23 @@
+package com.example.accountz.model;
+
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// 기록 대기 중인 실패 거래
+@Setter
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class FailedTransactionDto {
+
+  private Long userId;
+  private String userAccountNumber;
+  private String receiverAccountNumber;
+  private Long amount;
+  private LocalDateTime failedAt;
+}
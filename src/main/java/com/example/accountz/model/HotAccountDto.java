@@ -0,0 +1,63 @@
+package com.example.accountz.model;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+public class HotAccountDto {
+
+  @Getter
+  @Setter
+  @NoArgsConstructor
+  @AllArgsConstructor
+  public static class EnableRequest {
+
+    @NotBlank
+    @Size(min = 10, max = 10)
+    private String accountNumber;
+
+    @NotNull
+    @Min(1)
+    @Max(64)
+    private Integer slots;
+  }
+
+  @Getter
+  @Setter
+  @NoArgsConstructor
+  @AllArgsConstructor
+  public static class DisableRequest {
+
+    @NotBlank
+    @Size(min = 10, max = 10)
+    private String accountNumber;
+  }
+
+  @Getter
+  @Setter
+  @NoArgsConstructor
+  @AllArgsConstructor
+  @Builder
+  public static class Response {
+
+    private String accountNumber;
+    private Long balance;
+    private Integer balanceSlotCount;
+
+    public static Response from(AccountDto accountDto) {
+
+      return Response.builder()
+          .accountNumber(accountDto.getAccountNumber())
+          .balance(accountDto.getBalance())
+          .balanceSlotCount(accountDto.getBalanceSlotCount())
+          .build();
+    }
+  }
+}
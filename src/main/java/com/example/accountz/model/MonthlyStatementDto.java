@@ -0,0 +1,43 @@
+package com.example.accountz.model;
+
+import com.example.accountz.type.TransactionType;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// 월별 거래 명세서 파일의 한 줄 (계좌 하나)
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class MonthlyStatementDto {
+
+  private String accountNumber;
+  private YearMonth month;
+  private Long openingBalance;
+  private Long closingBalance;
+  private List<Line> lines;
+
+  @Getter
+  @Setter
+  @AllArgsConstructor
+  @NoArgsConstructor
+  @Builder
+  public static class Line {
+
+    private String transactionId;
+    private TransactionType transactionType;
+    // 입금은 양수, 출금은 음수
+    private Long amount;
+    // 이 거래 직후 잔액
+    private Long balance;
+    private String counterparty;
+    private LocalDateTime transactedAt;
+  }
+}
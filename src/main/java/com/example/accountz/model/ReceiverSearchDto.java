@@ -0,0 +1,20 @@
+package com.example.accountz.model;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// 받는 사람 이름 검색 결과 (앞부분 일치 -> 중간 일치 순)
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class ReceiverSearchDto {
+
+  private String query;
+  private List<String> receivers;
+}
@@ -0,0 +1,7 @@
+package com.example.accountz.model;
+
+// 월별 거래 명세서 대상 계좌 (id keyset 순서로 조회)
+// userId: 계좌 소유자 (보관 세그먼트는 소유 사용자 순으로 읽는다.)
+public record StatementAccountRow(Long id, Long userId, String accountNumber) {
+
+}
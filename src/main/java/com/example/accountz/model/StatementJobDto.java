@@ -0,0 +1,43 @@
+package com.example.accountz.model;
+
+import jakarta.validation.constraints.NotNull;
+import java.time.YearMonth;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+public class StatementJobDto {
+
+  @Getter
+  @Setter
+  @AllArgsConstructor
+  @NoArgsConstructor
+  @Builder
+  public static class Request {
+
+    // yyyy-MM
+    @NotNull
+    private YearMonth month;
+
+    // true 면 체크포인트를 무시하고 처음 계좌부터 다시 만든다.
+    private boolean restart;
+  }
+
+  @Getter
+  @Setter
+  @AllArgsConstructor
+  @NoArgsConstructor
+  @Builder
+  public static class Response {
+
+    private YearMonth month;
+    // 이번 실행에서 처리한 계좌 수 (체크포인트 이전 계좌 제외)
+    private long accounts;
+    // 이어서 시작한 체크포인트 계좌 id (처음부터 실행했으면 0)
+    private long resumedAfterAccountId;
+    private long elapsedMillis;
+    private double accountsPerSecond;
+  }
+}
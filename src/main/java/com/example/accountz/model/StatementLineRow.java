@@ -0,0 +1,14 @@
+package com.example.accountz.model;
+
+import com.example.accountz.type.TransactionDirection;
+import com.example.accountz.type.TransactionType;
+import java.time.LocalDateTime;
+
+// 월별 거래 명세서 한 줄의 원본: 계좌 입장의 transaction_history 행
+public record StatementLineRow(Long transactionId,
+                               TransactionDirection direction,
+                               TransactionType transactionType, Long amount,
+                               LocalDateTime transactedAt, String senderName,
+                               String receiverName) {
+
+}
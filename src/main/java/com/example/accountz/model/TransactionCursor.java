@@ -0,0 +1,40 @@
+package com.example.accountz.model;
+
+import com.example.accountz.exception.GlobalException;
+import com.example.accountz.type.ErrorCode;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+// 거래 내역 페이지 커서: 직전 페이지 마지막 행의 (receiver, transactedAt, id)
+// receiver 는 이름 정렬 조회에서만 사용한다. 클라이언트에는 불투명한 문자열로 내려간다.
+public record TransactionCursor(String receiver, LocalDateTime transactedAt,
+                                Long id) {
+
+  // 첫 페이지: 모든 행보다 뒤에 있는 위치
+  private static final TransactionCursor FIRST = new TransactionCursor("",
+      LocalDateTime.of(9999, 12, 31, 23, 59, 59), Long.MAX_VALUE);
+
+  private static final String SEPARATOR = "\n";
+
+  public static TransactionCursor decode(String cursor) {
+    if (cursor == null || cursor.isEmpty()) {
+      return FIRST;
+    }
+    try {
+      String[] parts = new String(Base64.getUrlDecoder().decode(cursor),
+          StandardCharsets.UTF_8).split(SEPARATOR, 3);
+      return new TransactionCursor(parts[2],
+          LocalDateTime.parse(parts[0]), Long.parseLong(parts[1]));
+    } catch (RuntimeException e) {
+      throw new GlobalException(ErrorCode.INVALID_CURSOR);
+    }
+  }
+
+  public String encode() {
+    String value = transactedAt + SEPARATOR + id + SEPARATOR
+        + (receiver == null ? "" : receiver);
+    return Base64.getUrlEncoder().withoutPadding()
+        .encodeToString(value.getBytes(StandardCharsets.UTF_8));
+  }
+}
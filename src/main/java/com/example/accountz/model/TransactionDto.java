@@ -2,6 +2,7 @@ package com.example.accountz.model;
 
 
 import com.example.accountz.persist.entity.TransactionEntity;
+import com.example.accountz.persist.entity.TransactionIdConverter;
 import com.example.accountz.type.TransactionResultType;
 import com.example.accountz.type.TransactionType;
 import java.time.LocalDateTime;
@@ -35,7 +36,8 @@ public class TransactionDto {
         .transactionResultType(transaction.getTransactionResultType())
         .amount(transaction.getAmount())
         .balanceSnapshot(transaction.getBalanceSnapshot())
-        .transactionId(transaction.getTransactionId())
+        .transactionId(TransactionIdConverter.format(
+            transaction.getTransactionId()))
         .transactedAt(transaction.getTransactedAt())
         .build();
   }
@@ -0,0 +1,15 @@
+package com.example.accountz.model;
+
+import com.example.accountz.type.PartitionStatus;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+
+// transaction_history 월 파티션 한 개 (transaction_history_partitions 행)
+// prunedThroughTransactionId: transactions 행을 삭제한 달이면 삭제한 가장 큰 거래 ID
+public record TransactionHistoryPartition(YearMonth month,
+                                          PartitionStatus status,
+                                          long rowCount,
+                                          LocalDateTime updatedAt,
+                                          Long prunedThroughTransactionId) {
+
+}
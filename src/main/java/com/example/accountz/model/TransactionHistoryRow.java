@@ -0,0 +1,12 @@
+package com.example.accountz.model;
+
+import java.time.LocalDateTime;
+
+// 거래 내역 조회 projection: 응답에 필요한 컬럼 + 페이지 커서용 id 만 한 번의 조회로 읽는다.
+// receiverSortKey 는 이름순 조회에서 hot / 파티션 결과를 합칠 때 다시 계산하지 않도록 함께 읽는다.
+public record TransactionHistoryRow(String accountNumber, Long amount,
+                                    LocalDateTime transactedAt, String sender,
+                                    String receiver, Long id,
+                                    byte[] receiverSortKey) {
+
+}
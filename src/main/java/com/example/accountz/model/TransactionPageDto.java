@@ -0,0 +1,20 @@
+package com.example.accountz.model;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class TransactionPageDto {
+
+  private List<TransactionSearchDto> transactions;
+  // 다음 페이지 요청 시 cursor 로 전달. 마지막 페이지면 null
+  private String nextCursor;
+}
@@ -1,6 +1,5 @@
 package com.example.accountz.model;
 
-import com.example.accountz.persist.entity.TransactionEntity;
 import java.time.LocalDate;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -20,13 +19,13 @@ public class TransactionSearchDto {
   private String sender;
   private String receiver;
 
-  public static TransactionSearchDto fromEntity(TransactionEntity transaction){
+  public static TransactionSearchDto from(TransactionHistoryRow row) {
     return TransactionSearchDto.builder()
-        .accountNumber(transaction.getAccount().getAccountNumber())
-        .amount(transaction.getAmount())
-        .date(transaction.getTransactedAt().toLocalDate())
-        .sender(transaction.getUser().getName())
-        .receiver(transaction.getReceiver())
+        .accountNumber(row.accountNumber())
+        .amount(row.amount())
+        .date(row.transactedAt().toLocalDate())
+        .sender(row.sender())
+        .receiver(row.receiver())
         .build();
   }
 }
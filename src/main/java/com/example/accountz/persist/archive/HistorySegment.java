@@ -0,0 +1,587 @@
+package com.example.accountz.persist.archive;
+
+import com.example.accountz.type.TransactionDirection;
+import com.example.accountz.type.TransactionResultType;
+import com.example.accountz.type.TransactionType;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+// 보관 세그먼트 파일 (transaction_history 한 달 치)
+// - 행마다 원 거래(transactions)에만 있는 컬럼(잔액 스냅샷, 계좌 id, 생성 / 수정 시각)을 함께 담는다.
+//   transactions 행은 세그먼트를 쓴 뒤에 지우므로 세그먼트가 그 달 거래의 원본이다.
+// - 행은 (소유 사용자 id, 방향, 받는 사람 정렬 키) 순으로 받아 blockRows 개씩 블록으로 나눈다.
+//   받는 사람 순 조회는 사용자의 행을 읽은 순서 그대로 쓰고 다시 정렬하지 않는다.
+// - 블록 안에서는 컬럼별로 모아 쓰고(columnar) 블록 전체를 Deflate 로 압축한다.
+//   정수는 직전 행과의 차이를 가변 길이로, 문자열(이름 / enum)과 정렬 키는 블록 사전의 번호로 쓴다.
+// - 파일 끝의 블록 색인(블록마다 첫 / 마지막 사용자 id)은 열 때 메모리에 올리고,
+//   사용자 한 명의 행은 그 사용자가 걸친 블록만 읽어 푼다.
+// 파일: MAGIC | 블록... | 블록 색인 | 색인 위치(long) | 블록 수(int) | 행 수(long) | MAGIC
+public final class HistorySegment {
+
+  private static final int MAGIC = 0x54584853;
+  private static final int TRAILER_BYTES = 8 + 4 + 8 + 4;
+  // 첫 사용자, 마지막 사용자, 위치, 압축 크기, 행 수
+  private static final int INDEX_ENTRY_BYTES = 8 + 8 + 8 + 4 + 4;
+  // owner_user_id 가 없는 행의 정렬 위치 (맨 앞)
+  private static final long NO_OWNER = Long.MIN_VALUE;
+
+  public record Row(long id, long transactionId,
+                    TransactionDirection direction, Long ownerUserId,
+                    Long ownerAccountId, String senderName,
+                    Long senderAccountNumber, String receiverName,
+                    byte[] receiverSortKey, Long receiverAccountNumber,
+                    Long amount, TransactionResultType transactionResultType,
+                    LocalDateTime transactedAt,
+                    TransactionType transactionType,
+                    Long balanceSnapshot, Long accountId,
+                    Long receiverAccountId, LocalDateTime createdAt,
+                    LocalDateTime updatedAt) {
+
+    long ownerKey() {
+      return ownerUserId == null ? NO_OWNER : ownerUserId;
+    }
+
+    // 정렬 키는 배열이라 내용으로 비교
+    @Override
+    public boolean equals(Object o) {
+      return o instanceof Row other
+          && id == other.id
+          && transactionId == other.transactionId
+          && direction == other.direction
+          && Objects.equals(ownerUserId, other.ownerUserId)
+          && Objects.equals(ownerAccountId, other.ownerAccountId)
+          && Objects.equals(senderName, other.senderName)
+          && Objects.equals(senderAccountNumber, other.senderAccountNumber)
+          && Objects.equals(receiverName, other.receiverName)
+          && Arrays.equals(receiverSortKey, other.receiverSortKey)
+          && Objects.equals(receiverAccountNumber, other.receiverAccountNumber)
+          && Objects.equals(amount, other.amount)
+          && transactionResultType == other.transactionResultType
+          && Objects.equals(transactedAt, other.transactedAt)
+          && transactionType == other.transactionType
+          && Objects.equals(balanceSnapshot, other.balanceSnapshot)
+          && Objects.equals(accountId, other.accountId)
+          && Objects.equals(receiverAccountId, other.receiverAccountId)
+          && Objects.equals(createdAt, other.createdAt)
+          && Objects.equals(updatedAt, other.updatedAt);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(id, transactionId, direction, ownerUserId,
+          receiverName, transactedAt);
+    }
+  }
+
+  // 소유 사용자의 행 안에서의 순서 (방향 이름, 정렬 키. 키가 없는 행이 먼저)
+  private static final Comparator<Row> RECEIVER_ORDER =
+      Comparator.comparing((Row row) -> name(row.direction()),
+              Comparator.nullsFirst(Comparator.<String>naturalOrder()))
+          .thenComparing(Row::receiverSortKey,
+              Comparator.nullsFirst(Arrays::compareUnsigned));
+
+  private record Block(long firstOwner, long lastOwner, long offset,
+                       int length, int rows) {
+
+  }
+
+  private final Path file;
+  private final List<Block> blocks;
+  private final long rowCount;
+
+  private HistorySegment(Path file, List<Block> blocks, long rowCount) {
+    this.file = file;
+    this.blocks = blocks;
+    this.rowCount = rowCount;
+  }
+
+  // rows 는 ownerUserId 순 (없는 행이 먼저), 같은 사용자 안에서는 RECEIVER_ORDER 순.
+  // 임시 파일에 다 쓴 뒤 file 로 옮긴다.
+  public static long write(Path file, Iterator<Row> rows, int blockRows)
+      throws IOException {
+    Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+    List<Block> blocks = new ArrayList<>();
+    long rowCount = 0;
+    try (OutputStream stream = new BufferedOutputStream(
+        Files.newOutputStream(temp))) {
+      DataOutputStream out = new DataOutputStream(stream);
+      out.writeInt(MAGIC);
+      long offset = Integer.BYTES;
+      List<Row> block = new ArrayList<>(blockRows);
+      Row previous = null;
+      while (rows.hasNext()) {
+        Row row = rows.next();
+        if (previous != null && (row.ownerKey() < previous.ownerKey()
+            || row.ownerKey() == previous.ownerKey()
+            && RECEIVER_ORDER.compare(row, previous) < 0)) {
+          throw new IllegalArgumentException("Segment rows must be ordered"
+              + " by owner user id, direction and receiver sort key");
+        }
+        previous = row;
+        block.add(row);
+        if (block.size() == blockRows) {
+          offset = writeBlock(out, block, offset, blocks);
+          rowCount += block.size();
+          block.clear();
+        }
+      }
+      if (!block.isEmpty()) {
+        offset = writeBlock(out, block, offset, blocks);
+        rowCount += block.size();
+      }
+      for (Block entry : blocks) {
+        out.writeLong(entry.firstOwner());
+        out.writeLong(entry.lastOwner());
+        out.writeLong(entry.offset());
+        out.writeInt(entry.length());
+        out.writeInt(entry.rows());
+      }
+      out.writeLong(offset);
+      out.writeInt(blocks.size());
+      out.writeLong(rowCount);
+      out.writeInt(MAGIC);
+      out.flush();
+    }
+    Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING,
+        StandardCopyOption.ATOMIC_MOVE);
+    return rowCount;
+  }
+
+  // 블록 색인만 읽는다.
+  public static HistorySegment open(Path file) throws IOException {
+    try (FileChannel channel = FileChannel.open(file,
+        StandardOpenOption.READ)) {
+      ByteBuffer trailer = read(channel,
+          channel.size() - TRAILER_BYTES, TRAILER_BYTES);
+      long indexOffset = trailer.getLong();
+      int blockCount = trailer.getInt();
+      long rowCount = trailer.getLong();
+      int magic = trailer.getInt();
+      if (magic != MAGIC) {
+        throw new IOException("Not a history segment: " + file);
+      }
+      ByteBuffer index = read(channel, indexOffset,
+          blockCount * INDEX_ENTRY_BYTES);
+      List<Block> blocks = new ArrayList<>(blockCount);
+      for (int i = 0; i < blockCount; i++) {
+        blocks.add(new Block(index.getLong(), index.getLong(),
+            index.getLong(), index.getInt(), index.getInt()));
+      }
+      return new HistorySegment(file, List.copyOf(blocks), rowCount);
+    }
+  }
+
+  public long rowCount() {
+    return rowCount;
+  }
+
+  // 사용자 한 명의 행 (쓴 순서 그대로, write 참고)
+  public List<Row> rowsOf(Long ownerUserId) throws IOException {
+    long owner = ownerUserId == null ? NO_OWNER : ownerUserId;
+    List<Row> rows = new ArrayList<>();
+    int first = firstBlock(owner);
+    if (first == blocks.size() || blocks.get(first).firstOwner() > owner) {
+      return rows;
+    }
+    try (FileChannel channel = FileChannel.open(file,
+        StandardOpenOption.READ)) {
+      for (int i = first;
+          i < blocks.size() && blocks.get(i).firstOwner() <= owner; i++) {
+        for (Row row : readBlock(channel, blocks.get(i))) {
+          if (row.ownerKey() == owner) {
+            rows.add(row);
+          }
+        }
+      }
+    }
+    return rows;
+  }
+
+  // 마지막 사용자가 owner 이상인 첫 블록
+  private int firstBlock(long owner) {
+    int low = 0;
+    int high = blocks.size();
+    while (low < high) {
+      int mid = (low + high) >>> 1;
+      if (blocks.get(mid).lastOwner() < owner) {
+        low = mid + 1;
+      } else {
+        high = mid;
+      }
+    }
+    return low;
+  }
+
+  private static long writeBlock(DataOutputStream out, List<Row> rows,
+      long offset, List<Block> blocks) throws IOException {
+    byte[] compressed = deflate(encode(rows));
+    out.write(compressed);
+    blocks.add(new Block(rows.get(0).ownerKey(),
+        rows.get(rows.size() - 1).ownerKey(), offset, compressed.length,
+        rows.size()));
+    return offset + compressed.length;
+  }
+
+  private static byte[] encode(List<Row> rows) throws IOException {
+    Map<String, Integer> dictionary = new HashMap<>();
+    List<String> words = new ArrayList<>();
+    Map<ByteBuffer, Integer> keyDictionary = new HashMap<>();
+    List<byte[]> keys = new ArrayList<>();
+    ByteArrayOutputStream columns = new ByteArrayOutputStream();
+    DataOutputStream out = new DataOutputStream(columns);
+
+    long previous = 0;
+    for (Row row : rows) {
+      writeVarLong(out, zigzag(row.ownerKey() - previous));
+      previous = row.ownerKey();
+    }
+    previous = 0;
+    for (Row row : rows) {
+      writeVarLong(out, zigzag(row.id() - previous));
+      previous = row.id();
+    }
+    previous = 0;
+    for (Row row : rows) {
+      writeVarLong(out, zigzag(row.transactionId() - previous));
+      previous = row.transactionId();
+    }
+    writeDateTimes(out, rows, Row::transactedAt);
+    for (Row row : rows) {
+      writeNullable(out, row.ownerAccountId());
+    }
+    for (Row row : rows) {
+      writeNullable(out, row.senderAccountNumber());
+    }
+    for (Row row : rows) {
+      writeNullable(out, row.receiverAccountNumber());
+    }
+    for (Row row : rows) {
+      writeNullable(out, row.amount());
+    }
+    for (Row row : rows) {
+      writeNullable(out, row.balanceSnapshot());
+    }
+    for (Row row : rows) {
+      writeNullable(out, row.accountId());
+    }
+    for (Row row : rows) {
+      writeNullable(out, row.receiverAccountId());
+    }
+    writeDateTimes(out, rows, Row::createdAt);
+    writeDateTimes(out, rows, Row::updatedAt);
+    for (Row row : rows) {
+      writeWord(out, dictionary, words, name(row.direction()));
+    }
+    for (Row row : rows) {
+      writeWord(out, dictionary, words, row.senderName());
+    }
+    for (Row row : rows) {
+      writeWord(out, dictionary, words, row.receiverName());
+    }
+    for (Row row : rows) {
+      writeWord(out, dictionary, words, name(row.transactionResultType()));
+    }
+    for (Row row : rows) {
+      writeWord(out, dictionary, words, name(row.transactionType()));
+    }
+    for (Row row : rows) {
+      writeKey(out, keyDictionary, keys, row.receiverSortKey());
+    }
+    out.flush();
+
+    ByteArrayOutputStream block = new ByteArrayOutputStream();
+    DataOutputStream header = new DataOutputStream(block);
+    writeVarLong(header, rows.size());
+    writeVarLong(header, words.size());
+    for (String word : words) {
+      header.writeUTF(word);
+    }
+    writeVarLong(header, keys.size());
+    for (byte[] key : keys) {
+      writeVarLong(header, key.length);
+      header.write(key);
+    }
+    header.flush();
+    columns.writeTo(block);
+    return block.toByteArray();
+  }
+
+  private static List<Row> readBlock(FileChannel channel, Block block)
+      throws IOException {
+    DataInputStream in = new DataInputStream(new ByteArrayInputStream(
+        inflate(read(channel, block.offset(), block.length()))));
+    int size = (int) readVarLong(in);
+    String[] words = new String[(int) readVarLong(in) + 1];
+    for (int i = 1; i < words.length; i++) {
+      words[i] = in.readUTF();
+    }
+    byte[][] keys = new byte[(int) readVarLong(in) + 1][];
+    for (int i = 1; i < keys.length; i++) {
+      keys[i] = new byte[(int) readVarLong(in)];
+      in.readFully(keys[i]);
+    }
+
+    long[] owners = new long[size];
+    long[] ids = new long[size];
+    long[] transactionIds = new long[size];
+    long previous = 0;
+    for (int i = 0; i < size; i++) {
+      owners[i] = previous += unzigzag(readVarLong(in));
+    }
+    previous = 0;
+    for (int i = 0; i < size; i++) {
+      ids[i] = previous += unzigzag(readVarLong(in));
+    }
+    previous = 0;
+    for (int i = 0; i < size; i++) {
+      transactionIds[i] = previous += unzigzag(readVarLong(in));
+    }
+    LocalDateTime[] transactedAts = readDateTimes(in, size);
+    Long[] ownerAccounts = readNullables(in, size);
+    Long[] senderAccounts = readNullables(in, size);
+    Long[] receiverAccounts = readNullables(in, size);
+    Long[] amounts = readNullables(in, size);
+    Long[] balanceSnapshots = readNullables(in, size);
+    Long[] accountIds = readNullables(in, size);
+    Long[] receiverAccountIds = readNullables(in, size);
+    LocalDateTime[] createdAts = readDateTimes(in, size);
+    LocalDateTime[] updatedAts = readDateTimes(in, size);
+    String[] directions = readWords(in, words, size);
+    String[] senders = readWords(in, words, size);
+    String[] receivers = readWords(in, words, size);
+    String[] resultTypes = readWords(in, words, size);
+    String[] transactionTypes = readWords(in, words, size);
+    byte[][] sortKeys = new byte[size][];
+    for (int i = 0; i < size; i++) {
+      sortKeys[i] = keys[(int) readVarLong(in)];
+    }
+
+    List<Row> rows = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      rows.add(new Row(ids[i], transactionIds[i],
+          value(TransactionDirection.class, directions[i]),
+          owners[i] == NO_OWNER ? null : owners[i], ownerAccounts[i],
+          senders[i], senderAccounts[i], receivers[i], sortKeys[i],
+          receiverAccounts[i], amounts[i],
+          value(TransactionResultType.class, resultTypes[i]),
+          transactedAts[i],
+          value(TransactionType.class, transactionTypes[i]),
+          balanceSnapshots[i], accountIds[i], receiverAccountIds[i],
+          createdAts[i], updatedAts[i]));
+    }
+    return rows;
+  }
+
+  private static byte[] deflate(byte[] bytes) {
+    Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION);
+    try {
+      deflater.setInput(bytes);
+      deflater.finish();
+      ByteArrayOutputStream out = new ByteArrayOutputStream(bytes.length / 4);
+      byte[] buffer = new byte[8192];
+      while (!deflater.finished()) {
+        out.write(buffer, 0, deflater.deflate(buffer));
+      }
+      return out.toByteArray();
+    } finally {
+      deflater.end();
+    }
+  }
+
+  private static byte[] inflate(ByteBuffer compressed) throws IOException {
+    Inflater inflater = new Inflater();
+    try {
+      inflater.setInput(compressed);
+      ByteArrayOutputStream out =
+          new ByteArrayOutputStream(compressed.remaining() * 4);
+      byte[] buffer = new byte[8192];
+      while (!inflater.finished()) {
+        int length = inflater.inflate(buffer);
+        if (length == 0 && inflater.needsInput()) {
+          throw new IOException("Truncated history segment block");
+        }
+        out.write(buffer, 0, length);
+      }
+      return out.toByteArray();
+    } catch (DataFormatException e) {
+      throw new IOException("Corrupt history segment block", e);
+    } finally {
+      inflater.end();
+    }
+  }
+
+  private static ByteBuffer read(FileChannel channel, long position,
+      int length) throws IOException {
+    ByteBuffer buffer = ByteBuffer.allocate(length);
+    while (buffer.hasRemaining()) {
+      if (channel.read(buffer, position + buffer.position()) < 0) {
+        throw new IOException("Truncated history segment");
+      }
+    }
+    return buffer.flip();
+  }
+
+  // 0 은 null, 그 외는 zigzag + 1
+  private static void writeNullable(DataOutput out, Long value)
+      throws IOException {
+    writeVarLong(out, value == null ? 0 : zigzag(value) + 1);
+  }
+
+  private static Long readNullable(DataInput in) throws IOException {
+    long value = readVarLong(in);
+    return value == 0 ? null : unzigzag(value - 1);
+  }
+
+  private static Long[] readNullables(DataInput in, int size)
+      throws IOException {
+    Long[] values = new Long[size];
+    for (int i = 0; i < size; i++) {
+      values[i] = readNullable(in);
+    }
+    return values;
+  }
+
+  // 직전 값과의 차이 (마이크로초, null 은 건너뛴다.)
+  private static void writeDateTimes(DataOutput out, List<Row> rows,
+      Function<Row, LocalDateTime> column) throws IOException {
+    long previous = 0;
+    for (Row row : rows) {
+      Long micros = micros(column.apply(row));
+      writeNullable(out, micros == null ? null : micros - previous);
+      previous = micros == null ? previous : micros;
+    }
+  }
+
+  private static LocalDateTime[] readDateTimes(DataInput in, int size)
+      throws IOException {
+    LocalDateTime[] values = new LocalDateTime[size];
+    long previous = 0;
+    for (int i = 0; i < size; i++) {
+      Long delta = readNullable(in);
+      if (delta != null) {
+        previous += delta;
+        values[i] = dateTime(previous);
+      }
+    }
+    return values;
+  }
+
+  // 사전 번호 (0 은 null)
+  private static void writeWord(DataOutput out, Map<String, Integer> dictionary,
+      List<String> words, String word) throws IOException {
+    if (word == null) {
+      writeVarLong(out, 0);
+      return;
+    }
+    Integer number = dictionary.get(word);
+    if (number == null) {
+      words.add(word);
+      number = words.size();
+      dictionary.put(word, number);
+    }
+    writeVarLong(out, number);
+  }
+
+  // 정렬 키 사전 번호 (0 은 null)
+  private static void writeKey(DataOutput out,
+      Map<ByteBuffer, Integer> dictionary, List<byte[]> keys, byte[] key)
+      throws IOException {
+    if (key == null) {
+      writeVarLong(out, 0);
+      return;
+    }
+    Integer number = dictionary.get(ByteBuffer.wrap(key));
+    if (number == null) {
+      keys.add(key);
+      number = keys.size();
+      dictionary.put(ByteBuffer.wrap(key), number);
+    }
+    writeVarLong(out, number);
+  }
+
+  private static String[] readWords(DataInput in, String[] words, int size)
+      throws IOException {
+    String[] values = new String[size];
+    for (int i = 0; i < size; i++) {
+      values[i] = words[(int) readVarLong(in)];
+    }
+    return values;
+  }
+
+  private static void writeVarLong(DataOutput out, long value)
+      throws IOException {
+    while ((value & ~0x7FL) != 0) {
+      out.writeByte((int) (value & 0x7F) | 0x80);
+      value >>>= 7;
+    }
+    out.writeByte((int) value);
+  }
+
+  private static long readVarLong(DataInput in) throws IOException {
+    long value = 0;
+    for (int shift = 0; shift < 64; shift += 7) {
+      byte b = in.readByte();
+      value |= (long) (b & 0x7F) << shift;
+      if ((b & 0x80) == 0) {
+        return value;
+      }
+    }
+    throw new IOException("Malformed varint in history segment");
+  }
+
+  private static long zigzag(long value) {
+    return (value << 1) ^ (value >> 63);
+  }
+
+  private static long unzigzag(long value) {
+    return (value >>> 1) ^ -(value & 1);
+  }
+
+  private static Long micros(LocalDateTime dateTime) {
+    if (dateTime == null) {
+      return null;
+    }
+    return dateTime.toEpochSecond(ZoneOffset.UTC) * 1_000_000
+        + dateTime.getNano() / 1_000;
+  }
+
+  private static LocalDateTime dateTime(long micros) {
+    return LocalDateTime.ofEpochSecond(Math.floorDiv(micros, 1_000_000),
+        (int) Math.floorMod(micros, 1_000_000) * 1_000, ZoneOffset.UTC);
+  }
+
+  private static String name(Enum<?> value) {
+    return value == null ? null : value.name();
+  }
+
+  private static <E extends Enum<E>> E value(Class<E> type, String name) {
+    return name == null ? null : Enum.valueOf(type, name);
+  }
+}
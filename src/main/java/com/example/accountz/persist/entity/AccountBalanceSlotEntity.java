@@ -0,0 +1,57 @@
+package com.example.accountz.persist.entity;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.util.Objects;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// hot 계좌 잔액의 분산 슬롯 (계좌 잔액 = accounts.balance + 슬롯 합계)
+@Builder
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "account_balance_slots",
+    uniqueConstraints = @UniqueConstraint(
+        columnNames = {"account_id", "slot"}))
+public class AccountBalanceSlotEntity {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "account_balance_slots_seq")
+  @SequenceGenerator(name = "account_balance_slots_seq", sequenceName = "account_balance_slots_seq",
+      allocationSize = 50)
+  private Long id;
+
+  private Long accountId;
+  private Integer slot;
+
+  @Builder.Default
+  private Long balance = 0L;
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    AccountBalanceSlotEntity that = (AccountBalanceSlotEntity) o;
+    return Objects.equals(id, that.id);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(id);
+  }
+}
@@ -3,15 +3,21 @@ package com.example.accountz.persist.entity;
 import com.example.accountz.exception.GlobalException;
 import com.example.accountz.type.AccountStatus;
 import com.example.accountz.type.ErrorCode;
+import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EntityListeners;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import java.time.LocalDateTime;
 import java.util.Objects;
 import lombok.AllArgsConstructor;
@@ -36,20 +42,35 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 public class AccountEntity {
 
   @Id
-  @GeneratedValue
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "accounts_seq")
+  @SequenceGenerator(name = "accounts_seq", sequenceName = "accounts_seq",
+      allocationSize = 50)
   private Long id;
 
   @Enumerated(EnumType.STRING)
   private AccountStatus accountStatus;
 
+  // 고정 폭 숫자 키 (유니크 인덱스)
+  @Convert(converter = AccountNumberConverter.class)
+  @Column(nullable = false, unique = true)
   private String accountNumber;
   @Builder.Default
   private Long balance = 0L;
 
+  // 낙관적 락 (동시 수정 시 OptimisticLockException)
+  @Version
+  private Long version;
+
+  // hot 계좌 잔액 분산 슬롯 수 (0 이면 사용 안 함)
+  @Builder.Default
+  private Integer balanceSlotCount = 0;
+
   private LocalDateTime registeredAt;
   private LocalDateTime unRegisteredAt;
 
-  @ManyToOne
+  // 소유자 이름이 필요한 조회만 entity graph 로 함께 조회 (AccountRepository 참고)
+  @ToString.Exclude
+  @ManyToOne(fetch = FetchType.LAZY)
   @JoinColumn(name = "user_id")
   private UserEntity user;
 
@@ -59,6 +80,10 @@ public class AccountEntity {
   private LocalDateTime updatedAt;
 
 
+  public boolean isHot() {
+    return balanceSlotCount != null && balanceSlotCount > 0;
+  }
+
   public void saveMoney(Long addMoney){
     if(addMoney < 0){
       throw new GlobalException(ErrorCode.NOT_MINUS_MONEY);
@@ -0,0 +1,32 @@
+package com.example.accountz.persist.entity;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+// 계좌 번호는 API 에서 10자리 문자열로 다루고, DB 에는 고정 폭 숫자 키(BIGINT)로 저장한다.
+@Converter
+public class AccountNumberConverter implements AttributeConverter<String, Long> {
+
+  public static final int WIDTH = 10;
+  public static final long MAX_ACCOUNT_NUMBER = 9_999_999_999L;
+
+  public static String format(long accountNumber) {
+    return String.format("%0" + WIDTH + "d", accountNumber);
+  }
+
+  // 숫자가 아닌 계좌 번호는 null 로 바꿔 조회 결과가 없도록 한다.
+  @Override
+  public Long convertToDatabaseColumn(String accountNumber) {
+    if (accountNumber == null || accountNumber.isEmpty()
+        || accountNumber.length() > WIDTH
+        || !accountNumber.chars().allMatch(Character::isDigit)) {
+      return null;
+    }
+    return Long.parseLong(accountNumber);
+  }
+
+  @Override
+  public String convertToEntityAttribute(Long accountNumber) {
+    return accountNumber == null ? null : format(accountNumber);
+  }
+}
@@ -0,0 +1,55 @@
+package com.example.accountz.persist.entity;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.LocalDate;
+import java.util.Objects;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 계좌별 일 집계. 행은 DailyAccountSummaryRepository.merge 로만 만들고 갱신한다.
+// hot 계좌는 하루 집계가 여러 shard 행으로 나뉘므로 AccountSummaryDto.Daily.of 로 합쳐 읽는다.
+// 잔액은 저장하지 않고 기초 잔액 + 순증감의 합으로 읽는다.
+@Builder
+@Entity
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "daily_account_summary")
+public class DailyAccountSummaryEntity {
+
+  // MERGE 에서 daily_account_summary_seq 로 채운다.
+  @Id
+  private Long id;
+
+  private Long accountId;
+  private LocalDate summaryDate;
+  private Integer shard;
+
+  private Long creditAmount;
+  private Long debitAmount;
+  private Integer transactionCount;
+  // 기존 계좌의 기초 행(V11)만 값이 있고, MERGE 로 만든 행은 0
+  @Builder.Default
+  private Long openingBalance = 0L;
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    DailyAccountSummaryEntity that = (DailyAccountSummaryEntity) o;
+    return Objects.equals(id, that.id);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(id);
+  }
+}
@@ -0,0 +1,110 @@
+package com.example.accountz.persist.entity;
+
+import com.example.accountz.model.TransactionDto;
+import com.example.accountz.type.TransactionResultType;
+import com.example.accountz.type.TransactionType;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Objects;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// 재전송된 요청에 돌려줄 최초 거래 응답
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(name = "idempotency_keys",
+    uniqueConstraints = @UniqueConstraint(
+        columnNames = {"user_id", "idempotency_key"}))
+public class IdempotencyKeyEntity {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "idempotency_keys_seq")
+  @SequenceGenerator(name = "idempotency_keys_seq", sequenceName = "idempotency_keys_seq",
+      allocationSize = 50)
+  private Long id;
+
+  private Long userId;
+  private String idempotencyKey;
+  private String requestFingerprint;
+
+  private String userAccountNumber;
+  private String receiverAccountNumber;
+  @Enumerated(EnumType.STRING)
+  private TransactionType transactionType;
+  @Enumerated(EnumType.STRING)
+  private TransactionResultType transactionResultType;
+  private Long amount;
+  private Long balanceSnapshot;
+  private String transactionId;
+  private LocalDateTime transactedAt;
+
+  private LocalDateTime createdAt;
+  // 이 시각이 지나면 재전송을 새 요청으로 처리하고, 정기 삭제로 지운다.
+  private LocalDateTime expiresAt;
+
+  public static IdempotencyKeyEntity of(Long userId, String idempotencyKey,
+      String requestFingerprint, TransactionDto transaction, Duration ttl) {
+    LocalDateTime now = LocalDateTime.now();
+    return IdempotencyKeyEntity.builder()
+        .userId(userId)
+        .idempotencyKey(idempotencyKey)
+        .requestFingerprint(requestFingerprint)
+        .userAccountNumber(transaction.getUserAccountNumber())
+        .receiverAccountNumber(transaction.getReceiverAccountNumber())
+        .transactionType(transaction.getTransactionType())
+        .transactionResultType(transaction.getTransactionResultType())
+        .amount(transaction.getAmount())
+        .balanceSnapshot(transaction.getBalanceSnapshot())
+        .transactionId(transaction.getTransactionId())
+        .transactedAt(transaction.getTransactedAt())
+        .createdAt(now)
+        .expiresAt(now.plus(ttl))
+        .build();
+  }
+
+  public TransactionDto toTransactionDto() {
+    return TransactionDto.builder()
+        .userAccountNumber(userAccountNumber)
+        .receiverAccountNumber(receiverAccountNumber)
+        .transactionType(transactionType)
+        .transactionResultType(transactionResultType)
+        .amount(amount)
+        .balanceSnapshot(balanceSnapshot)
+        .transactionId(transactionId)
+        .transactedAt(transactedAt)
+        .build();
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    IdempotencyKeyEntity that = (IdempotencyKeyEntity) o;
+    return Objects.equals(id, that.id);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(id);
+  }
+}
@@ -0,0 +1,28 @@
+package com.example.accountz.persist.entity;
+
+import java.text.Collator;
+import java.util.Locale;
+
+// 이름 정렬 키: 한국어 Collator 의 CollationKey 바이트.
+// DB 는 바이트를 부호 없이 사전순 비교하므로 이 키 순서가 곧 가나다 순서가 된다.
+// (대소문자 / 영문 / 자모 / 조합형 입력이 섞여도 Collator 와 같은 순서)
+// JDK 의 한국어 정렬 규칙이 바뀌면 저장된 키를 다시 계산해야 한다. (V7 이관 참고)
+public final class NameSortKey {
+
+  // Collator 는 내부 상태를 공유하므로 스레드마다 하나씩 사용
+  private static final ThreadLocal<Collator> COLLATOR =
+      ThreadLocal.withInitial(() -> {
+        Collator collator = Collator.getInstance(Locale.KOREAN);
+        collator.setDecomposition(Collator.CANONICAL_DECOMPOSITION);
+        return collator;
+      });
+
+  private NameSortKey() {
+  }
+
+  public static byte[] of(String name) {
+    return name == null
+        ? null
+        : COLLATOR.get().getCollationKey(name).toByteArray();
+  }
+}
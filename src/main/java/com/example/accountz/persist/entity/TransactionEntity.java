@@ -2,13 +2,17 @@ package com.example.accountz.persist.entity;
 
 import com.example.accountz.type.TransactionResultType;
 import com.example.accountz.type.TransactionType;
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EntityListeners;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import java.time.LocalDateTime;
 import java.util.Objects;
@@ -32,18 +36,21 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 public class TransactionEntity {
 
   @Id
-  @GeneratedValue
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "transactions_seq")
+  @SequenceGenerator(name = "transactions_seq", sequenceName = "transactions_seq",
+      allocationSize = 50)
   private Long id;
 
-  @ManyToOne
+  // 연관 엔티티는 조회하지 않는다. 필요한 경우 조회 메서드에서 fetch join / entity graph 로 지정
+  @ManyToOne(fetch = FetchType.LAZY)
   private UserEntity user;
 
   private String receiver;
 
-  @ManyToOne
+  @ManyToOne(fetch = FetchType.LAZY)
   private AccountEntity receiverAccount;
 
-  @ManyToOne
+  @ManyToOne(fetch = FetchType.LAZY)
   private AccountEntity account;
 
   private Long amount;
@@ -53,7 +60,9 @@ public class TransactionEntity {
   @CreatedDate
   private LocalDateTime createdAt;
 
-  private String transactionId;
+  // API 응답에서만 TransactionIdConverter.format 으로 19자리 문자열로 바꾼다.
+  @Column(unique = true)
+  private Long transactionId;
   private LocalDateTime transactedAt;
 
   @Enumerated(EnumType.STRING)
@@ -0,0 +1,83 @@
+package com.example.accountz.persist.entity;
+
+import com.example.accountz.type.TransactionDirection;
+import com.example.accountz.type.TransactionResultType;
+import com.example.accountz.type.TransactionType;
+import jakarta.persistence.Convert;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import java.util.Objects;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// 거래 내역 조회 전용 테이블 (거래 저장 시 TransactionWriter 가 함께 기록)
+// 거래 한 건마다 보낸 사람(SENT) / 받는 사람(RECEIVED) 입장의 행을 하나씩 두고,
+// 조회는 조인 없이 owner 기준 인덱스만 읽는다.
+@Builder
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "transaction_history")
+public class TransactionHistoryEntity {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "transaction_history_seq")
+  @SequenceGenerator(name = "transaction_history_seq", sequenceName = "transaction_history_seq",
+      allocationSize = 50)
+  private Long id;
+
+  // 원 거래 (transactions.transaction_id)
+  private Long transactionId;
+
+  @Enumerated(EnumType.STRING)
+  private TransactionDirection direction;
+
+  // 이 행을 조회하는 사용자 / 계좌
+  private Long ownerUserId;
+  private Long ownerAccountId;
+
+  private String senderName;
+  @Convert(converter = AccountNumberConverter.class)
+  private String senderAccountNumber;
+  private String receiverName;
+  // 이름 정렬 조회용 한국어 정렬 키 (NameSortKey)
+  private byte[] receiverSortKey;
+  @Convert(converter = AccountNumberConverter.class)
+  private String receiverAccountNumber;
+
+  private Long amount;
+  @Enumerated(EnumType.STRING)
+  private TransactionType transactionType;
+  @Enumerated(EnumType.STRING)
+  private TransactionResultType transactionResultType;
+  private LocalDateTime transactedAt;
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    TransactionHistoryEntity that = (TransactionHistoryEntity) o;
+    return Objects.equals(id, that.id);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(id);
+  }
+}
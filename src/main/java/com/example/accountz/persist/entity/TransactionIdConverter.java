@@ -0,0 +1,31 @@
+package com.example.accountz.persist.entity;
+
+// 거래 ID 는 엔티티 / DB 에서 시간순 숫자 키(BIGINT)로 다루고,
+// API 에서 주고받을 때만 19자리 문자열로 바꾼다.
+public final class TransactionIdConverter {
+
+  public static final int WIDTH = 19;
+
+  private TransactionIdConverter() {
+  }
+
+  public static String format(Long transactionId) {
+    return transactionId == null
+        ? null
+        : String.format("%0" + WIDTH + "d", transactionId);
+  }
+
+  // 숫자가 아니거나 long 범위를 넘는 거래 ID 는 null 로 바꿔 조회 결과가 없도록 한다.
+  public static Long parse(String transactionId) {
+    if (transactionId == null || transactionId.isEmpty()
+        || transactionId.length() > WIDTH
+        || !transactionId.chars().allMatch(Character::isDigit)) {
+      return null;
+    }
+    try {
+      return Long.parseLong(transactionId);
+    } catch (NumberFormatException e) {
+      return null;
+    }
+  }
+}
@@ -6,10 +6,11 @@ import jakarta.persistence.Column;
 import jakarta.persistence.ElementCollection;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EntityListeners;
-import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -23,6 +24,7 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import lombok.ToString;
+import org.hibernate.annotations.ColumnDefault;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -43,16 +45,25 @@ import org.springframework.security.core.userdetails.UserDetails;
 public class UserEntity implements UserDetails {
 
   @Id
-  @GeneratedValue
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "users_seq")
+  @SequenceGenerator(name = "users_seq", sequenceName = "users_seq",
+      allocationSize = 50)
   private Long id;
 
   private String name;
   private String email;
   private LocalDate birthDay;
   private String password;
-  
 
-  @ElementCollection(fetch = FetchType.EAGER)
+  // 생성한 계좌 수 (해지 계좌 포함). 계좌 개수 제한 검사에 사용
+  @Builder.Default
+  @ColumnDefault("0")
+  @Column(nullable = false)
+  private Integer accountCount = 0;
+
+  // 권한은 인증(UserRepository.findByEmail)에서만 함께 조회
+  @ToString.Exclude
+  @ElementCollection
   @CollectionTable(name = "member_roles", joinColumns = @JoinColumn(name = "member_id"))
   @Column
   private List<String> roles;
@@ -0,0 +1,40 @@
+package com.example.accountz.persist.repository;
+
+import com.example.accountz.persist.entity.AccountBalanceSlotEntity;
+import jakarta.persistence.LockModeType;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface AccountBalanceSlotRepository
+    extends JpaRepository<AccountBalanceSlotEntity, Long> {
+
+  // 슬롯 한 행에만 입금 (계좌 행은 잠그지 않음)
+  @Modifying
+  @Query("update AccountBalanceSlotEntity s"
+      + " set s.balance = s.balance + :amount"
+      + " where s.accountId = :accountId and s.slot = :slot")
+  int addBalance(@Param("accountId") Long accountId,
+      @Param("slot") Integer slot, @Param("amount") Long amount);
+
+  @Query("select coalesce(sum(s.balance), 0)"
+      + " from AccountBalanceSlotEntity s where s.accountId = :accountId")
+  Long sumBalanceByAccountId(@Param("accountId") Long accountId);
+
+  // 출금 전 슬롯 회수 (slot 순서로 잠금)
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  @Query("select s from AccountBalanceSlotEntity s"
+      + " where s.accountId = :accountId order by s.slot asc")
+  List<AccountBalanceSlotEntity> findAllByAccountIdForUpdate(
+      @Param("accountId") Long accountId);
+
+  @Modifying
+  @Query("delete from AccountBalanceSlotEntity s"
+      + " where s.accountId = :accountId")
+  int deleteAllByAccountId(@Param("accountId") Long accountId);
+}
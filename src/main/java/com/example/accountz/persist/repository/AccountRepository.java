@@ -1,19 +1,104 @@
 package com.example.accountz.persist.repository;
 
+import com.example.accountz.model.StatementAccountRow;
 import com.example.accountz.persist.entity.AccountEntity;
-import com.example.accountz.persist.entity.UserEntity;
+import jakarta.persistence.LockModeType;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface AccountRepository
     extends JpaRepository<AccountEntity, Long> {
 
-  Integer countByUser(UserEntity user);
-
-  Optional<AccountEntity> findFirstByOrderByIdDesc();
+  // 계좌 번호 블록의 시작 번호 (시퀀스는 db/migration 에서 block-size 단위로 증가)
+  @Query(value = "select next value for account_number_seq",
+      nativeQuery = true)
+  Long nextAccountNumberBlock();
 
   Optional<AccountEntity> findByAccountNumber(String AccountNumber);
 
+  // 소유자 이름까지 필요한 조회 (실행 엔진 계좌 정보)
+  @EntityGraph(attributePaths = "user")
+  Optional<AccountEntity> findWithUserByAccountNumber(String accountNumber);
+
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  @Query("select a from AccountEntity a"
+      + " where a.accountNumber = :accountNumber")
+  Optional<AccountEntity> findByAccountNumberForUpdate(
+      @Param("accountNumber") String accountNumber);
+
+  // 송금 / 일괄 송금은 받는 사람 이름을 기록하므로 소유자를 함께 조회
+  @EntityGraph(attributePaths = "user")
+  List<AccountEntity> findAllByAccountNumberIn(
+      Collection<String> accountNumbers);
+
+  List<AccountEntity> findAllByBalanceSlotCountGreaterThan(
+      Integer balanceSlotCount);
+
+  // 조건부 UPDATE 는 영속성 컨텍스트를 거치지 않는다. 보류 중인 변경을 먼저 flush 하고,
+  // 실행 뒤에는 영속성 컨텍스트를 비워 로드된 계좌의 잔액/버전이 남지 않게 한다.
+  // 조건부 출금 (잔액 부족 / 해지 계좌면 0 rows)
+  @Modifying(clearAutomatically = true, flushAutomatically = true)
+  @Query("update AccountEntity a"
+      + " set a.balance = a.balance - :amount,"
+      + " a.version = a.version + 1,"
+      + " a.updatedAt = local datetime"
+      + " where a.id = :id and a.balance >= :amount"
+      + " and a.accountStatus = com.example.accountz.type.AccountStatus.ACTIVATED")
+  int withdrawIfSufficient(
+      @Param("id") Long id, @Param("amount") Long amount);
+
+  // 조건부 입금 (해지 계좌면 0 rows)
+  @Modifying(clearAutomatically = true, flushAutomatically = true)
+  @Query("update AccountEntity a"
+      + " set a.balance = a.balance + :amount,"
+      + " a.version = a.version + 1,"
+      + " a.updatedAt = local datetime"
+      + " where a.id = :id"
+      + " and a.accountStatus = com.example.accountz.type.AccountStatus.ACTIVATED")
+  int depositIfActive(@Param("id") Long id, @Param("amount") Long amount);
+
+  // 그룹 커밋용 순 증감 반영 (결과 잔액이 음수가 되거나 해지 계좌면 0 rows)
+  @Modifying(clearAutomatically = true, flushAutomatically = true)
+  @Query("update AccountEntity a"
+      + " set a.balance = a.balance + :delta,"
+      + " a.version = a.version + 1,"
+      + " a.updatedAt = local datetime"
+      + " where a.id = :id and a.balance + :delta >= 0"
+      + " and a.accountStatus = com.example.accountz.type.AccountStatus.ACTIVATED")
+  int applyBalanceDelta(@Param("id") Long id, @Param("delta") Long delta);
+
+  // 월별 거래 명세서 대상 계좌 keyset 조회 (id > afterId 부터 pageable 크기만큼)
+  @Query("select new com.example.accountz.model.StatementAccountRow("
+      + "a.id, a.user.id, a.accountNumber) from AccountEntity a"
+      + " where a.id > :afterId and a.registeredAt < :registeredBefore"
+      + " order by a.id asc")
+  List<StatementAccountRow> findStatementAccounts(
+      @Param("afterId") Long afterId,
+      @Param("registeredBefore") LocalDateTime registeredBefore,
+      Pageable pageable);
+
+  @Query("select a.balance from AccountEntity a where a.id = :id")
+  Long findBalanceById(@Param("id") Long id);
+
+  // 송금 계좌 잠금 (한 번의 조회로 id 오름차순 잠금 -> 교착 상태 방지)
+  // 소유자는 outer join 으로 함께 조회하며 잠그지 않는다.
+  @EntityGraph(attributePaths = "user")
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  @Query("select a from AccountEntity a"
+      + " where a.accountNumber in :accountNumbers"
+      + " order by a.id asc")
+  List<AccountEntity> findAllByAccountNumberInForUpdate(
+      @Param("accountNumbers") Collection<String> accountNumbers);
+
 }
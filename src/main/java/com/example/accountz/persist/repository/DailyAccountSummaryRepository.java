@@ -0,0 +1,60 @@
+package com.example.accountz.persist.repository;
+
+import com.example.accountz.persist.entity.DailyAccountSummaryEntity;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface DailyAccountSummaryRepository
+    extends JpaRepository<DailyAccountSummaryEntity, Long> {
+
+  // 계좌의 그날 집계 shard 행에 증감을 더한다. (없으면 생성)
+  // 잔액은 기록하지 않는다. 증감의 합은 MERGE / 커밋 순서와 관계없으므로
+  // 서로 다른 shard 행에 동시에 반영해도 sumBalanceBefore 로 읽는 잔액이 맞는다.
+  @Modifying
+  @Query(value = "merge into daily_account_summary d"
+      + " using (select cast(:accountId as bigint) account_id,"
+      + " cast(:summaryDate as date) summary_date,"
+      + " cast(:shard as integer) shard,"
+      + " cast(:creditAmount as bigint) credit_amount,"
+      + " cast(:debitAmount as bigint) debit_amount,"
+      + " cast(:transactionCount as integer) transaction_count) s"
+      + " on d.account_id = s.account_id and d.summary_date = s.summary_date"
+      + " and d.shard = s.shard"
+      + " when matched then update set"
+      + " credit_amount = d.credit_amount + s.credit_amount,"
+      + " debit_amount = d.debit_amount + s.debit_amount,"
+      + " transaction_count = d.transaction_count + s.transaction_count"
+      + " when not matched then insert (id, account_id, summary_date, shard,"
+      + " credit_amount, debit_amount, transaction_count)"
+      + " values (next value for daily_account_summary_seq, s.account_id,"
+      + " s.summary_date, s.shard, s.credit_amount, s.debit_amount,"
+      + " s.transaction_count)",
+      nativeQuery = true)
+  int merge(@Param("accountId") Long accountId,
+      @Param("summaryDate") LocalDate summaryDate,
+      @Param("shard") Integer shard,
+      @Param("creditAmount") Long creditAmount,
+      @Param("debitAmount") Long debitAmount,
+      @Param("transactionCount") Integer transactionCount);
+
+  // 같은 날 shard 행은 AccountSummaryDto.Daily.of 로 합친다.
+  List<DailyAccountSummaryEntity>
+  findAllByAccountIdAndSummaryDateBetweenOrderBySummaryDateAsc(
+      Long accountId, LocalDate firstDate, LocalDate lastDate);
+
+  // 날짜 이전 잔액 = 기초 행(V11)의 기초 잔액 + 그 뒤 순증감. 이전 집계가 없으면 null
+  @Query("select sum(d.openingBalance + d.creditAmount - d.debitAmount)"
+      + " from DailyAccountSummaryEntity d"
+      + " where d.accountId = :accountId and d.summaryDate < :summaryDate")
+  Long sumBalanceBefore(@Param("accountId") Long accountId,
+      @Param("summaryDate") LocalDate summaryDate);
+
+  boolean existsByAccountId(Long accountId);
+}
@@ -0,0 +1,28 @@
+package com.example.accountz.persist.repository;
+
+import com.example.accountz.persist.entity.IdempotencyKeyEntity;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+public interface IdempotencyKeyRepository
+    extends JpaRepository<IdempotencyKeyEntity, Long> {
+
+  Optional<IdempotencyKeyEntity> findByUserIdAndIdempotencyKey(
+      Long userId, String idempotencyKey);
+
+  // 만료된 키를 limit 개까지 삭제 (한 번에 짧은 트랜잭션으로)
+  @Transactional
+  @Modifying
+  @Query(value = "delete from idempotency_keys where expires_at <= :now"
+      + " fetch first :limit rows only",
+      nativeQuery = true)
+  int deleteExpired(@Param("now") LocalDateTime now,
+      @Param("limit") int limit);
+}
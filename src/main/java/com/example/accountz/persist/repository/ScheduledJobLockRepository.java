@@ -0,0 +1,41 @@
+package com.example.accountz.persist.repository;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+// 정기 작업 실행 잠금 (scheduled_job_locks)
+// 잠금 행을 조건부 UPDATE 로 가져가므로 여러 서버 중 한 곳만 작업을 실행한다.
+// 서버가 작업 중에 죽으면 lockAtMost 가 지난 뒤 다른 서버가 가져간다.
+@Repository
+@RequiredArgsConstructor
+public class ScheduledJobLockRepository {
+
+  // 이 서버의 잠금 소유자 이름 (pid@host / 재시작마다 다름)
+  private static final String OWNER =
+      ManagementFactory.getRuntimeMXBean().getName() + "/" + UUID.randomUUID();
+
+  private final NamedParameterJdbcTemplate jdbcTemplate;
+
+  // 잠금 행은 db/migration 에서 미리 만든다.
+  public boolean tryLock(String name, Duration lockAtMost) {
+    LocalDateTime now = LocalDateTime.now();
+    return jdbcTemplate.update("update scheduled_job_locks"
+            + " set locked_until = :lockedUntil, locked_by = :owner"
+            + " where name = :name and locked_until <= :now",
+        Map.of("name", name, "owner", OWNER, "now", now,
+            "lockedUntil", now.plus(lockAtMost))) == 1;
+  }
+
+  public void unlock(String name) {
+    jdbcTemplate.update("update scheduled_job_locks"
+            + " set locked_until = :now"
+            + " where name = :name and locked_by = :owner",
+        Map.of("name", name, "owner", OWNER, "now", LocalDateTime.now()));
+  }
+}
@@ -0,0 +1,419 @@
+package com.example.accountz.persist.repository;
+
+import com.example.accountz.model.StatementLineRow;
+import com.example.accountz.model.TransactionHistoryPartition;
+import com.example.accountz.model.TransactionHistoryRow;
+import com.example.accountz.persist.archive.HistorySegment;
+import com.example.accountz.persist.entity.AccountNumberConverter;
+import com.example.accountz.type.PartitionStatus;
+import com.example.accountz.type.TransactionDirection;
+import com.example.accountz.type.TransactionResultType;
+import com.example.accountz.type.TransactionType;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+// transaction_history 월 파티션(transaction_history_pYYYYMM) 관리 / 조회.
+// 테이블 이름이 달마다 달라 JPA 엔티티 대신 SQL 로 다룬다.
+// 조회 조건과 정렬은 TransactionHistoryRepository 의 같은 이름 메서드와 같고,
+// 파티션마다 hot 테이블과 같은 조회 인덱스를 만든다.
+@Repository
+@RequiredArgsConstructor
+public class TransactionHistoryPartitionRepository {
+
+  private static final DateTimeFormatter TABLE_SUFFIX =
+      DateTimeFormatter.ofPattern("yyyyMM");
+
+  private static final String COLUMNS = "id, transaction_id, direction,"
+      + " owner_user_id, owner_account_id, sender_name, sender_account_number,"
+      + " receiver_name, receiver_account_number, amount,"
+      + " transaction_result_type, transacted_at, transaction_type,"
+      + " receiver_sort_key";
+
+  private static final String HISTORY_ROW = "select sender_account_number,"
+      + " amount, transacted_at, sender_name, receiver_name, id,"
+      + " receiver_sort_key from ";
+
+  private static final String SENT_BY_USER =
+      " where owner_user_id = :userId and direction = 'SENT'";
+
+  private static final String RECEIVED_BY_ACCOUNT =
+      " where owner_account_id = :accountId and direction = 'RECEIVED'";
+
+  private static final String KEYSET = " and transacted_at <= :transactedAt"
+      + " and (transacted_at < :transactedAt or id < :id)";
+
+  private static final String RECENT_FIRST =
+      " order by transacted_at desc, id desc";
+
+  private static final String BY_RECEIVER =
+      " order by receiver_sort_key asc, transacted_at desc, id desc";
+
+  private static final String LIMIT = " limit :limit";
+
+  private static final RowMapper<TransactionHistoryRow> HISTORY_ROW_MAPPER =
+      (rs, rowNum) -> new TransactionHistoryRow(
+          accountNumber(rs, "sender_account_number"),
+          rs.getObject("amount", Long.class),
+          rs.getObject("transacted_at", LocalDateTime.class),
+          rs.getString("sender_name"),
+          rs.getString("receiver_name"),
+          rs.getLong("id"),
+          rs.getBytes("receiver_sort_key"));
+
+  private static final RowMapper<StatementLineRow> STATEMENT_LINE_MAPPER =
+      (rs, rowNum) -> new StatementLineRow(
+          rs.getLong("transaction_id"),
+          TransactionDirection.valueOf(rs.getString("direction")),
+          enumValue(TransactionType.class, rs.getString("transaction_type")),
+          rs.getObject("amount", Long.class),
+          rs.getObject("transacted_at", LocalDateTime.class),
+          rs.getString("sender_name"),
+          rs.getString("receiver_name"));
+
+  private static final RowMapper<HistorySegment.Row> ARCHIVE_ROW_MAPPER =
+      (rs, rowNum) -> new HistorySegment.Row(
+          rs.getLong("id"),
+          rs.getLong("transaction_id"),
+          TransactionDirection.valueOf(rs.getString("direction")),
+          rs.getObject("owner_user_id", Long.class),
+          rs.getObject("owner_account_id", Long.class),
+          rs.getString("sender_name"),
+          rs.getObject("sender_account_number", Long.class),
+          rs.getString("receiver_name"),
+          rs.getBytes("receiver_sort_key"),
+          rs.getObject("receiver_account_number", Long.class),
+          rs.getObject("amount", Long.class),
+          enumValue(TransactionResultType.class,
+              rs.getString("transaction_result_type")),
+          rs.getObject("transacted_at", LocalDateTime.class),
+          enumValue(TransactionType.class, rs.getString("transaction_type")),
+          rs.getObject("balance_snapshot", Long.class),
+          rs.getObject("account_id", Long.class),
+          rs.getObject("receiver_account_id", Long.class),
+          rs.getObject("created_at", LocalDateTime.class),
+          rs.getObject("updated_at", LocalDateTime.class));
+
+  private final NamedParameterJdbcTemplate jdbcTemplate;
+
+  public static String tableName(YearMonth month) {
+    return "transaction_history_p" + month.format(TABLE_SUFFIX);
+  }
+
+  // 최근 달부터
+  public List<TransactionHistoryPartition> findAllPartitions() {
+    return jdbcTemplate.query("select partition_month, status, row_count,"
+            + " updated_at, pruned_through_transaction_id"
+            + " from transaction_history_partitions"
+            + " order by partition_month desc",
+        (rs, rowNum) -> new TransactionHistoryPartition(
+            YearMonth.parse(rs.getString("partition_month")),
+            PartitionStatus.valueOf(rs.getString("status")),
+            rs.getLong("row_count"),
+            rs.getObject("updated_at", LocalDateTime.class),
+            rs.getObject("pruned_through_transaction_id", Long.class)));
+  }
+
+  // hot 테이블의 가장 오래된 거래 시각 (transacted_at 인덱스의 첫 값)
+  public LocalDateTime findOldestHotTransactedAt() {
+    return jdbcTemplate.queryForObject(
+        "select min(transacted_at) from transaction_history",
+        Map.of(), LocalDateTime.class);
+  }
+
+  // from 이후 hot 테이블의 첫 거래 시각 (행이 없는 달은 건너뛴다.)
+  public LocalDateTime findOldestHotTransactedAt(LocalDateTime from) {
+    return jdbcTemplate.queryForObject("select min(transacted_at)"
+            + " from transaction_history where transacted_at >= :from",
+        Map.of("from", from), LocalDateTime.class);
+  }
+
+  // 파티션 테이블과 조회 인덱스 (이미 있으면 그대로 둔다.)
+  public void createPartitionTable(YearMonth month) {
+    String table = tableName(month);
+    jdbcTemplate.getJdbcOperations().execute("create table if not exists "
+        + table + " ("
+        + "id BIGINT NOT NULL PRIMARY KEY,"
+        + " transaction_id BIGINT NOT NULL,"
+        + " direction VARCHAR(16) NOT NULL,"
+        + " owner_user_id BIGINT,"
+        + " owner_account_id BIGINT,"
+        + " sender_name VARCHAR(255),"
+        + " sender_account_number BIGINT,"
+        + " receiver_name VARCHAR(255),"
+        + " receiver_account_number BIGINT,"
+        + " amount BIGINT,"
+        + " transaction_result_type VARCHAR(255),"
+        + " transacted_at TIMESTAMP(6),"
+        + " transaction_type VARCHAR(255),"
+        + " receiver_sort_key VARBINARY)");
+    createIndex(table, "owner_user_transacted_at",
+        "owner_user_id, direction, transacted_at");
+    createIndex(table, "owner_account_transacted_at",
+        "owner_account_id, direction, transacted_at");
+    createIndex(table, "owner_user_receiver",
+        "owner_user_id, direction, receiver_name, transacted_at");
+    createIndex(table, "owner_user_receiver_sort_key",
+        "owner_user_id, direction, receiver_sort_key, transacted_at");
+    createIndex(table, "owner_user_result_type",
+        "owner_user_id, direction, transaction_result_type, transacted_at");
+    createIndex(table, "transaction", "transaction_id");
+  }
+
+  // hot 테이블의 그 달 행을 파티션으로 복사 (다시 실행하면 파티션을 비우고 새로 복사)
+  public long copyFromHot(YearMonth month) {
+    String table = tableName(month);
+    jdbcTemplate.update("delete from " + table, Map.of());
+    return jdbcTemplate.update("insert into " + table + " (" + COLUMNS + ")"
+        + " select " + COLUMNS + " from transaction_history"
+        + " where transacted_at >= :from and transacted_at < :to",
+        monthRange(month));
+  }
+
+  public int deleteFromHot(YearMonth month) {
+    return jdbcTemplate.update("delete from transaction_history"
+        + " where transacted_at >= :from and transacted_at < :to",
+        monthRange(month));
+  }
+
+  public void insertPartition(YearMonth month, long rowCount) {
+    jdbcTemplate.update("insert into transaction_history_partitions"
+            + " (partition_month, table_name, status, row_count, updated_at)"
+            + " values (:month, :table, :status, :rowCount, :updatedAt)",
+        Map.of("month", month.toString(),
+            "table", tableName(month),
+            "status", PartitionStatus.COPIED.name(),
+            "rowCount", rowCount,
+            "updatedAt", LocalDateTime.now()));
+  }
+
+  public void updatePartitionStatus(YearMonth month, PartitionStatus status) {
+    jdbcTemplate.update("update transaction_history_partitions"
+            + " set status = :status, updated_at = :updatedAt"
+            + " where partition_month = :month",
+        Map.of("month", month.toString(),
+            "status", status.name(),
+            "updatedAt", LocalDateTime.now()));
+  }
+
+  // 보관 세그먼트로 옮긴 뒤 파티션 테이블 삭제
+  public void dropPartitionTable(YearMonth month) {
+    jdbcTemplate.getJdbcOperations().execute(
+        "drop table if exists " + tableName(month));
+  }
+
+  // 그 달 transactions 행을 지운 기록. 이 id 이하 거래는 취소 기간이 지난 것이다.
+  public void updatePrunedThrough(YearMonth month, long transactionId) {
+    jdbcTemplate.update("update transaction_history_partitions"
+            + " set pruned_through_transaction_id = :transactionId"
+            + " where partition_month = :month",
+        Map.of("month", month.toString(), "transactionId", transactionId));
+  }
+
+  // 취소된 원 거래의 보낸 사람 / 받는 사람 행
+  public int updateResultType(YearMonth month, Long transactionId,
+      TransactionResultType resultType) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("transactionId", transactionId);
+    params.put("resultType", resultType.name());
+    return jdbcTemplate.update("update " + tableName(month)
+        + " set transaction_result_type = :resultType"
+        + " where transaction_id = :transactionId", params);
+  }
+
+  public List<TransactionHistoryRow> findPageByUserId(YearMonth month,
+      Long userId, LocalDateTime transactedAt, Long id, int limit) {
+    return jdbcTemplate.query(HISTORY_ROW + tableName(month)
+            + SENT_BY_USER + KEYSET + RECENT_FIRST + LIMIT,
+        keyset(transactedAt, id, limit).addValue("userId", userId),
+        HISTORY_ROW_MAPPER);
+  }
+
+  public List<TransactionHistoryRow> findPageByReceiverAccountId(
+      YearMonth month, Long accountId, LocalDateTime transactedAt, Long id,
+      int limit) {
+    return jdbcTemplate.query(HISTORY_ROW + tableName(month)
+            + RECEIVED_BY_ACCOUNT + KEYSET + RECENT_FIRST + LIMIT,
+        keyset(transactedAt, id, limit).addValue("accountId", accountId),
+        HISTORY_ROW_MAPPER);
+  }
+
+  public List<TransactionHistoryRow> findPageByUserIdOrderByReceiver(
+      YearMonth month, Long userId, byte[] sortKey,
+      LocalDateTime transactedAt, Long id, int limit) {
+    return jdbcTemplate.query(HISTORY_ROW + tableName(month)
+            + SENT_BY_USER
+            + " and receiver_sort_key >= :sortKey"
+            + " and (receiver_sort_key > :sortKey"
+            + " or transacted_at < :transactedAt"
+            + " or (transacted_at = :transactedAt and id < :id))"
+            + BY_RECEIVER + LIMIT,
+        keyset(transactedAt, id, limit)
+            .addValue("userId", userId)
+            .addValue("sortKey", sortKey),
+        HISTORY_ROW_MAPPER);
+  }
+
+  public List<TransactionHistoryRow> findPageByUserIdBetween(YearMonth month,
+      Long userId, LocalDateTime from, LocalDateTime to,
+      LocalDateTime transactedAt, Long id, int limit) {
+    return jdbcTemplate.query(HISTORY_ROW + tableName(month)
+            + SENT_BY_USER
+            + " and transacted_at >= :from and transacted_at <= :to"
+            + KEYSET + RECENT_FIRST + LIMIT,
+        keyset(transactedAt, id, limit)
+            .addValue("userId", userId)
+            .addValue("from", from)
+            .addValue("to", to),
+        HISTORY_ROW_MAPPER);
+  }
+
+  public List<TransactionHistoryRow> findPageByUserIdAndResultType(
+      YearMonth month, Long userId, TransactionResultType resultType,
+      LocalDateTime transactedAt, Long id, int limit) {
+    return jdbcTemplate.query(HISTORY_ROW + tableName(month)
+            + SENT_BY_USER + " and transaction_result_type = :resultType"
+            + KEYSET + RECENT_FIRST + LIMIT,
+        keyset(transactedAt, id, limit)
+            .addValue("userId", userId)
+            .addValue("resultType", resultType.name()),
+        HISTORY_ROW_MAPPER);
+  }
+
+  public List<TransactionHistoryRow> findPageByUserIdAndReceiver(
+      YearMonth month, Long userId, String receiver,
+      LocalDateTime transactedAt, Long id, int limit) {
+    return jdbcTemplate.query(HISTORY_ROW + tableName(month)
+            + SENT_BY_USER + " and receiver_name = :receiver"
+            + KEYSET + RECENT_FIRST + LIMIT,
+        keyset(transactedAt, id, limit)
+            .addValue("userId", userId)
+            .addValue("receiver", receiver),
+        HISTORY_ROW_MAPPER);
+  }
+
+  public List<StatementLineRow> findStatementLines(YearMonth month,
+      Long accountId, TransactionDirection direction,
+      LocalDateTime from, LocalDateTime to) {
+    return jdbcTemplate.query("select transaction_id, direction,"
+            + " transaction_type, amount, transacted_at, sender_name,"
+            + " receiver_name from " + tableName(month)
+            + " where owner_account_id = :accountId and direction = :direction"
+            + " and transacted_at >= :from and transacted_at < :to"
+            + " and transaction_result_type <> 'FAIL'"
+            + " order by transacted_at asc, id asc",
+        Map.of("accountId", accountId,
+            "direction", direction.name(),
+            "from", from,
+            "to", to),
+        STATEMENT_LINE_MAPPER);
+  }
+
+  public List<String> findReceiverNamesByUserId(YearMonth month,
+      Long userId) {
+    return jdbcTemplate.queryForList("select distinct receiver_name from "
+            + tableName(month) + SENT_BY_USER,
+        Map.of("userId", userId), String.class);
+  }
+
+  // NDJSON 내보내기용 스트림 조회. 호출한 쪽에서 닫아야 한다.
+  public Stream<TransactionHistoryRow> streamByUserId(YearMonth month,
+      Long userId) {
+    return jdbcTemplate.queryForStream(HISTORY_ROW + tableName(month)
+            + SENT_BY_USER + RECENT_FIRST,
+        Map.of("userId", userId), HISTORY_ROW_MAPPER);
+  }
+
+  public Stream<TransactionHistoryRow> streamByReceiverAccountId(
+      YearMonth month, Long accountId) {
+    return jdbcTemplate.queryForStream(HISTORY_ROW + tableName(month)
+            + RECEIVED_BY_ACCOUNT + RECENT_FIRST,
+        Map.of("accountId", accountId), HISTORY_ROW_MAPPER);
+  }
+
+  public Stream<TransactionHistoryRow> streamByUserIdOrderByReceiver(
+      YearMonth month, Long userId) {
+    return jdbcTemplate.queryForStream(HISTORY_ROW + tableName(month)
+            + SENT_BY_USER + BY_RECEIVER,
+        Map.of("userId", userId), HISTORY_ROW_MAPPER);
+  }
+
+  public Stream<TransactionHistoryRow> streamByUserIdBetween(YearMonth month,
+      Long userId, LocalDateTime from, LocalDateTime to) {
+    return jdbcTemplate.queryForStream(HISTORY_ROW + tableName(month)
+            + SENT_BY_USER
+            + " and transacted_at >= :from and transacted_at <= :to"
+            + RECENT_FIRST,
+        Map.of("userId", userId, "from", from, "to", to),
+        HISTORY_ROW_MAPPER);
+  }
+
+  public Stream<TransactionHistoryRow> streamByUserIdAndResultType(
+      YearMonth month, Long userId, TransactionResultType resultType) {
+    return jdbcTemplate.queryForStream(HISTORY_ROW + tableName(month)
+            + SENT_BY_USER + " and transaction_result_type = :resultType"
+            + RECENT_FIRST,
+        Map.of("userId", userId, "resultType", resultType.name()),
+        HISTORY_ROW_MAPPER);
+  }
+
+  public Stream<TransactionHistoryRow> streamByUserIdAndReceiver(
+      YearMonth month, Long userId, String receiver) {
+    return jdbcTemplate.queryForStream(HISTORY_ROW + tableName(month)
+            + SENT_BY_USER + " and receiver_name = :receiver" + RECENT_FIRST,
+        Map.of("userId", userId, "receiver", receiver), HISTORY_ROW_MAPPER);
+  }
+
+  // 보관 세그먼트에 쓸 그 달 전체 행 (소유 사용자, 방향, 받는 사람 정렬 키 순).
+  // transactions 에만 있는 컬럼을 함께 읽는다. 호출한 쪽에서 닫아야 한다.
+  public Stream<HistorySegment.Row> streamArchiveRows(YearMonth month) {
+    return jdbcTemplate.queryForStream("select h.*, t.balance_snapshot,"
+            + " t.account_id, t.receiver_account_id, t.created_at,"
+            + " t.updated_at from " + tableName(month) + " h"
+            + " left join transactions t"
+            + " on t.transaction_id = h.transaction_id"
+            + " order by h.owner_user_id asc nulls first, h.direction asc,"
+            + " h.receiver_sort_key asc nulls first,"
+            + " h.transacted_at desc, h.id desc",
+        Map.of(), ARCHIVE_ROW_MAPPER);
+  }
+
+  private void createIndex(String table, String name, String columns) {
+    jdbcTemplate.getJdbcOperations().execute("create index if not exists idx_"
+        + table + "_" + name + " on " + table + " (" + columns + ")");
+  }
+
+  private static Map<String, Object> monthRange(YearMonth month) {
+    return Map.of("from", month.atDay(1).atStartOfDay(),
+        "to", month.plusMonths(1).atDay(1).atStartOfDay());
+  }
+
+  private static MapSqlParameterSource keyset(LocalDateTime transactedAt,
+      Long id, int limit) {
+    return new MapSqlParameterSource()
+        .addValue("transactedAt", transactedAt)
+        .addValue("id", id)
+        .addValue("limit", limit);
+  }
+
+  private static String accountNumber(ResultSet rs, String column)
+      throws SQLException {
+    long accountNumber = rs.getLong(column);
+    return rs.wasNull() ? null : AccountNumberConverter.format(accountNumber);
+  }
+
+  private static <E extends Enum<E>> E enumValue(Class<E> type, String name) {
+    return name == null ? null : Enum.valueOf(type, name);
+  }
+}
@@ -0,0 +1,196 @@
+package com.example.accountz.persist.repository;
+
+import com.example.accountz.model.StatementLineRow;
+import com.example.accountz.model.TransactionHistoryRow;
+import com.example.accountz.persist.entity.TransactionHistoryEntity;
+import com.example.accountz.type.TransactionDirection;
+import com.example.accountz.type.TransactionResultType;
+import jakarta.persistence.QueryHint;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+// 거래 내역 조회는 keyset 페이지: 커서 (transactedAt, id) 다음 행부터 pageable 크기만큼
+// "h.transactedAt <= :transactedAt" 는 인덱스 범위 조건, 괄호 안은 같은 시각의 id 순서 처리
+// 모든 조회는 transaction_history 한 테이블의 (owner, direction, ...) 인덱스만 읽는다.
+@Repository
+public interface TransactionHistoryRepository
+    extends JpaRepository<TransactionHistoryEntity, Long> {
+
+  String HISTORY_ROW = "select new"
+      + " com.example.accountz.model.TransactionHistoryRow("
+      + "h.senderAccountNumber, h.amount, h.transactedAt, h.senderName,"
+      + " h.receiverName, h.id, h.receiverSortKey)"
+      + " from TransactionHistoryEntity h";
+
+  // 사용자가 보낸 거래 (출금 / 송금 / 입금 요청자 기준)
+  String SENT_BY_USER = " where h.ownerUserId = :userId"
+      + " and h.direction = com.example.accountz.type.TransactionDirection.SENT";
+
+  // 계좌로 받은 거래
+  String RECEIVED_BY_ACCOUNT = " where h.ownerAccountId = :accountId"
+      + " and h.direction = com.example.accountz.type.TransactionDirection.RECEIVED";
+
+  // 취소된 원 거래의 보낸 사람 / 받는 사람 행
+  @Modifying
+  @Query("update TransactionHistoryEntity h"
+      + " set h.transactionResultType = :resultType"
+      + " where h.transactionId = :transactionId")
+  int updateResultType(@Param("transactionId") Long transactionId,
+      @Param("resultType") TransactionResultType resultType);
+
+  // 최근 날짜 순 정렬 (기본)(출금)
+  @Query(HISTORY_ROW
+      + SENT_BY_USER
+      + " and h.transactedAt <= :transactedAt"
+      + " and (h.transactedAt < :transactedAt or h.id < :id)"
+      + " order by h.transactedAt desc, h.id desc")
+  List<TransactionHistoryRow> findPageByUserId(@Param("userId") Long userId,
+      @Param("transactedAt") LocalDateTime transactedAt, @Param("id") Long id,
+      Pageable pageable);
+
+  // 입금 정렬 (최근 날짜순)
+  @Query(HISTORY_ROW
+      + RECEIVED_BY_ACCOUNT
+      + " and h.transactedAt <= :transactedAt"
+      + " and (h.transactedAt < :transactedAt or h.id < :id)"
+      + " order by h.transactedAt desc, h.id desc")
+  List<TransactionHistoryRow> findPageByReceiverAccountId(
+      @Param("accountId") Long accountId,
+      @Param("transactedAt") LocalDateTime transactedAt, @Param("id") Long id,
+      Pageable pageable);
+
+  // 이름 정렬 (가나다순, 같은 이름은 최근 날짜순)
+  // 커서 위치는 직전 페이지 마지막 받는 사람 이름의 정렬 키 (NameSortKey)
+  @Query(HISTORY_ROW
+      + SENT_BY_USER
+      + " and h.receiverSortKey >= :sortKey"
+      + " and (h.receiverSortKey > :sortKey or h.transactedAt < :transactedAt"
+      + " or (h.transactedAt = :transactedAt and h.id < :id))"
+      + " order by h.receiverSortKey asc, h.transactedAt desc, h.id desc")
+  List<TransactionHistoryRow> findPageByUserIdOrderByReceiver(
+      @Param("userId") Long userId, @Param("sortKey") byte[] sortKey,
+      @Param("transactedAt") LocalDateTime transactedAt, @Param("id") Long id,
+      Pageable pageable);
+
+  // 지정 날짜 조회 (최근 날짜순)
+  @Query(HISTORY_ROW
+      + SENT_BY_USER
+      + " and h.transactedAt >= :from"
+      + " and h.transactedAt <= :transactedAt and h.transactedAt <= :to"
+      + " and (h.transactedAt < :transactedAt or h.id < :id)"
+      + " order by h.transactedAt desc, h.id desc")
+  List<TransactionHistoryRow> findPageByUserIdBetween(
+      @Param("userId") Long userId,
+      @Param("from") LocalDateTime from, @Param("to") LocalDateTime to,
+      @Param("transactedAt") LocalDateTime transactedAt, @Param("id") Long id,
+      Pageable pageable);
+
+  // 실패한 거래 (최근 날짜순)
+  @Query(HISTORY_ROW
+      + SENT_BY_USER
+      + " and h.transactionResultType = :resultType"
+      + " and h.transactedAt <= :transactedAt"
+      + " and (h.transactedAt < :transactedAt or h.id < :id)"
+      + " order by h.transactedAt desc, h.id desc")
+  List<TransactionHistoryRow> findPageByUserIdAndResultType(
+      @Param("userId") Long userId,
+      @Param("resultType") TransactionResultType resultType,
+      @Param("transactedAt") LocalDateTime transactedAt, @Param("id") Long id,
+      Pageable pageable);
+
+  // 받는 사람으로 이름 조회 (최근 날짜순)
+  @Query(HISTORY_ROW
+      + SENT_BY_USER
+      + " and h.receiverName = :receiver"
+      + " and h.transactedAt <= :transactedAt"
+      + " and (h.transactedAt < :transactedAt or h.id < :id)"
+      + " order by h.transactedAt desc, h.id desc")
+  List<TransactionHistoryRow> findPageByUserIdAndReceiver(
+      @Param("userId") Long userId, @Param("receiver") String receiver,
+      @Param("transactedAt") LocalDateTime transactedAt, @Param("id") Long id,
+      Pageable pageable);
+
+  // 받는 사람 이름 검색 색인 (ReceiverSearchService)
+  @Query("select distinct h.receiverName from TransactionHistoryEntity h"
+      + SENT_BY_USER)
+  List<String> findReceiverNamesByUserId(@Param("userId") Long userId);
+
+  // 월별 거래 명세서: 계좌 입장의 한 방향 행 [from, to) (실패 거래 제외)
+  @Query("select new com.example.accountz.model.StatementLineRow("
+      + "h.transactionId, h.direction, h.transactionType, h.amount,"
+      + " h.transactedAt, h.senderName, h.receiverName)"
+      + " from TransactionHistoryEntity h"
+      + " where h.ownerAccountId = :accountId and h.direction = :direction"
+      + " and h.transactedAt >= :from and h.transactedAt < :to"
+      + " and h.transactionResultType"
+      + " <> com.example.accountz.type.TransactionResultType.FAIL"
+      + " order by h.transactedAt asc, h.id asc")
+  List<StatementLineRow> findStatementLines(
+      @Param("accountId") Long accountId,
+      @Param("direction") TransactionDirection direction,
+      @Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+  // NDJSON 내보내기용 스트림 조회 (TransactionExportService)
+  // 결과를 한 번에 읽지 않고 FETCH_SIZE 행씩 가져온다. 트랜잭션 안에서 사용하고 닫아야 한다.
+  String FETCH_SIZE = "500";
+
+  @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE,
+      value = FETCH_SIZE))
+  @Query(HISTORY_ROW
+      + SENT_BY_USER
+      + " order by h.transactedAt desc, h.id desc")
+  Stream<TransactionHistoryRow> streamByUserId(@Param("userId") Long userId);
+
+  @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE,
+      value = FETCH_SIZE))
+  @Query(HISTORY_ROW
+      + RECEIVED_BY_ACCOUNT
+      + " order by h.transactedAt desc, h.id desc")
+  Stream<TransactionHistoryRow> streamByReceiverAccountId(
+      @Param("accountId") Long accountId);
+
+  @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE,
+      value = FETCH_SIZE))
+  @Query(HISTORY_ROW
+      + SENT_BY_USER
+      + " order by h.receiverSortKey asc, h.transactedAt desc, h.id desc")
+  Stream<TransactionHistoryRow> streamByUserIdOrderByReceiver(
+      @Param("userId") Long userId);
+
+  @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE,
+      value = FETCH_SIZE))
+  @Query(HISTORY_ROW
+      + SENT_BY_USER
+      + " and h.transactedAt >= :from and h.transactedAt <= :to"
+      + " order by h.transactedAt desc, h.id desc")
+  Stream<TransactionHistoryRow> streamByUserIdBetween(
+      @Param("userId") Long userId,
+      @Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+  @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE,
+      value = FETCH_SIZE))
+  @Query(HISTORY_ROW
+      + SENT_BY_USER
+      + " and h.transactionResultType = :resultType"
+      + " order by h.transactedAt desc, h.id desc")
+  Stream<TransactionHistoryRow> streamByUserIdAndResultType(
+      @Param("userId") Long userId,
+      @Param("resultType") TransactionResultType resultType);
+
+  @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE,
+      value = FETCH_SIZE))
+  @Query(HISTORY_ROW
+      + SENT_BY_USER + " and h.receiverName = :receiver"
+      + " order by h.transactedAt desc, h.id desc")
+  Stream<TransactionHistoryRow> streamByUserIdAndReceiver(
+      @Param("userId") Long userId, @Param("receiver") String receiver);
+}
@@ -0,0 +1,257 @@
+package com.example.accountz.persist.repository;
+
+import com.example.accountz.config.TransactionProperties;
+import com.example.accountz.model.StatementLineRow;
+import com.example.accountz.model.TransactionHistoryRow;
+import com.example.accountz.persist.archive.HistorySegment;
+import com.example.accountz.persist.entity.AccountNumberConverter;
+import com.example.accountz.type.TransactionDirection;
+import com.example.accountz.type.TransactionResultType;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import org.springframework.stereotype.Repository;
+
+// 보관 세그먼트(HistorySegment) 파일 관리 / 조회.
+// 세그먼트는 소유 사용자 순으로 정렬돼 있어 사용자 한 명의 한 달 치 행만 읽은 뒤
+// 메모리에서 거르고 정렬한다. 받는 사람 순 조회는 세그먼트에 저장된 정렬 키 순서를
+// 그대로 쓴다. 조회 조건과 정렬은 TransactionHistoryPartitionRepository 의
+// 같은 이름 메서드와 같고, 계좌 기준 조회는 계좌 소유자 id 를 함께 받는다.
+@Repository
+public class TransactionHistorySegmentRepository {
+
+  private static final DateTimeFormatter FILE_SUFFIX =
+      DateTimeFormatter.ofPattern("yyyyMM");
+
+  private static final Comparator<HistorySegment.Row> RECENT_FIRST =
+      Comparator.comparing(HistorySegment.Row::transactedAt,
+              Comparator.nullsFirst(Comparator.<LocalDateTime>naturalOrder()))
+          .thenComparingLong(HistorySegment.Row::id)
+          .reversed();
+
+  private final Path directory;
+  private final int blockRows;
+  // 열어 둔 세그먼트의 블록 색인
+  private final LoadingCache<YearMonth, HistorySegment> segments;
+
+  public TransactionHistorySegmentRepository(
+      TransactionProperties transactionProperties) {
+    TransactionProperties.Archive properties =
+        transactionProperties.getArchive();
+    this.directory = Path.of(properties.getDirectory());
+    this.blockRows = properties.getBlockRows();
+    this.segments = Caffeine.newBuilder()
+        .maximumSize(properties.getOpenSegments())
+        .build(this::open);
+  }
+
+  public static String fileName(YearMonth month) {
+    return "transaction_history_" + month.format(FILE_SUFFIX) + ".seg";
+  }
+
+  // rows 는 소유 사용자 순이어야 한다. (streamArchiveRows)
+  public long write(YearMonth month, Stream<HistorySegment.Row> rows) {
+    try {
+      Files.createDirectories(directory);
+      long written = HistorySegment.write(path(month), rows.iterator(),
+          blockRows);
+      segments.invalidate(month);
+      return written;
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  public boolean exists(YearMonth month) {
+    return Files.exists(path(month));
+  }
+
+  public List<TransactionHistoryRow> findPageByUserId(YearMonth month,
+      Long userId, LocalDateTime transactedAt, Long id, int limit) {
+    return page(sentBy(month, userId), transactedAt, id, limit);
+  }
+
+  public List<TransactionHistoryRow> findPageByReceiverAccountId(
+      YearMonth month, Long ownerUserId, Long accountId,
+      LocalDateTime transactedAt, Long id, int limit) {
+    return page(receivedBy(month, ownerUserId, accountId), transactedAt, id,
+        limit);
+  }
+
+  public List<TransactionHistoryRow> findPageByUserIdOrderByReceiver(
+      YearMonth month, Long userId, byte[] sortKey,
+      LocalDateTime transactedAt, Long id, int limit) {
+    // 사용자의 보낸 행은 (정렬 키, 최근 날짜) 순으로 저장돼 있다.
+    return sentBy(month, userId)
+        .filter(row -> row.receiverSortKey() != null)
+        .filter(row -> {
+          int compared = Arrays.compareUnsigned(row.receiverSortKey(), sortKey);
+          return compared > 0
+              || compared == 0 && before(row, transactedAt, id);
+        })
+        .limit(limit)
+        .map(TransactionHistorySegmentRepository::historyRow)
+        .toList();
+  }
+
+  public List<TransactionHistoryRow> findPageByUserIdBetween(YearMonth month,
+      Long userId, LocalDateTime from, LocalDateTime to,
+      LocalDateTime transactedAt, Long id, int limit) {
+    return page(sentBy(month, userId).filter(between(from, to)),
+        transactedAt, id, limit);
+  }
+
+  public List<TransactionHistoryRow> findPageByUserIdAndResultType(
+      YearMonth month, Long userId, TransactionResultType resultType,
+      LocalDateTime transactedAt, Long id, int limit) {
+    return page(sentBy(month, userId)
+            .filter(row -> row.transactionResultType() == resultType),
+        transactedAt, id, limit);
+  }
+
+  public List<TransactionHistoryRow> findPageByUserIdAndReceiver(
+      YearMonth month, Long userId, String receiver,
+      LocalDateTime transactedAt, Long id, int limit) {
+    return page(sentBy(month, userId)
+            .filter(row -> Objects.equals(row.receiverName(), receiver)),
+        transactedAt, id, limit);
+  }
+
+  public List<StatementLineRow> findStatementLines(YearMonth month,
+      Long ownerUserId, Long accountId, TransactionDirection direction,
+      LocalDateTime from, LocalDateTime to) {
+    return rowsOf(month, ownerUserId).stream()
+        .filter(row -> Objects.equals(row.ownerAccountId(), accountId)
+            && row.direction() == direction
+            && row.transactedAt() != null
+            && !row.transactedAt().isBefore(from)
+            && row.transactedAt().isBefore(to)
+            && row.transactionResultType() != null
+            && row.transactionResultType() != TransactionResultType.FAIL)
+        .sorted(RECENT_FIRST.reversed())
+        .map(row -> new StatementLineRow(
+            row.transactionId(),
+            row.direction(), row.transactionType(), row.amount(),
+            row.transactedAt(), row.senderName(), row.receiverName()))
+        .toList();
+  }
+
+  public List<String> findReceiverNamesByUserId(YearMonth month,
+      Long userId) {
+    return sentBy(month, userId)
+        .map(HistorySegment.Row::receiverName)
+        .distinct()
+        .toList();
+  }
+
+  public Stream<TransactionHistoryRow> streamByUserId(YearMonth month,
+      Long userId) {
+    return recentFirst(sentBy(month, userId));
+  }
+
+  public Stream<TransactionHistoryRow> streamByReceiverAccountId(
+      YearMonth month, Long ownerUserId, Long accountId) {
+    return recentFirst(receivedBy(month, ownerUserId, accountId));
+  }
+
+  public Stream<TransactionHistoryRow> streamByUserIdOrderByReceiver(
+      YearMonth month, Long userId) {
+    return findPageByUserIdOrderByReceiver(month, userId, new byte[0],
+        LocalDateTime.MAX, Long.MAX_VALUE, Integer.MAX_VALUE).stream();
+  }
+
+  public Stream<TransactionHistoryRow> streamByUserIdBetween(YearMonth month,
+      Long userId, LocalDateTime from, LocalDateTime to) {
+    return recentFirst(sentBy(month, userId).filter(between(from, to)));
+  }
+
+  public Stream<TransactionHistoryRow> streamByUserIdAndResultType(
+      YearMonth month, Long userId, TransactionResultType resultType) {
+    return recentFirst(sentBy(month, userId)
+        .filter(row -> row.transactionResultType() == resultType));
+  }
+
+  public Stream<TransactionHistoryRow> streamByUserIdAndReceiver(
+      YearMonth month, Long userId, String receiver) {
+    return recentFirst(sentBy(month, userId)
+        .filter(row -> Objects.equals(row.receiverName(), receiver)));
+  }
+
+  private Stream<HistorySegment.Row> sentBy(YearMonth month, Long userId) {
+    return rowsOf(month, userId).stream()
+        .filter(row -> row.direction() == TransactionDirection.SENT);
+  }
+
+  private Stream<HistorySegment.Row> receivedBy(YearMonth month,
+      Long ownerUserId, Long accountId) {
+    return rowsOf(month, ownerUserId).stream()
+        .filter(row -> row.direction() == TransactionDirection.RECEIVED
+            && Objects.equals(row.ownerAccountId(), accountId));
+  }
+
+  private List<HistorySegment.Row> rowsOf(YearMonth month, Long userId) {
+    try {
+      return segments.get(month).rowsOf(userId);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  // (transactedAt, id) 커서 다음 행부터 최근 날짜순으로 limit 개
+  private static List<TransactionHistoryRow> page(
+      Stream<HistorySegment.Row> rows, LocalDateTime transactedAt, Long id,
+      int limit) {
+    return recentFirst(rows.filter(row -> before(row, transactedAt, id)))
+        .limit(limit)
+        .toList();
+  }
+
+  private static Stream<TransactionHistoryRow> recentFirst(
+      Stream<HistorySegment.Row> rows) {
+    return rows.sorted(RECENT_FIRST)
+        .map(TransactionHistorySegmentRepository::historyRow);
+  }
+
+  private static boolean before(HistorySegment.Row row,
+      LocalDateTime transactedAt, Long id) {
+    return row.transactedAt() != null
+        && (row.transactedAt().isBefore(transactedAt)
+        || row.transactedAt().isEqual(transactedAt) && row.id() < id);
+  }
+
+  private static Predicate<HistorySegment.Row> between(LocalDateTime from,
+      LocalDateTime to) {
+    return row -> row.transactedAt() != null
+        && !row.transactedAt().isBefore(from)
+        && !row.transactedAt().isAfter(to);
+  }
+
+  private static TransactionHistoryRow historyRow(HistorySegment.Row row) {
+    return new TransactionHistoryRow(
+        row.senderAccountNumber() == null
+            ? null
+            : AccountNumberConverter.format(row.senderAccountNumber()),
+        row.amount(), row.transactedAt(), row.senderName(),
+        row.receiverName(), row.id(), row.receiverSortKey());
+  }
+
+  private Path path(YearMonth month) {
+    return directory.resolve(fileName(month));
+  }
+
+  private HistorySegment open(YearMonth month) throws IOException {
+    return HistorySegment.open(path(month));
+  }
+}
@@ -1,44 +1,33 @@
 package com.example.accountz.persist.repository;
 
-import com.example.accountz.persist.entity.AccountEntity;
 import com.example.accountz.persist.entity.TransactionEntity;
-import com.example.accountz.type.TransactionResultType;
 import java.time.LocalDateTime;
-import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+// 거래 내역 조회는 TransactionHistoryRepository (transaction_history) 에서 한다.
 @Repository
 public interface TransactionRepository
     extends JpaRepository<TransactionEntity, Long> {
 
-  Optional<TransactionEntity> findByTransactionId(String transactionId);
-
-  // 최근 날짜 순 정렬 (기본)(출금)
-  List<TransactionEntity> findByUser_IdOrderByTransactedAtDesc(Long id);
-
-  // 입금 정렬 (최근 날짜순)
-  List<TransactionEntity> findByReceiverAccount_IdOrderByTransactedAtDesc(
-      Long id);
-
-
-  // 이름 정렬 (가나다순)
-  List<TransactionEntity> findByUser_IdOrderByReceiverAccount_User_NameAsc(
-      Long id);
-
-  // 지정 날짜 조회
-  List<TransactionEntity> findByTransactedAtBetweenAndUser_Id(
-      LocalDateTime transactedAtStart, LocalDateTime transactedAtEnd,
-      Long id);
-
-  // 실패한 거래
-  List<TransactionEntity> findByUser_IdAndTransactionResultType(
-      Long userId, TransactionResultType resultType);
-
-  // 받는 사람으로 이름 조회
-  List<TransactionEntity> findByReceiverAndUser_Id(String receiver,
-      Long id);
-
-
+  // 취소할 원 거래만 조회. 계좌는 이후 잠금 조회에서 읽어야 하므로 함께 조회하지 않는다.
+  Optional<TransactionEntity> findByTransactionId(Long transactionId);
+
+  // 취소 기간이 지난 달의 거래 행 정리 (TransactionHistoryArchiveService)
+  @Query(value = "select max(transaction_id) from transactions"
+      + " where transacted_at >= :from and transacted_at < :to",
+      nativeQuery = true)
+  Long findMaxTransactionIdBetween(@Param("from") LocalDateTime from,
+      @Param("to") LocalDateTime to);
+
+  @Modifying
+  @Query(value = "delete from transactions"
+      + " where transacted_at >= :from and transacted_at < :to",
+      nativeQuery = true)
+  int deleteTransactedBetween(@Param("from") LocalDateTime from,
+      @Param("to") LocalDateTime to);
 }
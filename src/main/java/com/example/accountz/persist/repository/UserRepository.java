@@ -2,7 +2,11 @@ package com.example.accountz.persist.repository;
 
 import com.example.accountz.persist.entity.UserEntity;
 import java.util.Optional;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -11,5 +15,13 @@ public interface UserRepository
 
   boolean existsByEmail(String email);
 
+  @EntityGraph(attributePaths = "roles")
   Optional<UserEntity> findByEmail(String email);
+
+  // 계좌 개수 제한 검사와 예약을 한 문장으로 처리 (제한에 도달했으면 0 rows)
+  @Modifying
+  @Query("update UserEntity u"
+      + " set u.accountCount = u.accountCount + 1"
+      + " where u.id = :id and u.accountCount < :limit")
+  int reserveAccountSlot(@Param("id") Long id, @Param("limit") int limit);
 }
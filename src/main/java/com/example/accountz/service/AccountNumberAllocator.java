@@ -0,0 +1,58 @@
+package com.example.accountz.service;
+
+import com.example.accountz.config.AccountNumberProperties;
+import com.example.accountz.exception.GlobalException;
+import com.example.accountz.persist.entity.AccountNumberConverter;
+import com.example.accountz.persist.repository.AccountRepository;
+import com.example.accountz.type.ErrorCode;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.stereotype.Service;
+
+// hi/lo 방식 계좌 번호 할당.
+// DB 시퀀스에서 블록 시작 번호를 받아 blockSize 개의 번호를 메모리에서 잠금 없이 나눠준다.
+// 블록은 시퀀스로 예약하므로 여러 인스턴스에서도 겹치지 않는다. (재시작 시 남은 번호는 건너뛴다.)
+@Service
+public class AccountNumberAllocator {
+
+  private final AccountRepository accountRepository;
+  private final int blockSize;
+
+  private volatile Block block = new Block(0L, new AtomicLong());
+
+  private record Block(long end, AtomicLong next) {
+
+  }
+
+  public AccountNumberAllocator(AccountRepository accountRepository,
+      AccountNumberProperties accountNumberProperties) {
+    this.accountRepository = accountRepository;
+    this.blockSize = accountNumberProperties.getBlockSize();
+  }
+
+  public String next() {
+    while (true) {
+      Block current = block;
+      long accountNumber = current.next().getAndIncrement();
+      if (accountNumber < current.end()) {
+        return AccountNumberConverter.format(accountNumber);
+      }
+      reserve(current);
+    }
+  }
+
+  // 블록을 다 쓴 스레드 중 하나만 시퀀스를 조회
+  private synchronized void reserve(Block exhausted) {
+    if (block != exhausted) {
+      return;
+    }
+    long start = accountRepository.nextAccountNumberBlock();
+    // 시퀀스가 최대 번호를 넘으면 빈 블록만 받게 되므로 더 돌지 않고 실패
+    if (start > AccountNumberConverter.MAX_ACCOUNT_NUMBER) {
+      throw new GlobalException(ErrorCode.ACCOUNT_NUMBER_EXHAUSTED);
+    }
+    block = new Block(
+        Math.min(start + blockSize,
+            AccountNumberConverter.MAX_ACCOUNT_NUMBER + 1),
+        new AtomicLong(start));
+  }
+}
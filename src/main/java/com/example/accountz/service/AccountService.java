@@ -24,9 +24,13 @@ import org.springframework.stereotype.Service;
 @AllArgsConstructor
 public class AccountService {
 
+  private static final int MAX_ACCOUNTS = 5;
+
   private final AccountRepository accountRepository;
   private final UserRepository userRepository;
   private final JwtTokenExtract jwtTokenExtract;
+  private final HotAccountService hotAccountService;
+  private final AccountNumberAllocator accountNumberAllocator;
 
 
   @Transactional
@@ -42,21 +46,15 @@ public class AccountService {
         AccountEntity.builder()
             .user(user)
             .accountStatus(AccountStatus.ACTIVATED)
-            .accountNumber(createAccountNumber())
+            .accountNumber(accountNumberAllocator.next())
             .balance(0L)
             .registeredAt(LocalDateTime.now())
             .build()));
   }
 
-  private String createAccountNumber() {
-    return accountRepository.findFirstByOrderByIdDesc()
-        .map(account -> (Integer.parseInt(account.getAccountNumber())) + 1
-            + "")
-        .orElse("1000000000");
-  }
-
+  // users.account_count 조건부 증가로 검사와 예약을 함께 처리 (동시 생성 시에도 5개 초과 불가)
   private void checkAccountLimit_5(UserEntity user) {
-    if (accountRepository.countByUser(user) >= 5) {
+    if (userRepository.reserveAccountSlot(user.getId(), MAX_ACCOUNTS) == 0) {
       throw new GlobalException(ErrorCode.MAX_5_LIMIT_ACCOUNTS);
     }
   }
@@ -65,12 +63,17 @@ public class AccountService {
   public AccountDto deleteAccount(Long userId, String accountNumber) {
     UserEntity accountUser = userRepository.findById(userId)
         .orElseThrow(() -> new GlobalException(USER_NOT_FOUND));
-    AccountEntity account = accountRepository.findByAccountNumber(
-            accountNumber)
+    // hot 계좌는 슬롯 회수 전에 계좌 행부터 잠근다.
+    AccountEntity account = (hotAccountService.isHot(accountNumber)
+        ? accountRepository.findByAccountNumberForUpdate(accountNumber)
+        : accountRepository.findByAccountNumber(accountNumber))
         .orElseThrow(() -> new GlobalException(ACCOUNT_NOT_FOUND));
 
     validateDeleteAccount(accountUser, account);
 
+    if (account.isHot()) {
+      hotAccountService.release(account);
+    }
     account.setAccountStatus(AccountStatus.UNREGISTERED);
     account.setUnRegisteredAt(LocalDateTime.now());
 
@@ -86,9 +89,29 @@ public class AccountService {
     if (account.getAccountStatus() == AccountStatus.UNREGISTERED) {
       throw new GlobalException(ErrorCode.ACCOUNT_ALREADY_UNREGISTERED);
     }
-    if (account.getBalance() > 0) {
+    if (getTotalBalance(account) > 0) {
       throw new GlobalException(ErrorCode.BALANCE_NOT_EMPTY);
     }
   }
+
+  @Transactional
+  public AccountDto getBalance(Long userId, String accountNumber) {
+    AccountEntity account = accountRepository.findByAccountNumber(
+            accountNumber)
+        .orElseThrow(() -> new GlobalException(ACCOUNT_NOT_FOUND));
+    if (!Objects.equals(userId, account.getUser().getId())) {
+      throw new GlobalException(ErrorCode.USER_ACCOUNT_UNMATCHED);
+    }
+
+    AccountDto accountDto = AccountDto.fromEntity(account);
+    accountDto.setBalance(getTotalBalance(account));
+    return accountDto;
+  }
+
+  // hot 계좌 잔액 = 계좌 행 잔액 + 슬롯 합계
+  private long getTotalBalance(AccountEntity account) {
+    return account.getBalance()
+        + hotAccountService.getSlotBalance(account);
+  }
 }
 
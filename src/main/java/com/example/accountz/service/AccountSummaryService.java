@@ -0,0 +1,95 @@
+package com.example.accountz.service;
+
+import com.example.accountz.config.TransactionProperties;
+import com.example.accountz.exception.GlobalException;
+import com.example.accountz.model.AccountSummaryDto;
+import com.example.accountz.persist.entity.AccountEntity;
+import com.example.accountz.persist.entity.DailyAccountSummaryEntity;
+import com.example.accountz.persist.repository.AccountRepository;
+import com.example.accountz.persist.repository.DailyAccountSummaryRepository;
+import com.example.accountz.type.ErrorCode;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+// 최근 N일 합계를 거래 내역 대신 계좌별 일 집계(날마다 shard 수 만큼의 행)로 계산한다.
+@Service
+@RequiredArgsConstructor
+public class AccountSummaryService {
+
+  private final AccountRepository accountRepository;
+  private final DailyAccountSummaryRepository dailyAccountSummaryRepository;
+  private final TransactionProperties transactionProperties;
+
+  @Transactional(readOnly = true)
+  public AccountSummaryDto getAccountSummary(
+      Long userId, String accountNumber, Integer days) {
+    AccountEntity account = accountRepository.findByAccountNumber(
+            accountNumber)
+        .orElseThrow(() -> new GlobalException(ErrorCode.ACCOUNT_NOT_FOUND));
+    if (!Objects.equals(userId, account.getUser().getId())) {
+      throw new GlobalException(ErrorCode.USER_ACCOUNT_UNMATCHED);
+    }
+
+    LocalDate lastDate = LocalDate.now();
+    LocalDate firstDate = lastDate.minusDays(summaryDays(days) - 1L);
+    List<DailyAccountSummaryEntity> summaries = dailyAccountSummaryRepository
+        .findAllByAccountIdAndSummaryDateBetweenOrderBySummaryDateAsc(
+            account.getId(), firstDate, lastDate);
+
+    return AccountSummaryDto.builder()
+        .accountNumber(account.getAccountNumber())
+        .firstDate(firstDate)
+        .lastDate(lastDate)
+        .creditAmount(summaries.stream()
+            .mapToLong(DailyAccountSummaryEntity::getCreditAmount).sum())
+        .debitAmount(summaries.stream()
+            .mapToLong(DailyAccountSummaryEntity::getDebitAmount).sum())
+        .transactionCount(summaries.stream()
+            .mapToLong(DailyAccountSummaryEntity::getTransactionCount).sum())
+        .days(days(account.getId(), firstDate, summaries))
+        .build();
+  }
+
+  // 날마다 전날 마감 잔액에 그날 순증감을 더한다.
+  // 기간 이전 집계가 없으면 기간의 첫 집계 전 잔액은 0 이다. (StatementJobService 참고)
+  private List<AccountSummaryDto.Daily> days(Long accountId,
+      LocalDate firstDate, List<DailyAccountSummaryEntity> summaries) {
+    if (summaries.isEmpty()) {
+      return List.of();
+    }
+    Long balanceBefore = dailyAccountSummaryRepository.sumBalanceBefore(
+        accountId, firstDate);
+    long balance = balanceBefore == null ? 0L : balanceBefore;
+    List<AccountSummaryDto.Daily> days = new ArrayList<>();
+    for (List<DailyAccountSummaryEntity> shards : summaries.stream()
+        .collect(Collectors.groupingBy(
+            DailyAccountSummaryEntity::getSummaryDate,
+            LinkedHashMap::new, Collectors.toList()))
+        .values()) {
+      AccountSummaryDto.Daily daily = AccountSummaryDto.Daily.of(
+          balance, shards);
+      days.add(daily);
+      balance = daily.getClosingBalance();
+    }
+    return days;
+  }
+
+  // 요청 기간은 최대 maxDays 로 제한
+  private int summaryDays(Integer days) {
+    TransactionProperties.Summary summary = transactionProperties.getSummary();
+    if (days == null) {
+      return summary.getDefaultDays();
+    }
+    if (days < 1) {
+      throw new GlobalException(ErrorCode.INVALID_SUMMARY_DAYS);
+    }
+    return Math.min(days, summary.getMaxDays());
+  }
+}
@@ -0,0 +1,34 @@
+package com.example.accountz.service;
+
+import com.example.accountz.model.TransactionDto;
+import java.util.concurrent.CompletableFuture;
+
+// 실행 엔진에 전달되는 잔액 명령.
+// accountNumber 는 파티션을 정하는 계좌(출금 계좌, 입금은 입금 계좌),
+// counterpartyAccountNumber 는 입금되는 상대 계좌 (입금/출금은 자기 자신).
+record BalanceCommand(
+    Type type,
+    Long userId,
+    String accountNumber,
+    String counterpartyAccountNumber,
+    Long amount,
+    String transactionId,
+    CompletableFuture<TransactionDto> result
+) {
+
+  enum Type {
+    DEPOSIT,
+    WITHDRAW,
+    TRANSFER,
+    // 원 거래의 받는 사람 계좌(accountNumber)에서 보낸 사람 계좌로 되돌린다.
+    CANCEL;
+
+    boolean debits() {
+      return this != DEPOSIT;
+    }
+
+    boolean creditsCounterparty() {
+      return this == TRANSFER || this == CANCEL;
+    }
+  }
+}
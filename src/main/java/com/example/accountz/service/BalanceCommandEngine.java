@@ -0,0 +1,234 @@
+package com.example.accountz.service;
+
+import com.example.accountz.config.TransactionProperties;
+import com.example.accountz.exception.GlobalException;
+import com.example.accountz.model.TransactionDto;
+import com.example.accountz.persist.entity.AccountEntity;
+import com.example.accountz.persist.repository.AccountRepository;
+import com.example.accountz.service.BalancePartition.CommandEvent;
+import com.example.accountz.type.AccountStatus;
+import com.example.accountz.type.ErrorCode;
+import com.lmax.disruptor.BlockingWaitStrategy;
+import com.lmax.disruptor.EventTranslatorOneArg;
+import com.lmax.disruptor.RingBuffer;
+import com.lmax.disruptor.dsl.Disruptor;
+import com.lmax.disruptor.dsl.ProducerType;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+// 잔액 명령 실행 엔진 (transaction.engine.enabled=true 일 때 TransactionService 대신 사용)
+//
+// 명령은 출금 계좌 번호로 파티션을 정해 파티션의 ring buffer(Disruptor)에 넣는다.
+// 파티션마다 쓰기 스레드가 하나이므로 그 파티션 계좌의 잔액은 메모리에서 잠금 없이 검증하고,
+// ring buffer 에 쌓인 명령을 모아 한 트랜잭션으로 저장한다. (BalanceCommandWriter)
+//
+// 내구성 / 지연
+// - 응답은 그룹 커밋이 끝난 뒤 돌려준다. 성공 응답을 받은 거래는 항상 커밋되어 있고,
+//   장애 시 ring buffer 에 남은 명령은 유실되지만 해당 요청은 응답을 받지 못한 상태다.
+// - 각 요청은 앞선 배치의 커밋을 기다리므로 한가할 때의 지연은 요청당 트랜잭션과 비슷하고,
+//   부하가 클수록 배치가 커져 커밋 / 행 잠금 횟수가 줄어든다. 대신 배치 하나가 늦으면
+//   같은 파티션의 뒤 요청도 함께 늦어진다.
+// - 메모리 잔액은 하한값이다. 입금은 커밋 후에 더하고, 잔액 부족으로 보이면 DB 에서 다시 읽는다.
+//   다른 경로(일괄 송금, hot 계좌 등)의 출금으로 DB 잔액이 더 작으면 조건부 UPDATE 가 실패하고
+//   그 배치는 건별로 다시 실행된다. 거래 내역의 잔액은 메모리가 아니라 반영 후 DB 잔액으로 남긴다.
+// - 한 계좌의 쓰기 주체가 이 인스턴스 하나라고 가정한다. 여러 인스턴스에서 켜도 조건부 UPDATE 로
+//   정합성은 유지되지만 재실행이 잦아진다.
+@Slf4j
+@Service
+public class BalanceCommandEngine {
+
+  private static final EventTranslatorOneArg<CommandEvent, BalanceCommand>
+      TRANSLATOR = (event, sequence, command) -> event.command = command;
+
+  private final AccountRepository accountRepository;
+  private final HotAccountService hotAccountService;
+  private final BalanceCommandWriter writer;
+  private final TransactionProperties.Engine properties;
+  private final MeterRegistry meterRegistry;
+
+  private final List<Disruptor<CommandEvent>> disruptors = new ArrayList<>();
+  private final List<RingBuffer<CommandEvent>> ringBuffers = new ArrayList<>();
+  private final List<BalancePartition> partitions = new ArrayList<>();
+
+  // 입금 상대 계좌 정보 (상태 변경은 조건부 UPDATE 에서 확인)
+  private final ConcurrentMap<String, AccountInfo> directory =
+      new ConcurrentHashMap<>();
+
+  record AccountInfo(Long id, String accountNumber, Long userId,
+                     String userName, AccountStatus status) {
+
+    static AccountInfo from(AccountEntity account) {
+      return new AccountInfo(account.getId(), account.getAccountNumber(),
+          account.getUser().getId(), account.getUser().getName(),
+          account.getAccountStatus());
+    }
+  }
+
+  record LoadedAccount(AccountInfo info, long balance) {
+
+  }
+
+  public BalanceCommandEngine(AccountRepository accountRepository,
+      HotAccountService hotAccountService, BalanceCommandWriter writer,
+      TransactionProperties transactionProperties,
+      MeterRegistry meterRegistry) {
+    this.accountRepository = accountRepository;
+    this.hotAccountService = hotAccountService;
+    this.writer = writer;
+    this.properties = transactionProperties.getEngine();
+    this.meterRegistry = meterRegistry;
+  }
+
+  @PostConstruct
+  public void start() {
+    if (!properties.isEnabled()) {
+      return;
+    }
+    DistributionSummary batchSizes = DistributionSummary
+        .builder("transaction.engine.batch.size")
+        .register(meterRegistry);
+    Counter fallbacks = Counter.builder("transaction.engine.fallbacks")
+        .register(meterRegistry);
+
+    for (int i = 0; i < properties.getPartitions(); i++) {
+      String threadName = "balance-partition-" + i;
+      Disruptor<CommandEvent> disruptor = new Disruptor<>(
+          CommandEvent::new, properties.getRingSize(),
+          runnable -> {
+            Thread thread = new Thread(runnable, threadName);
+            thread.setDaemon(true);
+            return thread;
+          },
+          ProducerType.MULTI, new BlockingWaitStrategy());
+      BalancePartition partition = new BalancePartition(this, writer,
+          properties.getMaxBatchSize(), batchSizes, fallbacks);
+      disruptor.handleEventsWith(partition);
+
+      partitions.add(partition);
+      disruptors.add(disruptor);
+      ringBuffers.add(disruptor.start());
+    }
+    log.info("balance command engine started : partitions="
+        + properties.getPartitions());
+  }
+
+  // 종료 시 ring buffer 에 남은 명령까지 처리
+  @PreDestroy
+  public void stop() {
+    for (Disruptor<CommandEvent> disruptor : disruptors) {
+      try {
+        disruptor.shutdown(properties.getResponseTimeout().toMillis(),
+            TimeUnit.MILLISECONDS);
+      } catch (com.lmax.disruptor.TimeoutException e) {
+        disruptor.halt();
+      }
+    }
+  }
+
+  // hot 계좌 출금은 슬롯 회수가 필요하므로 TransactionService 로 처리한다.
+  public boolean handles(String debitAccountNumber) {
+    return properties.isEnabled()
+        && !hotAccountService.isHot(debitAccountNumber);
+  }
+
+  public TransactionDto saveMoney(
+      Long userId, String accountNumber, Long amount) {
+    return execute(BalanceCommand.Type.DEPOSIT, userId, accountNumber,
+        accountNumber, amount, null);
+  }
+
+  public TransactionDto useBalance(
+      Long userId, String accountNumber, Long amount) {
+    return execute(BalanceCommand.Type.WITHDRAW, userId, accountNumber,
+        accountNumber, amount, null);
+  }
+
+  public TransactionDto sendMoney(Long userId, String senderAccountNumber,
+      String receiverAccountNumber, Long amount) {
+    return execute(BalanceCommand.Type.TRANSFER, userId, senderAccountNumber,
+        receiverAccountNumber, amount, null);
+  }
+
+  // 취소는 받는 사람 계좌에서 출금하므로 받는 사람 계좌의 파티션에서 처리
+  public TransactionDto cancelBalance(Long userId, String transactionId,
+      String userAccountNumber, String receiverAccountNumber, Long amount) {
+    return execute(BalanceCommand.Type.CANCEL, userId, receiverAccountNumber,
+        userAccountNumber, amount, transactionId);
+  }
+
+  private TransactionDto execute(BalanceCommand.Type type, Long userId,
+      String accountNumber, String counterpartyAccountNumber, Long amount,
+      String transactionId) {
+    if (!properties.isEnabled()) {
+      throw new IllegalStateException("balance command engine is disabled");
+    }
+    CompletableFuture<TransactionDto> result = new CompletableFuture<>();
+    BalanceCommand command = new BalanceCommand(type, userId, accountNumber,
+        counterpartyAccountNumber, amount, transactionId, result);
+    if (!ringBuffers.get(partitionOf(accountNumber))
+        .tryPublishEvent(TRANSLATOR, command)) {
+      throw new GlobalException(ErrorCode.TOO_MANY_CONCURRENT_REQUESTS);
+    }
+    return await(result);
+  }
+
+  private TransactionDto await(CompletableFuture<TransactionDto> result) {
+    try {
+      return result.get(properties.getResponseTimeout().toMillis(),
+          TimeUnit.MILLISECONDS);
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof GlobalException globalException) {
+        throw globalException;
+      }
+      log.error("Balance command failed.", e.getCause());
+      throw new GlobalException(ErrorCode.INTERNAL_SERVER_ERROR);
+    } catch (TimeoutException e) {
+      // 명령은 이미 큐에 들어가 있어 이후에 커밋될 수 있다. 실패로 확정하지 않고
+      // 결과를 알 수 없음으로 응답한다. (거래 내역으로 확인)
+      throw new GlobalException(ErrorCode.TRANSACTION_RESULT_UNKNOWN);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new GlobalException(ErrorCode.INTERNAL_SERVER_ERROR);
+    }
+  }
+
+  private int partitionOf(String accountNumber) {
+    return Math.floorMod(accountNumber.hashCode(), partitions.size());
+  }
+
+  LoadedAccount loadAccount(String accountNumber) {
+    AccountEntity account = accountRepository.findWithUserByAccountNumber(
+            accountNumber)
+        .orElseThrow(() -> new GlobalException(ErrorCode.ACCOUNT_NOT_FOUND));
+    AccountInfo info = AccountInfo.from(account);
+    directory.put(accountNumber, info);
+    return new LoadedAccount(info, account.getBalance());
+  }
+
+  AccountInfo findAccount(String accountNumber) {
+    AccountInfo info = directory.get(accountNumber);
+    return info != null ? info : loadAccount(accountNumber).info();
+  }
+
+  void evict(String accountNumber) {
+    directory.remove(accountNumber);
+  }
+
+  // 커밋된 입금을 입금 계좌 파티션의 메모리 잔액에 반영
+  void credited(String accountNumber, long amount) {
+    partitions.get(partitionOf(accountNumber)).credit(accountNumber, amount);
+  }
+}
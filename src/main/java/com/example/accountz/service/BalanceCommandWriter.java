@@ -0,0 +1,258 @@
+package com.example.accountz.service;
+
+import com.example.accountz.exception.GlobalException;
+import com.example.accountz.model.TransactionDto;
+import com.example.accountz.persist.entity.TransactionEntity;
+import com.example.accountz.persist.entity.TransactionIdConverter;
+import com.example.accountz.persist.repository.AccountRepository;
+import com.example.accountz.persist.repository.TransactionRepository;
+import com.example.accountz.persist.repository.UserRepository;
+import com.example.accountz.service.BalanceCommandEngine.AccountInfo;
+import com.example.accountz.type.ErrorCode;
+import com.example.accountz.type.TransactionResultType;
+import com.example.accountz.type.TransactionType;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+// 실행 엔진의 그룹 커밋.
+// 배치 하나를 한 트랜잭션으로 저장하고, 계좌 잔액은 명령별 UPDATE 대신
+// 계좌별 순 증감을 id 오름차순으로 한 번씩 반영한다. (파티션 간 교착 상태 방지)
+@Service
+@RequiredArgsConstructor
+public class BalanceCommandWriter {
+
+  private final AccountRepository accountRepository;
+  private final UserRepository userRepository;
+  private final TransactionRepository transactionRepository;
+  private final TransactionHistoryPartitionService partitionService;
+  private final TransactionWriter transactionWriter;
+  private final TransactionIdGenerator transactionIdGenerator;
+
+  // 파티션 스레드가 메모리 잔액으로 검증을 마친 명령
+  record Entry(BalanceCommand command, AccountInfo account,
+               AccountInfo counterparty) {
+
+  }
+
+  record Result(TransactionDto transaction, GlobalException error) {
+
+    static Result success(TransactionDto transaction) {
+      return new Result(transaction, null);
+    }
+
+    static Result fail(GlobalException error) {
+      return new Result(null, error);
+    }
+  }
+
+  // 순 증감 반영이 실패하면(해지 / 다른 경로의 출금으로 잔액 부족) 배치 전체를 롤백한다.
+  // 호출 측은 writeOne 으로 건별 재실행해 실패한 명령만 골라낸다.
+  @Transactional
+  public List<Result> write(List<Entry> entries) {
+    Result[] results = new Result[entries.size()];
+    Map<Long, Long> deltas = new TreeMap<>();
+    for (int i = 0; i < entries.size(); i++) {
+      Entry entry = entries.get(i);
+      try {
+        expireCanceledTransaction(entry);
+      } catch (GlobalException e) {
+        results[i] = Result.fail(e);
+        continue;
+      }
+      BalanceCommand command = entry.command();
+      deltas.merge(entry.account().id(), accountDelta(command), Long::sum);
+      if (command.type().creditsCounterparty()) {
+        deltas.merge(entry.counterparty().id(), command.amount(), Long::sum);
+      }
+    }
+
+    deltas.forEach((accountId, delta) -> {
+      if (delta != 0
+          && accountRepository.applyBalanceDelta(accountId, delta) == 0) {
+        throw new GlobalException(ErrorCode.CONCURRENT_UPDATE_CONFLICT);
+      }
+    });
+
+    Long[] balanceSnapshots = balanceSnapshots(entries, results);
+    LocalDateTime now = LocalDateTime.now();
+    List<TransactionWriter.Entry> transactions = new ArrayList<>();
+    for (int i = 0; i < entries.size(); i++) {
+      if (results[i] != null) {
+        continue;
+      }
+      Entry entry = entries.get(i);
+      TransactionWriter.Entry transaction =
+          newTransaction(entry, balanceSnapshots[i], now);
+      transactions.add(transaction);
+      results[i] = Result.success(toDto(entry, transaction.transaction()));
+    }
+    transactionWriter.saveAll(transactions);
+    return Arrays.asList(results);
+  }
+
+  // 메모리 잔액은 다른 경로(멱등 키 요청, 일괄 송금, hot 회수, 실패 기록 등)의 변경을 모르므로
+  // 순 증감을 반영한 뒤의 DB 잔액(행 잠금 보유)을 읽고, 뒤 명령의 증감을 거꾸로 빼서
+  // 명령별 거래 후 잔액을 구한다.
+  private Long[] balanceSnapshots(List<Entry> entries, Result[] results) {
+    Map<Long, Long> balances = new HashMap<>();
+    for (int i = 0; i < entries.size(); i++) {
+      if (results[i] == null) {
+        balances.computeIfAbsent(transactionAccount(entries.get(i)).id(),
+            accountRepository::findBalanceById);
+      }
+    }
+
+    Long[] balanceSnapshots = new Long[entries.size()];
+    for (int i = entries.size() - 1; i >= 0; i--) {
+      if (results[i] != null) {
+        continue;
+      }
+      Entry entry = entries.get(i);
+      BalanceCommand command = entry.command();
+      balanceSnapshots[i] = balances.get(transactionAccount(entry).id());
+      balances.computeIfPresent(entry.account().id(),
+          (id, balance) -> balance - accountDelta(command));
+      if (command.type().creditsCounterparty()) {
+        balances.computeIfPresent(entry.counterparty().id(),
+            (id, balance) -> balance - command.amount());
+      }
+    }
+    return balanceSnapshots;
+  }
+
+  private static long accountDelta(BalanceCommand command) {
+    return command.type().debits() ? -command.amount() : command.amount();
+  }
+
+  // 그룹 커밋 실패 시 건별 실행. TransactionService 와 같은 조건부 UPDATE / 오류 코드를 사용한다.
+  @Transactional
+  public TransactionDto writeOne(Entry entry) {
+    expireCanceledTransaction(entry);
+    BalanceCommand command = entry.command();
+    switch (command.type()) {
+      case DEPOSIT -> deposit(entry.account(), command.amount(),
+          ErrorCode.ACCOUNT_ALREADY_UNREGISTERED);
+      case WITHDRAW -> withdraw(entry.account(), command.amount());
+      case TRANSFER, CANCEL -> transfer(
+          entry.account(), entry.counterparty(), command.amount());
+    }
+
+    AccountInfo account = transactionAccount(entry);
+    TransactionWriter.Entry transaction = newTransaction(entry,
+        accountRepository.findBalanceById(account.id()),
+        LocalDateTime.now());
+    return toDto(entry, transactionWriter.save(transaction.transaction(),
+        transaction.sender(), transaction.receiver()));
+  }
+
+  // 교착 상태를 피하기 위해 id 오름차순으로 UPDATE
+  private void transfer(AccountInfo from, AccountInfo to, Long amount) {
+    if (from.id() < to.id()) {
+      withdraw(from, amount);
+      deposit(to, amount, ErrorCode.RECEIVER_ACCOUNT_UNREGISTERED);
+    } else {
+      deposit(to, amount, ErrorCode.RECEIVER_ACCOUNT_UNREGISTERED);
+      withdraw(from, amount);
+    }
+  }
+
+  private void withdraw(AccountInfo account, Long amount) {
+    if (accountRepository.withdrawIfSufficient(account.id(), amount) == 0) {
+      throw new GlobalException(ErrorCode.AMOUNT_EXCEED_BALANCE);
+    }
+  }
+
+  private void deposit(
+      AccountInfo account, Long amount, ErrorCode inactiveError) {
+    if (accountRepository.depositIfActive(account.id(), amount) == 0) {
+      throw new GlobalException(inactiveError);
+    }
+  }
+
+  private void expireCanceledTransaction(Entry entry) {
+    if (entry.command().type() != BalanceCommand.Type.CANCEL) {
+      return;
+    }
+    TransactionEntity transaction = TransactionService.findTransaction(
+        transactionRepository, partitionService,
+        entry.command().transactionId());
+    TransactionService.validateCancelBalance(transaction,
+        accountRepository.getReferenceById(entry.counterparty().id()),
+        entry.command().amount());
+    transactionWriter.expire(transaction);
+  }
+
+  // 거래 내역의 계좌: 취소는 원 거래의 보낸 사람 계좌, 그 외는 출금(입금) 계좌
+  private static AccountInfo transactionAccount(Entry entry) {
+    return entry.command().type() == BalanceCommand.Type.CANCEL
+        ? entry.counterparty()
+        : entry.account();
+  }
+
+  private static AccountInfo transactionReceiver(Entry entry) {
+    return entry.command().type() == BalanceCommand.Type.CANCEL
+        ? entry.account()
+        : entry.counterparty();
+  }
+
+  private TransactionWriter.Entry newTransaction(
+      Entry entry, Long balanceSnapshot, LocalDateTime transactedAt) {
+    BalanceCommand command = entry.command();
+    AccountInfo sender = transactionAccount(entry);
+    AccountInfo receiver = transactionReceiver(entry);
+    TransactionEntity transaction = TransactionService.newTransaction(
+        transactionIdGenerator.nextId(),
+        transactionType(command.type()),
+        TransactionResultType.SUCCESS,
+        accountRepository.getReferenceById(sender.id()),
+        command.amount(),
+        balanceSnapshot,
+        userRepository.getReferenceById(command.userId()),
+        receiver.accountNumber(),
+        accountRepository.getReferenceById(receiver.id()),
+        receiver.userName(),
+        transactedAt);
+    return new TransactionWriter.Entry(transaction,
+        new TransactionWriter.Party(command.userId(), sender.userName(),
+            sender.id(), sender.accountNumber()),
+        party(receiver));
+  }
+
+  private static TransactionType transactionType(BalanceCommand.Type type) {
+    return switch (type) {
+      case DEPOSIT -> TransactionType.DEPOSIT;
+      case WITHDRAW -> TransactionType.WITHDRAW;
+      case TRANSFER -> TransactionType.USE;
+      case CANCEL -> TransactionType.CANCEL;
+    };
+  }
+
+  private static TransactionWriter.Party party(AccountInfo account) {
+    return new TransactionWriter.Party(account.userId(), account.userName(),
+        account.id(), account.accountNumber());
+  }
+
+  // 계좌 프록시를 초기화하지 않도록 엔티티 대신 명령 정보로 응답을 만든다.
+  private static TransactionDto toDto(
+      Entry entry, TransactionEntity transaction) {
+    return TransactionDto.builder()
+        .userAccountNumber(transactionAccount(entry).accountNumber())
+        .receiverAccountNumber(transaction.getReceiverAccountNumber())
+        .transactionType(transaction.getTransactionType())
+        .transactionResultType(transaction.getTransactionResultType())
+        .amount(transaction.getAmount())
+        .balanceSnapshot(transaction.getBalanceSnapshot())
+        .transactionId(TransactionIdConverter.format(
+            transaction.getTransactionId()))
+        .transactedAt(transaction.getTransactedAt())
+        .build();
+  }
+}
@@ -0,0 +1,200 @@
+package com.example.accountz.service;
+
+import com.example.accountz.exception.GlobalException;
+import com.example.accountz.service.BalanceCommandEngine.AccountInfo;
+import com.example.accountz.service.BalanceCommandWriter.Entry;
+import com.example.accountz.service.BalanceCommandWriter.Result;
+import com.example.accountz.type.AccountStatus;
+import com.example.accountz.type.ErrorCode;
+import com.lmax.disruptor.EventHandler;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+
+// 파티션 하나의 단일 쓰기 스레드.
+// 이 파티션에 속한 계좌의 잔액은 이 스레드만 읽고 쓰므로 잠금 없이 검증한다.
+@Slf4j
+class BalancePartition implements EventHandler<BalancePartition.CommandEvent> {
+
+  // ring buffer 슬롯 (미리 할당되어 재사용된다)
+  static final class CommandEvent {
+
+    BalanceCommand command;
+  }
+
+  private static final class OwnedAccount {
+
+    private final AccountInfo info;
+    private long balance;
+
+    private OwnedAccount(AccountInfo info, long balance) {
+      this.info = info;
+      this.balance = balance;
+    }
+  }
+
+  private final BalanceCommandEngine engine;
+  private final BalanceCommandWriter writer;
+  private final int maxBatchSize;
+  private final DistributionSummary batchSizes;
+  private final Counter fallbacks;
+
+  // 쓰기 스레드 전용
+  private final Map<String, OwnedAccount> accounts = new HashMap<>();
+  private final List<Entry> batch = new ArrayList<>();
+
+  // 커밋된 입금 중 아직 메모리 잔액에 더하지 않은 금액 (다른 파티션 스레드가 기록)
+  private final ConcurrentMap<String, AtomicLong> committedCredits =
+      new ConcurrentHashMap<>();
+
+  BalancePartition(BalanceCommandEngine engine, BalanceCommandWriter writer,
+      int maxBatchSize, DistributionSummary batchSizes, Counter fallbacks) {
+    this.engine = engine;
+    this.writer = writer;
+    this.maxBatchSize = maxBatchSize;
+    this.batchSizes = batchSizes;
+    this.fallbacks = fallbacks;
+  }
+
+  // ring buffer 에 쌓인 명령이 끝나거나(endOfBatch) 최대 크기에 도달하면 그룹 커밋
+  @Override
+  public void onEvent(CommandEvent event, long sequence, boolean endOfBatch) {
+    BalanceCommand command = event.command;
+    event.command = null;
+    try {
+      batch.add(accept(command));
+    } catch (RuntimeException e) {
+      command.result().completeExceptionally(e);
+    }
+    if (!batch.isEmpty() && (endOfBatch || batch.size() >= maxBatchSize)) {
+      flush();
+    }
+  }
+
+  void credit(String accountNumber, long amount) {
+    committedCredits.computeIfAbsent(accountNumber, k -> new AtomicLong())
+        .addAndGet(amount);
+  }
+
+  private Entry accept(BalanceCommand command) {
+    OwnedAccount account = owned(command.accountNumber());
+    AccountInfo counterparty = command.type().creditsCounterparty()
+        ? engine.findAccount(command.counterpartyAccountNumber())
+        : account.info;
+
+    validate(command, account, counterparty);
+    if (command.type().debits() && account.balance < command.amount()) {
+      // 메모리 잔액은 하한값이므로 DB 에서 다시 읽어 한 번 더 확인
+      account = reload(command.accountNumber());
+      if (account.balance < command.amount()) {
+        throw new GlobalException(ErrorCode.AMOUNT_EXCEED_BALANCE);
+      }
+    }
+
+    account.balance += command.type().debits()
+        ? -command.amount()
+        : command.amount();
+    return new Entry(command, account.info, counterparty);
+  }
+
+  private static void validate(BalanceCommand command, OwnedAccount account,
+      AccountInfo counterparty) {
+    if (command.type() != BalanceCommand.Type.CANCEL) {
+      if (!Objects.equals(command.userId(), account.info.userId())) {
+        throw new GlobalException(ErrorCode.USER_ACCOUNT_UNMATCHED);
+      }
+      if (account.info.status() != AccountStatus.ACTIVATED) {
+        throw new GlobalException(ErrorCode.ACCOUNT_ALREADY_UNREGISTERED);
+      }
+    }
+    if (command.type().creditsCounterparty()
+        && counterparty.status() != AccountStatus.ACTIVATED) {
+      throw new GlobalException(ErrorCode.RECEIVER_ACCOUNT_UNREGISTERED);
+    }
+    if (!command.type().debits() && command.amount() < 0) {
+      throw new GlobalException(ErrorCode.NOT_MINUS_MONEY);
+    }
+  }
+
+  private OwnedAccount owned(String accountNumber) {
+    OwnedAccount account = accounts.get(accountNumber);
+    if (account == null) {
+      return reload(accountNumber);
+    }
+    AtomicLong credited = committedCredits.get(accountNumber);
+    if (credited != null) {
+      account.balance += credited.getAndSet(0);
+    }
+    return account;
+  }
+
+  // 조회 직전에 미반영 입금을 버린다. 조회 사이에 커밋된 입금은 두 번 더해질 수 있지만
+  // 그 경우 메모리 잔액이 DB 보다 커질 뿐이고, 조건부 UPDATE 에서 걸러진다.
+  private OwnedAccount reload(String accountNumber) {
+    AtomicLong credited = committedCredits.get(accountNumber);
+    if (credited != null) {
+      credited.set(0);
+    }
+    BalanceCommandEngine.LoadedAccount loaded =
+        engine.loadAccount(accountNumber);
+    OwnedAccount account = new OwnedAccount(loaded.info(), loaded.balance());
+    accounts.put(accountNumber, account);
+    return account;
+  }
+
+  private void flush() {
+    List<Entry> entries = List.copyOf(batch);
+    batch.clear();
+    batchSizes.record(entries.size());
+
+    List<Result> results;
+    try {
+      results = writer.write(entries);
+    } catch (RuntimeException e) {
+      log.warn("Group commit failed, retrying one by one. size="
+          + entries.size() + ", cause=" + e.getMessage());
+      fallbacks.increment();
+      // 메모리 잔액은 배치 전체가 성공한다는 가정으로 계산되었으므로 다시 읽는다.
+      entries.forEach(entry ->
+          accounts.remove(entry.command().accountNumber()));
+      results = entries.stream().map(this::writeOne).toList();
+    }
+
+    for (int i = 0; i < entries.size(); i++) {
+      complete(entries.get(i), results.get(i));
+    }
+  }
+
+  private Result writeOne(Entry entry) {
+    try {
+      return Result.success(writer.writeOne(entry));
+    } catch (GlobalException e) {
+      return Result.fail(e);
+    } catch (RuntimeException e) {
+      log.error("Failed to write balance command.", e);
+      return Result.fail(new GlobalException(ErrorCode.INTERNAL_SERVER_ERROR));
+    }
+  }
+
+  private void complete(Entry entry, Result result) {
+    BalanceCommand command = entry.command();
+    if (result.error() != null) {
+      accounts.remove(command.accountNumber());
+      engine.evict(command.counterpartyAccountNumber());
+      command.result().completeExceptionally(result.error());
+      return;
+    }
+    if (command.type().creditsCounterparty()) {
+      engine.credited(command.counterpartyAccountNumber(), command.amount());
+    }
+    command.result().complete(result.transaction());
+  }
+}
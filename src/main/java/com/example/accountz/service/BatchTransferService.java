@@ -0,0 +1,211 @@
+package com.example.accountz.service;
+
+import com.example.accountz.exception.GlobalException;
+import com.example.accountz.model.BatchTransferDto;
+import com.example.accountz.model.SendUnderMillionMoneyDto;
+import com.example.accountz.persist.entity.AccountEntity;
+import com.example.accountz.persist.entity.TransactionEntity;
+import com.example.accountz.persist.entity.UserEntity;
+import com.example.accountz.persist.repository.AccountRepository;
+import com.example.accountz.persist.repository.UserRepository;
+import com.example.accountz.type.AccountStatus;
+import com.example.accountz.type.BatchMode;
+import com.example.accountz.type.ErrorCode;
+import com.example.accountz.type.TransactionResultType;
+import com.example.accountz.type.TransactionType;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+// 급여 / 정산용 일괄 송금.
+// 계좌는 한 번에 조회(id 오름차순 잠금)하고, 메모리 상의 잔액으로 건별 검증한 뒤 한 트랜잭션으로 반영한다.
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BatchTransferService {
+
+  private final AccountRepository accountRepository;
+  private final UserRepository userRepository;
+  private final TransactionWriter transactionWriter;
+  private final HotAccountService hotAccountService;
+  private final TransactionIdGenerator transactionIdGenerator;
+
+  @Transactional
+  public List<BatchTransferDto> sendMoney(Long userId, BatchMode mode,
+      List<SendUnderMillionMoneyDto.Request> items) {
+    UserEntity user = userRepository.findById(userId)
+        .orElseThrow(() -> new GlobalException(ErrorCode.USER_NOT_FOUND));
+
+    Set<String> senderAccountNumbers = items.stream()
+        .map(SendUnderMillionMoneyDto.Request::getUserAccountNumber)
+        .collect(Collectors.toCollection(TreeSet::new));
+    Set<String> lockedAccountNumbers = new TreeSet<>();
+    Map<String, AccountEntity> accounts =
+        prefetchAccounts(items, senderAccountNumbers, lockedAccountNumbers);
+
+    // 1. 검증: DB 는 변경하지 않고 실행 순서대로 잔액을 계산
+    Map<String, Long> balances = new HashMap<>();
+    List<ErrorCode> errors = new ArrayList<>(items.size());
+    for (SendUnderMillionMoneyDto.Request item : items) {
+      ErrorCode error = validate(user, item, accounts, balances);
+      errors.add(error);
+      if (error == null) {
+        AccountEntity sender = accounts.get(item.getUserAccountNumber());
+        AccountEntity receiver = accounts.get(item.getReceiverAccountNumber());
+        balances.put(sender.getAccountNumber(),
+            balanceOf(balances, sender) - item.getAmount());
+        balances.put(receiver.getAccountNumber(),
+            balanceOf(balances, receiver) + item.getAmount());
+      }
+    }
+    boolean aborted = mode == BatchMode.ALL_OR_NOTHING
+        && errors.stream().anyMatch(Objects::nonNull);
+
+    // 2. 반영: 계좌 행 변경 -> hot 계좌 슬롯 입금 -> 거래 내역 batch insert
+    Map<AccountEntity, Long> slotCredits =
+        new TreeMap<>(Comparator.comparing(AccountEntity::getId));
+    List<TransactionWriter.Entry> transactions = new ArrayList<>();
+    List<BatchTransferDto> results = new ArrayList<>(items.size());
+    LocalDateTime now = LocalDateTime.now();
+    for (int i = 0; i < items.size(); i++) {
+      SendUnderMillionMoneyDto.Request item = items.get(i);
+      AccountEntity sender = accounts.get(item.getUserAccountNumber());
+      AccountEntity receiver = accounts.get(item.getReceiverAccountNumber());
+      ErrorCode error = errors.get(i);
+
+      if (error == null && !aborted) {
+        sender.useBalance(item.getAmount());
+        if (receiver.isHot() && !lockedAccountNumbers.contains(
+            receiver.getAccountNumber())) {
+          slotCredits.merge(receiver, item.getAmount(), Long::sum);
+        } else {
+          receiver.saveMoney(item.getAmount());
+        }
+        TransactionWriter.Entry entry = newTransaction(
+            TransactionResultType.SUCCESS, user, sender, receiver,
+            item.getAmount(), now);
+        transactions.add(entry);
+        results.add(BatchTransferDto.success(i, entry.transaction()));
+        continue;
+      }
+
+      if (error == null) {
+        results.add(BatchTransferDto.fail(i, item, ErrorCode.BATCH_ABORTED));
+        continue;
+      }
+      // 실패 건은 단건 송금과 같이 FAIL 내역을 남긴다.
+      if (sender != null && receiver != null) {
+        transactions.add(newTransaction(TransactionResultType.FAIL, user,
+            sender, receiver, item.getAmount(), now));
+      }
+      results.add(BatchTransferDto.fail(i, item, error));
+    }
+
+    slotCredits.forEach(hotAccountService::credit);
+    transactionWriter.saveAll(transactions);
+
+    log.info("batch send : mode=" + mode + ", items=" + items.size()
+        + ", aborted=" + aborted);
+    return results;
+  }
+
+  // 출금 계좌와 일반 입금 계좌는 한 번의 조회로 id 오름차순 잠금, hot 입금 전용 계좌는 잠그지 않는다.
+  private Map<String, AccountEntity> prefetchAccounts(
+      List<SendUnderMillionMoneyDto.Request> items,
+      Set<String> senderAccountNumbers,
+      Set<String> lockedAccountNumbers) {
+    Set<String> unlockedAccountNumbers = new TreeSet<>();
+    for (SendUnderMillionMoneyDto.Request item : items) {
+      for (String accountNumber : List.of(item.getUserAccountNumber(),
+          item.getReceiverAccountNumber())) {
+        if (senderAccountNumbers.contains(accountNumber)
+            || !hotAccountService.isHot(accountNumber)) {
+          lockedAccountNumbers.add(accountNumber);
+        } else {
+          unlockedAccountNumbers.add(accountNumber);
+        }
+      }
+    }
+
+    List<AccountEntity> found = new ArrayList<>(
+        accountRepository.findAllByAccountNumberInForUpdate(
+            lockedAccountNumbers));
+    // hot 출금 계좌는 잠금 직후 슬롯 잔액을 회수
+    for (AccountEntity account : found) {
+      if (account.isHot()) {
+        account.saveMoney(hotAccountService.drainSlots(account));
+      }
+    }
+    if (!unlockedAccountNumbers.isEmpty()) {
+      found.addAll(accountRepository.findAllByAccountNumberIn(
+          unlockedAccountNumbers));
+    }
+    return found.stream()
+        .collect(Collectors.toMap(AccountEntity::getAccountNumber,
+            Function.identity()));
+  }
+
+  private static ErrorCode validate(UserEntity user,
+      SendUnderMillionMoneyDto.Request item,
+      Map<String, AccountEntity> accounts, Map<String, Long> balances) {
+    AccountEntity sender = accounts.get(item.getUserAccountNumber());
+    AccountEntity receiver = accounts.get(item.getReceiverAccountNumber());
+    if (sender == null || receiver == null) {
+      return ErrorCode.ACCOUNT_NOT_FOUND;
+    }
+    if (!Objects.equals(user.getId(), sender.getUser().getId())) {
+      return ErrorCode.USER_ACCOUNT_UNMATCHED;
+    }
+    if (sender.getAccountStatus() != AccountStatus.ACTIVATED) {
+      return ErrorCode.ACCOUNT_ALREADY_UNREGISTERED;
+    }
+    if (receiver.getAccountStatus() != AccountStatus.ACTIVATED) {
+      return ErrorCode.RECEIVER_ACCOUNT_UNREGISTERED;
+    }
+    if (balanceOf(balances, sender) < item.getAmount()) {
+      return ErrorCode.AMOUNT_EXCEED_BALANCE;
+    }
+    return null;
+  }
+
+  private static long balanceOf(
+      Map<String, Long> balances, AccountEntity account) {
+    return balances.getOrDefault(
+        account.getAccountNumber(), account.getBalance());
+  }
+
+  private TransactionWriter.Entry newTransaction(
+      TransactionResultType transactionResultType, UserEntity user,
+      AccountEntity sender, AccountEntity receiver, Long amount,
+      LocalDateTime transactedAt) {
+    TransactionEntity transaction = TransactionEntity.builder()
+        .user(user)
+        .receiver(receiver.getUser().getName())
+        .receiverAccount(receiver)
+        .receiverAccountNumber(receiver.getAccountNumber())
+        .transactionType(TransactionType.USE)
+        .transactionResultType(transactionResultType)
+        .account(sender)
+        .amount(amount)
+        .balanceSnapshot(sender.getBalance())
+        .transactionId(transactionIdGenerator.nextId())
+        .transactedAt(transactedAt)
+        .build();
+    return new TransactionWriter.Entry(transaction,
+        TransactionWriter.Party.of(user, sender),
+        TransactionWriter.Party.of(receiver));
+  }
+}
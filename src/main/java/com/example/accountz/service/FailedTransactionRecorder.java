@@ -0,0 +1,134 @@
+package com.example.accountz.service;
+
+import com.example.accountz.config.TransactionProperties;
+import com.example.accountz.model.FailedTransactionDto;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+// 실패 거래를 요청 스레드에서 바로 저장하지 않고 대기열에 넣은 뒤
+// 백그라운드 스레드 하나가 모아서 일괄 저장한다.
+@Slf4j
+@Service
+public class FailedTransactionRecorder {
+
+  private final TransactionService transactionService;
+  private final TransactionProperties.FailureRecorder properties;
+  private final BlockingQueue<FailedTransactionDto> queue;
+
+  private final Counter enqueued;
+  private final Counter dropped;
+  private final Counter written;
+  private final Counter skipped;
+  private final Counter writeErrors;
+
+  private volatile boolean running;
+  private Thread writer;
+
+  public FailedTransactionRecorder(TransactionService transactionService,
+      TransactionProperties transactionProperties,
+      MeterRegistry meterRegistry) {
+    this.transactionService = transactionService;
+    this.properties = transactionProperties.getFailureRecorder();
+    this.queue = new ArrayBlockingQueue<>(properties.getCapacity());
+
+    this.enqueued = counter(meterRegistry, "enqueued");
+    this.dropped = counter(meterRegistry, "dropped");
+    this.written = counter(meterRegistry, "written");
+    this.skipped = counter(meterRegistry, "skipped");
+    this.writeErrors = counter(meterRegistry, "write.errors");
+    Gauge.builder("transaction.failure.recorder.queue.size", queue,
+            Collection::size)
+        .register(meterRegistry);
+  }
+
+  @PostConstruct
+  public void start() {
+    running = true;
+    writer = new Thread(this::drainLoop, "failed-transaction-writer");
+    writer.setDaemon(true);
+    writer.start();
+  }
+
+  // 종료 시 남은 대기열을 모두 저장
+  @PreDestroy
+  public void stop() throws InterruptedException {
+    running = false;
+    if (writer != null) {
+      writer.join(properties.getFlushInterval().toMillis() * 10);
+    }
+  }
+
+  // 대기열이 가득 차면 잠시 기다렸다가(backpressure) 그래도 자리가 없으면 버린다.
+  public void record(Long userId, String userAccountNumber,
+      String receiverAccountNumber, Long amount) {
+    FailedTransactionDto failure = FailedTransactionDto.builder()
+        .userId(userId)
+        .userAccountNumber(userAccountNumber)
+        .receiverAccountNumber(receiverAccountNumber)
+        .amount(amount)
+        .failedAt(LocalDateTime.now())
+        .build();
+    try {
+      if (queue.offer(failure, properties.getOfferTimeout().toMillis(),
+          TimeUnit.MILLISECONDS)) {
+        enqueued.increment();
+        return;
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    dropped.increment();
+  }
+
+  private void drainLoop() {
+    List<FailedTransactionDto> batch =
+        new ArrayList<>(properties.getBatchSize());
+    while (running || !queue.isEmpty()) {
+      try {
+        FailedTransactionDto first = queue.poll(
+            properties.getFlushInterval().toMillis(), TimeUnit.MILLISECONDS);
+        if (first == null) {
+          continue;
+        }
+        batch.add(first);
+        queue.drainTo(batch, properties.getBatchSize() - 1);
+        write(batch);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return;
+      } finally {
+        batch.clear();
+      }
+    }
+  }
+
+  private void write(List<FailedTransactionDto> batch) {
+    try {
+      int saved = transactionService.saveFailedUseTransactions(
+          List.copyOf(batch));
+      written.increment(saved);
+      skipped.increment(batch.size() - saved);
+    } catch (RuntimeException e) {
+      writeErrors.increment(batch.size());
+      log.error("Failed to write failed transactions. size="
+          + batch.size(), e);
+    }
+  }
+
+  private static Counter counter(MeterRegistry meterRegistry, String name) {
+    return Counter.builder("transaction.failure.recorder." + name)
+        .register(meterRegistry);
+  }
+}
@@ -0,0 +1,213 @@
+package com.example.accountz.service;
+
+import com.example.accountz.config.TransactionProperties;
+import com.example.accountz.exception.GlobalException;
+import com.example.accountz.model.TransactionDto;
+import com.example.accountz.type.ErrorCode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+// 그룹 커밋 (transaction.group-commit.enabled=true)
+// window 동안(또는 maxBatchSize 건까지) 들어온 입금/출금을 한 트랜잭션, 한 번의 커밋으로 처리한다.
+// 파일 기반 DB 처럼 커밋(fsync) 비용이 큰 환경에서 커밋 횟수를 줄이기 위한 것으로,
+// 요청마다 최대 window 만큼 지연이 늘어난다.
+@Slf4j
+@Service
+public class GroupCommitExecutor {
+
+  enum Type {
+    SAVE_MONEY,
+    USE_BALANCE
+  }
+
+  record Operation(Type type, Long userId, String accountNumber, Long amount,
+                   CompletableFuture<TransactionDto> result) {
+
+  }
+
+  record Result(TransactionDto transaction, GlobalException error) {
+
+    static Result success(TransactionDto transaction) {
+      return new Result(transaction, null);
+    }
+
+    static Result fail(GlobalException error) {
+      return new Result(null, error);
+    }
+  }
+
+  // 배치 전체가 롤백된 경우. 호출 스레드가 단건 트랜잭션으로 다시 실행한다.
+  private static final class GroupAbortedException extends RuntimeException {
+
+    private GroupAbortedException(Throwable cause) {
+      super(cause);
+    }
+  }
+
+  private final TransactionService transactionService;
+  private final TransactionProperties.GroupCommit properties;
+  private final BlockingQueue<Operation> queue;
+
+  private final DistributionSummary batchSizes;
+  private final Counter aborted;
+  private final Counter bypassed;
+
+  private volatile boolean running;
+  private Thread leader;
+
+  public GroupCommitExecutor(TransactionService transactionService,
+      TransactionProperties transactionProperties,
+      MeterRegistry meterRegistry) {
+    this.transactionService = transactionService;
+    this.properties = transactionProperties.getGroupCommit();
+    this.queue = new ArrayBlockingQueue<>(properties.getCapacity());
+
+    this.batchSizes = DistributionSummary
+        .builder("transaction.group-commit.batch.size")
+        .register(meterRegistry);
+    this.aborted = Counter.builder("transaction.group-commit.aborted")
+        .register(meterRegistry);
+    this.bypassed = Counter.builder("transaction.group-commit.bypassed")
+        .register(meterRegistry);
+  }
+
+  @PostConstruct
+  public void start() {
+    if (!properties.isEnabled()) {
+      return;
+    }
+    running = true;
+    leader = new Thread(this::commitLoop, "group-commit-leader");
+    leader.setDaemon(true);
+    leader.start();
+  }
+
+  // 종료 시 대기 중인 요청까지 처리
+  @PreDestroy
+  public void stop() throws InterruptedException {
+    running = false;
+    if (leader != null) {
+      leader.join(properties.getWindow().toMillis() * 100 + 1000);
+    }
+  }
+
+  public boolean isEnabled() {
+    return properties.isEnabled();
+  }
+
+  public TransactionDto saveMoney(
+      Long userId, String accountNumber, Long amount) {
+    return execute(Type.SAVE_MONEY, userId, accountNumber, amount);
+  }
+
+  public TransactionDto useBalance(
+      Long userId, String accountNumber, Long amount) {
+    return execute(Type.USE_BALANCE, userId, accountNumber, amount);
+  }
+
+  private TransactionDto execute(
+      Type type, Long userId, String accountNumber, Long amount) {
+    Operation operation = new Operation(type, userId, accountNumber, amount,
+        new CompletableFuture<>());
+    // 대기열이 가득 차면 기다리지 않고 단건 트랜잭션으로 처리
+    if (!running || !queue.offer(operation)) {
+      bypassed.increment();
+      return executeAlone(operation);
+    }
+    try {
+      return operation.result().get();
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof GlobalException globalException) {
+        throw globalException;
+      }
+      return executeAlone(operation);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new GlobalException(ErrorCode.INTERNAL_SERVER_ERROR);
+    }
+  }
+
+  private TransactionDto executeAlone(Operation operation) {
+    return operation.type() == Type.SAVE_MONEY
+        ? transactionService.saveMoney(operation.userId(),
+        operation.accountNumber(), operation.amount())
+        : transactionService.useBalance(operation.userId(),
+            operation.accountNumber(), operation.amount());
+  }
+
+  private void commitLoop() {
+    List<Operation> batch = new ArrayList<>(properties.getMaxBatchSize());
+    while (running || !queue.isEmpty()) {
+      try {
+        Operation first = queue.poll(100, TimeUnit.MILLISECONDS);
+        if (first == null) {
+          continue;
+        }
+        batch.add(first);
+        collect(batch, System.nanoTime() + properties.getWindow().toNanos());
+        commit(batch);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return;
+      } finally {
+        batch.clear();
+      }
+    }
+  }
+
+  // 첫 요청 이후 window 가 끝나거나 maxBatchSize 건이 모일 때까지 대기
+  private void collect(List<Operation> batch, long deadline)
+      throws InterruptedException {
+    while (batch.size() < properties.getMaxBatchSize()) {
+      queue.drainTo(batch, properties.getMaxBatchSize() - batch.size());
+      long remaining = deadline - System.nanoTime();
+      if (batch.size() >= properties.getMaxBatchSize() || remaining <= 0) {
+        return;
+      }
+      Operation next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+      if (next == null) {
+        return;
+      }
+      batch.add(next);
+    }
+  }
+
+  private void commit(List<Operation> batch) {
+    batchSizes.record(batch.size());
+    // 같은 계좌의 요청 순서는 유지하고(stable sort), 계좌 잠금은 계좌 번호 순으로 잡는다.
+    List<Operation> operations = batch.stream()
+        .sorted(Comparator.comparing(Operation::accountNumber))
+        .toList();
+    try {
+      List<Result> results = transactionService.applyGroup(operations);
+      for (int i = 0; i < operations.size(); i++) {
+        Result result = results.get(i);
+        if (result.error() != null) {
+          operations.get(i).result().completeExceptionally(result.error());
+        } else {
+          operations.get(i).result().complete(result.transaction());
+        }
+      }
+    } catch (RuntimeException e) {
+      // 낙관적 락 충돌 / 교착 상태 등으로 배치가 롤백되면 각 요청을 단건으로 다시 실행
+      log.warn("Group commit aborted. size=" + operations.size()
+          + ", cause=" + e.getMessage());
+      aborted.increment();
+      operations.forEach(operation -> operation.result()
+          .completeExceptionally(new GroupAbortedException(e)));
+    }
+  }
+}
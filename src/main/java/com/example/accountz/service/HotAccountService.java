@@ -0,0 +1,155 @@
+package com.example.accountz.service;
+
+import com.example.accountz.exception.GlobalException;
+import com.example.accountz.model.AccountDto;
+import com.example.accountz.persist.entity.AccountBalanceSlotEntity;
+import com.example.accountz.persist.entity.AccountEntity;
+import com.example.accountz.persist.repository.AccountBalanceSlotRepository;
+import com.example.accountz.persist.repository.AccountRepository;
+import com.example.accountz.type.AccountStatus;
+import com.example.accountz.type.ErrorCode;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.IntStream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// hot 계좌: 입금은 슬롯 한 행에만 반영하고, 출금 전에 슬롯 잔액을 계좌 행으로 회수한다.
+// 잠금 순서는 항상 계좌 행 -> 슬롯 행. 이체에서 여러 계좌의 슬롯을 잠글 때는 계좌 id 오름차순.
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class HotAccountService {
+
+  public static final int MAX_SLOTS = 64;
+
+  private final AccountRepository accountRepository;
+  private final AccountBalanceSlotRepository accountBalanceSlotRepository;
+
+  // 계좌 조회 전에 잠금 방식을 정하기 위한 캐시 (기준 값은 accounts.balance_slot_count)
+  private final Set<String> hotAccountNumbers =
+      ConcurrentHashMap.newKeySet();
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void loadHotAccounts() {
+    accountRepository.findAllByBalanceSlotCountGreaterThan(0)
+        .forEach(account ->
+            hotAccountNumbers.add(account.getAccountNumber()));
+    log.info("hot accounts loaded : " + hotAccountNumbers.size());
+  }
+
+  public boolean isHot(String accountNumber) {
+    return hotAccountNumbers.contains(accountNumber);
+  }
+
+  @Transactional
+  public AccountDto enable(String accountNumber, Integer slots) {
+    if (slots == null || slots < 1 || slots > MAX_SLOTS) {
+      throw new GlobalException(ErrorCode.INVALID_BALANCE_SLOT_COUNT);
+    }
+    AccountEntity account = findAccountForUpdate(accountNumber);
+    if (account.getAccountStatus() != AccountStatus.ACTIVATED) {
+      throw new GlobalException(ErrorCode.ACCOUNT_ALREADY_UNREGISTERED);
+    }
+
+    // 슬롯 수 변경 시 기존 슬롯을 회수하고 다시 만든다.
+    if (account.isHot()) {
+      mergeSlots(account);
+    }
+    List<AccountBalanceSlotEntity> newSlots = IntStream.range(0, slots)
+        .mapToObj(slot -> AccountBalanceSlotEntity.builder()
+            .accountId(account.getId())
+            .slot(slot)
+            .build())
+        .toList();
+    accountBalanceSlotRepository.saveAll(newSlots);
+    account.setBalanceSlotCount(slots);
+
+    afterCommit(() -> hotAccountNumbers.add(accountNumber));
+    return AccountDto.fromEntity(account);
+  }
+
+  @Transactional
+  public AccountDto disable(String accountNumber) {
+    AccountEntity account = findAccountForUpdate(accountNumber);
+    if (!account.isHot()) {
+      throw new GlobalException(ErrorCode.HOT_ACCOUNT_NOT_ENABLED);
+    }
+    release(account);
+    return AccountDto.fromEntity(account);
+  }
+
+  // 슬롯 잔액을 계좌 행으로 합치고 분산 모드를 해제한다. (계좌 행 잠금 상태에서 호출)
+  void release(AccountEntity account) {
+    mergeSlots(account);
+    account.setBalanceSlotCount(0);
+    afterCommit(() -> hotAccountNumbers.remove(account.getAccountNumber()));
+  }
+
+  private void mergeSlots(AccountEntity account) {
+    account.setBalance(account.getBalance() + drainSlots(account));
+    accountBalanceSlotRepository.deleteAllByAccountId(account.getId());
+  }
+
+  // 임의의 슬롯 하나에 입금. 계좌 행 잠금이 슬롯보다 먼저 잡히도록 보류 중인 변경을 flush 한다.
+  public void credit(AccountEntity account, Long amount) {
+    accountRepository.flush();
+    int slot = ThreadLocalRandom.current()
+        .nextInt(account.getBalanceSlotCount());
+    if (accountBalanceSlotRepository.addBalance(
+        account.getId(), slot, amount) == 0) {
+      // 슬롯 수 변경/해제와 경합. 자동 재시도 대상(낙관적 락 예외)이 아니므로
+      // 트랜잭션을 롤백하고 클라이언트가 다시 요청한다.
+      throw new GlobalException(ErrorCode.CONCURRENT_UPDATE_CONFLICT);
+    }
+  }
+
+  // 슬롯을 모두 잠그고 0 으로 만든 뒤 회수한 금액을 반환
+  public long drainSlots(AccountEntity account) {
+    long drained = 0;
+    for (AccountBalanceSlotEntity slot :
+        accountBalanceSlotRepository.findAllByAccountIdForUpdate(
+            account.getId())) {
+      drained += slot.getBalance();
+      slot.setBalance(0L);
+    }
+    return drained;
+  }
+
+  public long getSlotBalance(AccountEntity account) {
+    if (!account.isHot()) {
+      return 0L;
+    }
+    return accountBalanceSlotRepository.sumBalanceByAccountId(
+        account.getId());
+  }
+
+  private AccountEntity findAccountForUpdate(String accountNumber) {
+    return accountRepository.findByAccountNumberForUpdate(accountNumber)
+        .orElseThrow(() ->
+            new GlobalException(ErrorCode.ACCOUNT_NOT_FOUND));
+  }
+
+  // 롤백된 트랜잭션의 설정이 캐시에 남지 않도록 커밋 후 반영
+  private static void afterCommit(Runnable action) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      action.run();
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(
+        new TransactionSynchronization() {
+          @Override
+          public void afterCommit() {
+            action.run();
+          }
+        });
+  }
+}
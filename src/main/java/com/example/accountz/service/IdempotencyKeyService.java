@@ -0,0 +1,85 @@
+package com.example.accountz.service;
+
+import com.example.accountz.aop.RetryOnOptimisticLock;
+import com.example.accountz.config.TransactionProperties;
+import com.example.accountz.exception.GlobalException;
+import com.example.accountz.model.TransactionDto;
+import com.example.accountz.persist.entity.IdempotencyKeyEntity;
+import com.example.accountz.persist.repository.IdempotencyKeyRepository;
+import com.example.accountz.type.ErrorCode;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.function.Supplier;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+// 거래와 Idempotency-Key 저장을 한 트랜잭션으로 묶는다.
+// 만료된 키는 purgeExpired() 가 정기적으로 지운다.
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class IdempotencyKeyService {
+
+  private final IdempotencyKeyRepository idempotencyKeyRepository;
+  private final TransactionProperties transactionProperties;
+
+  @RetryOnOptimisticLock
+  @Transactional
+  public StoredResponse executeOnce(Long userId, String idempotencyKey,
+      String requestFingerprint, Supplier<TransactionDto> action) {
+    // 다른 서버에서 먼저 처리된 경우
+    Optional<IdempotencyKeyEntity> stored = idempotencyKeyRepository
+        .findByUserIdAndIdempotencyKey(userId, idempotencyKey);
+    if (stored.isPresent()) {
+      if (!isExpired(stored.get())) {
+        return StoredResponse.from(stored.get());
+      }
+      idempotencyKeyRepository.delete(stored.get());
+      idempotencyKeyRepository.flush();
+    }
+
+    TransactionDto transaction = action.get();
+    // 유니크 제약 위반은 여기서 드러나고 거래까지 함께 롤백된다.
+    return StoredResponse.from(idempotencyKeyRepository.saveAndFlush(
+        IdempotencyKeyEntity.of(userId, idempotencyKey, requestFingerprint,
+            transaction, transactionProperties.getIdempotency().getTtl())));
+  }
+
+  // 여러 서버에서 함께 실행돼도 같은 행을 지울 뿐이라 잠금 없이 실행한다.
+  @Scheduled(cron = "${transaction.idempotency.purge-cron}")
+  public void purgeExpired() {
+    int batchSize = transactionProperties.getIdempotency().getPurgeBatchSize();
+    LocalDateTime now = LocalDateTime.now();
+    long purged = 0;
+    int deleted;
+    do {
+      deleted = idempotencyKeyRepository.deleteExpired(now, batchSize);
+      purged += deleted;
+    } while (deleted == batchSize);
+    log.info("Purged expired idempotency keys. rows=" + purged);
+  }
+
+  private boolean isExpired(IdempotencyKeyEntity entity) {
+    return !entity.getExpiresAt().isAfter(LocalDateTime.now());
+  }
+
+  public record StoredResponse(String requestFingerprint,
+                               TransactionDto transaction) {
+
+    static StoredResponse from(IdempotencyKeyEntity entity) {
+      return new StoredResponse(entity.getRequestFingerprint(),
+          entity.toTransactionDto());
+    }
+
+    // 같은 키를 다른 요청에 재사용하면 거절
+    public TransactionDto replay(String requestFingerprint) {
+      if (!this.requestFingerprint.equals(requestFingerprint)) {
+        throw new GlobalException(ErrorCode.IDEMPOTENCY_KEY_REUSED);
+      }
+      return transaction;
+    }
+  }
+}
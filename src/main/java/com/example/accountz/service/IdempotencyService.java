@@ -0,0 +1,96 @@
+package com.example.accountz.service;
+
+import com.example.accountz.config.TransactionProperties;
+import com.example.accountz.exception.GlobalException;
+import com.example.accountz.model.TransactionDto;
+import com.example.accountz.service.IdempotencyKeyService.StoredResponse;
+import com.example.accountz.type.ErrorCode;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+// Idempotency-Key 가 있는 요청은 최초 1회만 실행하고, 재전송에는 저장된 응답을 돌려준다.
+// 완료된 응답은 메모리 캐시(크기/TTL 제한) -> idempotency_keys 테이블 순서로 찾는다.
+@Slf4j
+@Service
+public class IdempotencyService {
+
+  private final IdempotencyKeyService idempotencyKeyService;
+  private final TransactionProperties.Idempotency properties;
+
+  private final Cache<String, StoredResponse> completed;
+  // 처리 중인 키. 같은 키의 동시 요청은 먼저 들어온 요청의 결과를 기다린다.
+  private final ConcurrentMap<String, CompletableFuture<StoredResponse>>
+      inFlight = new ConcurrentHashMap<>();
+
+  public IdempotencyService(IdempotencyKeyService idempotencyKeyService,
+      TransactionProperties transactionProperties) {
+    this.idempotencyKeyService = idempotencyKeyService;
+    this.properties = transactionProperties.getIdempotency();
+    this.completed = Caffeine.newBuilder()
+        .maximumSize(properties.getMaxCachedKeys())
+        .expireAfterWrite(properties.getTtl())
+        .build();
+  }
+
+  public TransactionDto execute(Long userId, String idempotencyKey,
+      String requestFingerprint, Supplier<TransactionDto> action) {
+    String cacheKey = userId + ":" + idempotencyKey;
+    StoredResponse cached = completed.getIfPresent(cacheKey);
+    if (cached != null) {
+      return cached.replay(requestFingerprint);
+    }
+
+    CompletableFuture<StoredResponse> mine = new CompletableFuture<>();
+    CompletableFuture<StoredResponse> running =
+        inFlight.putIfAbsent(cacheKey, mine);
+    if (running != null) {
+      return await(running).replay(requestFingerprint);
+    }
+
+    try {
+      StoredResponse response = idempotencyKeyService.executeOnce(
+          userId, idempotencyKey, requestFingerprint, action);
+      completed.put(cacheKey, response);
+      mine.complete(response);
+      return response.replay(requestFingerprint);
+    } catch (DataIntegrityViolationException e) {
+      // 다른 서버가 같은 키를 먼저 저장 -> 이 요청의 거래는 롤백됨
+      GlobalException conflict =
+          new GlobalException(ErrorCode.IDEMPOTENCY_KEY_IN_USE);
+      mine.completeExceptionally(conflict);
+      throw conflict;
+    } catch (RuntimeException e) {
+      mine.completeExceptionally(e);
+      throw e;
+    } finally {
+      inFlight.remove(cacheKey, mine);
+    }
+  }
+
+  private StoredResponse await(CompletableFuture<StoredResponse> running) {
+    try {
+      return running.get(
+          properties.getWaitTimeout().toMillis(), TimeUnit.MILLISECONDS);
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      throw new GlobalException(ErrorCode.INTERNAL_SERVER_ERROR);
+    } catch (TimeoutException e) {
+      throw new GlobalException(ErrorCode.IDEMPOTENCY_KEY_IN_USE);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new GlobalException(ErrorCode.IDEMPOTENCY_KEY_IN_USE);
+    }
+  }
+}
@@ -0,0 +1,175 @@
+package com.example.accountz.service;
+
+import com.example.accountz.model.TransactionHistoryRow;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+// hot 테이블 조회 결과와 월 파티션 조회 결과를 하나의 거래 내역 순서로 잇는다.
+// - 최근 날짜순: hot 테이블 -> 파티션(최근 달부터) 순서로 필요한 행 수가 찰 때까지 읽는다.
+//   파티션은 직전 행 다음부터 읽으므로, 복사만 끝난(COPIED) 달의 행이 두 번 나오지 않는다.
+// - 이름순: 시간과 무관한 순서라 hot 과 모든 파티션을 읽되, 소스마다 이미 정렬된 결과를
+//   k-way merge 로 합쳐 필요한 행 수만 꺼낸다. (정렬 키는 행에 담겨 온다.)
+final class PartitionedHistory {
+
+  static final Comparator<TransactionHistoryRow> RECENT_FIRST = Comparator
+      .comparing(TransactionHistoryRow::transactedAt).reversed()
+      .thenComparing(TransactionHistoryRow::id, Comparator.reverseOrder());
+
+  // 받는 사람 정렬 키 오름차순(이름 없음 먼저), 같은 이름은 최근 날짜순
+  static final Comparator<TransactionHistoryRow> BY_RECEIVER = Comparator
+      .comparing(PartitionedHistory::receiverSortKey, Arrays::compareUnsigned)
+      .thenComparing(RECENT_FIRST);
+
+  private static final byte[] NO_SORT_KEY = new byte[0];
+
+  @FunctionalInterface
+  interface HotPage {
+
+    List<TransactionHistoryRow> find(LocalDateTime transactedAt, Long id,
+        int limit);
+  }
+
+  @FunctionalInterface
+  interface PartitionPage {
+
+    List<TransactionHistoryRow> find(YearMonth month,
+        LocalDateTime transactedAt, Long id, int limit);
+  }
+
+  private PartitionedHistory() {
+  }
+
+  // months: 커서 이전 달의 파티션 (최근 달부터)
+  static List<TransactionHistoryRow> recentFirst(List<YearMonth> months,
+      LocalDateTime transactedAt, Long id, int limit, HotPage hot,
+      PartitionPage partition) {
+    List<TransactionHistoryRow> rows =
+        new ArrayList<>(hot.find(transactedAt, id, limit));
+    for (YearMonth month : months) {
+      if (rows.size() >= limit) {
+        break;
+      }
+      TransactionHistoryRow last =
+          rows.isEmpty() ? null : rows.get(rows.size() - 1);
+      rows.addAll(partition.find(month,
+          last == null ? transactedAt : last.transactedAt(),
+          last == null ? id : last.id(), limit - rows.size()));
+    }
+    return rows;
+  }
+
+  static List<TransactionHistoryRow> byReceiver(List<YearMonth> months,
+      LocalDateTime transactedAt, Long id, int limit, HotPage hot,
+      PartitionPage partition) {
+    List<TransactionHistoryRow> rows = hot.find(transactedAt, id, limit);
+    if (months.isEmpty()) {
+      return rows;
+    }
+    List<Stream<TransactionHistoryRow>> sources = new ArrayList<>();
+    sources.add(rows.stream());
+    months.forEach(month -> sources.add(
+        partition.find(month, transactedAt, id, limit).stream()));
+    Iterator<TransactionHistoryRow> merged =
+        new MergingIterator(sources, BY_RECEIVER);
+    List<TransactionHistoryRow> page = new ArrayList<>(limit);
+    while (page.size() < limit && merged.hasNext()) {
+      page.add(merged.next());
+    }
+    return page;
+  }
+
+  static Stream<TransactionHistoryRow> recentFirst(
+      Stream<TransactionHistoryRow> hot, List<YearMonth> months,
+      Function<YearMonth, Stream<TransactionHistoryRow>> partition) {
+    if (months.isEmpty()) {
+      return hot;
+    }
+    TransactionHistoryRow[] last = new TransactionHistoryRow[1];
+    return Stream.concat(hot, months.stream().flatMap(partition))
+        .filter(row -> {
+          if (last[0] != null && RECENT_FIRST.compare(row, last[0]) <= 0) {
+            return false;
+          }
+          last[0] = row;
+          return true;
+        });
+  }
+
+  // 이미 이름순으로 정렬된 스트림들을 합친다. (스트림마다 현재 행 하나씩만 들고 있다.)
+  static Stream<TransactionHistoryRow> byReceiver(
+      Stream<TransactionHistoryRow> hot, List<YearMonth> months,
+      Function<YearMonth, Stream<TransactionHistoryRow>> partition) {
+    if (months.isEmpty()) {
+      return hot;
+    }
+    List<Stream<TransactionHistoryRow>> sources = new ArrayList<>();
+    sources.add(hot);
+    months.forEach(month -> sources.add(partition.apply(month)));
+    Iterator<TransactionHistoryRow> merged =
+        new MergingIterator(sources, BY_RECEIVER);
+    return StreamSupport.stream(Spliterators.spliteratorUnknownSize(
+            merged, Spliterator.ORDERED | Spliterator.NONNULL), false)
+        .onClose(() -> sources.forEach(Stream::close));
+  }
+
+  private static byte[] receiverSortKey(TransactionHistoryRow row) {
+    return row.receiverSortKey() == null ? NO_SORT_KEY : row.receiverSortKey();
+  }
+
+  private static final class MergingIterator
+      implements Iterator<TransactionHistoryRow> {
+
+    private record Head(TransactionHistoryRow row,
+                        Iterator<TransactionHistoryRow> source) {
+
+    }
+
+    private final PriorityQueue<Head> heads;
+    private Long lastId;
+
+    MergingIterator(List<Stream<TransactionHistoryRow>> sources,
+        Comparator<TransactionHistoryRow> order) {
+      this.heads = new PriorityQueue<>(
+          Comparator.comparing(Head::row, order));
+      sources.forEach(source -> advance(source.iterator()));
+    }
+
+    @Override
+    public boolean hasNext() {
+      // 같은 행(COPIED 달)이 여러 곳에서 나오면 인접하므로 한 번만 내보낸다.
+      while (!heads.isEmpty() && heads.peek().row().id().equals(lastId)) {
+        advance(heads.poll().source());
+      }
+      return !heads.isEmpty();
+    }
+
+    @Override
+    public TransactionHistoryRow next() {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+      Head head = heads.poll();
+      advance(head.source());
+      lastId = head.row().id();
+      return head.row();
+    }
+
+    private void advance(Iterator<TransactionHistoryRow> source) {
+      if (source.hasNext()) {
+        heads.add(new Head(source.next(), source));
+      }
+    }
+  }
+}
@@ -0,0 +1,231 @@
+package com.example.accountz.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+// 사용자 한 명의 받는 사람 이름 검색 색인 (ReceiverSearchService 가 사용자별로 캐시)
+// 이름은 한글 음절을 자모로 풀어 쓴 검색 키로 비교한다. ("김철수" -> "ㄱㅣㅁㅊㅓㄹㅅㅜ")
+// 그래서 입력 중인 "김ㅊ", "기" 도 "김철수" 의 앞부분으로 찾는다.
+// - 앞부분 일치: 검색 키 순으로 정렬한 이름 번호에서 이진 탐색
+// - 중간 일치: 검색 키의 자모 2-gram 별 이름 번호 목록 중 가장 짧은 목록만 확인
+// 거래 저장 스레드(add)와 검색 스레드가 함께 사용하므로 메서드 단위로 동기화한다.
+final class ReceiverNameIndex {
+
+  private static final int GRAM = 2;
+
+  private static final char SYLLABLE_BASE = 0xAC00;
+  private static final char SYLLABLE_LAST = 0xD7A3;
+  private static final int JUNGSEONG_COUNT = 21;
+  private static final int JONGSEONG_COUNT = 28;
+
+  private static final String[] CHOSEONG = {
+      "ㄱ", "ㄲ", "ㄴ", "ㄷ", "ㄸ", "ㄹ", "ㅁ", "ㅂ", "ㅃ", "ㅅ", "ㅆ", "ㅇ", "ㅈ",
+      "ㅉ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"};
+  // 겹모음 / 겹받침은 입력 순서대로 나눈다. ("ㅘ" -> "ㅗㅏ", "ㄺ" -> "ㄹㄱ")
+  private static final String[] JUNGSEONG = {
+      "ㅏ", "ㅐ", "ㅑ", "ㅒ", "ㅓ", "ㅔ", "ㅕ", "ㅖ", "ㅗ", "ㅗㅏ", "ㅗㅐ", "ㅗㅣ",
+      "ㅛ", "ㅜ", "ㅜㅓ", "ㅜㅔ", "ㅜㅣ", "ㅠ", "ㅡ", "ㅡㅣ", "ㅣ"};
+  private static final String[] JONGSEONG = {
+      "", "ㄱ", "ㄲ", "ㄱㅅ", "ㄴ", "ㄴㅈ", "ㄴㅎ", "ㄷ", "ㄹ", "ㄹㄱ", "ㄹㅁ",
+      "ㄹㅂ", "ㄹㅅ", "ㄹㅌ", "ㄹㅍ", "ㄹㅎ", "ㅁ", "ㅂ", "ㅂㅅ", "ㅅ", "ㅆ", "ㅇ",
+      "ㅈ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"};
+  // 검색어에 낱자로 들어온 겹모음 / 겹받침
+  private static final Map<Character, String> COMPOUND_JAMO = Map.ofEntries(
+      Map.entry('ㄳ', "ㄱㅅ"), Map.entry('ㄵ', "ㄴㅈ"), Map.entry('ㄶ', "ㄴㅎ"),
+      Map.entry('ㄺ', "ㄹㄱ"), Map.entry('ㄻ', "ㄹㅁ"), Map.entry('ㄼ', "ㄹㅂ"),
+      Map.entry('ㄽ', "ㄹㅅ"), Map.entry('ㄾ', "ㄹㅌ"), Map.entry('ㄿ', "ㄹㅍ"),
+      Map.entry('ㅀ', "ㄹㅎ"), Map.entry('ㅄ', "ㅂㅅ"), Map.entry('ㅘ', "ㅗㅏ"),
+      Map.entry('ㅙ', "ㅗㅐ"), Map.entry('ㅚ', "ㅗㅣ"), Map.entry('ㅝ', "ㅜㅓ"),
+      Map.entry('ㅞ', "ㅜㅔ"), Map.entry('ㅟ', "ㅜㅣ"), Map.entry('ㅢ', "ㅡㅣ"));
+
+  private record Name(String name, String key) {
+
+  }
+
+  // 이름 번호 목록 (2-gram 한 개)
+  private static final class Postings {
+
+    private int[] ids = new int[4];
+    private int size;
+
+    void add(int id) {
+      if (size > 0 && ids[size - 1] == id) {
+        return;
+      }
+      if (size == ids.length) {
+        ids = Arrays.copyOf(ids, size * 2);
+      }
+      ids[size++] = id;
+    }
+  }
+
+  // 이름 번호 = names 의 위치
+  private final List<Name> names = new ArrayList<>();
+  private final Set<String> registered = new HashSet<>();
+  // 검색 키 순서의 이름 번호 (앞의 names.size() 개만 사용)
+  private int[] sorted = new int[0];
+  private final Map<String, Postings> grams = new HashMap<>();
+
+  static ReceiverNameIndex of(Collection<String> receiverNames) {
+    ReceiverNameIndex index = new ReceiverNameIndex();
+    receiverNames.forEach(index::append);
+    index.sort();
+    return index;
+  }
+
+  synchronized int size() {
+    return names.size();
+  }
+
+  // 전체를 다시 정렬하지 않고 검색 키 순서 자리에 끼운다.
+  synchronized void add(String receiverName) {
+    if (!append(receiverName)) {
+      return;
+    }
+    int id = names.size() - 1;
+    String key = names.get(id).key();
+    // 검색 키가 같은 이름끼리는 먼저 들어온 이름이 앞 (sort 와 같은 순서)
+    int position = lowerBound(key, id);
+    while (position < id && names.get(sorted[position]).key().equals(key)) {
+      position++;
+    }
+    if (id == sorted.length) {
+      sorted = Arrays.copyOf(sorted, Math.max(4, id * 2));
+    }
+    System.arraycopy(sorted, position, sorted, position + 1, id - position);
+    sorted[position] = id;
+  }
+
+  // 앞부분이 일치하는 이름을 먼저, 그 다음 중간에 포함된 이름을 각각 검색 키 순으로 최대 limit 개
+  synchronized List<String> search(String query, int limit) {
+    String key = searchKey(query);
+    if (key.isEmpty() || limit < 1) {
+      return List.of();
+    }
+    Set<String> results = new LinkedHashSet<>();
+    for (int i = lowerBound(key, names.size());
+        i < names.size() && results.size() < limit; i++) {
+      Name name = names.get(sorted[i]);
+      if (!name.key().startsWith(key)) {
+        break;
+      }
+      results.add(name.name());
+    }
+    if (results.size() < limit) {
+      infixMatches(key, limit - results.size())
+          .forEach(name -> results.add(name.name()));
+    }
+    return List.copyOf(results);
+  }
+
+  // 후보(2-gram 목록)가 적으면 후보만 확인해 정렬하고, 많으면(짧은 검색어 등)
+  // 검색 키 순서로 훑다가 count 개를 찾으면 멈춘다.
+  private List<Name> infixMatches(String key, int count) {
+    Postings candidates = key.length() < GRAM ? null : smallestPostings(key);
+    if (key.length() >= GRAM && candidates == null) {
+      return List.of();
+    }
+    List<Name> matches = new ArrayList<>();
+    if (candidates == null || candidates.size > names.size() / 4) {
+      for (int i = 0; i < names.size() && matches.size() < count; i++) {
+        Name name = names.get(sorted[i]);
+        if (isInfix(name, key)) {
+          matches.add(name);
+        }
+      }
+      return matches;
+    }
+    for (int i = 0; i < candidates.size; i++) {
+      Name name = names.get(candidates.ids[i]);
+      if (isInfix(name, key)) {
+        matches.add(name);
+      }
+    }
+    matches.sort(Comparator.comparing(Name::key));
+    return matches.subList(0, Math.min(count, matches.size()));
+  }
+
+  private static boolean isInfix(Name name, String key) {
+    return !name.key().startsWith(key) && name.key().contains(key);
+  }
+
+  // 검색 키의 2-gram 중 이름이 가장 적은 목록 (없는 2-gram 이 있으면 null)
+  private Postings smallestPostings(String key) {
+    Postings smallest = null;
+    for (int i = 0; i + GRAM <= key.length(); i++) {
+      Postings postings = grams.get(key.substring(i, i + GRAM));
+      if (postings == null) {
+        return null;
+      }
+      if (smallest == null || postings.size < smallest.size) {
+        smallest = postings;
+      }
+    }
+    return smallest;
+  }
+
+  private boolean append(String receiverName) {
+    if (receiverName == null || !registered.add(receiverName)) {
+      return false;
+    }
+    int id = names.size();
+    String key = searchKey(receiverName);
+    names.add(new Name(receiverName, key));
+    for (int i = 0; i + GRAM <= key.length(); i++) {
+      grams.computeIfAbsent(key.substring(i, i + GRAM), gram -> new Postings())
+          .add(id);
+    }
+    return true;
+  }
+
+  private void sort() {
+    sorted = IntStream.range(0, names.size())
+        .boxed()
+        .sorted(Comparator.comparing((Integer id) -> names.get(id).key()))
+        .mapToInt(Integer::intValue)
+        .toArray();
+  }
+
+  // 검색 키 순서의 앞 size 개 중 key 이상인 첫 위치
+  private int lowerBound(String key, int size) {
+    int low = 0;
+    int high = size;
+    while (low < high) {
+      int mid = (low + high) >>> 1;
+      if (names.get(sorted[mid]).key().compareTo(key) < 0) {
+        low = mid + 1;
+      } else {
+        high = mid;
+      }
+    }
+    return low;
+  }
+
+  // 한글 음절은 자모로 풀고, 영문은 소문자로, 공백은 뺀다.
+  static String searchKey(String text) {
+    StringBuilder key = new StringBuilder(text.length() * 3);
+    for (int i = 0; i < text.length(); i++) {
+      char c = text.charAt(i);
+      if (c >= SYLLABLE_BASE && c <= SYLLABLE_LAST) {
+        int offset = c - SYLLABLE_BASE;
+        key.append(CHOSEONG[offset / (JUNGSEONG_COUNT * JONGSEONG_COUNT)])
+            .append(JUNGSEONG[offset / JONGSEONG_COUNT % JUNGSEONG_COUNT])
+            .append(JONGSEONG[offset % JONGSEONG_COUNT]);
+      } else if (COMPOUND_JAMO.containsKey(c)) {
+        key.append(COMPOUND_JAMO.get(c));
+      } else if (!Character.isWhitespace(c)) {
+        key.append(Character.toLowerCase(c));
+      }
+    }
+    return key.toString();
+  }
+}
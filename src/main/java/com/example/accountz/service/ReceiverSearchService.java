@@ -0,0 +1,89 @@
+package com.example.accountz.service;
+
+import com.example.accountz.config.TransactionProperties;
+import com.example.accountz.exception.GlobalException;
+import com.example.accountz.model.ReceiverSearchDto;
+import com.example.accountz.persist.repository.TransactionHistoryRepository;
+import com.example.accountz.type.ErrorCode;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.stereotype.Service;
+
+// 받는 사람 이름 자동 완성 / 부분 검색.
+// 사용자별 색인(ReceiverNameIndex)을 처음 검색할 때 transaction_history 와 지난 달에서 만들고,
+// 색인된 이름 수 합계(maxIndexedNames)를 넘으면 오래 쓰지 않은 사용자 색인부터 버린다.
+// 이 서버에서 저장한 거래는 커밋 후 바로 반영되고(TransactionWriter),
+// 다른 서버에서 저장한 거래는 rebuildInterval 마다 다시 만들 때 반영된다.
+@Service
+public class ReceiverSearchService {
+
+  private final TransactionHistoryRepository transactionHistoryRepository;
+  private final TransactionHistoryMonthReader monthReader;
+  private final TransactionHistoryPartitionService partitionService;
+  private final TransactionProperties.ReceiverSearch properties;
+
+  private final LoadingCache<Long, ReceiverNameIndex> indexes;
+
+  public ReceiverSearchService(
+      TransactionHistoryRepository transactionHistoryRepository,
+      TransactionHistoryMonthReader monthReader,
+      TransactionHistoryPartitionService partitionService,
+      TransactionProperties transactionProperties) {
+    this.transactionHistoryRepository = transactionHistoryRepository;
+    this.monthReader = monthReader;
+    this.partitionService = partitionService;
+    this.properties = transactionProperties.getReceiverSearch();
+    // 무게는 색인을 넣을 때의 이름 수 (이후 추가된 이름은 다시 만들 때 반영)
+    this.indexes = Caffeine.newBuilder()
+        .maximumWeight(properties.getMaxIndexedNames())
+        .weigher((Long userId, ReceiverNameIndex index) -> index.size() + 1)
+        .expireAfterAccess(properties.getExpireAfterAccess())
+        .expireAfterWrite(properties.getRebuildInterval())
+        .build(this::load);
+  }
+
+  public ReceiverSearchDto search(Long userId, String query, Integer limit) {
+    int resultLimit = resultLimit(limit);
+    String trimmed = query == null ? "" : query.strip();
+    List<String> receivers = trimmed.isEmpty()
+        ? List.of()
+        : indexes.get(userId).search(trimmed, resultLimit);
+    return ReceiverSearchDto.builder()
+        .query(trimmed)
+        .receivers(receivers)
+        .build();
+  }
+
+  // 색인이 메모리에 있는 사용자만 갱신 (없으면 다음 검색 때 DB 에서 만든다.)
+  public void addReceiver(Long userId, String receiverName) {
+    ReceiverNameIndex index = indexes.getIfPresent(userId);
+    if (index != null) {
+      index.add(receiverName);
+    }
+  }
+
+  // limit 미지정 시 default, 초과 요청은 max 로 제한
+  private int resultLimit(Integer limit) {
+    if (limit == null) {
+      return properties.getDefaultResults();
+    }
+    // 거래 내역 페이지 크기와 같이 1 보다 작으면 거절한다.
+    if (limit < 1) {
+      throw new GlobalException(ErrorCode.INVALID_SEARCH_LIMIT);
+    }
+    return Math.min(limit, properties.getMaxResults());
+  }
+
+  // 중복 이름은 색인에서 한 번만 들어간다.
+  private ReceiverNameIndex load(Long userId) {
+    List<String> names = new ArrayList<>(
+        transactionHistoryRepository.findReceiverNamesByUserId(userId));
+    for (YearMonth month : partitionService.months(null, null)) {
+      names.addAll(monthReader.findReceiverNamesByUserId(month, userId));
+    }
+    return ReceiverNameIndex.of(names);
+  }
+}
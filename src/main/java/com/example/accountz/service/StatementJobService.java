@@ -0,0 +1,275 @@
+package com.example.accountz.service;
+
+import com.example.accountz.config.TransactionProperties;
+import com.example.accountz.exception.GlobalException;
+import com.example.accountz.model.MonthlyStatementDto;
+import com.example.accountz.model.StatementAccountRow;
+import com.example.accountz.model.StatementJobDto;
+import com.example.accountz.model.StatementLineRow;
+import com.example.accountz.persist.entity.TransactionIdConverter;
+import com.example.accountz.persist.repository.AccountRepository;
+import com.example.accountz.persist.repository.DailyAccountSummaryRepository;
+import com.example.accountz.persist.repository.TransactionHistoryRepository;
+import com.example.accountz.type.ErrorCode;
+import com.example.accountz.type.TransactionDirection;
+import com.example.accountz.type.TransactionType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.zip.GZIPOutputStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+// 월별 거래 명세서 일괄 생성.
+// 계좌를 id keyset 순서로 chunkSize 개씩 읽어 parallelism 개 스레드에서 계좌별 명세서를 만들고,
+// 묶음마다 gzip NDJSON 파일(한 줄에 계좌 하나)을 쓴 뒤 마지막 계좌 id 를 체크포인트로 남긴다.
+// 중단된 작업은 체크포인트 다음 계좌부터 이어서 만든다. (같은 묶음 파일은 덮어쓴다.)
+// 명세서는 transaction_history(또는 그 달의 월 파티션 / 보관 세그먼트) /
+// daily_account_summary 의 인덱스 범위만 읽는다.
+@Slf4j
+@Service
+public class StatementJobService {
+
+  private static final String CHECKPOINT = "checkpoint";
+
+  private final AccountRepository accountRepository;
+  private final TransactionHistoryRepository transactionHistoryRepository;
+  private final TransactionHistoryMonthReader monthReader;
+  private final TransactionHistoryPartitionService partitionService;
+  private final DailyAccountSummaryRepository dailyAccountSummaryRepository;
+  private final TransactionProperties.Statement properties;
+  private final ObjectWriter statementWriter;
+  private final Counter processedAccounts;
+
+  private final AtomicBoolean running = new AtomicBoolean();
+
+  public StatementJobService(AccountRepository accountRepository,
+      TransactionHistoryRepository transactionHistoryRepository,
+      TransactionHistoryMonthReader monthReader,
+      TransactionHistoryPartitionService partitionService,
+      DailyAccountSummaryRepository dailyAccountSummaryRepository,
+      TransactionProperties transactionProperties,
+      ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+    this.accountRepository = accountRepository;
+    this.transactionHistoryRepository = transactionHistoryRepository;
+    this.monthReader = monthReader;
+    this.partitionService = partitionService;
+    this.dailyAccountSummaryRepository = dailyAccountSummaryRepository;
+    this.properties = transactionProperties.getStatement();
+    this.statementWriter = objectMapper.writerFor(MonthlyStatementDto.class);
+    this.processedAccounts = Counter.builder("statement.job.accounts")
+        .description("Accounts written by the monthly statement job")
+        .register(meterRegistry);
+  }
+
+  public StatementJobDto.Response run(YearMonth month, boolean restart) {
+    // 진행 중인 달은 명세서가 바뀌므로 만들지 않는다.
+    if (!month.isBefore(YearMonth.now())) {
+      throw new GlobalException(ErrorCode.INVALID_STATEMENT_MONTH);
+    }
+    if (!running.compareAndSet(false, true)) {
+      throw new GlobalException(ErrorCode.STATEMENT_JOB_IN_PROGRESS);
+    }
+    ExecutorService executor =
+        Executors.newFixedThreadPool(properties.getParallelism());
+    try {
+      return generate(month, restart, executor);
+    } catch (IOException e) {
+      log.error("Statement job failed. month=" + month, e);
+      throw new GlobalException(ErrorCode.INTERNAL_SERVER_ERROR);
+    } finally {
+      executor.shutdownNow();
+      running.set(false);
+    }
+  }
+
+  private StatementJobDto.Response generate(YearMonth month, boolean restart,
+      ExecutorService executor) throws IOException {
+    Path directory = Path.of(properties.getOutputDir(), month.toString());
+    Files.createDirectories(directory);
+    Path checkpoint = directory.resolve(CHECKPOINT);
+    if (restart) {
+      Files.deleteIfExists(checkpoint);
+    }
+    long resumedAfter = readCheckpoint(checkpoint);
+
+    LocalDateTime from = month.atDay(1).atStartOfDay();
+    LocalDateTime to = month.plusMonths(1).atDay(1).atStartOfDay();
+    long started = System.nanoTime();
+    long accounts = 0;
+    long afterId = resumedAfter;
+    while (true) {
+      List<StatementAccountRow> chunk = accountRepository
+          .findStatementAccounts(afterId, to,
+              PageRequest.of(0, properties.getChunkSize()));
+      if (chunk.isEmpty()) {
+        break;
+      }
+      long firstId = chunk.get(0).id();
+      long lastId = chunk.get(chunk.size() - 1).id();
+      writeChunk(directory.resolve(
+              "accounts-" + firstId + "-" + lastId + ".ndjson.gz"),
+          statements(chunk, month, from, to, executor));
+      writeCheckpoint(checkpoint, lastId);
+
+      accounts += chunk.size();
+      processedAccounts.increment(chunk.size());
+      afterId = lastId;
+    }
+
+    long elapsedMillis = (System.nanoTime() - started) / 1_000_000;
+    double accountsPerSecond =
+        elapsedMillis == 0 ? accounts : accounts * 1000.0 / elapsedMillis;
+    log.info("Statement job finished. month=" + month
+        + ", accounts=" + accounts
+        + ", resumedAfterAccountId=" + resumedAfter
+        + ", accounts/s=" + String.format("%.1f", accountsPerSecond));
+    return StatementJobDto.Response.builder()
+        .month(month)
+        .accounts(accounts)
+        .resumedAfterAccountId(resumedAfter)
+        .elapsedMillis(elapsedMillis)
+        .accountsPerSecond(accountsPerSecond)
+        .build();
+  }
+
+  // 묶음 안의 계좌는 병렬로 만들고 파일에는 id 순서로 쓴다.
+  private List<MonthlyStatementDto> statements(
+      List<StatementAccountRow> chunk, YearMonth month,
+      LocalDateTime from, LocalDateTime to, ExecutorService executor) {
+    List<CompletableFuture<MonthlyStatementDto>> futures = chunk.stream()
+        .map(account -> CompletableFuture.supplyAsync(
+            () -> statement(account, month, from, to), executor))
+        .toList();
+    return futures.stream().map(CompletableFuture::join).toList();
+  }
+
+  MonthlyStatementDto statement(StatementAccountRow account,
+      YearMonth month, LocalDateTime from, LocalDateTime to) {
+    long balance = openingBalance(account.id(), month.atDay(1));
+    long openingBalance = balance;
+
+    boolean partitioned = partitionService.isPartitioned(month);
+    List<StatementLineRow> rows = new ArrayList<>(statementLines(partitioned,
+        month, account, TransactionDirection.SENT, from, to));
+    // 입금 / 출금은 보낸 사람과 받는 사람이 같은 계좌라 SENT 행만 사용
+    statementLines(partitioned, month, account,
+            TransactionDirection.RECEIVED, from, to).stream()
+        .filter(row -> !isOwnAccount(row.transactionType()))
+        .forEach(rows::add);
+    rows.sort(Comparator.comparing(StatementLineRow::transactedAt));
+
+    List<MonthlyStatementDto.Line> lines = new ArrayList<>(rows.size());
+    for (StatementLineRow row : rows) {
+      long amount = signedAmount(row);
+      balance += amount;
+      lines.add(MonthlyStatementDto.Line.builder()
+          .transactionId(TransactionIdConverter.format(row.transactionId()))
+          .transactionType(row.transactionType())
+          .amount(amount)
+          .balance(balance)
+          .counterparty(row.direction() == TransactionDirection.SENT
+              ? row.receiverName()
+              : row.senderName())
+          .transactedAt(row.transactedAt())
+          .build());
+    }
+    return MonthlyStatementDto.builder()
+        .accountNumber(account.accountNumber())
+        .month(month)
+        .openingBalance(openingBalance)
+        .closingBalance(balance)
+        .lines(lines)
+        .build();
+  }
+
+  // 기초 잔액: 그 달 이전 일 집계의 기초 잔액 + 순증감.
+  // 이전 집계가 없으면 첫 거래 전 잔액 0 이다. (기존 계좌는 V11 의 기초 행이 있다.)
+  // 집계가 전혀 없는 계좌는 생성 후 잔액이 바뀐 적이 없으므로 현재 잔액을 쓴다.
+  private long openingBalance(Long accountId, LocalDate firstDate) {
+    Long balanceBefore = dailyAccountSummaryRepository.sumBalanceBefore(
+        accountId, firstDate);
+    if (balanceBefore != null) {
+      return balanceBefore;
+    }
+    if (!dailyAccountSummaryRepository.existsByAccountId(accountId)) {
+      return accountRepository.findBalanceById(accountId);
+    }
+    return 0L;
+  }
+
+  private static boolean isOwnAccount(TransactionType transactionType) {
+    return transactionType == TransactionType.DEPOSIT
+        || transactionType == TransactionType.WITHDRAW;
+  }
+
+  // 월 파티션으로 옮겨진 달은 파티션 테이블(또는 보관 세그먼트)에서 읽는다.
+  private List<StatementLineRow> statementLines(boolean partitioned,
+      YearMonth month, StatementAccountRow account,
+      TransactionDirection direction, LocalDateTime from, LocalDateTime to) {
+    return partitioned
+        ? monthReader.findStatementLines(month, account.userId(), account.id(),
+            direction, from, to)
+        : transactionHistoryRepository.findStatementLines(account.id(),
+            direction, from, to);
+  }
+
+  // TransactionWriter 의 일 집계와 같은 방향: 송금은 보낸 계좌 출금,
+  // 취소는 원 거래의 보낸 계좌(SENT 행)로 입금
+  static long signedAmount(StatementLineRow row) {
+    boolean sent = row.direction() == TransactionDirection.SENT;
+    boolean credit = switch (row.transactionType()) {
+      case DEPOSIT -> true;
+      case WITHDRAW -> false;
+      case USE -> !sent;
+      case CANCEL -> sent;
+    };
+    return credit ? row.amount() : -row.amount();
+  }
+
+  // 임시 파일에 쓴 뒤 이동해, 중단되더라도 반쯤 쓴 파일이 남지 않게 한다.
+  private void writeChunk(Path file, List<MonthlyStatementDto> statements)
+      throws IOException {
+    Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+    try (OutputStream out = new GZIPOutputStream(
+        Files.newOutputStream(temp))) {
+      for (MonthlyStatementDto statement : statements) {
+        out.write(statementWriter.writeValueAsBytes(statement));
+        out.write('\n');
+      }
+    }
+    Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING,
+        StandardCopyOption.ATOMIC_MOVE);
+  }
+
+  private static long readCheckpoint(Path checkpoint) throws IOException {
+    return Files.exists(checkpoint)
+        ? Long.parseLong(Files.readString(checkpoint).trim())
+        : 0L;
+  }
+
+  private static void writeCheckpoint(Path checkpoint, long accountId)
+      throws IOException {
+    Path temp = checkpoint.resolveSibling(CHECKPOINT + ".tmp");
+    Files.writeString(temp, Long.toString(accountId));
+    Files.move(temp, checkpoint, StandardCopyOption.REPLACE_EXISTING,
+        StandardCopyOption.ATOMIC_MOVE);
+  }
+}
@@ -0,0 +1,170 @@
+package com.example.accountz.service;
+
+import com.example.accountz.exception.GlobalException;
+import com.example.accountz.model.TransactionHistoryRow;
+import com.example.accountz.model.TransactionSearchDto;
+import com.example.accountz.persist.entity.AccountEntity;
+import com.example.accountz.persist.entity.UserEntity;
+import com.example.accountz.persist.repository.AccountRepository;
+import com.example.accountz.persist.repository.TransactionHistoryRepository;
+import com.example.accountz.persist.repository.UserRepository;
+import com.example.accountz.type.ErrorCode;
+import com.example.accountz.type.TransactionResultType;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+// 거래 내역 전체를 NDJSON(한 줄에 거래 하나)으로 내려보낸다.
+// 요청 검증은 호출 스레드에서 먼저 끝내고(오류는 일반 JSON 오류 응답), 본문은 응답 스레드에서
+// 읽기 전용 트랜잭션 안에서 DB 커서를 따라가며 한 행씩 쓴다.
+// transaction_history projection 을 읽으므로 영속성 컨텍스트에 쌓이는 엔티티가 없고,
+// 목록도 만들지 않아 내역 길이와 관계없이 메모리 사용량이 일정하다.
+// 월 파티션(또는 보관 세그먼트)으로 옮겨진 달은 hot 테이블 다음에 이어서 읽는다.
+// (PartitionedHistory)
+@Service
+public class TransactionExportService {
+
+  private final TransactionHistoryRepository transactionHistoryRepository;
+  private final TransactionHistoryMonthReader monthReader;
+  private final TransactionHistoryPartitionService partitionService;
+  private final UserRepository userRepository;
+  private final AccountRepository accountRepository;
+  private final TransactionTemplate readOnlyTransaction;
+  private final ObjectWriter rowWriter;
+
+  public TransactionExportService(
+      TransactionHistoryRepository transactionHistoryRepository,
+      TransactionHistoryMonthReader monthReader,
+      TransactionHistoryPartitionService partitionService,
+      UserRepository userRepository, AccountRepository accountRepository,
+      PlatformTransactionManager transactionManager,
+      ObjectMapper objectMapper) {
+    this.transactionHistoryRepository = transactionHistoryRepository;
+    this.monthReader = monthReader;
+    this.partitionService = partitionService;
+    this.userRepository = userRepository;
+    this.accountRepository = accountRepository;
+    this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+    this.readOnlyTransaction.setReadOnly(true);
+    // 행마다 flush 하지 않고 버퍼가 찰 때 내보낸다. 줄 구분은 writeRow 에서 직접 쓴다.
+    this.rowWriter = objectMapper.writerFor(TransactionSearchDto.class)
+        .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+        .withRootValueSeparator("");
+  }
+
+  public StreamingResponseBody exportTransaction(Long userId) {
+    Long id = findUser(userId).getId();
+    return out -> write(out,
+        () -> PartitionedHistory.recentFirst(
+            transactionHistoryRepository.streamByUserId(id),
+            partitionService.months(null, null),
+            month -> monthReader.streamByUserId(month, id)));
+  }
+
+  public StreamingResponseBody exportOrderByReceiveMoney(
+      String accountNumber) {
+    AccountEntity account = accountRepository.findByAccountNumber(
+            accountNumber)
+        .orElseThrow(() -> new GlobalException(ErrorCode.ACCOUNT_NOT_FOUND));
+    Long id = account.getId();
+    Long ownerUserId = account.getUser().getId();
+    return out -> write(out,
+        () -> PartitionedHistory.recentFirst(
+            transactionHistoryRepository.streamByReceiverAccountId(id),
+            partitionService.months(null, null),
+            month -> monthReader.streamByReceiverAccountId(month, ownerUserId,
+                id)));
+  }
+
+  public StreamingResponseBody exportOrderByName(Long userId) {
+    Long id = findUser(userId).getId();
+    return out -> write(out,
+        () -> PartitionedHistory.byReceiver(
+            transactionHistoryRepository.streamByUserIdOrderByReceiver(id),
+            partitionService.months(null, null),
+            month -> monthReader.streamByUserIdOrderByReceiver(
+                month, id)));
+  }
+
+  public StreamingResponseBody exportBetweenDate(
+      Long userId, LocalDate firstDate, LocalDate lastDate) {
+    Long id = findUser(userId).getId();
+    LocalDateTime from = firstDate.atStartOfDay();
+    LocalDateTime to = lastDate.atStartOfDay().plusDays(1).minusSeconds(1);
+    if (!from.isBefore(to)) {
+      throw new GlobalException(ErrorCode.WRONG_DATE);
+    }
+    return out -> write(out,
+        () -> PartitionedHistory.recentFirst(
+            transactionHistoryRepository.streamByUserIdBetween(id, from, to),
+            partitionService.months(from, to),
+            month -> monthReader.streamByUserIdBetween(
+                month, id, from, to)));
+  }
+
+  public StreamingResponseBody exportFailTransaction(Long userId) {
+    Long id = findUser(userId).getId();
+    return out -> write(out,
+        () -> PartitionedHistory.recentFirst(
+            transactionHistoryRepository.streamByUserIdAndResultType(
+                id, TransactionResultType.FAIL),
+            partitionService.months(null, null),
+            month -> monthReader.streamByUserIdAndResultType(
+                month, id, TransactionResultType.FAIL)));
+  }
+
+  public StreamingResponseBody exportReceiverTransaction(
+      Long userId, String receiver) {
+    Long id = findUser(userId).getId();
+    return out -> write(out,
+        () -> PartitionedHistory.recentFirst(
+            transactionHistoryRepository.streamByUserIdAndReceiver(
+                id, receiver),
+            partitionService.months(null, null),
+            month -> monthReader.streamByUserIdAndReceiver(
+                month, id, receiver)));
+  }
+
+  private UserEntity findUser(Long userId) {
+    return userRepository.findById(userId)
+        .orElseThrow(() -> new GlobalException(ErrorCode.USER_NOT_FOUND));
+  }
+
+  void write(OutputStream out, Supplier<Stream<TransactionHistoryRow>> query) {
+    readOnlyTransaction.executeWithoutResult(status -> {
+      try (Stream<TransactionHistoryRow> rows = query.get()) {
+        // 응답 스트림은 닫지 않는다. (close 는 남은 버퍼만 내보냄)
+        JsonGenerator generator = rowWriter.getFactory()
+            .createGenerator(out, JsonEncoding.UTF8)
+            .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        rows.forEach(row ->
+            writeRow(generator, TransactionSearchDto.from(row)));
+        generator.close();
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    });
+  }
+
+  private void writeRow(JsonGenerator generator, TransactionSearchDto row) {
+    try {
+      rowWriter.writeValue(generator, row);
+      generator.writeRaw('\n');
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+}
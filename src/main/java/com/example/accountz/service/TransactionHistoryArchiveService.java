@@ -0,0 +1,141 @@
+package com.example.accountz.service;
+
+import com.example.accountz.config.TransactionProperties;
+import com.example.accountz.model.TransactionHistoryPartition;
+import com.example.accountz.persist.archive.HistorySegment;
+import com.example.accountz.persist.repository.ScheduledJobLockRepository;
+import com.example.accountz.persist.repository.TransactionHistoryPartitionRepository;
+import com.example.accountz.persist.repository.TransactionHistorySegmentRepository;
+import com.example.accountz.persist.repository.TransactionRepository;
+import com.example.accountz.type.PartitionStatus;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+// 취소 기간(1년)이 지난 거래 보관 / 정리.
+// 분리된(DETACHED) 달 중 afterMonths 보다 오래된 달은 매일 archive() 에서
+//  - 파티션 행을 원 거래(transactions)의 컬럼과 함께 세그먼트 파일로 옮기고 (ARCHIVED),
+//  - 세그먼트를 쓴 뒤에 transactions 행을 지우고 지운 마지막 거래 ID 를 남긴다.
+//    (취소 요청은 1년 초과로 응답)
+//  - refreshInterval 이 지나 다른 서버도 세그먼트를 읽게 된 뒤 파티션 테이블을 삭제한다.
+// 그 전까지 transactions 행은 지우지 않는다.
+// archive() 는 실행 잠금(scheduled_job_locks)을 잡은 서버 한 곳에서만 실행한다.
+// 조회 경로(TransactionHistoryMonthReader)는 ARCHIVED 달을 세그먼트에서 읽는다.
+@Slf4j
+@Service
+public class TransactionHistoryArchiveService {
+
+  private static final String LOCK = "transaction_history_archive";
+
+  private final TransactionHistoryPartitionRepository partitionRepository;
+  private final TransactionHistorySegmentRepository segmentRepository;
+  private final TransactionRepository transactionRepository;
+  private final TransactionHistoryPartitionService partitionService;
+  private final ScheduledJobLockRepository jobLockRepository;
+  private final TransactionProperties.Archive properties;
+  private final Duration refreshInterval;
+  private final TransactionTemplate transaction;
+
+  public TransactionHistoryArchiveService(
+      TransactionHistoryPartitionRepository partitionRepository,
+      TransactionHistorySegmentRepository segmentRepository,
+      TransactionRepository transactionRepository,
+      TransactionHistoryPartitionService partitionService,
+      ScheduledJobLockRepository jobLockRepository,
+      TransactionProperties transactionProperties,
+      PlatformTransactionManager transactionManager) {
+    this.partitionRepository = partitionRepository;
+    this.segmentRepository = segmentRepository;
+    this.transactionRepository = transactionRepository;
+    this.partitionService = partitionService;
+    this.jobLockRepository = jobLockRepository;
+    this.properties = transactionProperties.getArchive();
+    this.refreshInterval =
+        transactionProperties.getPartition().getRefreshInterval();
+    this.transaction = new TransactionTemplate(transactionManager);
+  }
+
+  @Scheduled(cron = "${transaction.archive.cron}")
+  public void archive() {
+    if (!properties.isEnabled()) {
+      return;
+    }
+    // 다른 서버가 실행 중이면 건너뛴다.
+    if (!jobLockRepository.tryLock(LOCK, properties.getLockAtMost())) {
+      log.info("Transaction history archiving is running elsewhere.");
+      return;
+    }
+    try {
+      archivePartitions();
+    } finally {
+      jobLockRepository.unlock(LOCK);
+    }
+  }
+
+  private void archivePartitions() {
+    LocalDateTime cancelableFrom = LocalDateTime.now().minusYears(1);
+    LocalDateTime archivedBefore =
+        LocalDateTime.now().minus(refreshInterval);
+    YearMonth firstKeptMonth =
+        YearMonth.now().minusMonths(properties.getAfterMonths() - 1L);
+    for (TransactionHistoryPartition partition
+        : partitionRepository.findAllPartitions()) {
+      YearMonth month = partition.month();
+      if (partition.status() == PartitionStatus.COPIED
+          || !end(month).isBefore(cancelableFrom)) {
+        continue;
+      }
+      if (partition.status() == PartitionStatus.DETACHED
+          && month.isBefore(firstKeptMonth)) {
+        writeSegment(month);
+        prune(month);
+      } else if (partition.status() == PartitionStatus.ARCHIVED) {
+        // 세그먼트를 쓴 뒤 정리 전에 멈춘 달
+        if (partition.prunedThroughTransactionId() == null) {
+          prune(month);
+        }
+        if (partition.updatedAt().isBefore(archivedBefore)) {
+          partitionRepository.dropPartitionTable(month);
+        }
+      }
+    }
+    partitionService.refresh();
+  }
+
+  // 세그먼트에 담긴 달만 정리한다.
+  private void prune(YearMonth month) {
+    LocalDateTime from = month.atDay(1).atStartOfDay();
+    int rows = transaction.execute(status -> {
+      Long prunedThrough =
+          transactionRepository.findMaxTransactionIdBetween(from, end(month));
+      int deleted =
+          transactionRepository.deleteTransactedBetween(from, end(month));
+      // 행이 없던 달도 정리한 것으로 남긴다.
+      partitionRepository.updatePrunedThrough(month,
+          prunedThrough == null ? 0L : prunedThrough);
+      return deleted;
+    });
+    log.info("Pruned transactions. month=" + month + ", rows=" + rows);
+  }
+
+  private void writeSegment(YearMonth month) {
+    long rows;
+    try (Stream<HistorySegment.Row> archiveRows =
+        partitionRepository.streamArchiveRows(month)) {
+      rows = segmentRepository.write(month, archiveRows);
+    }
+    partitionRepository.updatePartitionStatus(month, PartitionStatus.ARCHIVED);
+    log.info("Archived transaction history partition. month=" + month
+        + ", rows=" + rows);
+  }
+
+  private static LocalDateTime end(YearMonth month) {
+    return month.plusMonths(1).atDay(1).atStartOfDay();
+  }
+}
@@ -0,0 +1,168 @@
+package com.example.accountz.service;
+
+import com.example.accountz.model.StatementLineRow;
+import com.example.accountz.model.TransactionHistoryRow;
+import com.example.accountz.persist.repository.TransactionHistoryPartitionRepository;
+import com.example.accountz.persist.repository.TransactionHistorySegmentRepository;
+import com.example.accountz.type.TransactionDirection;
+import com.example.accountz.type.TransactionResultType;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.stream.Stream;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+// 한 달 치 지난 거래 내역 조회. 세그먼트 파일로 옮긴(ARCHIVED) 달은 세그먼트에서,
+// 나머지 달은 월 파티션 테이블에서 읽는다. 조회 조건과 정렬은 두 저장소가 같다.
+// 계좌 기준 조회는 세그먼트가 소유 사용자 순이라 계좌 소유자 id 를 함께 받는다.
+@Service
+@RequiredArgsConstructor
+public class TransactionHistoryMonthReader {
+
+  private final TransactionHistoryPartitionRepository partitionRepository;
+  private final TransactionHistorySegmentRepository segmentRepository;
+  private final TransactionHistoryPartitionService partitionService;
+
+  public List<TransactionHistoryRow> findPageByUserId(YearMonth month,
+      Long userId, LocalDateTime transactedAt, Long id, int limit) {
+    if (archived(month)) {
+      return segmentRepository.findPageByUserId(month, userId, transactedAt, id,
+          limit);
+    }
+    return partitionRepository.findPageByUserId(month, userId, transactedAt,
+        id, limit);
+  }
+
+  public List<TransactionHistoryRow> findPageByReceiverAccountId(
+      YearMonth month, Long ownerUserId, Long accountId,
+      LocalDateTime transactedAt, Long id, int limit) {
+    if (archived(month)) {
+      return segmentRepository.findPageByReceiverAccountId(month, ownerUserId,
+          accountId, transactedAt, id, limit);
+    }
+    return partitionRepository.findPageByReceiverAccountId(month, accountId,
+        transactedAt, id, limit);
+  }
+
+  public List<TransactionHistoryRow> findPageByUserIdOrderByReceiver(
+      YearMonth month, Long userId, byte[] sortKey,
+      LocalDateTime transactedAt, Long id, int limit) {
+    if (archived(month)) {
+      return segmentRepository.findPageByUserIdOrderByReceiver(month, userId,
+          sortKey, transactedAt, id, limit);
+    }
+    return partitionRepository.findPageByUserIdOrderByReceiver(month, userId,
+        sortKey, transactedAt, id, limit);
+  }
+
+  public List<TransactionHistoryRow> findPageByUserIdBetween(YearMonth month,
+      Long userId, LocalDateTime from, LocalDateTime to,
+      LocalDateTime transactedAt, Long id, int limit) {
+    if (archived(month)) {
+      return segmentRepository.findPageByUserIdBetween(month, userId, from, to,
+          transactedAt, id, limit);
+    }
+    return partitionRepository.findPageByUserIdBetween(month, userId, from,
+        to, transactedAt, id, limit);
+  }
+
+  public List<TransactionHistoryRow> findPageByUserIdAndResultType(
+      YearMonth month, Long userId, TransactionResultType resultType,
+      LocalDateTime transactedAt, Long id, int limit) {
+    if (archived(month)) {
+      return segmentRepository.findPageByUserIdAndResultType(month, userId,
+          resultType, transactedAt, id, limit);
+    }
+    return partitionRepository.findPageByUserIdAndResultType(month, userId,
+        resultType, transactedAt, id, limit);
+  }
+
+  public List<TransactionHistoryRow> findPageByUserIdAndReceiver(
+      YearMonth month, Long userId, String receiver,
+      LocalDateTime transactedAt, Long id, int limit) {
+    if (archived(month)) {
+      return segmentRepository.findPageByUserIdAndReceiver(month, userId,
+          receiver, transactedAt, id, limit);
+    }
+    return partitionRepository.findPageByUserIdAndReceiver(month, userId,
+        receiver, transactedAt, id, limit);
+  }
+
+  public List<StatementLineRow> findStatementLines(YearMonth month,
+      Long ownerUserId, Long accountId, TransactionDirection direction,
+      LocalDateTime from, LocalDateTime to) {
+    if (archived(month)) {
+      return segmentRepository.findStatementLines(month, ownerUserId, accountId,
+          direction, from, to);
+    }
+    return partitionRepository.findStatementLines(month, accountId, direction,
+        from, to);
+  }
+
+  public List<String> findReceiverNamesByUserId(YearMonth month,
+      Long userId) {
+    if (archived(month)) {
+      return segmentRepository.findReceiverNamesByUserId(month, userId);
+    }
+    return partitionRepository.findReceiverNamesByUserId(month, userId);
+  }
+
+  // NDJSON 내보내기용 스트림 조회. 호출한 쪽에서 닫아야 한다.
+  public Stream<TransactionHistoryRow> streamByUserId(YearMonth month,
+      Long userId) {
+    if (archived(month)) {
+      return segmentRepository.streamByUserId(month, userId);
+    }
+    return partitionRepository.streamByUserId(month, userId);
+  }
+
+  public Stream<TransactionHistoryRow> streamByReceiverAccountId(
+      YearMonth month, Long ownerUserId, Long accountId) {
+    if (archived(month)) {
+      return segmentRepository.streamByReceiverAccountId(month, ownerUserId,
+          accountId);
+    }
+    return partitionRepository.streamByReceiverAccountId(month, accountId);
+  }
+
+  public Stream<TransactionHistoryRow> streamByUserIdOrderByReceiver(
+      YearMonth month, Long userId) {
+    if (archived(month)) {
+      return segmentRepository.streamByUserIdOrderByReceiver(month, userId);
+    }
+    return partitionRepository.streamByUserIdOrderByReceiver(month, userId);
+  }
+
+  public Stream<TransactionHistoryRow> streamByUserIdBetween(YearMonth month,
+      Long userId, LocalDateTime from, LocalDateTime to) {
+    if (archived(month)) {
+      return segmentRepository.streamByUserIdBetween(month, userId, from, to);
+    }
+    return partitionRepository.streamByUserIdBetween(month, userId, from, to);
+  }
+
+  public Stream<TransactionHistoryRow> streamByUserIdAndResultType(
+      YearMonth month, Long userId, TransactionResultType resultType) {
+    if (archived(month)) {
+      return segmentRepository.streamByUserIdAndResultType(month, userId,
+          resultType);
+    }
+    return partitionRepository.streamByUserIdAndResultType(month, userId,
+        resultType);
+  }
+
+  public Stream<TransactionHistoryRow> streamByUserIdAndReceiver(
+      YearMonth month, Long userId, String receiver) {
+    if (archived(month)) {
+      return segmentRepository.streamByUserIdAndReceiver(month, userId,
+          receiver);
+    }
+    return partitionRepository.streamByUserIdAndReceiver(month, userId,
+        receiver);
+  }
+
+  private boolean archived(YearMonth month) {
+    return partitionService.isArchived(month);
+  }
+}
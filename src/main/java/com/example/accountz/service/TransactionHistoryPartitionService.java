@@ -0,0 +1,164 @@
+package com.example.accountz.service;
+
+import com.example.accountz.config.TransactionProperties;
+import com.example.accountz.model.TransactionHistoryPartition;
+import com.example.accountz.persist.repository.ScheduledJobLockRepository;
+import com.example.accountz.persist.repository.TransactionHistoryPartitionRepository;
+import com.example.accountz.type.PartitionStatus;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+// transaction_history 월 파티션 관리.
+// 최근 hotMonths 개월은 hot 테이블(transaction_history)에 두고, 더 오래된 달은 매일
+// maintain() 에서 월 파티션 테이블(transaction_history_pYYYYMM)로 옮긴다.
+//  1단계: 파티션 테이블을 만들고 그 달 행을 복사 (COPIED, hot 에도 같은 행이 남음)
+//  2단계: refreshInterval 이 지나 다른 서버도 파티션을 알게 된 뒤, 그 사이 바뀐 행을
+//        다시 복사하고 hot 에서 삭제 (DETACHED)
+// maintain() 은 실행 잠금(scheduled_job_locks)을 잡은 서버 한 곳에서만 실행한다.
+// 조회 경로(PartitionedHistory)는 조회 범위에 걸친 달의 파티션만 읽는다.
+// 더 오래된 파티션은 TransactionHistoryArchiveService 가 세그먼트 파일로 옮긴다. (ARCHIVED)
+@Slf4j
+@Service
+public class TransactionHistoryPartitionService {
+
+  private static final String LOCK = "transaction_history_partition";
+
+  private final TransactionHistoryPartitionRepository partitionRepository;
+  private final ScheduledJobLockRepository jobLockRepository;
+  private final TransactionProperties.Partition properties;
+  private final TransactionTemplate transaction;
+
+  // 파티션 목록 (최근 달부터). 조회마다 DB 를 읽지 않도록 refreshInterval 동안 재사용한다.
+  private volatile List<TransactionHistoryPartition> partitions;
+  private volatile Instant loadedAt = Instant.MIN;
+
+  public TransactionHistoryPartitionService(
+      TransactionHistoryPartitionRepository partitionRepository,
+      ScheduledJobLockRepository jobLockRepository,
+      TransactionProperties transactionProperties,
+      PlatformTransactionManager transactionManager) {
+    this.partitionRepository = partitionRepository;
+    this.jobLockRepository = jobLockRepository;
+    this.properties = transactionProperties.getPartition();
+    this.transaction = new TransactionTemplate(transactionManager);
+  }
+
+  // [from, to] 에 걸친 파티션 달 (최근 달부터, null 이면 그쪽 제한 없음)
+  public List<YearMonth> months(LocalDateTime from, LocalDateTime to) {
+    YearMonth first = from == null ? null : YearMonth.from(from);
+    YearMonth last = to == null ? null : YearMonth.from(to);
+    return partitions().stream()
+        .map(TransactionHistoryPartition::month)
+        .filter(month -> first == null || !month.isBefore(first))
+        .filter(month -> last == null || !month.isAfter(last))
+        .toList();
+  }
+
+  public boolean isPartitioned(YearMonth month) {
+    return partitions().stream()
+        .anyMatch(partition -> partition.month().equals(month));
+  }
+
+  // 세그먼트 파일로 옮긴 달 (TransactionHistoryArchiveService)
+  public boolean isArchived(YearMonth month) {
+    return partitions().stream()
+        .anyMatch(partition -> partition.month().equals(month)
+            && partition.status() == PartitionStatus.ARCHIVED);
+  }
+
+  // transactions 에서 지운(취소 기간이 지난) 거래인지. 거래 ID 는 시간순이다.
+  public boolean isPrunedTransaction(long transactionId) {
+    return partitions().stream()
+        .map(TransactionHistoryPartition::prunedThroughTransactionId)
+        .anyMatch(prunedThrough -> prunedThrough != null
+            && transactionId <= prunedThrough);
+  }
+
+  @Scheduled(cron = "${transaction.partition.cron}")
+  public void maintain() {
+    if (!properties.isEnabled()) {
+      return;
+    }
+    // 다른 서버가 실행 중이면 건너뛴다.
+    if (!jobLockRepository.tryLock(LOCK, properties.getLockAtMost())) {
+      log.info("Transaction history partitioning is running elsewhere.");
+      return;
+    }
+    try {
+      movePartitions();
+    } finally {
+      jobLockRepository.unlock(LOCK);
+    }
+  }
+
+  // 파티션 목록을 다시 읽는다. (maintain 후 / 테스트)
+  public void refresh() {
+    partitions = partitionRepository.findAllPartitions();
+    loadedAt = Instant.now();
+  }
+
+  private void movePartitions() {
+    refresh();
+    LocalDateTime copiedBefore =
+        LocalDateTime.now().minus(properties.getRefreshInterval());
+    for (TransactionHistoryPartition partition : partitions) {
+      if (partition.status() == PartitionStatus.COPIED
+          && partition.updatedAt().isBefore(copiedBefore)) {
+        detach(partition.month());
+      }
+    }
+
+    YearMonth firstHotMonth =
+        YearMonth.now().minusMonths(properties.getHotMonths() - 1L);
+    // 행이 있는 달만 (COPIED 달은 hot 에도 남아 있어 다시 나오므로 건너뛴다.)
+    LocalDateTime next = partitionRepository.findOldestHotTransactedAt();
+    while (next != null && YearMonth.from(next).isBefore(firstHotMonth)) {
+      YearMonth month = YearMonth.from(next);
+      if (!isPartitioned(month)) {
+        copy(month);
+      }
+      next = partitionRepository.findOldestHotTransactedAt(
+          month.plusMonths(1).atDay(1).atStartOfDay());
+    }
+    refresh();
+  }
+
+  private List<TransactionHistoryPartition> partitions() {
+    if (partitions == null || loadedAt.plus(properties.getRefreshInterval())
+        .isBefore(Instant.now())) {
+      refresh();
+    }
+    return partitions;
+  }
+
+  private void copy(YearMonth month) {
+    // DDL 은 트랜잭션 밖에서 (H2 는 DDL 에서 커밋한다.)
+    partitionRepository.createPartitionTable(month);
+    long rows = transaction.execute(status -> {
+      long copied = partitionRepository.copyFromHot(month);
+      partitionRepository.insertPartition(month, copied);
+      return copied;
+    });
+    log.info("Copied transaction history partition. month=" + month
+        + ", rows=" + rows);
+  }
+
+  private void detach(YearMonth month) {
+    long rows = transaction.execute(status -> {
+      long copied = partitionRepository.copyFromHot(month);
+      partitionRepository.deleteFromHot(month);
+      partitionRepository.updatePartitionStatus(month,
+          PartitionStatus.DETACHED);
+      return copied;
+    });
+    log.info("Detached transaction history partition. month=" + month
+        + ", rows=" + rows);
+  }
+}
@@ -0,0 +1,8 @@
+package com.example.accountz.service;
+
+// 거래 ID 생성기. 다른 방식이 필요하면 이 인터페이스의 빈을 교체한다.
+public interface TransactionIdGenerator {
+
+  // 0 이상, 이전에 발급한 값보다 큰 값
+  long nextId();
+}
@@ -1,26 +1,42 @@
 package com.example.accountz.service;
 
+import com.example.accountz.aop.RetryOnOptimisticLock;
+import com.example.accountz.config.TransactionProperties;
 import com.example.accountz.exception.GlobalException;
+import com.example.accountz.model.FailedTransactionDto;
+import com.example.accountz.model.TransactionCursor;
 import com.example.accountz.model.TransactionDto;
+import com.example.accountz.model.TransactionHistoryRow;
+import com.example.accountz.model.TransactionPageDto;
 import com.example.accountz.model.TransactionSearchDto;
 import com.example.accountz.persist.entity.AccountEntity;
+import com.example.accountz.persist.entity.NameSortKey;
 import com.example.accountz.persist.entity.TransactionEntity;
+import com.example.accountz.persist.entity.TransactionIdConverter;
 import com.example.accountz.persist.entity.UserEntity;
 import com.example.accountz.persist.repository.AccountRepository;
+import com.example.accountz.persist.repository.TransactionHistoryRepository;
 import com.example.accountz.persist.repository.TransactionRepository;
 import com.example.accountz.persist.repository.UserRepository;
 import com.example.accountz.type.AccountStatus;
+import com.example.accountz.type.BalanceUpdateMode;
 import com.example.accountz.type.ErrorCode;
 import com.example.accountz.type.TransactionResultType;
 import com.example.accountz.type.TransactionType;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
-import java.util.UUID;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -33,27 +49,41 @@ public class TransactionService {
   private final AccountRepository accountRepository;
   private final UserRepository userRepository;
   private final TransactionRepository transactionRepository;
+  private final TransactionHistoryRepository transactionHistoryRepository;
+  private final TransactionHistoryMonthReader monthReader;
+  private final TransactionHistoryPartitionService partitionService;
+  private final TransactionWriter transactionWriter;
   private final PasswordEncoder passwordEncoder;
+  private final TransactionProperties transactionProperties;
+  private final HotAccountService hotAccountService;
+  private final TransactionIdGenerator transactionIdGenerator;
 
+  @RetryOnOptimisticLock
   @Transactional
   public TransactionDto saveMoney(
       Long userId, String accountNumber, Long amount) {
+    return applySaveMoney(userId, accountNumber, amount);
+  }
+
+  // 그룹 커밋에서 여러 건이 한 트랜잭션을 공유하므로 @Transactional 을 붙이지 않는다.
+  // (참여 트랜잭션에서 예외가 나면 rollback-only 로 표시되어 같은 배치의 다른 건까지 롤백된다.)
+  TransactionDto applySaveMoney(
+      Long userId, String accountNumber, Long amount) {
     UserEntity user = userRepository.findById(userId).orElseThrow(() ->
         new GlobalException(ErrorCode.USER_NOT_FOUND));
-    AccountEntity account = accountRepository
-        .findByAccountNumber(accountNumber).orElseThrow(() ->
-            new GlobalException(ErrorCode.ACCOUNT_NOT_FOUND));
+    AccountEntity account = findAccount(accountNumber, false);
 
     saveValidateMoney(user, account);
 
-    account.saveMoney(amount);
+    deposit(account, amount, ErrorCode.ACCOUNT_ALREADY_UNREGISTERED);
 
     return TransactionDto.fromEntity(
         saveTransaction(
-            TransactionType.USE,
+            TransactionType.DEPOSIT,
             TransactionResultType.SUCCESS,
             account,
             amount,
+            currentBalance(account),
             user,
             account.getAccountNumber(),
             account,
@@ -72,27 +102,31 @@ public class TransactionService {
     }
   }
 
+  @RetryOnOptimisticLock
   @Transactional
   public TransactionDto useBalance(
       Long userId, String accountNumber, Long amount) {
+    return applyUseBalance(userId, accountNumber, amount);
+  }
 
+  TransactionDto applyUseBalance(
+      Long userId, String accountNumber, Long amount) {
     UserEntity user = userRepository.findById(userId)
         .orElseThrow(() -> new GlobalException(ErrorCode.USER_NOT_FOUND));
-    AccountEntity account = accountRepository.findByAccountNumber(
-            accountNumber)
-        .orElseThrow(
-            () -> new GlobalException(ErrorCode.ACCOUNT_NOT_FOUND));
+    AccountEntity account = findAccount(accountNumber, true);
 
+    sweepHotBalance(account);
     validateUseBalance(user, account, amount);
 
-    account.useBalance(amount);
+    withdraw(account, amount);
 
     return TransactionDto.fromEntity(
         saveTransaction(
-            TransactionType.USE,
+            TransactionType.WITHDRAW,
             TransactionResultType.SUCCESS,
             account,
             amount,
+            currentBalance(account),
             user,
             account.getAccountNumber(),
             account,
@@ -114,60 +148,207 @@ public class TransactionService {
     }
   }
 
+  // 출금: 조건부 UPDATE 모드에서는 잔액/상태 검증과 차감을 한 문장으로 처리
+  private void withdraw(AccountEntity account, Long amount) {
+    if (!isConditionalUpdate()) {
+      account.useBalance(amount);
+      return;
+    }
+    // 해지 계좌는 잔액이 0 이므로 0 rows 는 항상 잔액 초과로 본다.
+    if (accountRepository.withdrawIfSufficient(account.getId(), amount)
+        == 0) {
+      throw new GlobalException(ErrorCode.AMOUNT_EXCEED_BALANCE);
+    }
+  }
+
+  private void deposit(
+      AccountEntity account, Long amount, ErrorCode inactiveError) {
+    if (account.isHot()) {
+      // hot 계좌는 계좌 행 대신 슬롯 한 행에만 입금
+      if (amount < 0) {
+        throw new GlobalException(ErrorCode.NOT_MINUS_MONEY);
+      }
+      if (account.getAccountStatus() != AccountStatus.ACTIVATED) {
+        throw new GlobalException(inactiveError);
+      }
+      hotAccountService.credit(account, amount);
+      return;
+    }
+    if (!isConditionalUpdate()) {
+      account.saveMoney(amount);
+      return;
+    }
+    if (amount < 0) {
+      throw new GlobalException(ErrorCode.NOT_MINUS_MONEY);
+    }
+    if (accountRepository.depositIfActive(account.getId(), amount) == 0) {
+      throw new GlobalException(inactiveError);
+    }
+  }
+
+  // from -> to 이체. UPDATE 와 hot 계좌 슬롯 회수/입금은 행 잠금을 잡으므로
+  // 계좌 id 오름차순으로 실행해 교착 상태를 피한다. (hot 계좌끼리의 이체 포함)
+  // 엔티티 갱신만 하는 경우(hot 계좌 없음)는 커밋 시점에 반영되므로 순서와 무관하다.
+  private void transfer(
+      AccountEntity from, AccountEntity to, Long amount) {
+    if (!isConditionalUpdate() && !from.isHot() && !to.isHot()
+        || from.getId() < to.getId()) {
+      sweepHotBalance(from);
+      withdraw(from, amount);
+      deposit(to, amount, ErrorCode.RECEIVER_ACCOUNT_UNREGISTERED);
+    } else {
+      deposit(to, amount, ErrorCode.RECEIVER_ACCOUNT_UNREGISTERED);
+      sweepHotBalance(from);
+      withdraw(from, amount);
+    }
+  }
+
+  // hot 계좌 출금 전 슬롯 잔액을 계좌 행으로 회수 (계좌 행은 이미 잠금 상태)
+  private void sweepHotBalance(AccountEntity account) {
+    if (!account.isHot()) {
+      return;
+    }
+    long swept = hotAccountService.drainSlots(account);
+    if (swept == 0) {
+      return;
+    }
+    if (isConditionalUpdate()) {
+      // 앞선 조건부 UPDATE 가 영속성 컨텍스트를 비웠으면 계좌 엔티티의 변경은 반영되지 않는다.
+      // 회수 금액은 UPDATE 로 반영하고, 엔티티 잔액은 출금 검증용으로만 맞춘다.
+      accountRepository.depositIfActive(account.getId(), swept);
+    }
+    account.saveMoney(swept);
+  }
+
+  // 조건부 UPDATE 뒤의 계좌 엔티티는 분리된 상태이므로 같은 트랜잭션에서 잔액을 다시 읽는다.
+  private Long currentBalance(AccountEntity account) {
+    Long balance = isConditionalUpdate()
+        ? accountRepository.findBalanceById(account.getId())
+        : account.getBalance();
+    return balance + hotAccountService.getSlotBalance(account);
+  }
+
+  private boolean isConditionalUpdate() {
+    return transactionProperties.getBalanceUpdateMode()
+        == BalanceUpdateMode.CONDITIONAL_UPDATE;
+  }
+
   private TransactionEntity saveTransaction(
       TransactionType transactionType,
       TransactionResultType transactionResultType,
       AccountEntity account,
       Long amount,
+      Long balanceSnapshot,
       UserEntity user,
       String receiverAccountNumber,
       AccountEntity receiverAccount,
       String receiver
   ) {
-    return transactionRepository.save(
-        TransactionEntity.builder()
-            .user(user)
-            .receiver(receiver)
-            .receiverAccount(receiverAccount)
-            .receiverAccountNumber(receiverAccountNumber)
-            .transactionType(transactionType)
-            .transactionResultType(transactionResultType)
-            .account(account)
-            .amount(amount)
-            .balanceSnapshot(account.getBalance())
-            .transactionId(
-                UUID.randomUUID()
-                    .toString()
-                    .replace("-", ""))
-            .transactedAt(LocalDateTime.now())
-            .build());
+    return transactionWriter.save(
+        newTransaction(transactionIdGenerator.nextId(),
+            transactionType, transactionResultType, account,
+            amount, balanceSnapshot, user, receiverAccountNumber,
+            receiverAccount, receiver, LocalDateTime.now()),
+        TransactionWriter.Party.of(user, account),
+        new TransactionWriter.Party(receiverAccount.getUser().getId(),
+            receiver, receiverAccount.getId(), receiverAccountNumber));
   }
 
-  @Transactional
-  public void saveFailedUseTransaction(
+  static TransactionEntity newTransaction(
+      long transactionId,
+      TransactionType transactionType,
+      TransactionResultType transactionResultType,
+      AccountEntity account,
+      Long amount,
+      Long balanceSnapshot,
       UserEntity user,
-      String userAccountNumber,
       String receiverAccountNumber,
-      Long amount) {
-    AccountEntity userAccount = accountRepository.findByAccountNumber(
-        userAccountNumber).orElseThrow(() ->
-        new GlobalException(ErrorCode.ACCOUNT_NOT_FOUND));
-    AccountEntity receiverAccount = accountRepository.findByAccountNumber(
-        receiverAccountNumber).orElseThrow(
-        () -> new GlobalException(ErrorCode.ACCOUNT_NOT_FOUND));
-
-    saveTransaction(
-        TransactionType.USE,
-        TransactionResultType.FAIL,
-        userAccount,
-        amount,
-        user,
-        receiverAccount.getAccountNumber(),
-        receiverAccount,
-        receiverAccount.getUser().getName()
-    );
+      AccountEntity receiverAccount,
+      String receiver,
+      LocalDateTime transactedAt
+  ) {
+    return TransactionEntity.builder()
+        .user(user)
+        .receiver(receiver)
+        .receiverAccount(receiverAccount)
+        .receiverAccountNumber(receiverAccountNumber)
+        .transactionType(transactionType)
+        .transactionResultType(transactionResultType)
+        .account(account)
+        .amount(amount)
+        .balanceSnapshot(balanceSnapshot)
+        .transactionId(transactionId)
+        .transactedAt(transactedAt)
+        .build();
+  }
+
+  // 그룹 커밋 배치 (GroupCommitExecutor 에서 호출)
+  // 업무 오류(GlobalException)는 건별 결과로 돌려주고, 그 외 예외는 배치 전체를 롤백한다.
+  @Transactional
+  public List<GroupCommitExecutor.Result> applyGroup(
+      List<GroupCommitExecutor.Operation> operations) {
+    List<GroupCommitExecutor.Result> results =
+        new ArrayList<>(operations.size());
+    for (GroupCommitExecutor.Operation operation : operations) {
+      try {
+        results.add(GroupCommitExecutor.Result.success(
+            operation.type() == GroupCommitExecutor.Type.SAVE_MONEY
+                ? applySaveMoney(operation.userId(),
+                operation.accountNumber(), operation.amount())
+                : applyUseBalance(operation.userId(),
+                    operation.accountNumber(), operation.amount())));
+      } catch (GlobalException e) {
+        results.add(GroupCommitExecutor.Result.fail(e));
+      }
+    }
+    return results;
+  }
+
+  // 실패 거래 일괄 기록 (FailedTransactionRecorder 에서 호출)
+  // 계좌는 한 번에 조회하고, 계좌가 없는 실패 건은 기록하지 않는다.
+  @Transactional
+  public int saveFailedUseTransactions(List<FailedTransactionDto> failures) {
+    Set<String> accountNumbers = new HashSet<>();
+    for (FailedTransactionDto failure : failures) {
+      accountNumbers.add(failure.getUserAccountNumber());
+      accountNumbers.add(failure.getReceiverAccountNumber());
+    }
+    Map<String, AccountEntity> accounts = accountRepository
+        .findAllByAccountNumberIn(accountNumbers).stream()
+        .collect(Collectors.toMap(
+            AccountEntity::getAccountNumber, Function.identity()));
+
+    List<TransactionWriter.Entry> transactions = new ArrayList<>();
+    for (FailedTransactionDto failure : failures) {
+      AccountEntity userAccount =
+          accounts.get(failure.getUserAccountNumber());
+      AccountEntity receiverAccount =
+          accounts.get(failure.getReceiverAccountNumber());
+      if (userAccount == null || receiverAccount == null) {
+        continue;
+      }
+      transactions.add(new TransactionWriter.Entry(newTransaction(
+          transactionIdGenerator.nextId(),
+          TransactionType.USE,
+          TransactionResultType.FAIL,
+          userAccount,
+          failure.getAmount(),
+          userAccount.getBalance(),
+          userRepository.getReferenceById(failure.getUserId()),
+          receiverAccount.getAccountNumber(),
+          receiverAccount,
+          receiverAccount.getUser().getName(),
+          failure.getFailedAt()),
+          new TransactionWriter.Party(failure.getUserId(),
+              userAccount.getUser().getName(), userAccount.getId(),
+              userAccount.getAccountNumber()),
+          TransactionWriter.Party.of(receiverAccount)));
+    }
+    transactionWriter.saveAll(transactions);
+    return transactions.size();
   }
 
+  @RetryOnOptimisticLock
   @Transactional
   public TransactionDto overMillionSendMoney(
       Long userId,
@@ -182,20 +363,17 @@ public class TransactionService {
     UserEntity user = userRepository.findById(userId)
         .orElseThrow(() -> new GlobalException(ErrorCode.USER_NOT_FOUND));
 
-    AccountEntity userAccount = accountRepository.findByAccountNumber(
-        senderAccountNumber).orElseThrow(
-        () -> new GlobalException(ErrorCode.ACCOUNT_NOT_FOUND));
-
-    AccountEntity receiverAccount = accountRepository.findByAccountNumber(
-        receiverAccountNumber).orElseThrow(
-        () -> new GlobalException(ErrorCode.ACCOUNT_NOT_FOUND));
-
+    // BCrypt 검증은 계좌 조회/잠금 전에 수행
     validateUserInfo(userName, userBirthDay, userEmail, userPassword,
         user);
-    validateReceiver(receiverAccount);
 
-    userAccount.useBalance(amount);
-    receiverAccount.saveMoney(amount);
+    TransferAccounts accounts = findTransferAccounts(
+        senderAccountNumber, receiverAccountNumber);
+    AccountEntity userAccount = accounts.debit();
+    AccountEntity receiverAccount = accounts.credit();
+
+    validateReceiver(receiverAccount);
+    transfer(userAccount, receiverAccount, amount);
 
     return TransactionDto.fromEntity(
         saveTransaction(
@@ -203,12 +381,22 @@ public class TransactionService {
             TransactionResultType.SUCCESS,
             userAccount,
             amount,
+            currentBalance(userAccount),
             user,
             receiverAccount.getAccountNumber(),
             receiverAccount,
             receiverAccount.getUser().getName()));
   }
 
+  // 실행 엔진(BalanceCommandEngine) 경로의 100만원 이상 송금은 본인 확인만 먼저 수행
+  @Transactional(readOnly = true)
+  public void verifyUserInfo(Long userId, String userName,
+      LocalDate userBirthDay, String userEmail, String userPassword) {
+    UserEntity user = userRepository.findById(userId)
+        .orElseThrow(() -> new GlobalException(ErrorCode.USER_NOT_FOUND));
+    validateUserInfo(userName, userBirthDay, userEmail, userPassword, user);
+  }
+
   private void validateUserInfo(String userName, LocalDate userBirthDay,
       String userEmail, String userPassword, UserEntity user) {
     boolean matches = this.passwordEncoder.matches(userPassword,
@@ -235,6 +423,73 @@ public class TransactionService {
     }
   }
 
+  // hot 계좌는 출금할 때만 계좌 행을 잠그고, 입금은 슬롯으로 처리하므로 잠그지 않는다.
+  private AccountEntity findAccount(String accountNumber, boolean debit) {
+    boolean lock = hotAccountService.isHot(accountNumber)
+        ? debit
+        : isPessimistic(accountNumber);
+    return (lock
+        ? accountRepository.findByAccountNumberForUpdate(accountNumber)
+        : accountRepository.findByAccountNumber(accountNumber))
+        .orElseThrow(() ->
+            new GlobalException(ErrorCode.ACCOUNT_NOT_FOUND));
+  }
+
+  private TransferAccounts findTransferAccounts(
+      String debitAccountNumber, String creditAccountNumber) {
+    List<String> accountNumbers =
+        List.of(debitAccountNumber, creditAccountNumber);
+    boolean hotDebit = hotAccountService.isHot(debitAccountNumber);
+    boolean hotCredit = hotAccountService.isHot(creditAccountNumber)
+        && !creditAccountNumber.equals(debitAccountNumber);
+
+    List<AccountEntity> found;
+    if (!hotDebit && !isPessimistic(debitAccountNumber, creditAccountNumber)) {
+      found = accountRepository.findAllByAccountNumberIn(accountNumbers);
+    } else if (!hotCredit) {
+      found = accountRepository.findAllByAccountNumberInForUpdate(
+          accountNumbers);
+    } else {
+      // hot 입금 계좌는 잠그지 않는다.
+      found = new ArrayList<>(
+          accountRepository.findAllByAccountNumberInForUpdate(
+              List.of(debitAccountNumber)));
+      found.addAll(accountRepository.findAllByAccountNumberIn(
+          List.of(creditAccountNumber)));
+    }
+    Map<String, AccountEntity> accounts = found.stream()
+        .collect(Collectors.toMap(AccountEntity::getAccountNumber,
+            Function.identity(), (a, b) -> a));
+
+    AccountEntity debit = accounts.get(debitAccountNumber);
+    AccountEntity credit = accounts.get(creditAccountNumber);
+    if (debit == null || credit == null) {
+      throw new GlobalException(ErrorCode.ACCOUNT_NOT_FOUND);
+    }
+    return new TransferAccounts(debit, credit);
+  }
+
+  // 낙관적 모드에서도 설정된 hot 계좌가 포함되면 비관적 락으로 조회
+  private boolean isPessimistic(String... accountNumbers) {
+    if (transactionProperties.getBalanceUpdateMode()
+        == BalanceUpdateMode.PESSIMISTIC) {
+      return true;
+    }
+    for (String accountNumber : accountNumbers) {
+      if (transactionProperties.getPessimisticAccounts()
+          .contains(accountNumber)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private record TransferAccounts(AccountEntity debit,
+                                  AccountEntity credit) {
+
+  }
+
+  @RetryOnOptimisticLock
   @Transactional
   public TransactionDto underMillionSendMoney(
       Long userId,
@@ -245,17 +500,13 @@ public class TransactionService {
     UserEntity user = userRepository.findById(userId)
         .orElseThrow(() -> new GlobalException(ErrorCode.USER_NOT_FOUND));
 
-    AccountEntity userAccount = accountRepository.findByAccountNumber(
-        senderAccountNumber).orElseThrow(
-        () -> new GlobalException(ErrorCode.ACCOUNT_NOT_FOUND));
-
-    AccountEntity receiverAccount = accountRepository.findByAccountNumber(
-        receiverAccountNumber).orElseThrow(
-        () -> new GlobalException(ErrorCode.ACCOUNT_NOT_FOUND));
+    TransferAccounts accounts = findTransferAccounts(
+        senderAccountNumber, receiverAccountNumber);
+    AccountEntity userAccount = accounts.debit();
+    AccountEntity receiverAccount = accounts.credit();
 
     validateReceiver(receiverAccount);
-    userAccount.useBalance(amount);
-    receiverAccount.saveMoney(amount);
+    transfer(userAccount, receiverAccount, amount);
 
     return TransactionDto.fromEntity(
         saveTransaction(
@@ -263,12 +514,14 @@ public class TransactionService {
             TransactionResultType.SUCCESS,
             userAccount,
             amount,
+            currentBalance(userAccount),
             user,
             receiverAccount.getAccountNumber(),
             receiverAccount,
             receiverAccount.getUser().getName()));
   }
 
+  @RetryOnOptimisticLock
   @Transactional
   public TransactionDto cancelBalance(
       Long userId,
@@ -280,25 +533,25 @@ public class TransactionService {
     UserEntity user = userRepository.findById(userId)
         .orElseThrow(() -> new GlobalException(ErrorCode.USER_NOT_FOUND));
 
-    TransactionEntity transaction =
-        transactionRepository.findByTransactionId(transactionId)
-            .orElseThrow(() ->
-                new GlobalException(
-                    ErrorCode.TRANSACTION_NOT_FOUND));
-    AccountEntity userAccount =
-        accountRepository.findByAccountNumber(userAccountNumber)
-            .orElseThrow(() ->
-                new GlobalException(
-                    ErrorCode.ACCOUNT_NOT_FOUND));
-    AccountEntity receiverAccount = accountRepository.findByAccountNumber(
-        receiverAccountNumber).orElseThrow(
-        () -> new GlobalException(ErrorCode.ACCOUNT_NOT_FOUND));
+    TransactionEntity transaction = findTransaction(transactionRepository,
+        partitionService, transactionId);
+    // 취소는 받는 사람 계좌에서 출금
+    TransferAccounts accounts = findTransferAccounts(
+        receiverAccountNumber, userAccountNumber);
+    AccountEntity userAccount = accounts.credit();
+    AccountEntity receiverAccount = accounts.debit();
 
     validateCancelBalance(transaction, userAccount, amount);
-    userAccount.cancelBalance(amount);
-    receiverAccount.useBalance(amount);
-    transaction.setTransactionResultType(
-        TransactionResultType.EXPRIED_AFTER_SUCCESS);
+    // 조건부 UPDATE 는 영속성 컨텍스트를 비우므로 원 거래 만료를 먼저 기록한다.
+    transactionWriter.expire(transaction);
+    if (isConditionalUpdate() || userAccount.isHot()) {
+      // 취소는 받는 사람 -> 보낸 사람 방향의 이체
+      transfer(receiverAccount, userAccount, amount);
+    } else {
+      sweepHotBalance(receiverAccount);
+      userAccount.cancelBalance(amount);
+      receiverAccount.useBalance(amount);
+    }
 
     return TransactionDto.fromEntity(
         saveTransaction(
@@ -306,13 +559,31 @@ public class TransactionService {
             TransactionResultType.SUCCESS,
             userAccount,
             amount,
+            currentBalance(userAccount),
             user,
             receiverAccountNumber,
             receiverAccount,
             receiverAccount.getUser().getName()));
   }
 
-  private void validateCancelBalance(
+  // 요청의 거래 ID(19자리 문자열)로 원 거래 조회.
+  // transactions 에서 정리된 거래는 취소 기간(1년)이 지난 거래다.
+  static TransactionEntity findTransaction(
+      TransactionRepository transactionRepository,
+      TransactionHistoryPartitionService partitionService,
+      String transactionId) {
+    Long id = TransactionIdConverter.parse(transactionId);
+    if (id == null) {
+      throw new GlobalException(ErrorCode.TRANSACTION_NOT_FOUND);
+    }
+    return transactionRepository.findByTransactionId(id)
+        .orElseThrow(() -> new GlobalException(
+            partitionService.isPrunedTransaction(id)
+                ? ErrorCode.TOO_OLD_ORDER_TO_CANCEL
+                : ErrorCode.TRANSACTION_NOT_FOUND));
+  }
+
+  static void validateCancelBalance(
       TransactionEntity transaction,
       AccountEntity account,
       Long amount
@@ -339,65 +610,96 @@ public class TransactionService {
   }
 
   @Transactional(readOnly = true)
-  public List<TransactionSearchDto> getTransaction(
-      Long userId) {
+  public TransactionPageDto getTransaction(
+      Long userId, String cursor, Integer size) {
     UserEntity user = userRepository.findById(userId)
         .orElseThrow(() -> new GlobalException(ErrorCode.USER_NOT_FOUND));
-    List<TransactionEntity> listTransaction = transactionRepository
-        .findByUser_IdOrderByTransactedAtDesc(user.getId());
-
-    return listTransaction.stream()
-        .map(TransactionSearchDto::fromEntity)
-        .collect(Collectors.toList());
+    TransactionCursor after = TransactionCursor.decode(cursor);
+    int pageSize = pageSize(size);
+
+    Long id = user.getId();
+    return toPage(PartitionedHistory.recentFirst(
+        partitionService.months(null, after.transactedAt()),
+        after.transactedAt(), after.id(), pageSize + 1,
+        (transactedAt, rowId, limit) -> transactionHistoryRepository
+            .findPageByUserId(id, transactedAt, rowId, firstPage(limit)),
+        (month, transactedAt, rowId, limit) -> monthReader
+            .findPageByUserId(month, id, transactedAt, rowId, limit)),
+        pageSize);
   }
 
   @Transactional(readOnly = true)
-  public List<TransactionSearchDto> getOrderByReceiveMoney(
-      String accountNumber) {
+  public TransactionPageDto getOrderByReceiveMoney(
+      String accountNumber, String cursor, Integer size) {
 
     AccountEntity userAccount = accountRepository.findByAccountNumber(
             accountNumber)
         .orElseThrow(() ->
             new GlobalException(
                 ErrorCode.ACCOUNT_NOT_FOUND));
-
-    List<TransactionEntity> listTransaction = transactionRepository
-        .findByReceiverAccount_IdOrderByTransactedAtDesc(
-            userAccount.getId());
-
-    return listTransaction.stream()
-        .map(TransactionSearchDto::fromEntity)
-        .collect(Collectors.toList());
+    TransactionCursor after = TransactionCursor.decode(cursor);
+    int pageSize = pageSize(size);
+
+    Long accountId = userAccount.getId();
+    Long ownerUserId = userAccount.getUser().getId();
+    return toPage(PartitionedHistory.recentFirst(
+        partitionService.months(null, after.transactedAt()),
+        after.transactedAt(), after.id(), pageSize + 1,
+        (transactedAt, rowId, limit) -> transactionHistoryRepository
+            .findPageByReceiverAccountId(accountId, transactedAt, rowId,
+                firstPage(limit)),
+        (month, transactedAt, rowId, limit) -> monthReader
+            .findPageByReceiverAccountId(month, ownerUserId, accountId,
+                transactedAt, rowId, limit)),
+        pageSize);
   }
 
   @Transactional(readOnly = true)
-  public List<TransactionSearchDto> getOrderByName(Long userId) {
+  public TransactionPageDto getOrderByName(
+      Long userId, String cursor, Integer size) {
     UserEntity user = userRepository.findById(userId)
         .orElseThrow(() -> new GlobalException(ErrorCode.USER_NOT_FOUND));
-
-    List<TransactionEntity> listTransaction = transactionRepository
-        .findByUser_IdOrderByReceiverAccount_User_NameAsc(user.getId());
-
-    return listTransaction.stream()
-        .map(TransactionSearchDto::fromEntity)
-        .collect(Collectors.toList());
+    TransactionCursor after = TransactionCursor.decode(cursor);
+    int pageSize = pageSize(size);
+
+    Long id = user.getId();
+    byte[] sortKey = NameSortKey.of(after.receiver());
+    return toPage(PartitionedHistory.byReceiver(
+        partitionService.months(null, null),
+        after.transactedAt(), after.id(), pageSize + 1,
+        (transactedAt, rowId, limit) -> transactionHistoryRepository
+            .findPageByUserIdOrderByReceiver(id, sortKey, transactedAt, rowId,
+                firstPage(limit)),
+        (month, transactedAt, rowId, limit) -> monthReader
+            .findPageByUserIdOrderByReceiver(month, id, sortKey, transactedAt,
+                rowId, limit)),
+        pageSize);
   }
 
   @Transactional(readOnly = true)
-  public List<TransactionSearchDto> getBetweenDate(
-      Long userId, LocalDate firstDate, LocalDate lastDate
+  public TransactionPageDto getBetweenDate(
+      Long userId, LocalDate firstDate, LocalDate lastDate,
+      String cursor, Integer size
   ) {
     UserEntity user = userRepository.findById(userId)
         .orElseThrow(() -> new GlobalException(ErrorCode.USER_NOT_FOUND));
     validateDate result = getValidateDate(firstDate, lastDate);
-
-    List<TransactionEntity> listTransaction = transactionRepository
-        .findByTransactedAtBetweenAndUser_Id(result.startOfDay(),
-            result.endOfDay(), user.getId());
-
-    return listTransaction.stream()
-        .map(TransactionSearchDto::fromEntity)
-        .collect(Collectors.toList());
+    TransactionCursor after = TransactionCursor.decode(cursor);
+    int pageSize = pageSize(size);
+
+    Long id = user.getId();
+    LocalDateTime from = result.startOfDay();
+    LocalDateTime to = result.endOfDay();
+    return toPage(PartitionedHistory.recentFirst(
+        partitionService.months(from, min(to, after.transactedAt())),
+        after.transactedAt(), after.id(), pageSize + 1,
+        (transactedAt, rowId, limit) -> transactionHistoryRepository
+            .findPageByUserIdBetween(id, from, to, transactedAt, rowId,
+                firstPage(limit)),
+        (month, transactedAt, rowId, limit) -> monthReader
+            .findPageByUserIdBetween(month, id, from, to, transactedAt, rowId,
+                limit)),
+        pageSize);
   }
 
   private static validateDate getValidateDate(LocalDate firstDate,
@@ -418,29 +720,83 @@ public class TransactionService {
   }
 
   @Transactional(readOnly = true)
-  public List<TransactionSearchDto> getFailTransaction(
-      Long userId) {
+  public TransactionPageDto getFailTransaction(
+      Long userId, String cursor, Integer size) {
     UserEntity user = userRepository.findById(userId)
         .orElseThrow(() -> new GlobalException(ErrorCode.USER_NOT_FOUND));
-    List<TransactionEntity> listTransaction = transactionRepository
-        .findByUser_IdAndTransactionResultType(user.getId(),
-            TransactionResultType.FAIL);
-
-    return listTransaction.stream()
-        .map(TransactionSearchDto::fromEntity)
-        .collect(Collectors.toList());
+    TransactionCursor after = TransactionCursor.decode(cursor);
+    int pageSize = pageSize(size);
+
+    Long id = user.getId();
+    return toPage(PartitionedHistory.recentFirst(
+        partitionService.months(null, after.transactedAt()),
+        after.transactedAt(), after.id(), pageSize + 1,
+        (transactedAt, rowId, limit) -> transactionHistoryRepository
+            .findPageByUserIdAndResultType(id, TransactionResultType.FAIL,
+                transactedAt, rowId, firstPage(limit)),
+        (month, transactedAt, rowId, limit) -> monthReader
+            .findPageByUserIdAndResultType(month, id,
+                TransactionResultType.FAIL, transactedAt, rowId, limit)),
+        pageSize);
   }
 
   @Transactional(readOnly = true)
-  public List<TransactionSearchDto> getReceiverTransaction(
-      Long userId, String receiver) {
+  public TransactionPageDto getReceiverTransaction(
+      Long userId, String receiver, String cursor, Integer size) {
     UserEntity user = userRepository.findById(userId)
         .orElseThrow(() -> new GlobalException(ErrorCode.USER_NOT_FOUND));
-    List<TransactionEntity> listTransaction = transactionRepository
-        .findByReceiverAndUser_Id(receiver, user.getId());
+    TransactionCursor after = TransactionCursor.decode(cursor);
+    int pageSize = pageSize(size);
+
+    Long id = user.getId();
+    return toPage(PartitionedHistory.recentFirst(
+        partitionService.months(null, after.transactedAt()),
+        after.transactedAt(), after.id(), pageSize + 1,
+        (transactedAt, rowId, limit) -> transactionHistoryRepository
+            .findPageByUserIdAndReceiver(id, receiver, transactedAt, rowId,
+                firstPage(limit)),
+        (month, transactedAt, rowId, limit) -> monthReader
+            .findPageByUserIdAndReceiver(month, id, receiver, transactedAt,
+                rowId, limit)),
+        pageSize);
+  }
+
+  // 요청 크기는 최대 maxPageSize 로 제한
+  private int pageSize(Integer size) {
+    TransactionProperties.History history = transactionProperties.getHistory();
+    if (size == null) {
+      return history.getDefaultPageSize();
+    }
+    if (size < 1) {
+      throw new GlobalException(ErrorCode.INVALID_PAGE_SIZE);
+    }
+    return Math.min(size, history.getMaxPageSize());
+  }
+
+  // 다음 페이지 존재 여부를 알기 위해 한 건 더(pageSize + 1) 조회
+  private static Pageable firstPage(int limit) {
+    return PageRequest.of(0, limit);
+  }
+
+  private static LocalDateTime min(LocalDateTime a, LocalDateTime b) {
+    return a.isBefore(b) ? a : b;
+  }
 
-    return listTransaction.stream()
-        .map(TransactionSearchDto::fromEntity)
-        .collect(Collectors.toList());
+  private static TransactionPageDto toPage(
+      List<TransactionHistoryRow> rows, int pageSize) {
+    boolean hasNext = rows.size() > pageSize;
+    List<TransactionHistoryRow> page =
+        hasNext ? rows.subList(0, pageSize) : rows;
+    TransactionHistoryRow last =
+        page.isEmpty() ? null : page.get(page.size() - 1);
+    return TransactionPageDto.builder()
+        .transactions(page.stream()
+            .map(TransactionSearchDto::from)
+            .collect(Collectors.toList()))
+        .nextCursor(hasNext
+            ? new TransactionCursor(last.receiver(),
+            last.transactedAt(), last.id()).encode()
+            : null)
+        .build();
   }
 }
@@ -0,0 +1,237 @@
+package com.example.accountz.service;
+
+import com.example.accountz.config.TransactionProperties;
+import com.example.accountz.persist.entity.AccountEntity;
+import com.example.accountz.persist.entity.NameSortKey;
+import com.example.accountz.persist.entity.TransactionEntity;
+import com.example.accountz.persist.entity.TransactionHistoryEntity;
+import com.example.accountz.persist.entity.UserEntity;
+import com.example.accountz.persist.repository.DailyAccountSummaryRepository;
+import com.example.accountz.persist.repository.TransactionHistoryPartitionRepository;
+import com.example.accountz.persist.repository.TransactionHistoryRepository;
+import com.example.accountz.persist.repository.TransactionRepository;
+import com.example.accountz.type.TransactionDirection;
+import com.example.accountz.type.TransactionResultType;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ThreadLocalRandom;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// 거래 저장은 모두 여기를 거친다. (TransactionService, BatchTransferService, BalanceCommandWriter)
+// 거래 행과 함께 조회용 transaction_history 에 보낸 사람 / 받는 사람 입장의 행을
+// 같은 트랜잭션에서 기록하고, 성공한 거래는 계좌별 일 집계(daily_account_summary)에 반영한다.
+@Service
+@RequiredArgsConstructor
+public class TransactionWriter {
+
+  private final TransactionRepository transactionRepository;
+  private final TransactionHistoryRepository transactionHistoryRepository;
+  private final TransactionHistoryPartitionRepository partitionRepository;
+  private final TransactionHistoryPartitionService partitionService;
+  private final DailyAccountSummaryRepository dailyAccountSummaryRepository;
+  private final ReceiverSearchService receiverSearchService;
+  private final HotAccountService hotAccountService;
+  private final TransactionProperties transactionProperties;
+
+  // 내역 행에 기록할 거래 당사자 (사용자와 그 계좌)
+  public record Party(Long userId, String name, Long accountId,
+                      String accountNumber) {
+
+    public static Party of(UserEntity user, AccountEntity account) {
+      return new Party(user.getId(), user.getName(), account.getId(),
+          account.getAccountNumber());
+    }
+
+    // 소유자를 함께 조회한 계좌
+    public static Party of(AccountEntity account) {
+      return of(account.getUser(), account);
+    }
+  }
+
+  public record Entry(TransactionEntity transaction, Party sender,
+                      Party receiver) {
+
+  }
+
+  // 집계 행 순서 (계좌 id, 날짜, shard). 같은 순서로 MERGE 해 교착 상태를 피한다.
+  private record SummaryKey(Long accountId, LocalDate summaryDate,
+                            int shard) {
+
+    static final Comparator<SummaryKey> ORDER = Comparator
+        .comparing(SummaryKey::accountId)
+        .thenComparing(SummaryKey::summaryDate)
+        .thenComparingInt(SummaryKey::shard);
+  }
+
+  private static final class SummaryDelta {
+
+    private long creditAmount;
+    private long debitAmount;
+    private int transactionCount;
+  }
+
+  @Transactional
+  public TransactionEntity save(
+      TransactionEntity transaction, Party sender, Party receiver) {
+    TransactionEntity saved = transactionRepository.save(transaction);
+    transactionHistoryRepository.saveAll(
+        history(saved, sender, receiver));
+    List<Entry> entries = List.of(new Entry(saved, sender, receiver));
+    summarize(entries);
+    indexReceivers(entries);
+    return saved;
+  }
+
+  @Transactional
+  public void saveAll(List<Entry> entries) {
+    List<TransactionEntity> transactions = new ArrayList<>(entries.size());
+    List<TransactionHistoryEntity> history =
+        new ArrayList<>(entries.size() * 2);
+    for (Entry entry : entries) {
+      transactions.add(entry.transaction());
+      history.addAll(
+          history(entry.transaction(), entry.sender(), entry.receiver()));
+    }
+    transactionRepository.saveAll(transactions);
+    transactionHistoryRepository.saveAll(history);
+    summarize(entries);
+    indexReceivers(entries);
+  }
+
+  // 취소된 원 거래: 거래 행과 양쪽 내역 행의 결과를 함께 변경
+  // 월 파티션으로 복사된 달이면 파티션 행도 변경한다. (hot 에 남아 있는 행은 위에서 변경)
+  // 보관 세그먼트로 옮긴 달은 취소 기간이 지나 여기까지 오지 않는다.
+  @Transactional
+  public void expire(TransactionEntity transaction) {
+    transaction.setTransactionResultType(
+        TransactionResultType.EXPRIED_AFTER_SUCCESS);
+    transactionHistoryRepository.updateResultType(
+        transaction.getTransactionId(),
+        TransactionResultType.EXPRIED_AFTER_SUCCESS);
+    YearMonth month = YearMonth.from(transaction.getTransactedAt());
+    if (partitionService.isPartitioned(month)
+        && !partitionService.isArchived(month)) {
+      partitionRepository.updateResultType(month,
+          transaction.getTransactionId(),
+          TransactionResultType.EXPRIED_AFTER_SUCCESS);
+    }
+  }
+
+  // 취소된 원 거래의 집계는 그대로 두고, 되돌린 금액은 취소 거래로 반영된다.
+  private void summarize(List<Entry> entries) {
+    Map<SummaryKey, SummaryDelta> deltas = new TreeMap<>(SummaryKey.ORDER);
+    for (Entry entry : entries) {
+      TransactionEntity transaction = entry.transaction();
+      if (transaction.getTransactionResultType()
+          != TransactionResultType.SUCCESS) {
+        continue;
+      }
+      LocalDate date = transaction.getTransactedAt().toLocalDate();
+      Long amount = transaction.getAmount();
+      SummaryKey sender = summaryKey(entry.sender(), date);
+      SummaryKey receiver = summaryKey(entry.receiver(), date);
+      switch (transaction.getTransactionType()) {
+        case DEPOSIT -> credit(deltas, sender, amount);
+        case WITHDRAW -> debit(deltas, sender, amount);
+        case USE -> {
+          debit(deltas, sender, amount);
+          credit(deltas, receiver, amount);
+        }
+        // 취소는 받는 사람 계좌에서 보낸 사람 계좌로 되돌린다.
+        case CANCEL -> {
+          debit(deltas, receiver, amount);
+          credit(deltas, sender, amount);
+        }
+      }
+    }
+    deltas.forEach((key, delta) -> dailyAccountSummaryRepository.merge(
+        key.accountId(), key.summaryDate(), key.shard(), delta.creditAmount,
+        delta.debitAmount, delta.transactionCount));
+  }
+
+  // hot 계좌는 입금이 한 집계 행에 몰리지 않도록 임의의 shard 행에 반영
+  private SummaryKey summaryKey(Party party, LocalDate date) {
+    if (!hotAccountService.isHot(party.accountNumber())) {
+      return new SummaryKey(party.accountId(), date, 0);
+    }
+    return new SummaryKey(party.accountId(), date,
+        ThreadLocalRandom.current().nextInt(
+            transactionProperties.getSummary().getHotShards()));
+  }
+
+  // 보낸 사람의 받는 사람 이름 검색 색인에 추가.
+  // 롤백된 거래의 이름이 검색되지 않도록 커밋 후 반영한다.
+  private void indexReceivers(List<Entry> entries) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      addReceivers(entries);
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(
+        new TransactionSynchronization() {
+          @Override
+          public void afterCommit() {
+            addReceivers(entries);
+          }
+        });
+  }
+
+  private void addReceivers(List<Entry> entries) {
+    entries.forEach(entry -> receiverSearchService.addReceiver(
+        entry.sender().userId(), entry.receiver().name()));
+  }
+
+  private static void credit(Map<SummaryKey, SummaryDelta> deltas,
+      SummaryKey summaryKey, Long amount) {
+    SummaryDelta delta = deltas.computeIfAbsent(
+        summaryKey, key -> new SummaryDelta());
+    delta.creditAmount += amount;
+    delta.transactionCount++;
+  }
+
+  private static void debit(Map<SummaryKey, SummaryDelta> deltas,
+      SummaryKey summaryKey, Long amount) {
+    SummaryDelta delta = deltas.computeIfAbsent(
+        summaryKey, key -> new SummaryDelta());
+    delta.debitAmount += amount;
+    delta.transactionCount++;
+  }
+
+  private static List<TransactionHistoryEntity> history(
+      TransactionEntity transaction, Party sender, Party receiver) {
+    byte[] receiverSortKey = NameSortKey.of(receiver.name());
+    return List.of(
+        historyRow(transaction, TransactionDirection.SENT, sender,
+            sender, receiver, receiverSortKey),
+        historyRow(transaction, TransactionDirection.RECEIVED, receiver,
+            sender, receiver, receiverSortKey));
+  }
+
+  private static TransactionHistoryEntity historyRow(
+      TransactionEntity transaction, TransactionDirection direction,
+      Party owner, Party sender, Party receiver, byte[] receiverSortKey) {
+    return TransactionHistoryEntity.builder()
+        .transactionId(transaction.getTransactionId())
+        .direction(direction)
+        .ownerUserId(owner.userId())
+        .ownerAccountId(owner.accountId())
+        .senderName(sender.name())
+        .senderAccountNumber(sender.accountNumber())
+        .receiverName(receiver.name())
+        .receiverSortKey(receiverSortKey)
+        .receiverAccountNumber(receiver.accountNumber())
+        .amount(transaction.getAmount())
+        .transactionType(transaction.getTransactionType())
+        .transactionResultType(transaction.getTransactionResultType())
+        .transactedAt(transaction.getTransactedAt())
+        .build();
+  }
+}
@@ -0,0 +1,7 @@
+package com.example.accountz.type;
+
+public enum BalanceUpdateMode {
+    PESSIMISTIC,
+    OPTIMISTIC,
+    CONDITIONAL_UPDATE
+}
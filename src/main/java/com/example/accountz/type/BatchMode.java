@@ -0,0 +1,6 @@
+package com.example.accountz.type;
+
+public enum BatchMode {
+    ALL_OR_NOTHING,
+    PER_ITEM
+}
@@ -22,6 +22,9 @@ public enum ErrorCode {
   ACCOUNT_ALREADY_UNREGISTERED("계좌가 이미 해지되었습니다."),
   BALANCE_NOT_EMPTY("잔액이 있는 계좌는 해지할 수 없습니다."),
   RECEIVER_ACCOUNT_UNREGISTERED("받는 이의 계좌가 해지되어 송금이 불가능 합니다."),
+  HOT_ACCOUNT_NOT_ENABLED("잔액 분산이 설정되지 않은 계좌입니다."),
+  INVALID_BALANCE_SLOT_COUNT("잔액 분산 슬롯 수는 1 ~ 64 사이여야 합니다."),
+  ACCOUNT_NUMBER_EXHAUSTED("발급할 수 있는 계좌 번호가 없습니다."),
 
   // Transaction
   AMOUNT_EXCEED_BALANCE("거래금액이 잔액을 초과했습니다."),
@@ -36,9 +39,21 @@ public enum ErrorCode {
   TOO_OLD_ORDER_TO_CANCEL("1년이지난 거래는 취소가 불가능합니다."),
   INVALID_REQUEST("잘못된 요청입니다."),
   EXPIRED_TRANSACTION("이미 취소가 된 거래입니다."),
+  TRANSACTION_RESULT_UNKNOWN("거래 처리 결과를 확인하지 못했습니다. 거래 내역을 확인한 뒤 다시 시도해주세요."),
   WRONG_DATE("시작 날짜는 종료 날짜보다 이전이어야 합니다."),
+  INVALID_CURSOR("잘못된 페이지 커서입니다."),
+  INVALID_PAGE_SIZE("페이지 크기는 1 이상이어야 합니다."),
+  INVALID_SEARCH_LIMIT("검색 결과 수는 1 이상이어야 합니다."),
+  INVALID_SUMMARY_DAYS("집계 조회 기간은 1일 이상이어야 합니다."),
+  INVALID_STATEMENT_MONTH("거래 명세서는 지난 달까지만 만들 수 있습니다."),
+  STATEMENT_JOB_IN_PROGRESS("거래 명세서를 만드는 중입니다. 잠시 후 다시 시도해주세요."),
+  CONCURRENT_UPDATE_CONFLICT("동시에 처리 중인 거래가 있습니다. 잠시 후 다시 시도해주세요."),
+  BATCH_ABORTED("일괄 송금 중 실패한 건이 있어 전체 송금이 취소되었습니다."),
+  IDEMPOTENCY_KEY_REUSED("다른 요청에 이미 사용된 Idempotency-Key 입니다."),
+  IDEMPOTENCY_KEY_IN_USE("같은 Idempotency-Key 로 처리 중인 요청이 있습니다. 잠시 후 다시 시도해주세요."),
 
   //
+  TOO_MANY_CONCURRENT_REQUESTS("요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요."),
   INTERNAL_SERVER_ERROR("내부 서버 오류");
   private final String description;
 }
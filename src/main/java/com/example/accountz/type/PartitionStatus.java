@@ -0,0 +1,8 @@
+package com.example.accountz.type;
+
+// transaction_history 월 파티션 상태 (transaction_history_partitions.status)
+// COPIED: hot 테이블에서 복사만 끝남, DETACHED: hot 테이블에서 삭제됨,
+// ARCHIVED: 보관 세그먼트 파일로 옮겨짐 (파티션 테이블은 삭제)
+public enum PartitionStatus {
+    COPIED, DETACHED, ARCHIVED
+}
@@ -0,0 +1,6 @@
+package com.example.accountz.type;
+
+// 거래 내역(transaction_history) 행의 입장: 보낸 사람 / 받는 사람
+public enum TransactionDirection {
+    SENT, RECEIVED
+}
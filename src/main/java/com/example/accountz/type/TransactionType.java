@@ -1,5 +1,6 @@
 package com.example.accountz.type;
 
 public enum TransactionType {
-    USE,CANCEL
+    // USE: 송금, DEPOSIT / WITHDRAW: 자기 계좌 입금 / 출금
+    USE,DEPOSIT,WITHDRAW,CANCEL
 }
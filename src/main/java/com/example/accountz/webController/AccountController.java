@@ -1,9 +1,13 @@
 package com.example.accountz.webController;
 
+import com.example.accountz.model.AccountBalanceDto;
+import com.example.accountz.model.AccountInfoDto;
 import com.example.accountz.model.CreateAccountDto;
 import com.example.accountz.model.DeleteAccountDto;
+import com.example.accountz.model.HotAccountDto;
 import com.example.accountz.security.JwtTokenExtract;
 import com.example.accountz.service.AccountService;
+import com.example.accountz.service.HotAccountService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -21,6 +25,7 @@ import org.springframework.web.bind.annotation.RestController;
 public class AccountController {
 
   private final AccountService accountService;
+  private final HotAccountService hotAccountService;
   private final JwtTokenExtract jwtTokenExtract;
 
   @PreAuthorize("hasRole('USER')")
@@ -39,4 +44,33 @@ public class AccountController {
         jwtTokenExtract.currentUser().getId(),
         request.getAccountNumber()));
   }
+
+  @PreAuthorize("hasRole('USER')")
+  @PostMapping("/user/balance")
+  public AccountBalanceDto.Response getBalance(
+      @RequestBody @Valid AccountInfoDto request) {
+
+    return AccountBalanceDto.Response.from(accountService.getBalance(
+        jwtTokenExtract.currentUser().getId(),
+        request.getAccountNumber()));
+  }
+
+  // 입금이 몰리는 계좌의 잔액 분산 설정 / 해제
+  @PreAuthorize("hasRole('ROLE_OWNER')")
+  @PostMapping("/hot")
+  public HotAccountDto.Response enableHotAccount(
+      @RequestBody @Valid HotAccountDto.EnableRequest request) {
+
+    return HotAccountDto.Response.from(hotAccountService.enable(
+        request.getAccountNumber(), request.getSlots()));
+  }
+
+  @PreAuthorize("hasRole('ROLE_OWNER')")
+  @DeleteMapping("/hot")
+  public HotAccountDto.Response disableHotAccount(
+      @RequestBody @Valid HotAccountDto.DisableRequest request) {
+
+    return HotAccountDto.Response.from(hotAccountService.disable(
+        request.getAccountNumber()));
+  }
 }
@@ -0,0 +1,30 @@
+package com.example.accountz.webController;
+
+import com.example.accountz.model.StatementJobDto;
+import com.example.accountz.service.StatementJobService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@Slf4j
+@RestController
+@RequestMapping("/statement")
+@RequiredArgsConstructor
+public class StatementController {
+
+  private final StatementJobService statementJobService;
+
+  // 월별 거래 명세서 일괄 생성. 끝날 때까지 응답하지 않으며, 중단되면 다시 호출해 이어서 만든다.
+  @PreAuthorize("hasRole('ROLE_OWNER')")
+  @PostMapping("/monthly")
+  public StatementJobDto.Response generateMonthlyStatements(
+      @RequestBody @Valid StatementJobDto.Request request) {
+
+    return statementJobService.run(request.getMonth(), request.isRestart());
+  }
+}
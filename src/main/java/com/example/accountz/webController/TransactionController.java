@@ -2,26 +2,43 @@ package com.example.accountz.webController;
 
 import com.example.accountz.exception.GlobalException;
 import com.example.accountz.model.AccountInfoDto;
+import com.example.accountz.model.AccountSummaryDto;
+import com.example.accountz.model.BatchSendMoneyDto;
 import com.example.accountz.model.CancelBalanceDto;
+import com.example.accountz.model.ReceiverSearchDto;
 import com.example.accountz.model.SendOverMillionMoneyDto;
 import com.example.accountz.model.SendUnderMillionMoneyDto;
 import com.example.accountz.model.TransactionBetweenDateDto;
+import com.example.accountz.model.TransactionDto;
 import com.example.accountz.model.TransactionNameInfoDto;
-import com.example.accountz.model.TransactionSearchDto;
+import com.example.accountz.model.TransactionPageDto;
 import com.example.accountz.model.UseBalanceDto;
 import com.example.accountz.security.JwtTokenExtract;
+import com.example.accountz.service.AccountSummaryService;
+import com.example.accountz.service.BalanceCommandEngine;
+import com.example.accountz.service.BatchTransferService;
+import com.example.accountz.service.FailedTransactionRecorder;
+import com.example.accountz.service.GroupCommitExecutor;
+import com.example.accountz.service.IdempotencyService;
+import com.example.accountz.service.ReceiverSearchService;
+import com.example.accountz.service.TransactionExportService;
 import com.example.accountz.service.TransactionService;
+import com.example.accountz.type.ErrorCode;
 import jakarta.validation.Valid;
-import java.util.List;
-import java.util.stream.Collectors;
+import java.util.function.Supplier;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @Slf4j
 @RestController
@@ -30,24 +47,39 @@ import org.springframework.web.bind.annotation.RestController;
 public class TransactionController {
 
   private final TransactionService transactionService;
+  private final BatchTransferService batchTransferService;
+  private final BalanceCommandEngine balanceCommandEngine;
+  private final GroupCommitExecutor groupCommitExecutor;
+  private final IdempotencyService idempotencyService;
+  private final FailedTransactionRecorder failedTransactionRecorder;
+  private final TransactionExportService transactionExportService;
+  private final AccountSummaryService accountSummaryService;
+  private final ReceiverSearchService receiverSearchService;
   private final JwtTokenExtract jwtTokenExtract;
 
+  private static final String IDEMPOTENCY_KEY = "Idempotency-Key";
+
   @PreAuthorize("hasRole('USER')")
   @PostMapping("save-money")
   public UseBalanceDto.Response userSaveMoney(
+      @RequestHeader(value = IDEMPOTENCY_KEY, required = false)
+      String idempotencyKey,
       @Valid @RequestBody UseBalanceDto.Request request
   ) {
     try {
-      return UseBalanceDto.Response.from(transactionService.saveMoney(
-          jwtTokenExtract.currentUser().getId(),
-          request.getAccountNumber(),
-          request.getAmount()));
+      return UseBalanceDto.Response.from(idempotent(idempotencyKey,
+          "save-money:" + request.getAccountNumber()
+              + ":" + request.getAmount(),
+          () -> saveMoney(idempotencyKey,
+              jwtTokenExtract.currentUser().getId(),
+              request.getAccountNumber(),
+              request.getAmount())));
 
     } catch (GlobalException e) {
       log.error("Failed to save balance.");
 
-      transactionService.saveFailedUseTransaction(
-          jwtTokenExtract.currentUser(),
+      recordFailure(e,
+          jwtTokenExtract.currentUser().getId(),
           request.getAccountNumber(),
           request.getAccountNumber(),
           request.getAmount()
@@ -59,18 +91,23 @@ public class TransactionController {
   @PreAuthorize("hasRole('USER')")
   @PostMapping("withdraw")
   public UseBalanceDto.Response useBalance(
+      @RequestHeader(value = IDEMPOTENCY_KEY, required = false)
+      String idempotencyKey,
       @Valid @RequestBody UseBalanceDto.Request request
   ) {
     try {
-      return UseBalanceDto.Response.from(transactionService.useBalance(
-          jwtTokenExtract.currentUser().getId(),
-          request.getAccountNumber(),
-          request.getAmount()));
+      return UseBalanceDto.Response.from(idempotent(idempotencyKey,
+          "withdraw:" + request.getAccountNumber()
+              + ":" + request.getAmount(),
+          () -> useBalance(idempotencyKey,
+              jwtTokenExtract.currentUser().getId(),
+              request.getAccountNumber(),
+              request.getAmount())));
 
     } catch (GlobalException e) {
       log.error("Failed to use balance.");
-      transactionService.saveFailedUseTransaction(
-          jwtTokenExtract.currentUser(),
+      recordFailure(e,
+          jwtTokenExtract.currentUser().getId(),
           request.getAccountNumber(),
           request.getAccountNumber(),
           request.getAmount()
@@ -82,20 +119,32 @@ public class TransactionController {
   @PreAuthorize("hasRole('USER')")
   @PostMapping("under-million-send-money")
   public SendUnderMillionMoneyDto.Response underMillionSendMoney(
+      @RequestHeader(value = IDEMPOTENCY_KEY, required = false)
+      String idempotencyKey,
       @Valid @RequestBody SendUnderMillionMoneyDto.Request request
   ) {
     try {
-      return SendUnderMillionMoneyDto.Response.from(
-          transactionService.underMillionSendMoney(
-              jwtTokenExtract.currentUser().getId(),
-              request.getUserAccountNumber(),
-              request.getReceiverAccountNumber(),
-              request.getAmount()));
+      return SendUnderMillionMoneyDto.Response.from(idempotent(
+          idempotencyKey,
+          "under-million-send-money:" + request.getUserAccountNumber()
+              + ":" + request.getReceiverAccountNumber()
+              + ":" + request.getAmount(),
+          () -> engineHandles(idempotencyKey, request.getUserAccountNumber())
+              ? balanceCommandEngine.sendMoney(
+                  jwtTokenExtract.currentUser().getId(),
+                  request.getUserAccountNumber(),
+                  request.getReceiverAccountNumber(),
+                  request.getAmount())
+              : transactionService.underMillionSendMoney(
+                  jwtTokenExtract.currentUser().getId(),
+                  request.getUserAccountNumber(),
+                  request.getReceiverAccountNumber(),
+                  request.getAmount())));
 
     } catch (GlobalException e) {
       log.error("Failed to use balance.");
-      transactionService.saveFailedUseTransaction(
-          jwtTokenExtract.currentUser(),
+      recordFailure(e,
+          jwtTokenExtract.currentUser().getId(),
           request.getUserAccountNumber(),
           request.getReceiverAccountNumber(),
           request.getAmount()
@@ -104,27 +153,63 @@ public class TransactionController {
     }
   }
 
+  // 건별 결과를 반환하므로 실패 건이 있어도 예외를 던지지 않는다.
+  @PreAuthorize("hasRole('USER')")
+  @PostMapping("batch-send")
+  public BatchSendMoneyDto.Response batchSendMoney(
+      @Valid @RequestBody BatchSendMoneyDto.Request request
+  ) {
+    return BatchSendMoneyDto.Response.from(request.getMode(),
+        batchTransferService.sendMoney(
+            jwtTokenExtract.currentUser().getId(),
+            request.getMode(),
+            request.getItems()));
+  }
+
   @PreAuthorize("hasRole('USER')")
   @PostMapping("over-million-send-money")
   public SendOverMillionMoneyDto.Response overMillionSendMoney(
+      @RequestHeader(value = IDEMPOTENCY_KEY, required = false)
+      String idempotencyKey,
       @Valid @RequestBody SendOverMillionMoneyDto.Request request
   ) {
     try {
-      return SendOverMillionMoneyDto.Response.from(
-          transactionService.overMillionSendMoney(
-              jwtTokenExtract.currentUser().getId(),
-              request.getUserAccountNumber(),
-              request.getUserName(),
-              request.getBirthDay(),
-              request.getEmail(),
-              request.getPassword(),
-              request.getReceiverAccountNumber(),
-              request.getAmount()));
+      // 비밀번호 등 본인 확인 정보는 fingerprint 에 남기지 않는다.
+      return SendOverMillionMoneyDto.Response.from(idempotent(
+          idempotencyKey,
+          "over-million-send-money:" + request.getUserAccountNumber()
+              + ":" + request.getReceiverAccountNumber()
+              + ":" + request.getAmount(),
+          () -> {
+            if (!engineHandles(idempotencyKey,
+                request.getUserAccountNumber())) {
+              return transactionService.overMillionSendMoney(
+                  jwtTokenExtract.currentUser().getId(),
+                  request.getUserAccountNumber(),
+                  request.getUserName(),
+                  request.getBirthDay(),
+                  request.getEmail(),
+                  request.getPassword(),
+                  request.getReceiverAccountNumber(),
+                  request.getAmount());
+            }
+            transactionService.verifyUserInfo(
+                jwtTokenExtract.currentUser().getId(),
+                request.getUserName(),
+                request.getBirthDay(),
+                request.getEmail(),
+                request.getPassword());
+            return balanceCommandEngine.sendMoney(
+                jwtTokenExtract.currentUser().getId(),
+                request.getUserAccountNumber(),
+                request.getReceiverAccountNumber(),
+                request.getAmount());
+          }));
 
     } catch (GlobalException e) {
       log.error("Failed to use balance.");
-      transactionService.saveFailedUseTransaction(
-          jwtTokenExtract.currentUser(),
+      recordFailure(e,
+          jwtTokenExtract.currentUser().getId(),
           request.getUserAccountNumber(),
           request.getReceiverAccountNumber(),
           request.getAmount()
@@ -136,21 +221,33 @@ public class TransactionController {
   @PreAuthorize("hasRole('USER')")
   @PostMapping("/cancel-transaction")
   public CancelBalanceDto.Response cancelBalance(
+      @RequestHeader(value = IDEMPOTENCY_KEY, required = false)
+      String idempotencyKey,
       @Valid @RequestBody CancelBalanceDto.Request request
   ) {
     try {
-      return CancelBalanceDto.Response.from(
-          transactionService.cancelBalance(
-              jwtTokenExtract.currentUser().getId(),
-              request.getTransactionId(),
-              request.getUserAccountNumber(),
-              request.getReceiverAccountNumber(),
-              request.getAmount()));
+      return CancelBalanceDto.Response.from(idempotent(idempotencyKey,
+          "cancel-transaction:" + request.getTransactionId()
+              + ":" + request.getAmount(),
+          () -> engineHandles(idempotencyKey,
+              request.getReceiverAccountNumber())
+              ? balanceCommandEngine.cancelBalance(
+                  jwtTokenExtract.currentUser().getId(),
+                  request.getTransactionId(),
+                  request.getUserAccountNumber(),
+                  request.getReceiverAccountNumber(),
+                  request.getAmount())
+              : transactionService.cancelBalance(
+                  jwtTokenExtract.currentUser().getId(),
+                  request.getTransactionId(),
+                  request.getUserAccountNumber(),
+                  request.getReceiverAccountNumber(),
+                  request.getAmount())));
 
     } catch (GlobalException e) {
       log.error("Failed to use balance.");
-      transactionService.saveFailedUseTransaction(
-          jwtTokenExtract.currentUser(),
+      recordFailure(e,
+          jwtTokenExtract.currentUser().getId(),
           request.getUserAccountNumber(),
           request.getReceiverAccountNumber(),
           request.getAmount()
@@ -159,107 +256,219 @@ public class TransactionController {
     }
   }
 
+  // 실행 엔진 -> 그룹 커밋 -> 요청당 트랜잭션 순으로 켜져 있는 방식을 사용
+  // (Idempotency-Key 요청은 항상 요청당 트랜잭션)
+  private TransactionDto saveMoney(String idempotencyKey,
+      Long userId, String accountNumber, Long amount) {
+    if (engineHandles(idempotencyKey, accountNumber)) {
+      return balanceCommandEngine.saveMoney(userId, accountNumber, amount);
+    }
+    if (groupCommitEnabled(idempotencyKey)) {
+      return groupCommitExecutor.saveMoney(userId, accountNumber, amount);
+    }
+    return transactionService.saveMoney(userId, accountNumber, amount);
+  }
+
+  private TransactionDto useBalance(String idempotencyKey,
+      Long userId, String accountNumber, Long amount) {
+    if (engineHandles(idempotencyKey, accountNumber)) {
+      return balanceCommandEngine.useBalance(userId, accountNumber, amount);
+    }
+    if (groupCommitEnabled(idempotencyKey)) {
+      return groupCommitExecutor.useBalance(userId, accountNumber, amount);
+    }
+    return transactionService.useBalance(userId, accountNumber, amount);
+  }
+
+  // Idempotency-Key 요청은 키 행과 잔액 변경을 같은 트랜잭션에서 커밋해야 하므로
+  // 엔진(다른 스레드에서 커밋)을 거치지 않고 요청당 트랜잭션으로 처리한다.
+  private boolean engineHandles(String idempotencyKey, String accountNumber) {
+    return !hasIdempotencyKey(idempotencyKey)
+        && balanceCommandEngine.handles(accountNumber);
+  }
+
+  // 그룹 커밋도 다른 스레드의 묶음 트랜잭션에서 커밋하므로 같은 이유로 제외
+  private boolean groupCommitEnabled(String idempotencyKey) {
+    return !hasIdempotencyKey(idempotencyKey)
+        && groupCommitExecutor.isEnabled();
+  }
+
+  private static boolean hasIdempotencyKey(String idempotencyKey) {
+    return idempotencyKey != null && !idempotencyKey.isBlank();
+  }
+
+  // 엔진 응답 시간 초과는 커밋 여부를 알 수 없으므로 실패 내역을 남기지 않는다.
+  private void recordFailure(GlobalException e, Long userId,
+      String userAccountNumber, String receiverAccountNumber, Long amount) {
+    if (e.getErrorCode() == ErrorCode.TRANSACTION_RESULT_UNKNOWN) {
+      return;
+    }
+    failedTransactionRecorder.record(userId, userAccountNumber,
+        receiverAccountNumber, amount);
+  }
+
+  // Idempotency-Key 가 없으면 기존과 같이 바로 실행
+  private TransactionDto idempotent(String idempotencyKey,
+      String requestFingerprint, Supplier<TransactionDto> action) {
+    if (!hasIdempotencyKey(idempotencyKey)) {
+      return action.get();
+    }
+    return idempotencyService.execute(
+        jwtTokenExtract.currentUser().getId(), idempotencyKey,
+        requestFingerprint, action);
+  }
+
+  // 거래 내역 조회는 cursor 기반 페이지 (size 미지정 시 기본 크기, 최대 크기 제한)
+  // 응답의 nextCursor 를 다음 요청의 cursor 로 전달한다.
   @PreAuthorize("hasRole('USER')")
   @GetMapping("/get-transaction")
-  public List<TransactionSearchDto> getTransaction() {
+  public TransactionPageDto getTransaction(
+      @RequestParam(required = false) String cursor,
+      @RequestParam(required = false) Integer size
+  ) {
     return transactionService.getTransaction(
-            jwtTokenExtract.currentUser().getId())
-        .stream().map(transactionSearchDto ->
-            TransactionSearchDto.builder()
-                .accountNumber(transactionSearchDto.getAccountNumber())
-                .amount(transactionSearchDto.getAmount())
-                .date(transactionSearchDto.getDate())
-                .sender(transactionSearchDto.getSender())
-                .receiver(transactionSearchDto.getReceiver())
-                .build())
-        .collect(Collectors.toList());
+        jwtTokenExtract.currentUser().getId(), cursor, size);
   }
 
   @PreAuthorize("hasRole('USER')")
   @PostMapping("/get-transaction-order-by-receive-money")
-  public List<TransactionSearchDto> getOrderByReceiveMoney(
-      @Valid @RequestBody AccountInfoDto request
+  public TransactionPageDto getOrderByReceiveMoney(
+      @Valid @RequestBody AccountInfoDto request,
+      @RequestParam(required = false) String cursor,
+      @RequestParam(required = false) Integer size
   ) {
     return transactionService.getOrderByReceiveMoney(
-            request.getAccountNumber())
-        .stream().map(transactionSearchDto ->
-            TransactionSearchDto.builder()
-                .accountNumber(transactionSearchDto.getAccountNumber())
-                .amount(transactionSearchDto.getAmount())
-                .date(transactionSearchDto.getDate())
-                .sender(transactionSearchDto.getSender())
-                .receiver(transactionSearchDto.getReceiver())
-                .build())
-        .collect(Collectors.toList());
+        request.getAccountNumber(), cursor, size);
   }
+
   @PreAuthorize("hasRole('USER')")
   @PostMapping("/get-transaction-between-date")
-  public List<TransactionSearchDto> getOrderByDateBetweenDateAndDate(
-      @Valid @RequestBody TransactionBetweenDateDto.Request request
+  public TransactionPageDto getOrderByDateBetweenDateAndDate(
+      @Valid @RequestBody TransactionBetweenDateDto.Request request,
+      @RequestParam(required = false) String cursor,
+      @RequestParam(required = false) Integer size
   ) {
     return transactionService.getBetweenDate(
         jwtTokenExtract.currentUser().getId(),
         request.getFirstDate(),
-        request.getLastDate())
-        .stream().map(transactionSearchDto ->
-            TransactionSearchDto.builder()
-                .accountNumber(transactionSearchDto.getAccountNumber())
-                .amount(transactionSearchDto.getAmount())
-                .date(transactionSearchDto.getDate())
-                .sender(transactionSearchDto.getSender())
-                .receiver(transactionSearchDto.getReceiver())
-                .build())
-        .collect(Collectors.toList());
-
+        request.getLastDate(),
+        cursor, size);
   }
 
   @PreAuthorize("hasRole('USER')")
   @GetMapping("/get-transaction-order-by-person")
-  public List<TransactionSearchDto> getOrderByName() {
+  public TransactionPageDto getOrderByName(
+      @RequestParam(required = false) String cursor,
+      @RequestParam(required = false) Integer size
+  ) {
     return transactionService.getOrderByName(
-            jwtTokenExtract.currentUser().getId())
-        .stream().map(transactionSearchDto ->
-            TransactionSearchDto.builder()
-                .accountNumber(transactionSearchDto.getAccountNumber())
-                .amount(transactionSearchDto.getAmount())
-                .date(transactionSearchDto.getDate())
-                .sender(transactionSearchDto.getSender())
-                .receiver(transactionSearchDto.getReceiver())
-                .build())
-        .collect(Collectors.toList());
+        jwtTokenExtract.currentUser().getId(), cursor, size);
   }
 
   @PreAuthorize("hasRole('USER')")
   @GetMapping("/get-fail-transaction")
-  public List<TransactionSearchDto> getFailTransaction() {
+  public TransactionPageDto getFailTransaction(
+      @RequestParam(required = false) String cursor,
+      @RequestParam(required = false) Integer size
+  ) {
     return transactionService.getFailTransaction(
-            jwtTokenExtract.currentUser().getId())
-        .stream().map(transactionSearchDto ->
-            TransactionSearchDto.builder()
-                .accountNumber(transactionSearchDto.getAccountNumber())
-                .amount(transactionSearchDto.getAmount())
-                .date(transactionSearchDto.getDate())
-                .sender(transactionSearchDto.getSender())
-                .receiver(transactionSearchDto.getReceiver())
-                .build())
-        .collect(Collectors.toList());
+        jwtTokenExtract.currentUser().getId(), cursor, size);
   }
 
   @PreAuthorize("hasRole('USER')")
   @PostMapping("/get-receiver-transaction")
-  public List<TransactionSearchDto> getReceiverTransaction(
-      @Valid @RequestBody TransactionNameInfoDto.Request request
+  public TransactionPageDto getReceiverTransaction(
+      @Valid @RequestBody TransactionNameInfoDto.Request request,
+      @RequestParam(required = false) String cursor,
+      @RequestParam(required = false) Integer size
   ) {
     return transactionService.getReceiverTransaction(
-            jwtTokenExtract.currentUser().getId(), request.getName())
-        .stream().map(transactionSearchDto ->
-            TransactionSearchDto.builder()
-                .accountNumber(transactionSearchDto.getAccountNumber())
-                .amount(transactionSearchDto.getAmount())
-                .date(transactionSearchDto.getDate())
-                .sender(transactionSearchDto.getSender())
-                .receiver(transactionSearchDto.getReceiver())
-                .build())
-        .collect(Collectors.toList());
+        jwtTokenExtract.currentUser().getId(), request.getName(),
+        cursor, size);
+  }
+
+  // 받는 사람 이름 앞부분 / 부분 검색 (입력 중인 자모 포함, 예: "김ㅊ")
+  // 찾은 이름으로 /get-receiver-transaction 을 조회한다.
+  @PreAuthorize("hasRole('USER')")
+  @GetMapping("/search-receiver")
+  public ReceiverSearchDto searchReceiver(
+      @RequestParam String query,
+      @RequestParam(required = false) Integer limit
+  ) {
+    return receiverSearchService.search(
+        jwtTokenExtract.currentUser().getId(), query, limit);
+  }
+
+  // 최근 days 일(기본 / 최대 90일)의 입금 / 출금 합계와 일별 집계
+  @PreAuthorize("hasRole('USER')")
+  @PostMapping("/get-account-summary")
+  public AccountSummaryDto getAccountSummary(
+      @Valid @RequestBody AccountInfoDto request,
+      @RequestParam(required = false) Integer days
+  ) {
+    return accountSummaryService.getAccountSummary(
+        jwtTokenExtract.currentUser().getId(), request.getAccountNumber(),
+        days);
+  }
+
+  // 스트리밍 모드 (?stream=true): 페이지 없이 전체 내역을 NDJSON 으로 내려보낸다.
+  // 검증 오류는 스트리밍 시작 전에 일반 JSON 오류 응답으로 처리된다.
+  @PreAuthorize("hasRole('USER')")
+  @GetMapping(value = "/get-transaction", params = "stream=true")
+  public ResponseEntity<StreamingResponseBody> exportTransaction() {
+    return ndjson(transactionExportService.exportTransaction(
+        jwtTokenExtract.currentUser().getId()));
+  }
+
+  @PreAuthorize("hasRole('USER')")
+  @PostMapping(value = "/get-transaction-order-by-receive-money",
+      params = "stream=true")
+  public ResponseEntity<StreamingResponseBody> exportOrderByReceiveMoney(
+      @Valid @RequestBody AccountInfoDto request
+  ) {
+    return ndjson(transactionExportService.exportOrderByReceiveMoney(
+        request.getAccountNumber()));
+  }
+
+  @PreAuthorize("hasRole('USER')")
+  @PostMapping(value = "/get-transaction-between-date", params = "stream=true")
+  public ResponseEntity<StreamingResponseBody> exportBetweenDate(
+      @Valid @RequestBody TransactionBetweenDateDto.Request request
+  ) {
+    return ndjson(transactionExportService.exportBetweenDate(
+        jwtTokenExtract.currentUser().getId(),
+        request.getFirstDate(),
+        request.getLastDate()));
+  }
+
+  @PreAuthorize("hasRole('USER')")
+  @GetMapping(value = "/get-transaction-order-by-person",
+      params = "stream=true")
+  public ResponseEntity<StreamingResponseBody> exportOrderByName() {
+    return ndjson(transactionExportService.exportOrderByName(
+        jwtTokenExtract.currentUser().getId()));
+  }
+
+  @PreAuthorize("hasRole('USER')")
+  @GetMapping(value = "/get-fail-transaction", params = "stream=true")
+  public ResponseEntity<StreamingResponseBody> exportFailTransaction() {
+    return ndjson(transactionExportService.exportFailTransaction(
+        jwtTokenExtract.currentUser().getId()));
+  }
+
+  @PreAuthorize("hasRole('USER')")
+  @PostMapping(value = "/get-receiver-transaction", params = "stream=true")
+  public ResponseEntity<StreamingResponseBody> exportReceiverTransaction(
+      @Valid @RequestBody TransactionNameInfoDto.Request request
+  ) {
+    return ndjson(transactionExportService.exportReceiverTransaction(
+        jwtTokenExtract.currentUser().getId(), request.getName()));
+  }
+
+  private static ResponseEntity<StreamingResponseBody> ndjson(
+      StreamingResponseBody body) {
+    return ResponseEntity.ok()
+        .contentType(MediaType.APPLICATION_NDJSON)
+        .body(body);
   }
 }
@@ -0,0 +1,49 @@
+package db.migration;
+
+import com.example.accountz.persist.entity.NameSortKey;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.HashMap;
+import java.util.Map;
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+// 기존 transaction_history 행의 receiver_sort_key 를 채운다.
+// 정렬 키는 JDK Collator 로 만들기 때문에 SQL 이관 대신 Java 이관을 사용한다.
+public class V7__transaction_history_receiver_sort_key_backfill
+    extends BaseJavaMigration {
+
+  private static final int BATCH_SIZE = 1_000;
+
+  @Override
+  public void migrate(Context context) throws Exception {
+    Connection connection = context.getConnection();
+    // 같은 이름이 반복되므로 이름별 키는 한 번만 계산
+    Map<String, byte[]> sortKeys = new HashMap<>();
+    try (PreparedStatement select = connection.prepareStatement(
+        "SELECT id, receiver_name FROM transaction_history"
+            + " WHERE receiver_name IS NOT NULL");
+        PreparedStatement update = connection.prepareStatement(
+            "UPDATE transaction_history SET receiver_sort_key = ?"
+                + " WHERE id = ?")) {
+      select.setFetchSize(BATCH_SIZE);
+      try (ResultSet rows = select.executeQuery()) {
+        int pending = 0;
+        while (rows.next()) {
+          update.setBytes(1, sortKeys.computeIfAbsent(
+              rows.getString("receiver_name"), NameSortKey::of));
+          update.setLong(2, rows.getLong("id"));
+          update.addBatch();
+          if (++pending == BATCH_SIZE) {
+            update.executeBatch();
+            pending = 0;
+          }
+        }
+        if (pending > 0) {
+          update.executeBatch();
+        }
+      }
+    }
+  }
+}
@@ -0,0 +1,23 @@
+-- hot 계좌 입금이 그날 집계 한 행의 잠금에 몰리지 않도록 (account_id, summary_date) 행을
+-- shard 로 나눈다. hot 계좌는 임의의 shard 에 MERGE 하고, 나머지 계좌는 shard 0 만 쓴다.
+-- 읽을 때 같은 날 shard 행의 증감은 합하고, 마감 잔액은 closing_seq 가 가장 큰 행의 값을 쓴다.
+ALTER TABLE daily_account_summary
+    ADD COLUMN shard INTEGER DEFAULT 0 NOT NULL;
+
+-- 마감 잔액을 기록한 순서 (MERGE 마다 daily_account_summary_seq 에서 새로 받는다)
+ALTER TABLE daily_account_summary
+    ADD COLUMN closing_seq BIGINT;
+
+UPDATE daily_account_summary
+SET closing_seq = id;
+
+ALTER TABLE daily_account_summary
+    ALTER COLUMN closing_seq SET NOT NULL;
+
+ALTER TABLE daily_account_summary
+    DROP CONSTRAINT uk_daily_account_summary_account_date;
+
+-- MERGE 대상 행 / DailyAccountSummaryRepository.findAllByAccountIdAndSummaryDateBetween
+ALTER TABLE daily_account_summary
+    ADD CONSTRAINT uk_daily_account_summary_account_date_shard
+        UNIQUE (account_id, summary_date, shard);
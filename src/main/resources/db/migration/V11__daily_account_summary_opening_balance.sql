@@ -0,0 +1,26 @@
+-- 기존 계좌의 기초 일 집계 행 (월별 거래 명세서의 기초 잔액)
+-- V4 이전 거래는 일 집계가 없어 명세서의 기초 잔액을 알 수 없으므로, 계좌마다 첫 집계 전날
+-- (집계가 없으면 어제)에 증감 0 인 행을 넣는다.
+-- 마감 잔액 = 현재 잔액(hot 계좌 슬롯 포함) - 그 뒤로 집계된 순증감
+INSERT INTO daily_account_summary (id, account_id, summary_date, shard,
+                                   credit_amount, debit_amount,
+                                   transaction_count, closing_balance,
+                                   closing_seq)
+SELECT NEXT VALUE FOR daily_account_summary_seq,
+       a.id,
+       DATEADD(DAY, -1, COALESCE((SELECT MIN(d.summary_date)
+                                  FROM daily_account_summary d
+                                  WHERE d.account_id = a.id), CURRENT_DATE)),
+       0,
+       0,
+       0,
+       0,
+       a.balance
+           + COALESCE((SELECT SUM(b.balance)
+                       FROM account_balance_slots b
+                       WHERE b.account_id = a.id), 0)
+           - COALESCE((SELECT SUM(d.credit_amount - d.debit_amount)
+                       FROM daily_account_summary d
+                       WHERE d.account_id = a.id), 0),
+       NEXT VALUE FOR daily_account_summary_seq
+FROM accounts a;
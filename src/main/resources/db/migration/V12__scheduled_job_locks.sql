@@ -0,0 +1,13 @@
+-- 정기 작업 실행 잠금 (ScheduledJobLockRepository)
+-- 서버가 여럿이어도 한 작업은 한 서버에서만 실행한다. locked_until 이 지나면 다른 서버가 가져간다.
+CREATE TABLE scheduled_job_locks
+(
+    name         VARCHAR(64)  NOT NULL,
+    locked_until TIMESTAMP(6) NOT NULL,
+    locked_by    VARCHAR(255),
+    CONSTRAINT pk_scheduled_job_locks PRIMARY KEY (name)
+);
+
+INSERT INTO scheduled_job_locks (name, locked_until)
+VALUES ('transaction_history_partition', TIMESTAMP '1970-01-01 00:00:00'),
+       ('transaction_history_archive', TIMESTAMP '1970-01-01 00:00:00');
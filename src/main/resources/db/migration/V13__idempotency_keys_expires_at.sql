@@ -0,0 +1,11 @@
+-- Idempotency-Key 만료 시각 (IdempotencyKeyService)
+-- 만료된 키는 정기 삭제(purgeExpired)로 지운다. 기존 행은 기본 보관 기간(24시간)으로 채운다.
+ALTER TABLE idempotency_keys
+    ADD COLUMN expires_at TIMESTAMP(6);
+
+UPDATE idempotency_keys
+SET expires_at = DATEADD('HOUR', 24, created_at);
+
+-- IdempotencyKeyRepository.deleteExpired
+CREATE INDEX idx_idempotency_keys_expires_at
+    ON idempotency_keys (expires_at);
@@ -0,0 +1,17 @@
+-- 일 집계 마감 잔액을 MERGE 시점의 계좌 / 슬롯 잔액으로 기록하면, hot 계좌의 동시 입금은
+-- 서로 다른 shard 행에 MERGE 되고 READ COMMITTED 로 읽으므로 커밋 순서와 어긋난다.
+-- 집계 행에는 증감만 쌓고, 잔액은 기초 행(V11)의 기초 잔액 + 그날까지의 순증감으로 읽는다.
+-- (DailyAccountSummaryRepository.sumBalanceBefore / AccountSummaryDto.Daily.of)
+ALTER TABLE daily_account_summary
+    ADD COLUMN opening_balance BIGINT DEFAULT 0 NOT NULL;
+
+-- V11 기초 행은 증감이 0 인 행이다. (MERGE 로 만든 행은 거래 수가 1 이상)
+UPDATE daily_account_summary
+SET opening_balance = COALESCE(closing_balance, 0)
+WHERE transaction_count = 0;
+
+ALTER TABLE daily_account_summary
+    DROP COLUMN closing_balance;
+
+ALTER TABLE daily_account_summary
+    DROP COLUMN closing_seq;
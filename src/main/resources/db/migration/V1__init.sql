@@ -0,0 +1,128 @@
+-- 엔티티별 id 시퀀스 (@SequenceGenerator allocationSize 와 같은 INCREMENT BY)
+CREATE SEQUENCE users_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE accounts_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE transactions_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE account_balance_slots_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE idempotency_keys_seq START WITH 1 INCREMENT BY 50;
+
+-- 계좌 번호 hi/lo 할당: 시퀀스 값 하나가 account-number.block-size 개 번호 블록의 시작 번호
+-- INCREMENT BY 는 block-size 이상이어야 인스턴스 간 블록이 겹치지 않는다.
+CREATE SEQUENCE account_number_seq
+    START WITH 1000000000 INCREMENT BY 100 MAXVALUE 9999999900;
+
+CREATE TABLE users
+(
+    id            BIGINT       NOT NULL,
+    name          VARCHAR(255),
+    email         VARCHAR(255),
+    birth_day     DATE,
+    password      VARCHAR(255),
+    account_count INTEGER      DEFAULT 0 NOT NULL,
+    created_at    TIMESTAMP(6),
+    updated_at    TIMESTAMP(6),
+    CONSTRAINT pk_users PRIMARY KEY (id),
+    -- UserRepository.findByEmail / existsByEmail
+    CONSTRAINT uk_users_email UNIQUE (email)
+);
+
+CREATE TABLE member_roles
+(
+    member_id BIGINT NOT NULL,
+    roles     VARCHAR(255),
+    CONSTRAINT fk_member_roles_member FOREIGN KEY (member_id) REFERENCES users (id)
+);
+
+CREATE INDEX idx_member_roles_member ON member_roles (member_id);
+
+CREATE TABLE accounts
+(
+    id                 BIGINT       NOT NULL,
+    account_status     VARCHAR(255),
+    account_number     BIGINT       NOT NULL,
+    balance            BIGINT,
+    version            BIGINT,
+    balance_slot_count INTEGER,
+    registered_at      TIMESTAMP(6),
+    un_registered_at   TIMESTAMP(6),
+    user_id            BIGINT,
+    created_at         TIMESTAMP(6),
+    updated_at         TIMESTAMP(6),
+    CONSTRAINT pk_accounts PRIMARY KEY (id),
+    -- AccountRepository.findByAccountNumber / findAllByAccountNumberIn
+    CONSTRAINT uk_accounts_account_number UNIQUE (account_number),
+    CONSTRAINT fk_accounts_user FOREIGN KEY (user_id) REFERENCES users (id)
+);
+
+CREATE INDEX idx_accounts_user ON accounts (user_id);
+
+CREATE TABLE account_balance_slots
+(
+    id         BIGINT NOT NULL,
+    account_id BIGINT,
+    slot       INTEGER,
+    balance    BIGINT,
+    CONSTRAINT pk_account_balance_slots PRIMARY KEY (id),
+    CONSTRAINT uk_account_balance_slots_account_slot UNIQUE (account_id, slot)
+);
+
+CREATE TABLE transactions
+(
+    id                      BIGINT NOT NULL,
+    user_id                 BIGINT,
+    receiver                VARCHAR(255),
+    receiver_account_id     BIGINT,
+    account_id              BIGINT,
+    amount                  BIGINT,
+    balance_snapshot        BIGINT,
+    receiver_account_number VARCHAR(255),
+    created_at              TIMESTAMP(6),
+    transaction_id          BIGINT,
+    transacted_at           TIMESTAMP(6),
+    transaction_type        VARCHAR(255),
+    transaction_result_type VARCHAR(255),
+    updated_at              TIMESTAMP(6),
+    CONSTRAINT pk_transactions PRIMARY KEY (id),
+    -- TransactionRepository.findByTransactionId
+    CONSTRAINT uk_transactions_transaction_id UNIQUE (transaction_id),
+    CONSTRAINT fk_transactions_user FOREIGN KEY (user_id) REFERENCES users (id),
+    CONSTRAINT fk_transactions_account FOREIGN KEY (account_id) REFERENCES accounts (id),
+    CONSTRAINT fk_transactions_receiver_account
+        FOREIGN KEY (receiver_account_id) REFERENCES accounts (id)
+);
+
+-- findByUser_IdOrderByTransactedAtDesc / findByTransactedAtBetweenAndUser_Id
+-- / findByUser_IdOrderByReceiverAccount_User_NameAsc
+CREATE INDEX idx_transactions_user_transacted_at
+    ON transactions (user_id, transacted_at);
+-- findByReceiverAccount_IdOrderByTransactedAtDesc
+CREATE INDEX idx_transactions_receiver_account_transacted_at
+    ON transactions (receiver_account_id, transacted_at);
+-- findByUser_IdAndTransactionResultType
+CREATE INDEX idx_transactions_user_result_type
+    ON transactions (user_id, transaction_result_type, transacted_at);
+-- findByReceiverAndUser_Id
+CREATE INDEX idx_transactions_user_receiver
+    ON transactions (user_id, receiver);
+-- 출금 계좌 FK
+CREATE INDEX idx_transactions_account
+    ON transactions (account_id);
+
+CREATE TABLE idempotency_keys
+(
+    id                      BIGINT NOT NULL,
+    user_id                 BIGINT,
+    idempotency_key         VARCHAR(255),
+    request_fingerprint     VARCHAR(255),
+    user_account_number     VARCHAR(255),
+    receiver_account_number VARCHAR(255),
+    transaction_type        VARCHAR(255),
+    transaction_result_type VARCHAR(255),
+    amount                  BIGINT,
+    balance_snapshot        BIGINT,
+    transaction_id          VARCHAR(255),
+    transacted_at           TIMESTAMP(6),
+    created_at              TIMESTAMP(6),
+    CONSTRAINT pk_idempotency_keys PRIMARY KEY (id),
+    -- IdempotencyKeyRepository.findByUserIdAndIdempotencyKey
+    CONSTRAINT uk_idempotency_keys_user_key UNIQUE (user_id, idempotency_key)
+);
@@ -0,0 +1,5 @@
+-- 이름 정렬 거래 내역 keyset 페이지: (receiver, transacted_at) 순서로 읽는다.
+-- findPageByUserIdAndReceiver 도 같은 인덱스를 사용
+DROP INDEX idx_transactions_user_receiver;
+CREATE INDEX idx_transactions_user_receiver_transacted_at
+    ON transactions (user_id, receiver, transacted_at);
@@ -0,0 +1,68 @@
+-- 거래 내역 조회 전용 테이블 (TransactionHistoryEntity)
+-- 거래 한 건당 보낸 사람(SENT) / 받는 사람(RECEIVED) 입장의 행 두 개
+CREATE SEQUENCE transaction_history_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE transaction_history
+(
+    id                      BIGINT      NOT NULL,
+    transaction_id          BIGINT      NOT NULL,
+    direction               VARCHAR(16) NOT NULL,
+    owner_user_id           BIGINT,
+    owner_account_id        BIGINT,
+    sender_name             VARCHAR(255),
+    sender_account_number   BIGINT,
+    receiver_name           VARCHAR(255),
+    receiver_account_number BIGINT,
+    amount                  BIGINT,
+    transaction_result_type VARCHAR(255),
+    transacted_at           TIMESTAMP(6),
+    CONSTRAINT pk_transaction_history PRIMARY KEY (id)
+);
+
+-- 기존 거래 이관
+INSERT INTO transaction_history
+(id, transaction_id, direction, owner_user_id, owner_account_id,
+ sender_name, sender_account_number, receiver_name, receiver_account_number,
+ amount, transaction_result_type, transacted_at)
+SELECT NEXT VALUE FOR transaction_history_seq, t.transaction_id, 'SENT',
+       t.user_id, t.account_id, u.name, a.account_number, t.receiver,
+       ra.account_number, t.amount, t.transaction_result_type, t.transacted_at
+FROM transactions t
+         JOIN users u ON u.id = t.user_id
+         JOIN accounts a ON a.id = t.account_id
+         LEFT JOIN accounts ra ON ra.id = t.receiver_account_id;
+
+INSERT INTO transaction_history
+(id, transaction_id, direction, owner_user_id, owner_account_id,
+ sender_name, sender_account_number, receiver_name, receiver_account_number,
+ amount, transaction_result_type, transacted_at)
+SELECT NEXT VALUE FOR transaction_history_seq, t.transaction_id, 'RECEIVED',
+       ra.user_id, ra.id, u.name, a.account_number, t.receiver,
+       ra.account_number, t.amount, t.transaction_result_type, t.transacted_at
+FROM transactions t
+         JOIN users u ON u.id = t.user_id
+         JOIN accounts a ON a.id = t.account_id
+         JOIN accounts ra ON ra.id = t.receiver_account_id;
+
+-- TransactionHistoryRepository.findPageByUserId / findPageByUserIdBetween
+CREATE INDEX idx_transaction_history_owner_user_transacted_at
+    ON transaction_history (owner_user_id, direction, transacted_at);
+-- findPageByReceiverAccountId
+CREATE INDEX idx_transaction_history_owner_account_transacted_at
+    ON transaction_history (owner_account_id, direction, transacted_at);
+-- findPageByUserIdOrderByReceiver / findPageByUserIdAndReceiver
+CREATE INDEX idx_transaction_history_owner_user_receiver
+    ON transaction_history (owner_user_id, direction, receiver_name, transacted_at);
+-- findPageByUserIdAndResultType
+CREATE INDEX idx_transaction_history_owner_user_result_type
+    ON transaction_history (owner_user_id, direction, transaction_result_type, transacted_at);
+-- 취소 시 원 거래 행 갱신 (updateResultType)
+CREATE INDEX idx_transaction_history_transaction
+    ON transaction_history (transaction_id);
+
+-- 거래 내역은 transaction_history 에서만 조회하므로 transactions 의 조회용 인덱스를 제거
+-- (FK 인덱스는 제약 조건과 함께 만들어져 남는다.)
+DROP INDEX idx_transactions_user_transacted_at;
+DROP INDEX idx_transactions_receiver_account_transacted_at;
+DROP INDEX idx_transactions_user_result_type;
+DROP INDEX idx_transactions_user_receiver_transacted_at;
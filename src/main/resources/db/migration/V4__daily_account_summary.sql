@@ -0,0 +1,23 @@
+-- 계좌별 일 집계 (DailyAccountSummaryEntity)
+-- 거래 저장 시 TransactionWriter 가 같은 트랜잭션에서 MERGE 로 증분 반영한다.
+-- 행은 MERGE 로만 만들어지므로 시퀀스는 1 씩 증가한다.
+CREATE SEQUENCE daily_account_summary_seq START WITH 1 INCREMENT BY 1;
+
+CREATE TABLE daily_account_summary
+(
+    id                BIGINT  NOT NULL,
+    account_id        BIGINT  NOT NULL,
+    summary_date      DATE    NOT NULL,
+    credit_amount     BIGINT  DEFAULT 0 NOT NULL,
+    debit_amount      BIGINT  DEFAULT 0 NOT NULL,
+    transaction_count INTEGER DEFAULT 0 NOT NULL,
+    -- 그날 마지막 거래 직후 잔액 (hot 계좌 슬롯 포함)
+    closing_balance   BIGINT,
+    CONSTRAINT pk_daily_account_summary PRIMARY KEY (id),
+    -- MERGE 대상 행 / DailyAccountSummaryRepository.findAllByAccountIdAndSummaryDateBetween
+    CONSTRAINT uk_daily_account_summary_account_date UNIQUE (account_id, summary_date),
+    CONSTRAINT fk_daily_account_summary_account FOREIGN KEY (account_id) REFERENCES accounts (id)
+);
+
+-- 기존 거래는 입금 / 출금이 모두 USE 로 기록되어 방향을 알 수 없으므로 이관하지 않는다.
+-- (DEPOSIT / WITHDRAW 는 이 버전부터 기록)
@@ -0,0 +1,7 @@
+-- 월별 거래 명세서(StatementJobService)는 transaction_history 만 읽어 입금 / 출금 방향을 정한다.
+ALTER TABLE transaction_history ADD COLUMN transaction_type VARCHAR(255);
+
+UPDATE transaction_history h
+SET transaction_type = (SELECT t.transaction_type
+                        FROM transactions t
+                        WHERE t.transaction_id = h.transaction_id);
@@ -0,0 +1,10 @@
+-- 이름 정렬 조회(findPageByUserIdOrderByReceiver)는 receiver_name 의 문자 코드 순서 대신
+-- 한국어 Collator 정렬 키(NameSortKey) 순서로 인덱스를 읽는다.
+-- 기존 행의 키는 V7 (Java 이관)에서 채운다.
+ALTER TABLE transaction_history ADD COLUMN receiver_sort_key VARBINARY;
+
+CREATE INDEX idx_transaction_history_owner_user_receiver_sort_key
+    ON transaction_history (owner_user_id, direction, receiver_sort_key, transacted_at);
+
+-- idx_transaction_history_owner_user_receiver 는 받는 사람 이름 일치 조회
+-- (findPageByUserIdAndReceiver / findReceiverNamesByUserId)에 계속 사용한다.
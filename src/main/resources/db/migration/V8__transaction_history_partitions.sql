@@ -0,0 +1,16 @@
+-- 월별 파티션 목록 (TransactionHistoryPartitionService)
+-- hot 테이블(transaction_history)에서 오래된 달을 transaction_history_pYYYYMM 테이블로 분리한다.
+-- COPIED: 복사만 끝남 (hot 에도 같은 행이 있음), DETACHED: hot 에서 삭제됨
+CREATE TABLE transaction_history_partitions
+(
+    partition_month VARCHAR(7)  NOT NULL,
+    table_name      VARCHAR(64) NOT NULL,
+    status          VARCHAR(16) NOT NULL,
+    row_count       BIGINT      NOT NULL,
+    updated_at      TIMESTAMP(6) NOT NULL,
+    CONSTRAINT pk_transaction_history_partitions PRIMARY KEY (partition_month)
+);
+
+-- 분리할 달의 행을 hot 테이블에서 범위로 복사 / 삭제
+CREATE INDEX idx_transaction_history_transacted_at
+    ON transaction_history (transacted_at);
@@ -0,0 +1,9 @@
+-- 보관 세그먼트 (TransactionHistoryArchiveService)
+-- ARCHIVED: 월 파티션을 압축 세그먼트 파일로 옮김 (파티션 테이블은 삭제)
+-- pruned_through_transaction_id: 그 달의 transactions 행을 삭제했을 때 가장 큰 거래 ID
+ALTER TABLE transaction_history_partitions
+    ADD COLUMN pruned_through_transaction_id BIGINT;
+
+-- 취소 기간이 지난 달의 transactions 행을 범위로 삭제
+CREATE INDEX idx_transactions_transacted_at
+    ON transactions (transacted_at);
@@ -0,0 +1,127 @@
+package com.example.accountz.aop;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.example.accountz.config.TransactionProperties;
+import com.example.accountz.exception.GlobalException;
+import com.example.accountz.persist.entity.AccountEntity;
+import com.example.accountz.type.ErrorCode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+class OptimisticLockRetryAspectTest {
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final TransactionProperties transactionProperties =
+      new TransactionProperties();
+
+  private FlakyOperation target;
+  private FlakyOperation proxy;
+
+  @BeforeEach
+  void setUp() {
+    transactionProperties.getRetry().setMaxAttempts(3);
+    transactionProperties.getRetry().setInitialBackoff(Duration.ZERO);
+
+    target = new FlakyOperation();
+    AspectJProxyFactory factory = new AspectJProxyFactory(target);
+    factory.setProxyTargetClass(true);
+    factory.addAspect(new OptimisticLockRetryAspect(
+        transactionProperties, meterRegistry));
+    proxy = factory.getProxy();
+  }
+
+  @Test
+  void retry_SuccessAfterConflict() {
+    // given
+    target.failures = 2;
+
+    // when
+    String result = proxy.transfer();
+
+    // then
+    assertEquals("done", result);
+    assertEquals(3, target.calls);
+    assertEquals(2.0, meterRegistry.get("transaction.optimistic.retries")
+        .tag("operation", "transfer").summary().totalAmount());
+    assertNull(meterRegistry.find("transaction.optimistic.retries.exhausted")
+        .counter());
+  }
+
+  @Test
+  void retry_FailWhenBudgetExhausted() {
+    // given
+    target.failures = 10;
+
+    // when
+    GlobalException exception = assertThrows(GlobalException.class,
+        () -> proxy.transfer());
+
+    // then
+    assertEquals(ErrorCode.CONCURRENT_UPDATE_CONFLICT,
+        exception.getErrorCode());
+    assertEquals(3, target.calls);
+    assertEquals(1.0,
+        meterRegistry.get("transaction.optimistic.retries.exhausted")
+            .tag("operation", "transfer").counter().count());
+  }
+
+  @Test
+  void retry_NotRetryOtherException() {
+    // given
+    target.error = new GlobalException(ErrorCode.AMOUNT_EXCEED_BALANCE);
+
+    // when
+    GlobalException exception = assertThrows(GlobalException.class,
+        () -> proxy.transfer());
+
+    // then
+    assertEquals(ErrorCode.AMOUNT_EXCEED_BALANCE, exception.getErrorCode());
+    assertEquals(1, target.calls);
+  }
+
+  @Test
+  void retry_DelegateToOuterTransaction() {
+    // given
+    target.failures = 1;
+    TransactionSynchronizationManager.setActualTransactionActive(true);
+
+    // when
+    try {
+      assertThrows(ObjectOptimisticLockingFailureException.class,
+          () -> proxy.transfer());
+    } finally {
+      TransactionSynchronizationManager.setActualTransactionActive(false);
+    }
+
+    // then
+    assertEquals(1, target.calls);
+  }
+
+  static class FlakyOperation {
+
+    int calls;
+    int failures;
+    RuntimeException error;
+
+    @RetryOnOptimisticLock
+    public String transfer() {
+      calls++;
+      if (error != null) {
+        throw error;
+      }
+      if (calls <= failures) {
+        throw new ObjectOptimisticLockingFailureException(
+            AccountEntity.class, 1L);
+      }
+      return "done";
+    }
+  }
+}
@@ -0,0 +1,67 @@
+package com.example.accountz.benchmark;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.example.accountz.persist.entity.AccountEntity;
+import com.example.accountz.persist.entity.UserEntity;
+import com.example.accountz.persist.repository.AccountRepository;
+import com.example.accountz.persist.repository.UserRepository;
+import com.example.accountz.service.AccountNumberAllocator;
+import com.example.accountz.type.AccountStatus;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+/**
+ * 동시 계좌 생성 시 번호 할당 + INSERT 처리량을 측정한다. 중복 번호는 유니크 인덱스 위반으로 실패 처리된다.
+ * 실행: ./gradlew benchmark --tests '*AccountNumberAllocationBenchmark'
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.show_sql=false")
+class AccountNumberAllocationBenchmark {
+
+  private static final int OPERATIONS_PER_THREAD = 500;
+
+  @Autowired
+  private AccountNumberAllocator accountNumberAllocator;
+
+  @Autowired
+  private UserRepository userRepository;
+
+  @Autowired
+  private AccountRepository accountRepository;
+
+  @ParameterizedTest
+  @ValueSource(ints = {1, 8, 32, 64})
+  void createAccount_concurrent(int threads) throws Exception {
+    UserEntity user = userRepository.save(UserEntity.builder()
+        .name("bench")
+        .email("account-number-bench-" + threads + "@example.com")
+        .birthDay(LocalDate.of(1990, 1, 1))
+        .password("password")
+        .roles(List.of("ROLE_USER"))
+        .build());
+    long before = accountRepository.count();
+
+    ConcurrencyBenchmark.Result result = ConcurrencyBenchmark.run(
+        "hi/lo account number", threads, OPERATIONS_PER_THREAD,
+        (threadIndex, iteration) -> accountRepository.save(
+            AccountEntity.builder()
+                .user(user)
+                .accountStatus(AccountStatus.ACTIVATED)
+                .accountNumber(accountNumberAllocator.next())
+                .balance(0L)
+                .registeredAt(LocalDateTime.now())
+                .build()));
+    result.print();
+
+    assertEquals(0, result.failures());
+    assertEquals((long) threads * OPERATIONS_PER_THREAD,
+        accountRepository.count() - before);
+  }
+}
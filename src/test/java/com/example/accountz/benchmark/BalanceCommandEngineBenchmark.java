@@ -0,0 +1,124 @@
+package com.example.accountz.benchmark;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.example.accountz.persist.entity.AccountEntity;
+import com.example.accountz.persist.entity.UserEntity;
+import com.example.accountz.persist.repository.AccountRepository;
+import com.example.accountz.persist.repository.UserRepository;
+import com.example.accountz.service.BalanceCommandEngine;
+import com.example.accountz.service.TransactionService;
+import com.example.accountz.type.AccountStatus;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+/**
+ * 같은 송금 부하를 요청당 트랜잭션(조건부 UPDATE)과 실행 엔진(파티션 단일 쓰기 + 그룹 커밋)으로
+ * 각각 실행해 처리량과 지연을 비교한다.
+ * 실행: ./gradlew benchmark --tests '*BalanceCommandEngineBenchmark'
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = {
+    "spring.jpa.properties.hibernate.show_sql=false",
+    "transaction.balance-update-mode=conditional_update",
+    "transaction.engine.enabled=true"
+})
+class BalanceCommandEngineBenchmark {
+
+  private static final int ACCOUNTS = 32;
+  private static final int OPERATIONS_PER_THREAD = 500;
+  private static final long INITIAL_BALANCE = 1_000_000_000L;
+
+  @Autowired
+  private TransactionService transactionService;
+
+  @Autowired
+  private BalanceCommandEngine balanceCommandEngine;
+
+  @Autowired
+  private UserRepository userRepository;
+
+  @Autowired
+  private AccountRepository accountRepository;
+
+  @ParameterizedTest
+  @ValueSource(ints = {4, 16, 64})
+  void transfer_perRequestTransaction(int threads) throws Exception {
+    List<AccountEntity> accounts = createAccounts("direct", threads);
+    ConcurrencyBenchmark.Result result = ConcurrencyBenchmark.run(
+        "per-request transaction", threads, OPERATIONS_PER_THREAD,
+        (threadIndex, iteration) -> {
+          int[] pair = randomPair();
+          transactionService.underMillionSendMoney(
+              accounts.get(0).getUser().getId(),
+              accounts.get(pair[0]).getAccountNumber(),
+              accounts.get(pair[1]).getAccountNumber(), 1L);
+        });
+    result.print();
+    assertConserved(accounts, result);
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {4, 16, 64})
+  void transfer_engine(int threads) throws Exception {
+    List<AccountEntity> accounts = createAccounts("engine", threads);
+    ConcurrencyBenchmark.Result result = ConcurrencyBenchmark.run(
+        "partitioned engine", threads, OPERATIONS_PER_THREAD,
+        (threadIndex, iteration) -> {
+          int[] pair = randomPair();
+          balanceCommandEngine.sendMoney(
+              accounts.get(0).getUser().getId(),
+              accounts.get(pair[0]).getAccountNumber(),
+              accounts.get(pair[1]).getAccountNumber(), 1L);
+        });
+    result.print();
+    assertConserved(accounts, result);
+  }
+
+  private List<AccountEntity> createAccounts(String mode, int threads) {
+    UserEntity user = userRepository.save(UserEntity.builder()
+        .name("bench")
+        .email("engine-bench-" + mode + "-" + threads + "@example.com")
+        .birthDay(LocalDate.of(1990, 1, 1))
+        .password("password")
+        .roles(List.of("ROLE_USER"))
+        .build());
+    long base = 8_000_000_000L
+        + ("engine".equals(mode) ? 500_000L : 0L) + threads * 1_000L;
+    return IntStream.range(0, ACCOUNTS)
+        .mapToObj(i -> accountRepository.save(AccountEntity.builder()
+            .user(user)
+            .accountStatus(AccountStatus.ACTIVATED)
+            .accountNumber(String.valueOf(base + i))
+            .balance(INITIAL_BALANCE)
+            .registeredAt(LocalDateTime.now())
+            .build()))
+        .toList();
+  }
+
+  private static int[] randomPair() {
+    ThreadLocalRandom random = ThreadLocalRandom.current();
+    int from = random.nextInt(ACCOUNTS);
+    int to = (from + 1 + random.nextInt(ACCOUNTS - 1)) % ACCOUNTS;
+    return new int[]{from, to};
+  }
+
+  private void assertConserved(List<AccountEntity> accounts,
+      ConcurrencyBenchmark.Result result) {
+    long total = accountRepository.findAllById(
+            accounts.stream().map(AccountEntity::getId).toList())
+        .stream()
+        .mapToLong(AccountEntity::getBalance)
+        .sum();
+    assertEquals(0, result.failures());
+    assertEquals(INITIAL_BALANCE * ACCOUNTS, total);
+  }
+}
@@ -0,0 +1,96 @@
+package com.example.accountz.benchmark;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 고정 스레드 수로 동일한 작업을 반복 실행하고 처리량과 지연 시간 분포를 측정한다.
+ */
+final class ConcurrencyBenchmark {
+
+  private ConcurrencyBenchmark() {
+  }
+
+  @FunctionalInterface
+  interface Operation {
+
+    void run(int threadIndex, int iteration) throws Exception;
+  }
+
+  static Result run(String name, int threads, int operationsPerThread,
+      Operation operation) throws Exception {
+    ExecutorService executor = Executors.newFixedThreadPool(threads);
+    CountDownLatch ready = new CountDownLatch(threads);
+    CountDownLatch start = new CountDownLatch(1);
+    long[][] latencies = new long[threads][operationsPerThread];
+    AtomicInteger failures = new AtomicInteger();
+    List<Future<?>> futures = new ArrayList<>();
+
+    try {
+      for (int t = 0; t < threads; t++) {
+        int threadIndex = t;
+        futures.add(executor.submit(() -> {
+          ready.countDown();
+          start.await();
+          for (int i = 0; i < operationsPerThread; i++) {
+            long begin = System.nanoTime();
+            try {
+              operation.run(threadIndex, i);
+            } catch (Exception e) {
+              failures.incrementAndGet();
+            }
+            latencies[threadIndex][i] = System.nanoTime() - begin;
+          }
+          return null;
+        }));
+      }
+
+      ready.await();
+      long begin = System.nanoTime();
+      start.countDown();
+      for (Future<?> future : futures) {
+        future.get();
+      }
+      long elapsed = System.nanoTime() - begin;
+
+      long[] sorted = Arrays.stream(latencies)
+          .flatMapToLong(Arrays::stream)
+          .sorted()
+          .toArray();
+      return new Result(name, threads, sorted.length, failures.get(),
+          elapsed, percentile(sorted, 0.50), percentile(sorted, 0.99));
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  private static long percentile(long[] sorted, double percentile) {
+    if (sorted.length == 0) {
+      return 0L;
+    }
+    int index = (int) Math.ceil(percentile * sorted.length) - 1;
+    return sorted[Math.max(0, Math.min(index, sorted.length - 1))];
+  }
+
+  record Result(String name, int threads, int operations, int failures,
+                long elapsedNanos, long p50Nanos, long p99Nanos) {
+
+    double throughput() {
+      return operations * 1_000_000_000.0 / elapsedNanos;
+    }
+
+    void print() {
+      System.out.printf(
+          "%-32s threads=%3d ops=%7d failed=%6d %12.1f ops/s"
+              + "  p50=%8.3f ms  p99=%8.3f ms%n",
+          name, threads, operations, failures, throughput(),
+          p50Nanos / 1_000_000.0, p99Nanos / 1_000_000.0);
+    }
+  }
+}
@@ -0,0 +1,130 @@
+package com.example.accountz.benchmark;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.example.accountz.persist.entity.AccountEntity;
+import com.example.accountz.persist.entity.UserEntity;
+import com.example.accountz.persist.repository.AccountRepository;
+import com.example.accountz.persist.repository.UserRepository;
+import com.example.accountz.service.GroupCommitExecutor;
+import com.example.accountz.service.TransactionService;
+import com.example.accountz.type.AccountStatus;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationStrategy;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+
+/**
+ * 커밋마다 디스크에 기록하는 파일 기반 H2 에서 입금을 요청당 커밋 / 그룹 커밋으로 실행해 비교한다.
+ * 스레드마다 다른 계좌에 입금하므로 잠금 경합 없이 커밋 비용만 비교된다.
+ * 실행: ./gradlew benchmark --tests '*GroupCommitBenchmark'
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:file:./build/benchmark/group-commit;WRITE_DELAY=0",
+    "spring.jpa.properties.hibernate.show_sql=false",
+    "transaction.balance-update-mode=conditional_update",
+    "transaction.group-commit.enabled=true",
+    "transaction.group-commit.window=2ms",
+    "transaction.group-commit.max-batch-size=64",
+    "spring.flyway.clean-disabled=false"
+})
+class GroupCommitBenchmark {
+
+  // 파일 DB 가 실행 사이에 남으므로 매번 비우고 다시 마이그레이션
+  @TestConfiguration
+  static class CleanDatabase {
+
+    @Bean
+    FlywayMigrationStrategy cleanMigrate() {
+      return flyway -> {
+        flyway.clean();
+        flyway.migrate();
+      };
+    }
+  }
+
+  private static final int OPERATIONS_PER_THREAD = 200;
+
+  @Autowired
+  private TransactionService transactionService;
+
+  @Autowired
+  private GroupCommitExecutor groupCommitExecutor;
+
+  @Autowired
+  private UserRepository userRepository;
+
+  @Autowired
+  private AccountRepository accountRepository;
+
+  @ParameterizedTest
+  @ValueSource(ints = {1, 8, 32, 64})
+  void saveMoney_commitPerRequest(int threads) throws Exception {
+    UserEntity user = createUser("direct", threads);
+    List<AccountEntity> accounts = createAccounts(user, "direct", threads);
+    ConcurrencyBenchmark.Result result = ConcurrencyBenchmark.run(
+        "commit per request", threads, OPERATIONS_PER_THREAD,
+        (threadIndex, iteration) -> transactionService.saveMoney(
+            user.getId(), accounts.get(threadIndex).getAccountNumber(), 1L));
+    result.print();
+    assertDeposited(accounts, result);
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {1, 8, 32, 64})
+  void saveMoney_groupCommit(int threads) throws Exception {
+    UserEntity user = createUser("group", threads);
+    List<AccountEntity> accounts = createAccounts(user, "group", threads);
+    ConcurrencyBenchmark.Result result = ConcurrencyBenchmark.run(
+        "group commit", threads, OPERATIONS_PER_THREAD,
+        (threadIndex, iteration) -> groupCommitExecutor.saveMoney(
+            user.getId(), accounts.get(threadIndex).getAccountNumber(), 1L));
+    result.print();
+    assertDeposited(accounts, result);
+  }
+
+  private UserEntity createUser(String mode, int threads) {
+    return userRepository.save(UserEntity.builder()
+        .name("bench")
+        .email("group-commit-bench-" + mode + "-" + threads + "@example.com")
+        .birthDay(LocalDate.of(1990, 1, 1))
+        .password("password")
+        .roles(List.of("ROLE_USER"))
+        .build());
+  }
+
+  private List<AccountEntity> createAccounts(
+      UserEntity user, String mode, int threads) {
+    long base = 7_000_000_000L
+        + ("group".equals(mode) ? 500_000L : 0L) + threads * 1_000L;
+    return IntStream.range(0, threads)
+        .mapToObj(i -> accountRepository.save(AccountEntity.builder()
+            .user(user)
+            .accountStatus(AccountStatus.ACTIVATED)
+            .accountNumber(String.valueOf(base + i))
+            .balance(0L)
+            .registeredAt(LocalDateTime.now())
+            .build()))
+        .toList();
+  }
+
+  private void assertDeposited(List<AccountEntity> accounts,
+      ConcurrencyBenchmark.Result result) {
+    long total = accountRepository.findAllById(
+            accounts.stream().map(AccountEntity::getId).toList())
+        .stream()
+        .mapToLong(AccountEntity::getBalance)
+        .sum();
+    assertEquals(0, result.failures());
+    assertEquals((long) accounts.size() * OPERATIONS_PER_THREAD, total);
+  }
+}
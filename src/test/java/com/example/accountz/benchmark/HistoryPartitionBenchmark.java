@@ -0,0 +1,135 @@
+package com.example.accountz.benchmark;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.example.accountz.persist.entity.NameSortKey;
+import com.example.accountz.persist.entity.UserEntity;
+import com.example.accountz.persist.repository.UserRepository;
+import com.example.accountz.service.TransactionHistoryPartitionService;
+import com.example.accountz.service.TransactionService;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * 거래 내역을 과거 쪽으로 24 개월씩 늘려 가며 월 파티션으로 옮긴 뒤,
+ * 한 달 기간 조회(getBetweenDate)와 최근 순 첫 페이지 조회 지연 시간이 내역 길이와
+ * 관계없이 일정한지 본다.
+ * 기본은 월 10,000 건 (72 개월 약 72 만 건). 5천만 건은 환경 변수로 늘린다.
+ * 실행: BENCHMARK_PARTITION_ROWS_PER_MONTH=700000 \
+ * ./gradlew benchmark --tests '*HistoryPartitionBenchmark'
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = {
+    "spring.jpa.properties.hibernate.show_sql=false",
+    "transaction.partition.refresh-interval=0s"
+})
+class HistoryPartitionBenchmark {
+
+  private static final int GROWTH_STEPS = 3;
+  private static final int MONTHS_PER_STEP = 24;
+  // 측정 사용자의 한 달 거래 수 (나머지 행은 다른 사용자 것)
+  private static final int USER_ROWS_PER_MONTH = 100;
+  private static final int OTHER_USERS = 10_000;
+  private static final int BATCH_SIZE = 1_000;
+  private static final int QUERIES = 500;
+  private static final long ID_BASE = 5_000_000_000L;
+  private static final List<String> RECEIVERS =
+      List.of("김철수", "이영희", "박민수", "최지우", "정하늘");
+
+  @Value("${benchmark.partition.rows-per-month:10000}")
+  private int rowsPerMonth;
+
+  @Autowired
+  private TransactionService transactionService;
+
+  @Autowired
+  private TransactionHistoryPartitionService partitionService;
+
+  @Autowired
+  private UserRepository userRepository;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  private long nextId = ID_BASE;
+
+  @Test
+  void betweenDate_LatencyFlatAsHistoryGrows() throws Exception {
+    Long userId = userRepository.save(UserEntity.builder()
+        .name("partition-bench")
+        .email("partition-bench@example.com")
+        .birthDay(LocalDate.of(1990, 1, 1))
+        .password("password")
+        .roles(List.of("ROLE_USER"))
+        .build()).getId();
+    // 첫 단계부터 파티션으로 옮겨지는 달
+    YearMonth measured = YearMonth.now().minusMonths(14);
+    Random random = new Random(42);
+
+    for (int step = 0; step < GROWTH_STEPS; step++) {
+      for (int i = 0; i < MONTHS_PER_STEP; i++) {
+        insertMonth(YearMonth.now().minusMonths(
+            (long) step * MONTHS_PER_STEP + i), userId, random);
+      }
+      // 복사 후 분리
+      partitionService.maintain();
+      partitionService.maintain();
+
+      long months = (long) (step + 1) * MONTHS_PER_STEP;
+      System.out.printf("history months=%3d rows=%,12d partitions=%3d%n",
+          months, months * rowsPerMonth,
+          partitionService.months(null, null).size());
+      ConcurrencyBenchmark.run("between date (1 month)", 1, QUERIES,
+          (threadIndex, iteration) -> assertEquals(USER_ROWS_PER_MONTH,
+              transactionService.getBetweenDate(userId, measured.atDay(1),
+                      measured.atEndOfMonth(), null, USER_ROWS_PER_MONTH)
+                  .getTransactions().size())).print();
+      ConcurrencyBenchmark.run("recent first page", 1, QUERIES,
+          (threadIndex, iteration) -> assertEquals(20,
+              transactionService.getTransaction(userId, null, 20)
+                  .getTransactions().size())).print();
+    }
+  }
+
+  private void insertMonth(YearMonth month, Long userId, Random random) {
+    int seconds = month.lengthOfMonth() * 24 * 60 * 60;
+    List<Object[]> batch = new ArrayList<>(BATCH_SIZE);
+    for (int i = 0; i < rowsPerMonth; i++) {
+      long ownerUserId = i < USER_ROWS_PER_MONTH
+          ? userId
+          : -1L - random.nextInt(OTHER_USERS);
+      String receiver = RECEIVERS.get(random.nextInt(RECEIVERS.size()));
+      LocalDateTime transactedAt = month.atDay(1).atStartOfDay()
+          .plusSeconds(random.nextInt(seconds));
+      long id = nextId++;
+      batch.add(new Object[]{id, id, ownerUserId, receiver, 1000L,
+          transactedAt, NameSortKey.of(receiver)});
+      if (batch.size() == BATCH_SIZE) {
+        insert(batch);
+        batch.clear();
+      }
+    }
+    if (!batch.isEmpty()) {
+      insert(batch);
+    }
+  }
+
+  private void insert(List<Object[]> batch) {
+    jdbcTemplate.batchUpdate("insert into transaction_history (id,"
+        + " transaction_id, direction, owner_user_id, sender_name,"
+        + " receiver_name, amount, transaction_result_type, transacted_at,"
+        + " transaction_type, receiver_sort_key)"
+        + " values (?, ?, 'SENT', ?, 'bench', ?, ?, 'SUCCESS', ?, 'USE', ?)",
+        batch);
+  }
+}
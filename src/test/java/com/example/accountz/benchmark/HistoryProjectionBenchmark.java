@@ -0,0 +1,186 @@
+package com.example.accountz.benchmark;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.example.accountz.model.TransactionSearchDto;
+import com.example.accountz.persist.entity.AccountEntity;
+import com.example.accountz.persist.entity.TransactionEntity;
+import com.example.accountz.persist.entity.UserEntity;
+import com.example.accountz.persist.repository.AccountRepository;
+import com.example.accountz.persist.repository.TransactionHistoryRepository;
+import com.example.accountz.persist.repository.UserRepository;
+import com.example.accountz.service.TransactionIdGenerator;
+import com.example.accountz.service.TransactionWriter;
+import com.example.accountz.type.AccountStatus;
+import com.example.accountz.type.TransactionResultType;
+import com.example.accountz.type.TransactionType;
+import jakarta.persistence.EntityManager;
+import java.lang.management.ManagementFactory;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntSupplier;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 거래 내역 한 페이지를 엔티티 그래프로 읽어 DTO 로 바꾸는 방식(기존)과
+ * transaction_history 에서 필요한 컬럼만 projection 으로 읽는 방식의
+ * 처리량(rows/s)과 행당 할당량을 비교한다.
+ * 실행: ./gradlew benchmark --tests '*HistoryProjectionBenchmark'
+ */
+@Tag("benchmark")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.show_sql=false")
+class HistoryProjectionBenchmark {
+
+  private static final int HISTORY_SIZE = 5_000;
+  private static final int PAGE_SIZE = 100;
+  private static final int PAGES_PER_THREAD = 200;
+
+  @Autowired
+  private TransactionWriter transactionWriter;
+
+  @Autowired
+  private TransactionHistoryRepository transactionHistoryRepository;
+
+  @Autowired
+  private UserRepository userRepository;
+
+  @Autowired
+  private AccountRepository accountRepository;
+
+  @Autowired
+  private TransactionIdGenerator transactionIdGenerator;
+
+  @Autowired
+  private EntityManager entityManager;
+
+  @Autowired
+  private TransactionTemplate transactionTemplate;
+
+  private Long userId;
+
+  @BeforeAll
+  void setUp() {
+    UserEntity user = createUser("sender");
+    UserEntity receiver = createUser("receiver");
+    AccountEntity account = createAccount(user, 9_100_000_000L);
+    AccountEntity receiverAccount = createAccount(receiver, 9_100_000_001L);
+    LocalDateTime now = LocalDateTime.now();
+    List<TransactionWriter.Entry> transactions =
+        new ArrayList<>(HISTORY_SIZE);
+    for (int i = 0; i < HISTORY_SIZE; i++) {
+      TransactionEntity transaction = TransactionEntity.builder()
+          .user(user)
+          .account(account)
+          .receiverAccount(receiverAccount)
+          .receiverAccountNumber(receiverAccount.getAccountNumber())
+          .receiver(receiver.getName())
+          .amount(1L)
+          .balanceSnapshot(0L)
+          .transactionType(TransactionType.USE)
+          .transactionResultType(TransactionResultType.SUCCESS)
+          .transactionId(transactionIdGenerator.nextId())
+          .transactedAt(now.minusSeconds(i))
+          .build();
+      transactions.add(new TransactionWriter.Entry(transaction,
+          TransactionWriter.Party.of(user, account),
+          TransactionWriter.Party.of(receiver, receiverAccount)));
+    }
+    transactionWriter.saveAll(transactions);
+    userId = user.getId();
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {1, 8})
+  void page_entityGraph(int threads) throws Exception {
+    measure("entity graph", threads, this::readEntityPage);
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {1, 8})
+  void page_projection(int threads) throws Exception {
+    measure("projection", threads, this::readProjectionPage);
+  }
+
+  // 기존 방식: 엔티티 조회 후 연관 엔티티(user, account, roles)를 거쳐 DTO 생성
+  private int readEntityPage() {
+    return transactionTemplate.execute(status -> entityManager
+        .createQuery("select t from TransactionEntity t"
+            + " where t.user.id = :userId"
+            + " order by t.transactedAt desc, t.id desc", TransactionEntity.class)
+        .setParameter("userId", userId)
+        .setMaxResults(PAGE_SIZE)
+        .getResultStream()
+        .map(transaction -> TransactionSearchDto.builder()
+            .accountNumber(transaction.getAccount().getAccountNumber())
+            .amount(transaction.getAmount())
+            .date(transaction.getTransactedAt().toLocalDate())
+            .sender(transaction.getUser().getName())
+            .receiver(transaction.getReceiver())
+            .build())
+        .toList()
+        .size());
+  }
+
+  private int readProjectionPage() {
+    return transactionTemplate.execute(status -> transactionHistoryRepository
+        .findPageByUserId(userId, LocalDateTime.of(9999, 12, 31, 0, 0),
+            Long.MAX_VALUE, PageRequest.of(0, PAGE_SIZE))
+        .stream()
+        .map(TransactionSearchDto::from)
+        .toList()
+        .size());
+  }
+
+  private void measure(String name, int threads, IntSupplier readPage)
+      throws Exception {
+    ConcurrencyBenchmark.Result result = ConcurrencyBenchmark.run(
+        name, threads, PAGES_PER_THREAD,
+        (threadIndex, iteration) -> assertEquals(PAGE_SIZE,
+            readPage.getAsInt()));
+    result.print();
+    assertEquals(0, result.failures());
+
+    // 행당 할당량은 현재 스레드에서 따로 측정
+    com.sun.management.ThreadMXBean threadBean =
+        (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    long before = threadBean.getCurrentThreadAllocatedBytes();
+    for (int i = 0; i < PAGES_PER_THREAD; i++) {
+      readPage.getAsInt();
+    }
+    long allocated = threadBean.getCurrentThreadAllocatedBytes() - before;
+    System.out.printf("%-32s rows/s=%12.1f  allocated=%10.1f bytes/row%n",
+        name, result.throughput() * PAGE_SIZE,
+        allocated / (double) (PAGES_PER_THREAD * PAGE_SIZE));
+  }
+
+  private UserEntity createUser(String name) {
+    return userRepository.save(UserEntity.builder()
+        .name(name)
+        .email("history-bench-" + name + "@example.com")
+        .birthDay(LocalDate.of(1990, 1, 1))
+        .password("password")
+        .roles(List.of("ROLE_USER"))
+        .build());
+  }
+
+  private AccountEntity createAccount(UserEntity user, long accountNumber) {
+    return accountRepository.save(AccountEntity.builder()
+        .user(user)
+        .accountStatus(AccountStatus.ACTIVATED)
+        .accountNumber(String.valueOf(accountNumber))
+        .balance(0L)
+        .registeredAt(LocalDateTime.now())
+        .build());
+  }
+}
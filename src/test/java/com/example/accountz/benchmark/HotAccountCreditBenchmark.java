@@ -0,0 +1,101 @@
+package com.example.accountz.benchmark;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.example.accountz.model.AccountDto;
+import com.example.accountz.persist.entity.AccountEntity;
+import com.example.accountz.persist.entity.UserEntity;
+import com.example.accountz.persist.repository.AccountRepository;
+import com.example.accountz.persist.repository.UserRepository;
+import com.example.accountz.service.AccountService;
+import com.example.accountz.service.HotAccountService;
+import com.example.accountz.service.TransactionService;
+import com.example.accountz.type.AccountStatus;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+/**
+ * 여러 사용자가 하나의 가맹점 계좌로 동시에 송금할 때 슬롯 수(0 = 분산 해제)에 따른 입금 처리량을 측정한다.
+ * 실행: ./gradlew benchmark --tests '*HotAccountCreditBenchmark'
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = {
+    "spring.jpa.properties.hibernate.show_sql=false",
+    "transaction.balance-update-mode=pessimistic"
+})
+class HotAccountCreditBenchmark {
+
+  private static final int THREADS = 32;
+  private static final int OPERATIONS_PER_THREAD = 200;
+  private static final long INITIAL_BALANCE = 1_000_000L;
+
+  @Autowired
+  private TransactionService transactionService;
+
+  @Autowired
+  private AccountService accountService;
+
+  @Autowired
+  private HotAccountService hotAccountService;
+
+  @Autowired
+  private UserRepository userRepository;
+
+  @Autowired
+  private AccountRepository accountRepository;
+
+  @ParameterizedTest
+  @ValueSource(ints = {0, 2, 4, 8, 16})
+  void underMillionSendMoney_toMerchant(int slots) throws Exception {
+    UserEntity user = userRepository.save(UserEntity.builder()
+        .name("bench")
+        .email("hot-bench-" + slots + "@example.com")
+        .birthDay(LocalDate.of(1990, 1, 1))
+        .password("password")
+        .roles(List.of("ROLE_USER"))
+        .build());
+    long base = 8_000_000_000L + slots * 1_000L;
+    AccountEntity merchant = createAccount(user, String.valueOf(base), 0L);
+    // 송금하는 쪽은 스레드마다 다른 계좌 (가맹점 계좌에서만 경합)
+    List<AccountEntity> payers = IntStream.range(1, THREADS + 1)
+        .mapToObj(i -> createAccount(user, String.valueOf(base + i),
+            INITIAL_BALANCE))
+        .toList();
+    if (slots > 0) {
+      hotAccountService.enable(merchant.getAccountNumber(), slots);
+    }
+
+    ConcurrencyBenchmark.Result result = ConcurrencyBenchmark.run(
+        "credit into merchant, slots=" + slots, THREADS,
+        OPERATIONS_PER_THREAD,
+        (threadIndex, iteration) ->
+            transactionService.underMillionSendMoney(user.getId(),
+                payers.get(threadIndex).getAccountNumber(),
+                merchant.getAccountNumber(), 1L));
+    result.print();
+
+    AccountDto balance = accountService.getBalance(
+        user.getId(), merchant.getAccountNumber());
+    assertEquals(0, result.failures());
+    assertEquals((long) THREADS * OPERATIONS_PER_THREAD,
+        balance.getBalance());
+  }
+
+  private AccountEntity createAccount(
+      UserEntity user, String accountNumber, Long balance) {
+    return accountRepository.save(AccountEntity.builder()
+        .user(user)
+        .accountStatus(AccountStatus.ACTIVATED)
+        .accountNumber(accountNumber)
+        .balance(balance)
+        .registeredAt(LocalDateTime.now())
+        .build());
+  }
+}
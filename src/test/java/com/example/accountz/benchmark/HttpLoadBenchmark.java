@@ -0,0 +1,151 @@
+package com.example.accountz.benchmark;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+/**
+ * 실제 HTTP 서버에 송금 / 거래 내역 조회 요청을 동시에 보내 처리량과 p99 지연을 측정한다.
+ * 플랫폼 스레드 모드와 가상 스레드 모드(Java 21)를 하위 클래스로 비교한다.
+ * 실행: ./gradlew benchmark -PjavaVersion=21 --tests '*HttpLoadBenchmark'
+ */
+@Tag("benchmark")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@SpringBootTest(webEnvironment = WebEnvironment.RANDOM_PORT, properties = {
+    "spring.jpa.properties.hibernate.show_sql=false",
+    "logging.level.com.example.accountz=warn"
+})
+abstract class HttpLoadBenchmark {
+
+  private static final int USERS = 16;
+  private static final int OPERATIONS_PER_THREAD = 100;
+  private static final long INITIAL_BALANCE = 10_000_000L;
+
+  private final HttpClient client = HttpClient.newBuilder()
+      .version(HttpClient.Version.HTTP_1_1)
+      .connectTimeout(Duration.ofSeconds(5))
+      .build();
+
+  @LocalServerPort
+  private int port;
+
+  @Autowired
+  private ObjectMapper objectMapper;
+
+  private final List<BenchUser> users = new ArrayList<>();
+
+  abstract String mode();
+
+  // 사용자마다 계좌 2개를 만들고 입금해 둔다.
+  @BeforeAll
+  void setUpUsers() throws Exception {
+    for (int i = 0; i < USERS; i++) {
+      String email = "http-bench-" + mode() + "-" + i + "@example.com";
+      post("/auth/sign-up", null, Map.of(
+          "name", "bench" + i,
+          "email", email,
+          "birthDay", "01/01/1990",
+          "password", "password1234",
+          "roles", List.of("ROLE_USER")));
+      String token = "Bearer " + post("/auth/log-in", null, Map.of(
+          "email", email, "password", "password1234")).get("detail").asText();
+
+      String from = post("/account/user", token, Map.of())
+          .get("accountNumber").asText();
+      String to = post("/account/user", token, Map.of())
+          .get("accountNumber").asText();
+      post("/transaction/save-money", token, Map.of(
+          "accountNumber", from, "amount", INITIAL_BALANCE));
+      post("/transaction/save-money", token, Map.of(
+          "accountNumber", to, "amount", INITIAL_BALANCE));
+      users.add(new BenchUser(token, from, to));
+    }
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {16, 64, 256})
+  void transfer(int threads) throws Exception {
+    ConcurrencyBenchmark.Result result = ConcurrencyBenchmark.run(
+        mode() + " under-million-send-money", threads,
+        OPERATIONS_PER_THREAD, (threadIndex, iteration) -> {
+          BenchUser user = users.get(threadIndex % USERS);
+          // 방향을 번갈아 잔액이 한쪽으로 쏠리지 않게 한다.
+          boolean forward = iteration % 2 == 0;
+          post("/transaction/under-million-send-money", user.token(), Map.of(
+              "userAccountNumber", forward ? user.from() : user.to(),
+              "receiverAccountNumber", forward ? user.to() : user.from(),
+              "amount", 1));
+        });
+    result.print();
+    assertEquals(0, result.failures());
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {16, 64, 256})
+  void history(int threads) throws Exception {
+    ConcurrencyBenchmark.Result result = ConcurrencyBenchmark.run(
+        mode() + " get-transaction", threads, OPERATIONS_PER_THREAD,
+        (threadIndex, iteration) -> get("/transaction/get-transaction",
+            users.get(threadIndex % USERS).token()));
+    result.print();
+    assertEquals(0, result.failures());
+  }
+
+  private JsonNode post(String path, String token, Object body)
+      throws Exception {
+    HttpRequest.Builder request = HttpRequest.newBuilder(uri(path))
+        .header("Content-Type", "application/json")
+        .POST(HttpRequest.BodyPublishers.ofString(
+            objectMapper.writeValueAsString(body)));
+    return send(request, token);
+  }
+
+  private JsonNode get(String path, String token) throws Exception {
+    return send(HttpRequest.newBuilder(uri(path)).GET(), token);
+  }
+
+  // 예외 응답도 200 으로 내려오므로 errorCode 가 있으면 실패로 센다.
+  private JsonNode send(HttpRequest.Builder request, String token)
+      throws Exception {
+    if (token != null) {
+      request.header("Authorization", token);
+    }
+    HttpResponse<String> response = client.send(
+        request.timeout(Duration.ofSeconds(30)).build(),
+        HttpResponse.BodyHandlers.ofString());
+    JsonNode body = response.body().isEmpty()
+        ? objectMapper.nullNode()
+        : objectMapper.readTree(response.body());
+    if (response.statusCode() != 200 || body.has("errorCode")) {
+      throw new IllegalStateException(
+          response.statusCode() + " " + response.body());
+    }
+    return body;
+  }
+
+  private URI uri(String path) {
+    return URI.create("http://localhost:" + port + path);
+  }
+
+  private record BenchUser(String token, String from, String to) {
+
+  }
+}
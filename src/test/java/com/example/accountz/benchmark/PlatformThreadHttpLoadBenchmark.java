@@ -0,0 +1,12 @@
+package com.example.accountz.benchmark;
+
+/**
+ * 기본 Tomcat 플랫폼 스레드 풀 모드.
+ */
+class PlatformThreadHttpLoadBenchmark extends HttpLoadBenchmark {
+
+  @Override
+  String mode() {
+    return "platform";
+  }
+}
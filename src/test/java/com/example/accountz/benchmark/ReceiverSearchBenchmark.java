@@ -0,0 +1,78 @@
+package com.example.accountz.benchmark;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.example.accountz.config.TransactionProperties;
+import com.example.accountz.persist.repository.TransactionHistoryRepository;
+import com.example.accountz.service.ReceiverSearchService;
+import com.example.accountz.service.TransactionHistoryMonthReader;
+import com.example.accountz.service.TransactionHistoryPartitionService;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.LongAdder;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * 받는 사람 이름 검색(앞부분 / 자모 / 중간 일치)의 지연 시간을 측정한다.
+ * 사용자당 받는 사람 NAMES_PER_USER 명, 색인은 처음 한 번만 만든다. (목표 p99 < 1ms)
+ * 실행: ./gradlew benchmark --tests '*ReceiverSearchBenchmark'
+ */
+@Tag("benchmark")
+class ReceiverSearchBenchmark {
+
+  private static final int USERS = 64;
+  private static final int NAMES_PER_USER = 5_000;
+  private static final int OPERATIONS_PER_THREAD = 20_000;
+  // 입력 중인 검색어: 음절 앞부분, 자모 앞부분, 중간 일치, 한 글자 자모
+  private static final String[] QUERIES = {"김", "김ㅊ", "철수", "ㅅ", "박수미"};
+
+  private final LongAdder sink = new LongAdder();
+
+  @ParameterizedTest
+  @ValueSource(ints = {1, 8, 32})
+  void search(int threads) throws Exception {
+    ReceiverSearchService receiverSearchService = receiverSearchService();
+    for (long userId = 0; userId < USERS; userId++) {
+      receiverSearchService.search(userId, "김", null);
+    }
+
+    ConcurrencyBenchmark.Result result = ConcurrencyBenchmark.run(
+        "receiver search", threads, OPERATIONS_PER_THREAD,
+        (threadIndex, iteration) -> sink.add(receiverSearchService.search(
+                (long) (iteration % USERS), QUERIES[iteration % QUERIES.length],
+                null)
+            .getReceivers().size()));
+    result.print();
+    assertEquals(0, result.failures());
+  }
+
+  private static ReceiverSearchService receiverSearchService() {
+    TransactionHistoryRepository repository =
+        mock(TransactionHistoryRepository.class);
+    when(repository.findReceiverNamesByUserId(anyLong()))
+        .thenAnswer(invocation -> names(invocation.getArgument(0)));
+    return new ReceiverSearchService(repository,
+        mock(TransactionHistoryMonthReader.class),
+        mock(TransactionHistoryPartitionService.class),
+        new TransactionProperties());
+  }
+
+  // 성 + 임의의 이름 두 글자
+  private static List<String> names(long seed) {
+    String[] familyNames = {"김", "이", "박", "최", "정", "강", "조", "윤"};
+    Random random = new Random(seed);
+    List<String> names = new ArrayList<>(NAMES_PER_USER);
+    for (int i = 0; i < NAMES_PER_USER; i++) {
+      names.add(familyNames[random.nextInt(familyNames.length)]
+          + (char) ('가' + random.nextInt(11172))
+          + (char) ('가' + random.nextInt(11172)));
+    }
+    return names;
+  }
+}
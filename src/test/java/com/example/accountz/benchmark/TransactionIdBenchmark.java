@@ -0,0 +1,63 @@
+package com.example.accountz.benchmark;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.example.accountz.config.TransactionProperties;
+import com.example.accountz.persist.entity.TransactionIdConverter;
+import com.example.accountz.service.SnowflakeTransactionIdGenerator;
+import com.example.accountz.service.TransactionIdGenerator;
+import java.util.UUID;
+import java.util.concurrent.atomic.LongAdder;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * 거래 ID 발급 비용을 기존 UUID 문자열 방식과 Snowflake 방식으로 비교한다.
+ * 실행: ./gradlew benchmark --tests '*TransactionIdBenchmark'
+ */
+@Tag("benchmark")
+class TransactionIdBenchmark {
+
+  private static final int OPERATIONS_PER_THREAD = 100_000;
+
+  // 결과를 사용해 JIT 가 발급을 제거하지 못하게 한다.
+  private final LongAdder sink = new LongAdder();
+
+  @ParameterizedTest
+  @ValueSource(ints = {1, 8, 32})
+  void uuid(int threads) throws Exception {
+    ConcurrencyBenchmark.Result result = ConcurrencyBenchmark.run(
+        "uuid", threads, OPERATIONS_PER_THREAD,
+        (threadIndex, iteration) -> sink.add(
+            UUID.randomUUID().toString().replace("-", "").length()));
+    result.print();
+    assertEquals(0, result.failures());
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {1, 8, 32})
+  void snowflake(int threads) throws Exception {
+    TransactionIdGenerator generator =
+        new SnowflakeTransactionIdGenerator(new TransactionProperties());
+    ConcurrencyBenchmark.Result result = ConcurrencyBenchmark.run(
+        "snowflake", threads, OPERATIONS_PER_THREAD,
+        (threadIndex, iteration) -> sink.add(generator.nextId()));
+    result.print();
+    assertEquals(0, result.failures());
+  }
+
+  // API 응답용 문자열 변환까지 포함
+  @ParameterizedTest
+  @ValueSource(ints = {1, 8, 32})
+  void snowflakeFormatted(int threads) throws Exception {
+    TransactionIdGenerator generator =
+        new SnowflakeTransactionIdGenerator(new TransactionProperties());
+    ConcurrencyBenchmark.Result result = ConcurrencyBenchmark.run(
+        "snowflake + format", threads, OPERATIONS_PER_THREAD,
+        (threadIndex, iteration) -> sink.add(TransactionIdConverter
+            .format(generator.nextId()).length()));
+    result.print();
+    assertEquals(0, result.failures());
+  }
+}
@@ -0,0 +1,87 @@
+package com.example.accountz.benchmark;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.example.accountz.persist.entity.AccountEntity;
+import com.example.accountz.persist.entity.UserEntity;
+import com.example.accountz.persist.repository.AccountRepository;
+import com.example.accountz.persist.repository.UserRepository;
+import com.example.accountz.service.TransactionService;
+import com.example.accountz.type.AccountStatus;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+/**
+ * 소수의 hot 계좌 사이에서 양방향 송금을 동시에 실행해 잠금 경합 시 처리량과 p99 지연을 측정한다.
+ * 실행: ./gradlew benchmark --tests '*TransferContentionBenchmark'
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = {
+    "spring.jpa.properties.hibernate.show_sql=false",
+    "transaction.balance-update-mode=pessimistic"
+})
+class TransferContentionBenchmark {
+
+  private static final int HOT_ACCOUNTS = 4;
+  private static final int OPERATIONS_PER_THREAD = 200;
+  private static final long INITIAL_BALANCE = 1_000_000_000L;
+
+  @Autowired
+  private TransactionService transactionService;
+
+  @Autowired
+  private UserRepository userRepository;
+
+  @Autowired
+  private AccountRepository accountRepository;
+
+  @ParameterizedTest
+  @ValueSource(ints = {2, 4, 8, 16, 32, 64})
+  void underMillionSendMoney_hotAccounts(int threads) throws Exception {
+    UserEntity user = userRepository.save(UserEntity.builder()
+        .name("bench")
+        .email("transfer-bench-" + threads + "@example.com")
+        .birthDay(LocalDate.of(1990, 1, 1))
+        .password("password")
+        .roles(List.of("ROLE_USER"))
+        .build());
+    List<AccountEntity> accounts = IntStream.range(0, HOT_ACCOUNTS)
+        .mapToObj(i -> accountRepository.save(AccountEntity.builder()
+            .user(user)
+            .accountStatus(AccountStatus.ACTIVATED)
+            .accountNumber(String.valueOf(9_000_000_000L + threads * 100L + i))
+            .balance(INITIAL_BALANCE)
+            .registeredAt(LocalDateTime.now())
+            .build()))
+        .toList();
+
+    ConcurrencyBenchmark.Result result = ConcurrencyBenchmark.run(
+        "pessimistic ordered transfer", threads, OPERATIONS_PER_THREAD,
+        (threadIndex, iteration) -> {
+          ThreadLocalRandom random = ThreadLocalRandom.current();
+          int from = random.nextInt(HOT_ACCOUNTS);
+          int to = (from + 1 + random.nextInt(HOT_ACCOUNTS - 1))
+              % HOT_ACCOUNTS;
+          transactionService.underMillionSendMoney(user.getId(),
+              accounts.get(from).getAccountNumber(),
+              accounts.get(to).getAccountNumber(), 1L);
+        });
+    result.print();
+
+    long total = accountRepository.findAllById(
+            accounts.stream().map(AccountEntity::getId).toList())
+        .stream()
+        .mapToLong(AccountEntity::getBalance)
+        .sum();
+    assertEquals(0, result.failures());
+    assertEquals(INITIAL_BALANCE * HOT_ACCOUNTS, total);
+  }
+}
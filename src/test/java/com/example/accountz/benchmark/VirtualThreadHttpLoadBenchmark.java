@@ -0,0 +1,18 @@
+package com.example.accountz.benchmark;
+
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * virtual 프로파일: 가상 스레드 + 커넥션 풀 크기 기반 동시 처리 제한.
+ */
+@ActiveProfiles("virtual")
+@EnabledForJreRange(min = JRE.JAVA_21)
+class VirtualThreadHttpLoadBenchmark extends HttpLoadBenchmark {
+
+  @Override
+  String mode() {
+    return "virtual";
+  }
+}
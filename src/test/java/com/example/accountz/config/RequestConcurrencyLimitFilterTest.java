@@ -0,0 +1,70 @@
+package com.example.accountz.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import java.time.Duration;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+class RequestConcurrencyLimitFilterTest {
+
+  private RequestConcurrencyLimitFilter filter;
+
+  @BeforeEach
+  void setUp() {
+    RequestLimitProperties properties = new RequestLimitProperties();
+    properties.setMaxConcurrentRequests(1);
+    properties.setAcquireTimeout(Duration.ZERO);
+    filter = new RequestConcurrencyLimitFilter(properties,
+        mock(DataSource.class), new ObjectMapper(), new SimpleMeterRegistry());
+  }
+
+  @Test
+  void doFilter_AsyncStreaming_HoldsPermitUntilComplete() throws Exception {
+    // given: 첫 dispatch 에서 비동기 처리를 시작한 내보내기 요청
+    MockHttpServletRequest export = request("/transaction/export");
+    export.setAsyncSupported(true);
+    FilterChain startAsync = (request, response) ->
+        request.startAsync(request, response);
+    filter.doFilter(export, new MockHttpServletResponse(), startAsync);
+
+    // when: 스트리밍 중 다른 요청
+    MockHttpServletResponse whileStreaming = new MockHttpServletResponse();
+    filter.doFilter(request("/transaction"), whileStreaming,
+        new MockFilterChain());
+    export.getAsyncContext().complete();
+    MockHttpServletResponse afterComplete = new MockHttpServletResponse();
+    filter.doFilter(request("/transaction"), afterComplete,
+        new MockFilterChain());
+
+    // then
+    assertEquals(503, whileStreaming.getStatus());
+    assertEquals(200, afterComplete.getStatus());
+  }
+
+  @Test
+  void doFilter_SyncRequest_ReleasesPermit() throws Exception {
+    // given
+    filter.doFilter(request("/transaction"), new MockHttpServletResponse(),
+        new MockFilterChain());
+
+    // when
+    MockHttpServletResponse response = new MockHttpServletResponse();
+    filter.doFilter(request("/transaction"), response, new MockFilterChain());
+
+    // then
+    assertEquals(200, response.getStatus());
+  }
+
+  private static MockHttpServletRequest request(String uri) {
+    return new MockHttpServletRequest("GET", uri);
+  }
+}
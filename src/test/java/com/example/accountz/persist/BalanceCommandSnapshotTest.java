@@ -0,0 +1,79 @@
+package com.example.accountz.persist;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.example.accountz.model.TransactionDto;
+import com.example.accountz.persist.entity.AccountEntity;
+import com.example.accountz.persist.entity.UserEntity;
+import com.example.accountz.persist.repository.AccountRepository;
+import com.example.accountz.persist.repository.UserRepository;
+import com.example.accountz.service.BalanceCommandEngine;
+import com.example.accountz.service.TransactionService;
+import com.example.accountz.type.AccountStatus;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+/**
+ * 실행 엔진 명령 사이에 엔진을 거치지 않는 출금(Idempotency-Key 요청)이 끼어도
+ * 거래 내역의 잔액이 메모리 잔액이 아니라 커밋된 잔액으로 남는지 확인한다.
+ */
+@SpringBootTest(properties = {
+    "transaction.balance-update-mode=conditional_update",
+    "transaction.engine.enabled=true"
+})
+class BalanceCommandSnapshotTest {
+
+  @Autowired
+  private BalanceCommandEngine balanceCommandEngine;
+
+  @Autowired
+  private TransactionService transactionService;
+
+  @Autowired
+  private UserRepository userRepository;
+
+  @Autowired
+  private AccountRepository accountRepository;
+
+  @Test
+  void engineCommand_AfterKeyedWithdraw_SnapshotFromCommittedBalance() {
+    // given: 엔진이 잔액 1000 을 메모리에 올린 뒤 엔진 밖에서 300 출금
+    UserEntity user = userRepository.save(UserEntity.builder()
+        .name("snapshot")
+        .email("engine-snapshot@example.com")
+        .birthDay(LocalDate.of(1990, 1, 1))
+        .password("password")
+        .roles(List.of("ROLE_USER"))
+        .build());
+    AccountEntity account = accountRepository.save(AccountEntity.builder()
+        .user(user)
+        .accountStatus(AccountStatus.ACTIVATED)
+        .accountNumber("7100000001")
+        .balance(1000L)
+        .registeredAt(LocalDateTime.now())
+        .build());
+    String accountNumber = account.getAccountNumber();
+
+    TransactionDto loaded =
+        balanceCommandEngine.saveMoney(user.getId(), accountNumber, 100L);
+    TransactionDto keyed =
+        transactionService.useBalance(user.getId(), accountNumber, 300L);
+
+    // when: 메모리 잔액은 1200, 커밋된 잔액은 900
+    TransactionDto deposit =
+        balanceCommandEngine.saveMoney(user.getId(), accountNumber, 100L);
+    TransactionDto withdraw =
+        balanceCommandEngine.useBalance(user.getId(), accountNumber, 50L);
+
+    // then
+    assertEquals(1100L, loaded.getBalanceSnapshot());
+    assertEquals(800L, keyed.getBalanceSnapshot());
+    assertEquals(900L, deposit.getBalanceSnapshot());
+    assertEquals(850L, withdraw.getBalanceSnapshot());
+    assertEquals(850L, accountRepository.findBalanceById(account.getId()));
+  }
+}
@@ -0,0 +1,120 @@
+package com.example.accountz.persist;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.example.accountz.model.AccountSummaryDto;
+import com.example.accountz.persist.entity.AccountEntity;
+import com.example.accountz.persist.entity.UserEntity;
+import com.example.accountz.persist.repository.AccountRepository;
+import com.example.accountz.persist.repository.UserRepository;
+import com.example.accountz.service.AccountService;
+import com.example.accountz.service.AccountSummaryService;
+import com.example.accountz.service.HotAccountService;
+import com.example.accountz.service.TransactionService;
+import com.example.accountz.type.AccountStatus;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+/**
+ * hot 계좌(슬롯 2개)에 동시에 입금해 일 집계가 서로 다른 shard 행에 MERGE 되어도
+ * 그날 마감 잔액이 커밋된 잔액(계좌 + 슬롯)과 같은지 확인한다.
+ */
+@SpringBootTest(properties = {
+    "transaction.balance-update-mode=pessimistic",
+    "transaction.summary.hot-shards=2"
+})
+class DailyAccountSummaryConcurrencyTest {
+
+  private static final int THREADS = 2;
+  private static final int TRANSFERS_PER_THREAD = 50;
+
+  @Autowired
+  private TransactionService transactionService;
+
+  @Autowired
+  private AccountService accountService;
+
+  @Autowired
+  private AccountSummaryService accountSummaryService;
+
+  @Autowired
+  private HotAccountService hotAccountService;
+
+  @Autowired
+  private UserRepository userRepository;
+
+  @Autowired
+  private AccountRepository accountRepository;
+
+  @Test
+  void hotCredits_TwoSlotsConcurrently_ClosingBalanceMatchesBalance()
+      throws Exception {
+    // given: 잔액 0 인 가맹점 계좌(슬롯 2개)와 스레드마다 다른 송금 계좌
+    UserEntity user = userRepository.save(UserEntity.builder()
+        .name("summary")
+        .email("summary-concurrency@example.com")
+        .birthDay(LocalDate.of(1990, 1, 1))
+        .password("password")
+        .roles(List.of("ROLE_USER"))
+        .build());
+    AccountEntity merchant = createAccount(user, "7200000000", 0L);
+    List<AccountEntity> payers = new ArrayList<>();
+    for (int i = 1; i <= THREADS; i++) {
+      payers.add(createAccount(user, String.valueOf(7_200_000_000L + i),
+          1_000_000L));
+    }
+    hotAccountService.enable(merchant.getAccountNumber(), 2);
+
+    // when
+    ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+    CountDownLatch start = new CountDownLatch(1);
+    List<Future<?>> futures = new ArrayList<>();
+    for (AccountEntity payer : payers) {
+      futures.add(executor.submit(() -> {
+        start.await();
+        for (int i = 0; i < TRANSFERS_PER_THREAD; i++) {
+          transactionService.underMillionSendMoney(user.getId(),
+              payer.getAccountNumber(), merchant.getAccountNumber(),
+              (long) i + 1);
+        }
+        return null;
+      }));
+    }
+    start.countDown();
+    for (Future<?> future : futures) {
+      future.get();
+    }
+    executor.shutdown();
+
+    // then
+    long balance = accountService.getBalance(
+        user.getId(), merchant.getAccountNumber()).getBalance();
+    AccountSummaryDto summary = accountSummaryService.getAccountSummary(
+        user.getId(), merchant.getAccountNumber(), 1);
+    assertEquals((long) THREADS * TRANSFERS_PER_THREAD
+        * (TRANSFERS_PER_THREAD + 1) / 2, balance);
+    assertEquals(1, summary.getDays().size());
+    assertEquals(balance, summary.getDays().get(0).getClosingBalance());
+    assertEquals(balance, summary.getCreditAmount());
+  }
+
+  private AccountEntity createAccount(
+      UserEntity user, String accountNumber, Long balance) {
+    return accountRepository.save(AccountEntity.builder()
+        .user(user)
+        .accountStatus(AccountStatus.ACTIVATED)
+        .accountNumber(accountNumber)
+        .balance(balance)
+        .registeredAt(LocalDateTime.now())
+        .build());
+  }
+}
@@ -0,0 +1,400 @@
+package com.example.accountz.persist;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import com.example.accountz.persist.entity.AccountEntity;
+import com.example.accountz.persist.entity.NameSortKey;
+import com.example.accountz.persist.entity.UserEntity;
+import com.example.accountz.persist.repository.AccountBalanceSlotRepository;
+import com.example.accountz.persist.repository.AccountRepository;
+import com.example.accountz.persist.repository.DailyAccountSummaryRepository;
+import com.example.accountz.persist.repository.IdempotencyKeyRepository;
+import com.example.accountz.persist.repository.ScheduledJobLockRepository;
+import com.example.accountz.persist.repository.TransactionHistoryPartitionRepository;
+import com.example.accountz.persist.repository.TransactionHistoryRepository;
+import com.example.accountz.persist.repository.TransactionRepository;
+import com.example.accountz.persist.repository.UserRepository;
+import com.example.accountz.type.AccountStatus;
+import com.example.accountz.type.PartitionStatus;
+import com.example.accountz.type.TransactionDirection;
+import com.example.accountz.type.TransactionResultType;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+import javax.sql.DataSource;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 마이그레이션으로 만든 스키마에서 리포지토리 메서드를 실제로 호출하고, 그때 실행된 SQL 을
+ * (바인딩 값 그대로) EXPLAIN 해 인덱스 대신 전체 테이블 스캔을 하는 문장이 없는지 확인한다.
+ * SQL 은 DataSource 를 datasource-proxy 로 감싸 모으므로 JPA 조회와 월 파티션
+ * (transaction_history_pYYYYMM) JdbcTemplate 조회가 모두 포함된다.
+ * 새 조회 메서드를 만들면 여기에 호출을 추가한다. 테스트마다 롤백한다.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.show_sql=false")
+@Transactional
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class QueryPlanTest {
+
+  // 테스트 스레드에서 실행된 문장만 모은다. (예약 작업 등 다른 스레드 제외)
+  private static final ThreadLocal<List<Captured>> CAPTURED =
+      new ThreadLocal<>();
+
+  // 다른 테스트의 파티션과 겹치지 않는 달 (파티션 목록에는 등록하지 않는다.)
+  private static final YearMonth PARTITION = YearMonth.of(2000, 1);
+
+  private static final LocalDateTime FROM =
+      LocalDateTime.of(2024, 1, 1, 0, 0);
+  private static final LocalDateTime TO = LocalDateTime.of(2024, 2, 1, 0, 0);
+  // 거래 내역 keyset 페이지 커서
+  private static final LocalDateTime CURSOR =
+      LocalDateTime.of(2024, 1, 31, 0, 0);
+  private static final Long CURSOR_ID = 100L;
+  private static final Pageable PAGE = PageRequest.of(0, 21);
+  private static final byte[] SORT_KEY = NameSortKey.of("홍길동");
+  private static final LocalDate DAY = LocalDate.of(2024, 1, 31);
+
+  private record Captured(String sql, List<Object> parameters) {
+
+  }
+
+  @TestConfiguration
+  static class StatementCaptureConfig {
+
+    @Bean
+    static BeanPostProcessor statementCapturingDataSource() {
+      return new BeanPostProcessor() {
+        @Override
+        public Object postProcessAfterInitialization(Object bean,
+            String beanName) {
+          if (bean instanceof DataSource dataSource
+              && !(bean instanceof ProxyDataSource)) {
+            return ProxyDataSourceBuilder.create(dataSource)
+                .name("query-plan")
+                .afterQuery((execInfo, queryInfoList) -> {
+                  List<Captured> captured = CAPTURED.get();
+                  if (captured != null) {
+                    queryInfoList.forEach(queryInfo -> captured.add(
+                        new Captured(queryInfo.getQuery(), parameters(
+                            queryInfo.getParametersList()))));
+                  }
+                })
+                .build();
+          }
+          return bean;
+        }
+      };
+    }
+
+    // 첫 번째 바인딩 묶음의 값 (위치 순)
+    private static List<Object> parameters(
+        List<List<ParameterSetOperation>> parametersList) {
+      if (parametersList.isEmpty()) {
+        return List.of();
+      }
+      return parametersList.get(0).stream()
+          .sorted(Comparator.comparing(
+              operation -> (Integer) operation.getArgs()[0]))
+          .map(operation -> operation.getMethod().getName().equals("setNull")
+              ? null
+              : operation.getArgs()[1])
+          .toList();
+    }
+  }
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @Autowired
+  private TransactionRepository transactionRepository;
+
+  @Autowired
+  private TransactionHistoryRepository transactionHistoryRepository;
+
+  @Autowired
+  private TransactionHistoryPartitionRepository partitionRepository;
+
+  @Autowired
+  private DailyAccountSummaryRepository dailyAccountSummaryRepository;
+
+  @Autowired
+  private AccountRepository accountRepository;
+
+  @Autowired
+  private AccountBalanceSlotRepository accountBalanceSlotRepository;
+
+  @Autowired
+  private UserRepository userRepository;
+
+  @Autowired
+  private IdempotencyKeyRepository idempotencyKeyRepository;
+
+  @Autowired
+  private ScheduledJobLockRepository jobLockRepository;
+
+  // 일 집계 MERGE 의 외래 키 대상 (테스트마다 롤백)
+  private AccountEntity account;
+
+  @BeforeAll
+  void createPartition() {
+    // DDL 은 테스트 트랜잭션 밖에서 (H2 는 DDL 에서 커밋한다.)
+    partitionRepository.createPartitionTable(PARTITION);
+  }
+
+  @AfterAll
+  void dropPartition() {
+    partitionRepository.dropPartitionTable(PARTITION);
+  }
+
+  @BeforeEach
+  void setUp() {
+    UserEntity user = userRepository.saveAndFlush(UserEntity.builder()
+        .name("query-plan")
+        .email("query-plan@example.com")
+        .birthDay(LocalDate.of(1990, 1, 1))
+        .password("password")
+        .roles(List.of("ROLE_USER"))
+        .build());
+    account = accountRepository.saveAndFlush(AccountEntity.builder()
+        .user(user)
+        .accountStatus(AccountStatus.ACTIVATED)
+        .accountNumber("7000000000")
+        .balance(0L)
+        .registeredAt(LocalDateTime.now())
+        .build());
+  }
+
+  Stream<Arguments> queries() {
+    return Stream.of(
+        query("TransactionRepository.findByTransactionId",
+            () -> transactionRepository.findByTransactionId(1L)),
+        query("TransactionRepository.findMaxTransactionIdBetween",
+            () -> transactionRepository.findMaxTransactionIdBetween(FROM, TO)),
+        query("TransactionRepository.deleteTransactedBetween",
+            () -> transactionRepository.deleteTransactedBetween(FROM, TO)),
+        query("TransactionHistoryRepository.updateResultType",
+            () -> transactionHistoryRepository.updateResultType(1L,
+                TransactionResultType.EXPRIED_AFTER_SUCCESS)),
+        query("TransactionHistoryRepository.findPageByUserId",
+            () -> transactionHistoryRepository.findPageByUserId(1L, CURSOR,
+                CURSOR_ID, PAGE)),
+        query("TransactionHistoryRepository.findPageByReceiverAccountId",
+            () -> transactionHistoryRepository.findPageByReceiverAccountId(1L,
+                CURSOR, CURSOR_ID, PAGE)),
+        query("TransactionHistoryRepository.findPageByUserIdOrderByReceiver",
+            () -> transactionHistoryRepository
+                .findPageByUserIdOrderByReceiver(1L, SORT_KEY, CURSOR,
+                    CURSOR_ID, PAGE)),
+        query("TransactionHistoryRepository.findPageByUserIdBetween",
+            () -> transactionHistoryRepository.findPageByUserIdBetween(1L,
+                FROM, TO, CURSOR, CURSOR_ID, PAGE)),
+        query("TransactionHistoryRepository.findPageByUserIdAndResultType",
+            () -> transactionHistoryRepository.findPageByUserIdAndResultType(
+                1L, TransactionResultType.FAIL, CURSOR, CURSOR_ID, PAGE)),
+        query("TransactionHistoryRepository.findPageByUserIdAndReceiver",
+            () -> transactionHistoryRepository.findPageByUserIdAndReceiver(
+                1L, "홍길동", CURSOR, CURSOR_ID, PAGE)),
+        query("TransactionHistoryRepository.findReceiverNamesByUserId",
+            () -> transactionHistoryRepository.findReceiverNamesByUserId(1L)),
+        query("TransactionHistoryRepository.findStatementLines",
+            () -> transactionHistoryRepository.findStatementLines(1L,
+                TransactionDirection.RECEIVED, FROM, TO)),
+        query("TransactionHistoryRepository.streamByUserId",
+            () -> drain(transactionHistoryRepository.streamByUserId(1L))),
+        query("TransactionHistoryRepository.streamByReceiverAccountId",
+            () -> drain(transactionHistoryRepository
+                .streamByReceiverAccountId(1L))),
+        query("TransactionHistoryRepository.streamByUserIdOrderByReceiver",
+            () -> drain(transactionHistoryRepository
+                .streamByUserIdOrderByReceiver(1L))),
+        query("TransactionHistoryRepository.streamByUserIdBetween",
+            () -> drain(transactionHistoryRepository
+                .streamByUserIdBetween(1L, FROM, TO))),
+        query("TransactionHistoryRepository.streamByUserIdAndResultType",
+            () -> drain(transactionHistoryRepository
+                .streamByUserIdAndResultType(1L, TransactionResultType.FAIL))),
+        query("TransactionHistoryRepository.streamByUserIdAndReceiver",
+            () -> drain(transactionHistoryRepository
+                .streamByUserIdAndReceiver(1L, "홍길동"))),
+        query("TransactionHistoryPartitionRepository.findOldestHotTransactedAt",
+            () -> partitionRepository.findOldestHotTransactedAt(FROM)),
+        query("TransactionHistoryPartitionRepository.deleteFromHot",
+            () -> partitionRepository.deleteFromHot(PARTITION)),
+        query("TransactionHistoryPartitionRepository.updatePartitionStatus",
+            () -> partitionRepository.updatePartitionStatus(PARTITION,
+                PartitionStatus.DETACHED)),
+        query("TransactionHistoryPartitionRepository.updatePrunedThrough",
+            () -> partitionRepository.updatePrunedThrough(PARTITION, 1L)),
+        query("TransactionHistoryPartitionRepository.updateResultType",
+            () -> partitionRepository.updateResultType(PARTITION, 1L,
+                TransactionResultType.EXPRIED_AFTER_SUCCESS)),
+        query("TransactionHistoryPartitionRepository.findPageByUserId",
+            () -> partitionRepository.findPageByUserId(PARTITION, 1L, CURSOR,
+                CURSOR_ID, 21)),
+        query("TransactionHistoryPartitionRepository"
+                + ".findPageByReceiverAccountId",
+            () -> partitionRepository.findPageByReceiverAccountId(PARTITION,
+                1L, CURSOR, CURSOR_ID, 21)),
+        query("TransactionHistoryPartitionRepository"
+                + ".findPageByUserIdOrderByReceiver",
+            () -> partitionRepository.findPageByUserIdOrderByReceiver(
+                PARTITION, 1L, SORT_KEY, CURSOR, CURSOR_ID, 21)),
+        query("TransactionHistoryPartitionRepository.findPageByUserIdBetween",
+            () -> partitionRepository.findPageByUserIdBetween(PARTITION, 1L,
+                FROM, TO, CURSOR, CURSOR_ID, 21)),
+        query("TransactionHistoryPartitionRepository"
+                + ".findPageByUserIdAndResultType",
+            () -> partitionRepository.findPageByUserIdAndResultType(PARTITION,
+                1L, TransactionResultType.FAIL, CURSOR, CURSOR_ID, 21)),
+        query("TransactionHistoryPartitionRepository"
+                + ".findPageByUserIdAndReceiver",
+            () -> partitionRepository.findPageByUserIdAndReceiver(PARTITION,
+                1L, "홍길동", CURSOR, CURSOR_ID, 21)),
+        query("TransactionHistoryPartitionRepository.findStatementLines",
+            () -> partitionRepository.findStatementLines(PARTITION, 1L,
+                TransactionDirection.RECEIVED, FROM, TO)),
+        query("TransactionHistoryPartitionRepository"
+                + ".findReceiverNamesByUserId",
+            () -> partitionRepository.findReceiverNamesByUserId(PARTITION,
+                1L)),
+        query("TransactionHistoryPartitionRepository.streamByUserId",
+            () -> drain(partitionRepository.streamByUserId(PARTITION, 1L))),
+        query("TransactionHistoryPartitionRepository"
+                + ".streamByReceiverAccountId",
+            () -> drain(partitionRepository.streamByReceiverAccountId(
+                PARTITION, 1L))),
+        query("TransactionHistoryPartitionRepository"
+                + ".streamByUserIdOrderByReceiver",
+            () -> drain(partitionRepository.streamByUserIdOrderByReceiver(
+                PARTITION, 1L))),
+        query("TransactionHistoryPartitionRepository.streamByUserIdBetween",
+            () -> drain(partitionRepository.streamByUserIdBetween(PARTITION,
+                1L, FROM, TO))),
+        query("TransactionHistoryPartitionRepository"
+                + ".streamByUserIdAndResultType",
+            () -> drain(partitionRepository.streamByUserIdAndResultType(
+                PARTITION, 1L, TransactionResultType.FAIL))),
+        query("TransactionHistoryPartitionRepository"
+                + ".streamByUserIdAndReceiver",
+            () -> drain(partitionRepository.streamByUserIdAndReceiver(
+                PARTITION, 1L, "홍길동"))),
+        query("DailyAccountSummaryRepository.merge",
+            () -> dailyAccountSummaryRepository.merge(account.getId(), DAY, 0,
+                1000L, 0L, 1)),
+        query("DailyAccountSummaryRepository"
+                + ".findAllByAccountIdAndSummaryDateBetween",
+            () -> dailyAccountSummaryRepository
+                .findAllByAccountIdAndSummaryDateBetweenOrderBySummaryDateAsc(
+                    1L, DAY.minusDays(89), DAY)),
+        query("DailyAccountSummaryRepository.sumBalanceBefore",
+            () -> dailyAccountSummaryRepository.sumBalanceBefore(1L, DAY)),
+        query("DailyAccountSummaryRepository.existsByAccountId",
+            () -> dailyAccountSummaryRepository.existsByAccountId(1L)),
+        query("AccountRepository.findByAccountNumber",
+            () -> accountRepository.findByAccountNumber("1000000000")),
+        query("AccountRepository.findWithUserByAccountNumber",
+            () -> accountRepository.findWithUserByAccountNumber("1000000000")),
+        query("AccountRepository.findByAccountNumberForUpdate",
+            () -> accountRepository.findByAccountNumberForUpdate(
+                "1000000000")),
+        query("AccountRepository.findAllByAccountNumberIn",
+            () -> accountRepository.findAllByAccountNumberIn(
+                List.of("1000000000", "1000000001"))),
+        query("AccountRepository.findAllByAccountNumberInForUpdate",
+            () -> accountRepository.findAllByAccountNumberInForUpdate(
+                List.of("1000000000", "1000000001"))),
+        query("AccountRepository.withdrawIfSufficient",
+            () -> accountRepository.withdrawIfSufficient(1L, 1000L)),
+        query("AccountRepository.depositIfActive",
+            () -> accountRepository.depositIfActive(1L, 1000L)),
+        query("AccountRepository.applyBalanceDelta",
+            () -> accountRepository.applyBalanceDelta(1L, -1000L)),
+        query("AccountRepository.findBalanceById",
+            () -> accountRepository.findBalanceById(1L)),
+        query("AccountRepository.findStatementAccounts",
+            () -> accountRepository.findStatementAccounts(100L, TO,
+                PageRequest.of(0, 500))),
+        query("UserRepository.findByEmail",
+            () -> userRepository.findByEmail("user@example.com")),
+        query("UserRepository.reserveAccountSlot",
+            () -> userRepository.reserveAccountSlot(1L, 5)),
+        query("IdempotencyKeyRepository.findByUserIdAndIdempotencyKey",
+            () -> idempotencyKeyRepository.findByUserIdAndIdempotencyKey(1L,
+                "key")),
+        query("IdempotencyKeyRepository.deleteExpired",
+            () -> idempotencyKeyRepository.deleteExpired(
+                LocalDateTime.now(), 1000)),
+        query("AccountBalanceSlotRepository.findAllByAccountIdForUpdate",
+            () -> accountBalanceSlotRepository.findAllByAccountIdForUpdate(1L)),
+        query("AccountBalanceSlotRepository.addBalance",
+            () -> accountBalanceSlotRepository.addBalance(1L, 0, 1000L)),
+        query("AccountBalanceSlotRepository.sumBalanceByAccountId",
+            () -> accountBalanceSlotRepository.sumBalanceByAccountId(1L)),
+        query("AccountBalanceSlotRepository.deleteAllByAccountId",
+            () -> accountBalanceSlotRepository.deleteAllByAccountId(1L)),
+        query("ScheduledJobLockRepository.tryLock",
+            () -> jobLockRepository.tryLock("query-plan",
+                Duration.ofMinutes(1))));
+  }
+
+  @ParameterizedTest(name = "{0}")
+  @MethodSource("queries")
+  void query_UsesIndex(String query, Runnable call) {
+    // when
+    List<Captured> statements = capture(call);
+
+    // then
+    assertFalse(statements.isEmpty(), query + " executed no statement");
+    for (Captured statement : statements) {
+      String plan = jdbcTemplate.queryForObject("explain " + statement.sql(),
+          String.class, statement.parameters().toArray());
+      assertFalse(plan.contains("tableScan"), query + " -> " + plan);
+    }
+  }
+
+  private static Arguments query(String name, Runnable call) {
+    return Arguments.of(name, call);
+  }
+
+  private static List<Captured> capture(Runnable call) {
+    List<Captured> statements = new ArrayList<>();
+    CAPTURED.set(statements);
+    try {
+      call.run();
+    } finally {
+      CAPTURED.remove();
+    }
+    return statements;
+  }
+
+  // 스트림 조회는 열 때 실행된다.
+  private static void drain(Stream<?> stream) {
+    try (stream) {
+      stream.forEach(row -> {
+      });
+    }
+  }
+}
@@ -0,0 +1,228 @@
+package com.example.accountz.persist;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.example.accountz.model.FailedTransactionDto;
+import com.example.accountz.model.TransactionDto;
+import com.example.accountz.persist.entity.AccountEntity;
+import com.example.accountz.persist.entity.UserEntity;
+import com.example.accountz.persist.repository.AccountRepository;
+import com.example.accountz.persist.repository.UserRepository;
+import com.example.accountz.service.AccountSummaryService;
+import com.example.accountz.service.TransactionHistoryPartitionService;
+import com.example.accountz.service.TransactionService;
+import com.example.accountz.type.AccountStatus;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.sql.DataSource;
+import net.ttddyy.dsproxy.QueryCountHolder;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * 서비스 호출 한 번에 실행되는 SQL 문 수가 예산을 넘지 않는지 확인한다.
+ * 연관 엔티티 지연 조회(N+1)가 생기면 여기서 실패한다.
+ * DataSource 를 datasource-proxy 로 감싸 세므로 Hibernate 밖의 JdbcTemplate 조회
+ * (월 파티션 / 세그먼트 달 조회)도 포함된다. (호출한 스레드에서 실행한 문장만 센다.)
+ * 예산의 UPDATE / INSERT 는 건마다 한 문장으로 센다. (JDBC batch 로 묶이면 더 적게 나온다.)
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.show_sql=false")
+class StatementBudgetTest {
+
+  @TestConfiguration
+  static class StatementCountConfig {
+
+    @Bean
+    static BeanPostProcessor statementCountingDataSource() {
+      return new BeanPostProcessor() {
+        @Override
+        public Object postProcessAfterInitialization(Object bean,
+            String beanName) {
+          if (bean instanceof DataSource dataSource
+              && !(bean instanceof ProxyDataSource)) {
+            return ProxyDataSourceBuilder.create(dataSource)
+                .name("statement-budget")
+                .countQuery()
+                .build();
+          }
+          return bean;
+        }
+      };
+    }
+  }
+
+  private static final AtomicLong SEQUENCE = new AtomicLong();
+  private static final String PASSWORD = "password";
+  private static final LocalDate BIRTH_DAY = LocalDate.of(1990, 1, 1);
+
+  @Autowired
+  private TransactionService transactionService;
+
+  @Autowired
+  private AccountSummaryService accountSummaryService;
+
+  @Autowired
+  private UserRepository userRepository;
+
+  @Autowired
+  private AccountRepository accountRepository;
+
+  @Autowired
+  private PasswordEncoder passwordEncoder;
+
+  @Autowired
+  private TransactionHistoryPartitionService partitionService;
+
+  private UserEntity sender;
+  private AccountEntity senderAccount;
+  private AccountEntity receiverAccount;
+  private AccountEntity otherReceiverAccount;
+
+  @BeforeEach
+  void setUp() {
+    sender = createUser("sender");
+    senderAccount = createAccount(sender);
+    receiverAccount = createAccount(createUser("receiver"));
+    otherReceiverAccount = createAccount(createUser("other"));
+    // 거래 / 내역 id 시퀀스 할당도 여기서 끝낸다.
+    transactionService.saveMoney(
+        sender.getId(), senderAccount.getAccountNumber(), 1_000_000L);
+    // 파티션 목록은 refreshInterval 동안 재사용한다.
+    partitionService.refresh();
+  }
+
+  @Test
+  void saveMoney() {
+    // 사용자, 계좌, 거래 INSERT, 내역 INSERT 2, 일 집계 MERGE, 계좌 UPDATE
+    assertStatements(7, () -> transactionService.saveMoney(
+        sender.getId(), senderAccount.getAccountNumber(), 1000L));
+  }
+
+  @Test
+  void useBalance() {
+    // 사용자, 계좌, 거래 INSERT, 내역 INSERT 2, 일 집계 MERGE, 계좌 UPDATE
+    assertStatements(7, () -> transactionService.useBalance(
+        sender.getId(), senderAccount.getAccountNumber(), 1000L));
+  }
+
+  @Test
+  void underMillionSendMoney() {
+    // 사용자, 두 계좌 + 소유자, 거래 INSERT, 내역 INSERT 2, 일 집계 MERGE 2,
+    // 계좌 UPDATE 2
+    assertStatements(9, () -> transactionService.underMillionSendMoney(
+        sender.getId(), senderAccount.getAccountNumber(),
+        receiverAccount.getAccountNumber(), 1000L));
+  }
+
+  @Test
+  void overMillionSendMoney() {
+    // 사용자, 두 계좌 + 소유자, 거래 INSERT, 내역 INSERT 2, 일 집계 MERGE 2,
+    // 계좌 UPDATE 2
+    assertStatements(9, () -> transactionService.overMillionSendMoney(
+        sender.getId(), senderAccount.getAccountNumber(), sender.getName(),
+        BIRTH_DAY, sender.getEmail(), PASSWORD,
+        receiverAccount.getAccountNumber(), 1000L));
+  }
+
+  @Test
+  void cancelBalance() {
+    TransactionDto transaction = transactionService.underMillionSendMoney(
+        sender.getId(), senderAccount.getAccountNumber(),
+        receiverAccount.getAccountNumber(), 1000L);
+
+    // 사용자, 원 거래, 원 거래 내역 UPDATE, 두 계좌 + 소유자, 취소 거래 INSERT,
+    // 내역 INSERT 2, 일 집계 MERGE 2, 원 거래 UPDATE, 계좌 UPDATE 2
+    assertStatements(12, () -> transactionService.cancelBalance(
+        sender.getId(), transaction.getTransactionId(),
+        senderAccount.getAccountNumber(),
+        receiverAccount.getAccountNumber(), 1000L));
+  }
+
+  @Test
+  void saveFailedUseTransactions() {
+    List<FailedTransactionDto> failures = List.of(
+        failure(receiverAccount), failure(otherReceiverAccount));
+
+    // 계좌 + 소유자 한 번, 거래 INSERT 2, 내역 INSERT 4 (실패 거래는 일 집계 제외)
+    // (받는 사람 수와 무관하게 계좌 조회는 한 번)
+    assertStatements(7,
+        () -> transactionService.saveFailedUseTransactions(failures));
+  }
+
+  @Test
+  void getTransaction() {
+    // 사용자, transaction_history 페이지, 페이지가 덜 찼으면 파티션 달마다 한 번
+    assertStatements(2 + partitionMonths(),
+        () -> transactionService.getTransaction(sender.getId(), null, 20));
+  }
+
+  @Test
+  void getOrderByReceiveMoney() {
+    // 계좌, transaction_history 페이지, 페이지가 덜 찼으면 파티션 달마다 한 번
+    assertStatements(2 + partitionMonths(),
+        () -> transactionService.getOrderByReceiveMoney(
+            senderAccount.getAccountNumber(), null, 20));
+  }
+
+  @Test
+  void getAccountSummary() {
+    // 계좌, 일 집계, 기간 이전 잔액 (기간 일수와 무관하게 한 번씩)
+    assertStatements(3, () -> accountSummaryService.getAccountSummary(
+        sender.getId(), senderAccount.getAccountNumber(), 90));
+  }
+
+  private void assertStatements(long budget, Runnable call) {
+    QueryCountHolder.clear();
+    call.run();
+    long statements = QueryCountHolder.getGrandTotal().getTotal();
+    assertTrue(statements <= budget,
+        "executed " + statements + " statements, budget " + budget);
+  }
+
+  // 같은 H2 메모리 DB 를 쓰는 다른 테스트가 만든 파티션 달 수
+  private long partitionMonths() {
+    return partitionService.months(null, null).size();
+  }
+
+  private FailedTransactionDto failure(AccountEntity receiver) {
+    return FailedTransactionDto.builder()
+        .userId(sender.getId())
+        .userAccountNumber(senderAccount.getAccountNumber())
+        .receiverAccountNumber(receiver.getAccountNumber())
+        .amount(1000L)
+        .failedAt(LocalDateTime.now())
+        .build();
+  }
+
+  private UserEntity createUser(String name) {
+    return userRepository.save(UserEntity.builder()
+        .name(name)
+        .email("statement-budget-" + name + "-"
+            + SEQUENCE.incrementAndGet() + "@example.com")
+        .birthDay(BIRTH_DAY)
+        .password(passwordEncoder.encode(PASSWORD))
+        .roles(List.of("ROLE_USER"))
+        .build());
+  }
+
+  private AccountEntity createAccount(UserEntity user) {
+    return accountRepository.save(AccountEntity.builder()
+        .user(user)
+        .accountStatus(AccountStatus.ACTIVATED)
+        .accountNumber(String.valueOf(
+            6_000_000_000L + SEQUENCE.incrementAndGet()))
+        .balance(0L)
+        .registeredAt(LocalDateTime.now())
+        .build());
+  }
+}
@@ -0,0 +1,175 @@
+package com.example.accountz.persist;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.example.accountz.model.TransactionPageDto;
+import com.example.accountz.model.TransactionSearchDto;
+import com.example.accountz.persist.archive.HistorySegment;
+import com.example.accountz.persist.entity.NameSortKey;
+import com.example.accountz.persist.entity.UserEntity;
+import com.example.accountz.persist.repository.TransactionHistoryPartitionRepository;
+import com.example.accountz.persist.repository.TransactionHistorySegmentRepository;
+import com.example.accountz.persist.repository.UserRepository;
+import com.example.accountz.service.TransactionHistoryArchiveService;
+import com.example.accountz.service.TransactionHistoryPartitionService;
+import com.example.accountz.service.TransactionService;
+import com.example.accountz.type.PartitionStatus;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+/**
+ * 오래된 월 파티션을 세그먼트 파일로 옮기고(ARCHIVED) 파티션 테이블을 지우는 동안
+ * 거래 내역 조회 결과가 빠지거나 중복되지 않는지 확인한다.
+ */
+@SpringBootTest(properties = "transaction.partition.refresh-interval=0s")
+class TransactionHistoryArchiveTest {
+
+  // 다른 테스트의 내역 id 와 겹치지 않는 범위
+  private static final long ID_BASE = 910_000_000L;
+
+  @TempDir
+  static Path archiveDirectory;
+
+  @DynamicPropertySource
+  static void archiveProperties(DynamicPropertyRegistry registry) {
+    registry.add("transaction.archive.directory",
+        () -> archiveDirectory.toString());
+  }
+
+  @Autowired
+  private TransactionService transactionService;
+
+  @Autowired
+  private TransactionHistoryPartitionService partitionService;
+
+  @Autowired
+  private TransactionHistoryArchiveService archiveService;
+
+  @Autowired
+  private UserRepository userRepository;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @Test
+  void archive_ThenDropPartition_HistoryReadsAcrossSegments()
+      throws Exception {
+    // given: 30 개월 전 3 건, 16 개월 전 1 건, 이번 달 1 건
+    UserEntity user = userRepository.save(UserEntity.builder()
+        .name("archive")
+        .email("archive-history@example.com")
+        .birthDay(LocalDate.of(1990, 1, 1))
+        .password("password")
+        .roles(List.of("ROLE_USER"))
+        .build());
+    YearMonth archived = YearMonth.now().minusMonths(30);
+    YearMonth detached = YearMonth.now().minusMonths(16);
+    insertHistory(user.getId(), 1, "다영", archived.atDay(3).atTime(9, 0));
+    insertHistory(user.getId(), 2, "가람", archived.atDay(5).atTime(9, 0));
+    insertHistory(user.getId(), 3, "나리", archived.atDay(5).atTime(9, 0));
+    insertHistory(user.getId(), 4, "가람", detached.atDay(1).atTime(9, 0));
+    insertHistory(user.getId(), 5, "나리", LocalDateTime.now().minusHours(1));
+    insertTransaction(user.getId(), 1, archived.atDay(3).atTime(9, 0));
+    insertTransaction(user.getId(), 4, detached.atDay(1).atTime(9, 0));
+    partitionService.maintain();
+    partitionService.maintain();
+
+    // when: 세그먼트로 옮김
+    archiveService.archive();
+
+    // then: 파티션 테이블이 남아 있어도 세그먼트에서 읽는다.
+    assertEquals(PartitionStatus.ARCHIVED, status(archived));
+    assertEquals(PartitionStatus.DETACHED, status(detached));
+    assertTrue(Files.exists(archiveDirectory.resolve(
+        TransactionHistorySegmentRepository.fileName(archived))));
+    assertEquals(List.of(5L, 4L, 3L, 2L, 1L), amounts(user.getId(), 2));
+    // 원 거래 행은 세그먼트에 담긴 달만 지운다.
+    assertEquals(List.of(ID_BASE + 4), transactionIds());
+    HistorySegment.Row row = HistorySegment.open(archiveDirectory.resolve(
+            TransactionHistorySegmentRepository.fileName(archived)))
+        .rowsOf(user.getId()).stream()
+        .filter(segmentRow -> segmentRow.transactionId() == ID_BASE + 1)
+        .findFirst().orElseThrow();
+    assertEquals(9001L, row.balanceSnapshot());
+    assertEquals(archived.atDay(3).atTime(9, 0), row.createdAt());
+
+    // when: 파티션 테이블 삭제
+    archiveService.archive();
+
+    // then
+    assertEquals(0, jdbcTemplate.queryForObject("select count(*)"
+        + " from information_schema.tables where table_name = ?",
+        Integer.class, TransactionHistoryPartitionRepository
+            .tableName(archived).toUpperCase()));
+    assertEquals(List.of(5L, 4L, 3L, 2L, 1L), amounts(user.getId(), 2));
+    assertEquals(List.of("가람", "가람", "나리", "나리", "다영"),
+        transactionService.getOrderByName(user.getId(), null, 10)
+            .getTransactions().stream()
+            .map(TransactionSearchDto::getReceiver).toList());
+    assertEquals(List.of(3L, 2L), transactionService.getBetweenDate(
+            user.getId(), archived.atDay(4), archived.atEndOfMonth(), null,
+            10)
+        .getTransactions().stream().map(TransactionSearchDto::getAmount)
+        .toList());
+  }
+
+  // 페이지 크기 size 로 끝까지 읽은 금액 (행마다 다른 금액)
+  private List<Long> amounts(Long userId, int size) {
+    List<Long> amounts = new ArrayList<>();
+    String cursor = null;
+    do {
+      TransactionPageDto page =
+          transactionService.getTransaction(userId, cursor, size);
+      page.getTransactions().forEach(row -> amounts.add(row.getAmount()));
+      cursor = page.getNextCursor();
+    } while (cursor != null);
+    return amounts;
+  }
+
+  private List<Long> transactionIds() {
+    return jdbcTemplate.queryForList("select transaction_id from transactions"
+        + " where transaction_id between ? and ? order by transaction_id",
+        Long.class, ID_BASE, ID_BASE + 10);
+  }
+
+  private PartitionStatus status(YearMonth month) {
+    return PartitionStatus.valueOf(jdbcTemplate.queryForObject(
+        "select status from transaction_history_partitions"
+            + " where partition_month = ?", String.class, month.toString()));
+  }
+
+  private void insertHistory(Long userId, long amount, String receiver,
+      LocalDateTime transactedAt) {
+    jdbcTemplate.update("insert into transaction_history (id, transaction_id,"
+            + " direction, owner_user_id, sender_name, receiver_name, amount,"
+            + " transaction_result_type, transacted_at, transaction_type,"
+            + " receiver_sort_key)"
+            + " values (?, ?, 'SENT', ?, 'archive', ?, ?, 'SUCCESS', ?,"
+            + " 'USE', ?)",
+        ID_BASE + amount - 1, ID_BASE + amount, userId, receiver, amount,
+        transactedAt, NameSortKey.of(receiver));
+  }
+
+  private void insertTransaction(Long userId, long amount,
+      LocalDateTime transactedAt) {
+    jdbcTemplate.update("insert into transactions (id, user_id, amount,"
+            + " balance_snapshot, transaction_id, transacted_at,"
+            + " transaction_type, transaction_result_type, created_at)"
+            + " values (?, ?, ?, ?, ?, ?, 'USE', 'SUCCESS', ?)",
+        ID_BASE + amount, userId, amount, 9000 + amount, ID_BASE + amount,
+        transactedAt, transactedAt);
+  }
+}
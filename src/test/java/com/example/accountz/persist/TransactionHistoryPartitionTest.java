@@ -0,0 +1,166 @@
+package com.example.accountz.persist;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import com.example.accountz.model.TransactionPageDto;
+import com.example.accountz.model.TransactionSearchDto;
+import com.example.accountz.persist.entity.NameSortKey;
+import com.example.accountz.persist.entity.UserEntity;
+import com.example.accountz.persist.repository.TransactionHistoryPartitionRepository;
+import com.example.accountz.persist.repository.UserRepository;
+import com.example.accountz.service.TransactionHistoryPartitionService;
+import com.example.accountz.service.TransactionService;
+import com.example.accountz.type.PartitionStatus;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * hot 테이블의 오래된 달을 월 파티션으로 복사(COPIED) / 분리(DETACHED)하는 동안
+ * 거래 내역 조회 결과가 빠지거나 중복되지 않는지, 파티션 조회가 인덱스를 타는지 확인한다.
+ */
+@SpringBootTest(properties = "transaction.partition.refresh-interval=0s")
+class TransactionHistoryPartitionTest {
+
+  // 다른 테스트의 내역 id 와 겹치지 않는 범위
+  private static final long ID_BASE = 900_000_000L;
+
+  @Autowired
+  private TransactionService transactionService;
+
+  @Autowired
+  private TransactionHistoryPartitionService partitionService;
+
+  @Autowired
+  private TransactionHistoryPartitionRepository partitionRepository;
+
+  @Autowired
+  private UserRepository userRepository;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @Test
+  void maintain_CopyThenDetach_HistoryReadsAcrossPartitions() {
+    // given: 20 개월 전 3 건, 16 개월 전 2 건, 이번 달 2 건
+    UserEntity user = userRepository.save(UserEntity.builder()
+        .name("partition")
+        .email("partition-history@example.com")
+        .birthDay(LocalDate.of(1990, 1, 1))
+        .password("password")
+        .roles(List.of("ROLE_USER"))
+        .build());
+    YearMonth oldest = YearMonth.now().minusMonths(20);
+    YearMonth older = YearMonth.now().minusMonths(16);
+    insertHistory(user.getId(), 1, "다영", oldest.atDay(3).atTime(9, 0));
+    insertHistory(user.getId(), 2, "가람", oldest.atDay(5).atTime(9, 0));
+    insertHistory(user.getId(), 3, "나리", oldest.atDay(5).atTime(9, 0));
+    insertHistory(user.getId(), 4, "가람", older.atDay(1).atTime(9, 0));
+    insertHistory(user.getId(), 5, "라온", older.atDay(2).atTime(9, 0));
+    insertHistory(user.getId(), 6, "나리", LocalDateTime.now().minusHours(2));
+    insertHistory(user.getId(), 7, "다영", LocalDateTime.now().minusHours(1));
+
+    // when: 1단계 복사
+    partitionService.maintain();
+
+    // then: hot 과 파티션에 같은 행이 있어도 한 번씩
+    assertEquals(PartitionStatus.COPIED, status(oldest));
+    assertEquals(List.of(7L, 6L, 5L, 4L, 3L, 2L, 1L),
+        amounts(user.getId(), 3));
+
+    // when: 2단계 hot 에서 삭제
+    partitionService.maintain();
+
+    // then
+    assertEquals(PartitionStatus.DETACHED, status(oldest));
+    assertEquals(PartitionStatus.DETACHED, status(older));
+    assertEquals(0, jdbcTemplate.queryForObject("select count(*)"
+        + " from transaction_history where id between ? and ?", Integer.class,
+        ID_BASE, ID_BASE + 4));
+    assertEquals(List.of(7L, 6L, 5L, 4L, 3L, 2L, 1L),
+        amounts(user.getId(), 3));
+    assertEquals(List.of("가람", "가람", "나리", "나리", "다영", "다영", "라온"),
+        transactionService.getOrderByName(user.getId(), null, 10)
+            .getTransactions().stream()
+            .map(TransactionSearchDto::getReceiver).toList());
+    assertEquals(List.of(5L, 4L), transactionService.getBetweenDate(
+            user.getId(), older.atDay(1), older.atEndOfMonth(), null, 10)
+        .getTransactions().stream().map(TransactionSearchDto::getAmount)
+        .toList());
+  }
+
+  @Test
+  void partitionQueries_UseIndex() {
+    // given
+    YearMonth month = YearMonth.of(2000, 1);
+    partitionRepository.createPartitionTable(month);
+    String table = TransactionHistoryPartitionRepository.tableName(month);
+    String keyset = " and transacted_at <= timestamp '2000-01-31 00:00:00'"
+        + " and (transacted_at < timestamp '2000-01-31 00:00:00' or id < 100)";
+
+    // when / then
+    for (String sql : List.of(
+        "select * from " + table + " where transaction_id = 1",
+        "select * from " + table
+            + " where owner_user_id = 1 and direction = 'SENT'" + keyset
+            + " order by transacted_at desc, id desc limit 21",
+        "select * from " + table
+            + " where owner_account_id = 1 and direction = 'RECEIVED'" + keyset
+            + " order by transacted_at desc, id desc limit 21",
+        "select * from " + table
+            + " where owner_user_id = 1 and direction = 'SENT'"
+            + " and receiver_sort_key >= X'80ff'"
+            + " order by receiver_sort_key, transacted_at desc, id desc"
+            + " limit 21",
+        "select * from " + table
+            + " where owner_user_id = 1 and direction = 'SENT'"
+            + " and transaction_result_type = 'FAIL'" + keyset
+            + " order by transacted_at desc, id desc limit 21",
+        "select * from " + table
+            + " where owner_user_id = 1 and direction = 'SENT'"
+            + " and receiver_name = '홍길동'" + keyset
+            + " order by transacted_at desc, id desc limit 21")) {
+      String plan = jdbcTemplate.queryForObject("explain " + sql,
+          String.class);
+      assertFalse(plan.contains("tableScan"), sql + " -> " + plan);
+    }
+  }
+
+  // 페이지 크기 size 로 끝까지 읽은 금액 (행마다 다른 금액)
+  private List<Long> amounts(Long userId, int size) {
+    List<Long> amounts = new ArrayList<>();
+    String cursor = null;
+    do {
+      TransactionPageDto page =
+          transactionService.getTransaction(userId, cursor, size);
+      page.getTransactions().forEach(row -> amounts.add(row.getAmount()));
+      cursor = page.getNextCursor();
+    } while (cursor != null);
+    return amounts;
+  }
+
+  private PartitionStatus status(YearMonth month) {
+    return PartitionStatus.valueOf(jdbcTemplate.queryForObject(
+        "select status from transaction_history_partitions"
+            + " where partition_month = ?", String.class, month.toString()));
+  }
+
+  private void insertHistory(Long userId, long amount, String receiver,
+      LocalDateTime transactedAt) {
+    jdbcTemplate.update("insert into transaction_history (id, transaction_id,"
+            + " direction, owner_user_id, sender_name, receiver_name, amount,"
+            + " transaction_result_type, transacted_at, transaction_type,"
+            + " receiver_sort_key)"
+            + " values (?, ?, 'SENT', ?, 'partition', ?, ?, 'SUCCESS', ?,"
+            + " 'USE', ?)",
+        ID_BASE + amount - 1, ID_BASE + amount, userId, receiver, amount,
+        transactedAt, NameSortKey.of(receiver));
+  }
+}
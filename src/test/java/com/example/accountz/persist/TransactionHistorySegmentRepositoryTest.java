@@ -0,0 +1,134 @@
+package com.example.accountz.persist;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.example.accountz.config.TransactionProperties;
+import com.example.accountz.model.StatementLineRow;
+import com.example.accountz.model.TransactionHistoryRow;
+import com.example.accountz.persist.archive.HistorySegment;
+import com.example.accountz.persist.entity.NameSortKey;
+import com.example.accountz.persist.repository.TransactionHistorySegmentRepository;
+import com.example.accountz.type.TransactionDirection;
+import com.example.accountz.type.TransactionResultType;
+import com.example.accountz.type.TransactionType;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class TransactionHistorySegmentRepositoryTest {
+
+  private static final YearMonth MONTH = YearMonth.of(2022, 3);
+  private static final LocalDateTime MONTH_START =
+      MONTH.atDay(1).atStartOfDay();
+
+  @TempDir
+  Path directory;
+
+  private TransactionHistorySegmentRepository segmentRepository;
+
+  @BeforeEach
+  void setUp() {
+    TransactionProperties transactionProperties = new TransactionProperties();
+    transactionProperties.getArchive().setDirectory(directory.toString());
+    transactionProperties.getArchive().setBlockRows(2);
+    segmentRepository =
+        new TransactionHistorySegmentRepository(transactionProperties);
+    // (소유 사용자, 방향, 받는 사람 정렬 키, 최근 날짜) 순
+    // (사용자 1 의 받은 행 1 건 / 보낸 행 4 건, 사용자 2 의 보낸 행 1 건)
+    segmentRepository.write(MONTH, Stream.of(
+        new HistorySegment.Row(5, 1005, TransactionDirection.RECEIVED, 1L,
+            11L, "보낸사람", 1_000_000_002L, "나", NameSortKey.of("나"),
+            1_000_000_001L, 500L, TransactionResultType.SUCCESS,
+            MONTH_START.plusDays(2), TransactionType.USE, null, null, null,
+            null, null),
+        sent(3, 1L, "가람", 3, TransactionResultType.SUCCESS),
+        sent(2, 1L, "가람", 3, TransactionResultType.FAIL),
+        sent(4, 1L, "나리", 1, TransactionResultType.SUCCESS),
+        sent(1, 1L, "다영", 5, TransactionResultType.SUCCESS),
+        sent(6, 2L, "가람", 4, TransactionResultType.SUCCESS)));
+  }
+
+  @Test
+  void findPageByUserId_SeeksFromCursorRecentFirst() {
+    // when
+    List<TransactionHistoryRow> first = segmentRepository.findPageByUserId(
+        MONTH, 1L, LocalDateTime.MAX, Long.MAX_VALUE, 2);
+    TransactionHistoryRow last = first.get(first.size() - 1);
+    List<TransactionHistoryRow> next = segmentRepository.findPageByUserId(
+        MONTH, 1L, last.transactedAt(), last.id(), 10);
+
+    // then: 같은 시각은 id 큰 것부터
+    assertEquals(List.of(1L, 3L), ids(first));
+    assertEquals(List.of(2L, 4L), ids(next));
+    assertEquals("1000000001", first.get(0).accountNumber());
+  }
+
+  @Test
+  void findPageByReceiverAccountId_ReadsOwnersReceivedRows() {
+    // when
+    List<TransactionHistoryRow> rows =
+        segmentRepository.findPageByReceiverAccountId(MONTH, 1L, 11L,
+            LocalDateTime.MAX, Long.MAX_VALUE, 10);
+
+    // then
+    assertEquals(List.of(5L), ids(rows));
+  }
+
+  @Test
+  void findPageByUserIdOrderByReceiver_SeeksFromSortKey() {
+    // when: 가람(3) 다음부터
+    List<TransactionHistoryRow> rows =
+        segmentRepository.findPageByUserIdOrderByReceiver(MONTH, 1L,
+            NameSortKey.of("가람"), MONTH_START.plusDays(3), 3L, 10);
+
+    // then
+    assertEquals(List.of(2L, 4L, 1L), ids(rows));
+  }
+
+  @Test
+  void findPages_FilterLikePartitionQueries() {
+    // when / then
+    assertEquals(List.of(3L, 2L), ids(segmentRepository
+        .findPageByUserIdBetween(MONTH, 1L, MONTH_START.plusDays(2),
+            MONTH_START.plusDays(4), LocalDateTime.MAX, Long.MAX_VALUE, 10)));
+    assertEquals(List.of(2L), ids(segmentRepository
+        .findPageByUserIdAndResultType(MONTH, 1L, TransactionResultType.FAIL,
+            LocalDateTime.MAX, Long.MAX_VALUE, 10)));
+    assertEquals(List.of(3L, 2L), ids(segmentRepository
+        .findPageByUserIdAndReceiver(MONTH, 1L, "가람", LocalDateTime.MAX,
+            Long.MAX_VALUE, 10)));
+    assertEquals(List.of("가람", "나리", "다영"),
+        segmentRepository.findReceiverNamesByUserId(MONTH, 1L));
+  }
+
+  @Test
+  void findStatementLines_ExcludesFailOldestFirst() {
+    // when
+    List<StatementLineRow> lines = segmentRepository.findStatementLines(
+        MONTH, 1L, 10L, TransactionDirection.SENT, MONTH_START,
+        MONTH.plusMonths(1).atDay(1).atStartOfDay());
+
+    // then
+    assertEquals(List.of(1004L, 1003L, 1001L),
+        lines.stream().map(StatementLineRow::transactionId).toList());
+  }
+
+  private static HistorySegment.Row sent(long id, Long ownerUserId,
+      String receiver, int day, TransactionResultType resultType) {
+    return new HistorySegment.Row(id, 1000 + id, TransactionDirection.SENT,
+        ownerUserId, ownerUserId * 10, "나", 1_000_000_000L + ownerUserId,
+        receiver, NameSortKey.of(receiver), 1_000_000_002L, id * 100,
+        resultType,
+        MONTH_START.plusDays(day), TransactionType.USE, null, null, null,
+        null, null);
+  }
+
+  private static List<Long> ids(List<TransactionHistoryRow> rows) {
+    return rows.stream().map(TransactionHistoryRow::id).toList();
+  }
+}
@@ -0,0 +1,141 @@
+package com.example.accountz.persist.archive;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.example.accountz.persist.entity.NameSortKey;
+import com.example.accountz.type.TransactionDirection;
+import com.example.accountz.type.TransactionResultType;
+import com.example.accountz.type.TransactionType;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class HistorySegmentTest {
+
+  private static final LocalDateTime MONTH_START =
+      LocalDateTime.of(2023, 1, 1, 0, 0);
+
+  @TempDir
+  Path directory;
+
+  @Test
+  void rowsOf_ReturnsOwnersRowsAcrossBlocks() throws Exception {
+    // given: 사용자 1 ~ 5 각 10 건, 블록 7 행 (사용자가 블록 경계에 걸침)
+    List<HistorySegment.Row> rows = new ArrayList<>();
+    for (long owner = 1; owner <= 5; owner++) {
+      for (int i = 0; i < 10; i++) {
+        rows.add(row(owner * 100 + i, owner, MONTH_START.plusDays(20 - i)));
+      }
+    }
+    Path file = directory.resolve("segment");
+
+    // when
+    HistorySegment.write(file, rows.iterator(), 7);
+    HistorySegment segment = HistorySegment.open(file);
+
+    // then
+    assertEquals(50, segment.rowCount());
+    assertEquals(rows.subList(20, 30), segment.rowsOf(3L));
+    assertEquals(List.of(), segment.rowsOf(6L));
+    assertEquals(List.of(), segment.rowsOf(0L));
+  }
+
+  @Test
+  void write_KeepsNullColumnsAndOwnerlessRows() throws Exception {
+    // given
+    HistorySegment.Row ownerless = new HistorySegment.Row(1L, 11L,
+        TransactionDirection.RECEIVED, null, null, "보낸사람", null, null, null,
+        null, null, null, null, null, null, null, null, null, null);
+    HistorySegment.Row owned = row(2L, 7L, MONTH_START.withNano(123_456_000));
+    Path file = directory.resolve("segment");
+
+    // when
+    HistorySegment.write(file, List.of(ownerless, owned).iterator(), 1024);
+    HistorySegment segment = HistorySegment.open(file);
+
+    // then
+    assertEquals(List.of(ownerless), segment.rowsOf(null));
+    assertEquals(List.of(owned), segment.rowsOf(7L));
+  }
+
+  @Test
+  void write_UnorderedOwners_Fails() {
+    // given
+    List<HistorySegment.Row> rows = List.of(
+        row(1L, 2L, MONTH_START), row(2L, 1L, MONTH_START));
+
+    // when / then
+    assertThrows(IllegalArgumentException.class, () -> HistorySegment.write(
+        directory.resolve("segment"), rows.iterator(), 1024));
+  }
+
+  @Test
+  void write_UnorderedReceiverSortKeys_Fails() {
+    // given: 같은 사용자 / 방향에서 나리가 가람보다 먼저
+    List<HistorySegment.Row> rows = List.of(
+        row(1L, 1L, "나리"), row(2L, 1L, "가람"));
+
+    // when / then
+    assertThrows(IllegalArgumentException.class, () -> HistorySegment.write(
+        directory.resolve("segment"), rows.iterator(), 1024));
+  }
+
+  @Test
+  void rowsOf_KeepsReceiverSortKeys() throws Exception {
+    // given
+    List<HistorySegment.Row> rows = List.of(row(1L, 1L, "가람"),
+        row(2L, 1L, "나리"), row(3L, 1L, "다영"));
+    Path file = directory.resolve("segment");
+
+    // when
+    HistorySegment.write(file, rows.iterator(), 2);
+
+    // then
+    assertEquals(rows, HistorySegment.open(file).rowsOf(1L));
+    assertArrayEquals(NameSortKey.of("나리"),
+        HistorySegment.open(file).rowsOf(1L).get(1).receiverSortKey());
+  }
+
+  @Test
+  void write_CompressesRepeatedColumns() throws Exception {
+    // given: 한 사용자 10,000 건
+    List<HistorySegment.Row> rows = new ArrayList<>();
+    for (int i = 0; i < 10_000; i++) {
+      rows.add(row(1_000_000L + i, 1L, MONTH_START.plusMinutes(i)));
+    }
+    Path file = directory.resolve("segment");
+
+    // when
+    HistorySegment.write(file, rows.iterator(), 1024);
+
+    // then: 행당 10 바이트 미만
+    assertTrue(Files.size(file) < 10 * rows.size(), "size=" + Files.size(file));
+  }
+
+  private static HistorySegment.Row row(long id, long owner,
+      LocalDateTime transactedAt) {
+    return row(id, owner, "받는사람", transactedAt);
+  }
+
+  private static HistorySegment.Row row(long id, long owner,
+      String receiver) {
+    return row(id, owner, receiver, MONTH_START);
+  }
+
+  private static HistorySegment.Row row(long id, long owner, String receiver,
+      LocalDateTime transactedAt) {
+    return new HistorySegment.Row(id, 5_000_000L + id,
+        TransactionDirection.SENT, owner, owner + 1000, "보낸사람",
+        1_000_000_000L + owner, receiver, NameSortKey.of(receiver),
+        1_000_000_999L, 1000L, TransactionResultType.SUCCESS, transactedAt,
+        TransactionType.USE, 9000L, owner + 1000, 2000L, transactedAt,
+        transactedAt.plusSeconds(1));
+  }
+}
@@ -0,0 +1,43 @@
+package com.example.accountz.persist.entity;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.text.Normalizer;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+
+class NameSortKeyTest {
+
+  // DB 의 VARBINARY 비교와 같은 부호 없는 사전순
+  private static final Comparator<String> BY_SORT_KEY = (a, b) ->
+      Arrays.compareUnsigned(NameSortKey.of(a), NameSortKey.of(b));
+
+  @Test
+  void sortKey_OrdersLikeKoreanCollation() {
+    // 문자 코드 순서라면 대문자 영문이 소문자보다 앞선다
+    List<String> sorted = Stream.of("홍길동", "Bob", "김철수", "alice", "강감찬")
+        .sorted(BY_SORT_KEY)
+        .toList();
+
+    assertEquals(List.of("alice", "Bob", "강감찬", "김철수", "홍길동"), sorted);
+  }
+
+  @Test
+  void sortKey_DecomposedHangulSameAsComposed() {
+    // 자모로 나뉘어 들어온 이름(NFD)도 같은 위치
+    assertArrayEquals(NameSortKey.of("한지민"), NameSortKey.of(
+        Normalizer.normalize("한지민", Normalizer.Form.NFD)));
+  }
+
+  @Test
+  void sortKey_EmptyBeforeAnyName() {
+    // 첫 페이지 커서("")는 모든 이름보다 앞
+    assertEquals(-1, Integer.signum(BY_SORT_KEY.compare("", "가")));
+    assertNull(NameSortKey.of(null));
+  }
+}
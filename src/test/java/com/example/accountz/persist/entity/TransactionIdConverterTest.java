@@ -0,0 +1,33 @@
+package com.example.accountz.persist.entity;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import org.junit.jupiter.api.Test;
+
+class TransactionIdConverterTest {
+
+  @Test
+  void format_ZeroPaddedTo19Digits() {
+    assertEquals("0000000000000000007", TransactionIdConverter.format(7L));
+    assertEquals(String.valueOf(Long.MAX_VALUE),
+        TransactionIdConverter.format(Long.MAX_VALUE));
+  }
+
+  @Test
+  void parse_RoundTrip() {
+    assertEquals(7L, TransactionIdConverter.parse("0000000000000000007"));
+    assertEquals(Long.MAX_VALUE,
+        TransactionIdConverter.parse(String.valueOf(Long.MAX_VALUE)));
+  }
+
+  @Test
+  void parse_InvalidOrOutOfRange_Null() {
+    assertNull(TransactionIdConverter.parse(null));
+    assertNull(TransactionIdConverter.parse(""));
+    assertNull(TransactionIdConverter.parse("tx-1"));
+    assertNull(TransactionIdConverter.parse("00000000000000000001"));
+    // 19자리지만 long 범위를 넘는다
+    assertNull(TransactionIdConverter.parse("9999999999999999999"));
+  }
+}
@@ -0,0 +1,112 @@
+package com.example.accountz.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.example.accountz.config.AccountNumberProperties;
+import com.example.accountz.exception.GlobalException;
+import com.example.accountz.persist.repository.AccountRepository;
+import com.example.accountz.type.ErrorCode;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class AccountNumberAllocatorTest {
+
+  private static final int BLOCK_SIZE = 100;
+
+  // DB 시퀀스 대역 (INCREMENT BY BLOCK_SIZE)
+  private final AtomicLong sequence = new AtomicLong(1_000_000_000L);
+
+  private AccountRepository accountRepository;
+  private AccountNumberProperties properties;
+
+  @BeforeEach
+  void setUp() {
+    accountRepository = mock(AccountRepository.class);
+    when(accountRepository.nextAccountNumberBlock()).thenAnswer(
+        invocation -> sequence.getAndAdd(BLOCK_SIZE));
+    properties = new AccountNumberProperties();
+    properties.setBlockSize(BLOCK_SIZE);
+  }
+
+  @Test
+  void next_FixedWidthFromReservedBlock() {
+    // given
+    AccountNumberAllocator allocator =
+        new AccountNumberAllocator(accountRepository, properties);
+
+    // when
+    String first = allocator.next();
+    String second = allocator.next();
+
+    // then
+    assertEquals("1000000000", first);
+    assertEquals("1000000001", second);
+  }
+
+  @Test
+  void next_ConcurrentInstances_AllUnique() throws Exception {
+    // given: 인스턴스 두 개가 같은 시퀀스를 공유
+    List<AccountNumberAllocator> instances = List.of(
+        new AccountNumberAllocator(accountRepository, properties),
+        new AccountNumberAllocator(accountRepository, properties));
+    int threads = 32;
+    int perThread = 5_000;
+    Set<String> issued = ConcurrentHashMap.newKeySet();
+    ExecutorService executor = Executors.newFixedThreadPool(threads);
+    CountDownLatch start = new CountDownLatch(1);
+    List<Future<?>> futures = new ArrayList<>();
+
+    // when
+    try {
+      for (int t = 0; t < threads; t++) {
+        AccountNumberAllocator allocator = instances.get(t % 2);
+        futures.add(executor.submit(() -> {
+          start.await();
+          for (int i = 0; i < perThread; i++) {
+            issued.add(allocator.next());
+          }
+          return null;
+        }));
+      }
+      start.countDown();
+      for (Future<?> future : futures) {
+        future.get();
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+
+    // then
+    assertEquals(threads * perThread, issued.size());
+    issued.forEach(number -> assertEquals(10, number.length()));
+  }
+
+  @Test
+  void next_SequencePastMax_ThrowsExhausted() {
+    // given: 마지막 블록 뒤로 시퀀스가 넘어간 상태
+    sequence.set(9_999_999_999L);
+    AccountNumberAllocator allocator =
+        new AccountNumberAllocator(accountRepository, properties);
+
+    // when
+    String last = allocator.next();
+    GlobalException exception = assertThrows(GlobalException.class,
+        allocator::next);
+
+    // then
+    assertEquals("9999999999", last);
+    assertEquals(ErrorCode.ACCOUNT_NUMBER_EXHAUSTED, exception.getErrorCode());
+  }
+}
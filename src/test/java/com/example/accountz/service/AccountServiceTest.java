@@ -36,6 +36,12 @@ class AccountServiceTest {
   @Mock
   private JwtTokenExtract jwtTokenExtract;
 
+  @Mock
+  private HotAccountService hotAccountService;
+
+  @Mock
+  private AccountNumberAllocator accountNumberAllocator;
+
   @InjectMocks
   private AccountService accountService;
 
@@ -61,7 +67,8 @@ class AccountServiceTest {
 
     when(jwtTokenExtract.currentUser()).thenReturn(user);
     when(userRepository.findById(userId)).thenReturn(Optional.of(user));
-    when(accountRepository.countByUser(user)).thenReturn(0);
+    when(userRepository.reserveAccountSlot(userId, 5)).thenReturn(1);
+    when(accountNumberAllocator.next()).thenReturn("1000000000");
     when(accountRepository.save(any(AccountEntity.class))).thenAnswer(
         invocation -> {
           AccountEntity accountEntity = invocation.getArgument(0);
@@ -78,6 +85,7 @@ class AccountServiceTest {
     assertEquals(0L, createdAccount.getBalance());
     assertEquals(user.getId(), createdAccount.getUserId());
     assertEquals(1, createdAccount.getUserId());
+    assertEquals("1000000000", createdAccount.getAccountNumber());
     verify(accountRepository, times(1)).save(any(AccountEntity.class));
   }
 
@@ -98,6 +106,28 @@ class AccountServiceTest {
     verify(accountRepository, never()).save(any(AccountEntity.class));
   }
 
+  @Test
+  void createAccount_LimitReached_ThrowsGlobalException() {
+    // Given
+    Long userId = 1L;
+    UserEntity user = UserEntity.builder()
+        .id(userId)
+        .accountCount(5)
+        .build();
+    when(jwtTokenExtract.currentUser()).thenReturn(user);
+    when(userRepository.findById(userId)).thenReturn(Optional.of(user));
+    when(userRepository.reserveAccountSlot(userId, 5)).thenReturn(0);
+
+    // When
+    GlobalException exception = assertThrows(GlobalException.class,
+        () -> accountService.createAccount());
+
+    // Then
+    assertEquals(ErrorCode.MAX_5_LIMIT_ACCOUNTS, exception.getErrorCode());
+    verify(accountNumberAllocator, never()).next();
+    verify(accountRepository, never()).save(any(AccountEntity.class));
+  }
+
   @Test
   void deleteAccount_Success() {
     // Given
@@ -156,4 +186,58 @@ class AccountServiceTest {
     verify(accountRepository, never()).save(any(AccountEntity.class));
   }
 
-}
\ No newline at end of file
+  @Test
+  void getBalance_HotAccount_SumsSlots() {
+    // Given
+    Long userId = 1L;
+    String accountNumber = "1000000001";
+    UserEntity accountUser = UserEntity.builder().id(userId).build();
+    AccountEntity accountEntity = AccountEntity.builder()
+        .id(1L)
+        .user(accountUser)
+        .accountNumber(accountNumber)
+        .balance(1000L)
+        .balanceSlotCount(4)
+        .accountStatus(AccountStatus.ACTIVATED)
+        .build();
+
+    when(accountRepository.findByAccountNumber(accountNumber)).thenReturn(Optional.of(accountEntity));
+    when(hotAccountService.getSlotBalance(accountEntity)).thenReturn(500L);
+
+    // When
+    AccountDto accountDto = accountService.getBalance(userId, accountNumber);
+
+    // Then
+    assertEquals(1500L, accountDto.getBalance());
+  }
+
+  @Test
+  void deleteAccount_HotAccountSlotsNotEmpty_ThrowsGlobalException() {
+    // Given
+    Long userId = 1L;
+    String accountNumber = "1000000001";
+    UserEntity accountUser = UserEntity.builder().id(userId).build();
+    AccountEntity accountEntity = AccountEntity.builder()
+        .id(1L)
+        .user(accountUser)
+        .accountNumber(accountNumber)
+        .balance(0L)
+        .balanceSlotCount(4)
+        .accountStatus(AccountStatus.ACTIVATED)
+        .build();
+
+    when(userRepository.findById(userId)).thenReturn(Optional.of(accountUser));
+    when(hotAccountService.isHot(accountNumber)).thenReturn(true);
+    when(accountRepository.findByAccountNumberForUpdate(accountNumber)).thenReturn(Optional.of(accountEntity));
+    when(hotAccountService.getSlotBalance(accountEntity)).thenReturn(500L);
+
+    // When
+    GlobalException exception = assertThrows(GlobalException.class, () -> accountService.deleteAccount(userId, accountNumber));
+
+    // Then
+    assertEquals(ErrorCode.BALANCE_NOT_EMPTY, exception.getErrorCode());
+    assertEquals(AccountStatus.ACTIVATED, accountEntity.getAccountStatus());
+    verify(hotAccountService, never()).release(any(AccountEntity.class));
+  }
+
+}
@@ -0,0 +1,146 @@
+package com.example.accountz.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.example.accountz.config.TransactionProperties;
+import com.example.accountz.exception.GlobalException;
+import com.example.accountz.model.AccountSummaryDto;
+import com.example.accountz.persist.entity.AccountEntity;
+import com.example.accountz.persist.entity.DailyAccountSummaryEntity;
+import com.example.accountz.persist.entity.UserEntity;
+import com.example.accountz.persist.repository.AccountRepository;
+import com.example.accountz.persist.repository.DailyAccountSummaryRepository;
+import com.example.accountz.type.ErrorCode;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class AccountSummaryServiceTest {
+
+  private final TransactionProperties transactionProperties =
+      new TransactionProperties();
+
+  private AccountRepository accountRepository;
+  private DailyAccountSummaryRepository dailyAccountSummaryRepository;
+  private AccountSummaryService accountSummaryService;
+
+  @BeforeEach
+  void setUp() {
+    accountRepository = mock(AccountRepository.class);
+    dailyAccountSummaryRepository = mock(DailyAccountSummaryRepository.class);
+    accountSummaryService = new AccountSummaryService(accountRepository,
+        dailyAccountSummaryRepository, transactionProperties);
+
+    when(accountRepository.findByAccountNumber("1000000001"))
+        .thenReturn(Optional.of(AccountEntity.builder()
+            .id(10L)
+            .accountNumber("1000000001")
+            .user(UserEntity.builder().id(1L).build())
+            .build()));
+  }
+
+  @Test
+  void getAccountSummary_SumsDailyRows() {
+    // given: 기간 이전 잔액 0
+    LocalDate today = LocalDate.now();
+    when(dailyAccountSummaryRepository
+        .findAllByAccountIdAndSummaryDateBetweenOrderBySummaryDateAsc(
+            10L, today.minusDays(89), today))
+        .thenReturn(List.of(
+            summary(today.minusDays(1), 5000L, 1000L, 2),
+            summary(today, 0L, 3000L, 1)));
+
+    // when
+    AccountSummaryDto result =
+        accountSummaryService.getAccountSummary(1L, "1000000001", null);
+
+    // then
+    assertEquals(today.minusDays(89), result.getFirstDate());
+    assertEquals(5000L, result.getCreditAmount());
+    assertEquals(4000L, result.getDebitAmount());
+    assertEquals(3L, result.getTransactionCount());
+    assertEquals(2, result.getDays().size());
+    assertEquals(4000L, result.getDays().get(0).getClosingBalance());
+    assertEquals(1000L, result.getDays().get(1).getClosingBalance());
+  }
+
+  @Test
+  void getAccountSummary_ShardRows_MergedPerDay() {
+    // given: 기간 이전 잔액 500, hot 계좌의 같은 날 shard 행
+    LocalDate today = LocalDate.now();
+    when(dailyAccountSummaryRepository.sumBalanceBefore(
+        10L, today.minusDays(89))).thenReturn(500L);
+    when(dailyAccountSummaryRepository
+        .findAllByAccountIdAndSummaryDateBetweenOrderBySummaryDateAsc(
+            10L, today.minusDays(89), today))
+        .thenReturn(List.of(
+            summary(today, 1000L, 0L, 1),
+            summary(today, 2000L, 500L, 2)));
+
+    // when
+    AccountSummaryDto result =
+        accountSummaryService.getAccountSummary(1L, "1000000001", null);
+
+    // then
+    assertEquals(1, result.getDays().size());
+    AccountSummaryDto.Daily daily = result.getDays().get(0);
+    assertEquals(3000L, daily.getCreditAmount());
+    assertEquals(500L, daily.getDebitAmount());
+    assertEquals(3, daily.getTransactionCount());
+    assertEquals(3000L, daily.getClosingBalance());
+  }
+
+  @Test
+  void getAccountSummary_DaysOverMax_Capped() {
+    // given
+    transactionProperties.getSummary().setMaxDays(30);
+    LocalDate today = LocalDate.now();
+
+    // when
+    accountSummaryService.getAccountSummary(1L, "1000000001", 365);
+
+    // then
+    verify(dailyAccountSummaryRepository)
+        .findAllByAccountIdAndSummaryDateBetweenOrderBySummaryDateAsc(
+            10L, today.minusDays(29), today);
+  }
+
+  @Test
+  void getAccountSummary_OtherUsersAccount_Fails() {
+    // when
+    GlobalException exception = assertThrows(GlobalException.class,
+        () -> accountSummaryService.getAccountSummary(
+            2L, "1000000001", null));
+
+    // then
+    assertEquals(ErrorCode.USER_ACCOUNT_UNMATCHED, exception.getErrorCode());
+  }
+
+  @Test
+  void getAccountSummary_NonPositiveDays_Fails() {
+    // when
+    GlobalException exception = assertThrows(GlobalException.class,
+        () -> accountSummaryService.getAccountSummary(
+            1L, "1000000001", 0));
+
+    // then
+    assertEquals(ErrorCode.INVALID_SUMMARY_DAYS, exception.getErrorCode());
+  }
+
+  private static DailyAccountSummaryEntity summary(LocalDate date,
+      Long creditAmount, Long debitAmount, Integer transactionCount) {
+    return DailyAccountSummaryEntity.builder()
+        .accountId(10L)
+        .summaryDate(date)
+        .creditAmount(creditAmount)
+        .debitAmount(debitAmount)
+        .transactionCount(transactionCount)
+        .build();
+  }
+}
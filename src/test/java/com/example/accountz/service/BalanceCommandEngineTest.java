@@ -0,0 +1,140 @@
+package com.example.accountz.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.example.accountz.config.TransactionProperties;
+import com.example.accountz.exception.GlobalException;
+import com.example.accountz.model.TransactionDto;
+import com.example.accountz.persist.entity.AccountEntity;
+import com.example.accountz.persist.entity.UserEntity;
+import com.example.accountz.persist.repository.AccountRepository;
+import com.example.accountz.service.BalanceCommandWriter.Entry;
+import com.example.accountz.service.BalanceCommandWriter.Result;
+import com.example.accountz.type.AccountStatus;
+import com.example.accountz.type.ErrorCode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class BalanceCommandEngineTest {
+
+  private final TransactionProperties transactionProperties =
+      new TransactionProperties();
+
+  private AccountRepository accountRepository;
+  private BalanceCommandWriter writer;
+  private BalanceCommandEngine engine;
+
+  @BeforeEach
+  void setUp() {
+    accountRepository = mock(AccountRepository.class);
+    writer = mock(BalanceCommandWriter.class);
+    transactionProperties.getEngine().setEnabled(true);
+    transactionProperties.getEngine().setPartitions(1);
+    transactionProperties.getEngine().setRingSize(16);
+
+    UserEntity sender = UserEntity.builder().id(1L).name("보내는이").build();
+    UserEntity receiver = UserEntity.builder().id(2L).name("받는이").build();
+    when(accountRepository.findWithUserByAccountNumber("1000000001"))
+        .thenReturn(Optional.of(account(1L, "1000000001", sender, 1000L)));
+    when(accountRepository.findWithUserByAccountNumber("1000000002"))
+        .thenReturn(Optional.of(account(2L, "1000000002", receiver, 0L)));
+
+    engine = new BalanceCommandEngine(accountRepository,
+        mock(HotAccountService.class), writer, transactionProperties,
+        new SimpleMeterRegistry());
+    engine.start();
+  }
+
+  @AfterEach
+  void tearDown() {
+    engine.stop();
+  }
+
+  @Test
+  void useBalance_ExceedBalance_RejectedWithoutWrite() {
+    // When
+    GlobalException exception = assertThrows(GlobalException.class, () ->
+        engine.useBalance(1L, "1000000001", 2000L));
+
+    // Then
+    assertEquals(ErrorCode.AMOUNT_EXCEED_BALANCE, exception.getErrorCode());
+    verify(writer, never()).write(anyList());
+  }
+
+  @Test
+  void sendMoney_OtherUsersAccount_Rejected() {
+    // When
+    GlobalException exception = assertThrows(GlobalException.class, () ->
+        engine.sendMoney(2L, "1000000001", "1000000002", 100L));
+
+    // Then
+    assertEquals(ErrorCode.USER_ACCOUNT_UNMATCHED, exception.getErrorCode());
+  }
+
+  @Test
+  void sendMoney_GroupCommitted_MemoryBalanceDeducted() {
+    // Given
+    when(writer.write(anyList())).thenAnswer(invocation -> {
+      List<Entry> entries = invocation.getArgument(0);
+      return entries.stream()
+          .map(entry -> Result.success(TransactionDto.builder()
+              .userAccountNumber(entry.account().accountNumber())
+              .amount(entry.command().amount())
+              .build()))
+          .toList();
+    });
+    engine.sendMoney(1L, "1000000001", "1000000002", 100L);
+    engine.sendMoney(1L, "1000000001", "1000000002", 300L);
+    when(accountRepository.findWithUserByAccountNumber("1000000001"))
+        .thenReturn(Optional.of(account(1L, "1000000001",
+            UserEntity.builder().id(1L).name("보내는이").build(), 600L)));
+
+    // When
+    GlobalException exception = assertThrows(GlobalException.class, () ->
+        engine.sendMoney(1L, "1000000001", "1000000002", 700L));
+
+    // Then
+    assertEquals(ErrorCode.AMOUNT_EXCEED_BALANCE, exception.getErrorCode());
+    verify(writer, times(2)).write(anyList());
+  }
+
+  @Test
+  void sendMoney_GroupCommitFailed_RetriedOneByOne() {
+    // Given
+    when(writer.write(anyList()))
+        .thenThrow(new IllegalStateException("deadlock"));
+    when(writer.writeOne(any())).thenThrow(
+        new GlobalException(ErrorCode.RECEIVER_ACCOUNT_UNREGISTERED));
+
+    // When
+    GlobalException exception = assertThrows(GlobalException.class, () ->
+        engine.sendMoney(1L, "1000000001", "1000000002", 100L));
+
+    // Then
+    assertEquals(ErrorCode.RECEIVER_ACCOUNT_UNREGISTERED,
+        exception.getErrorCode());
+  }
+
+  private static AccountEntity account(Long id, String accountNumber,
+      UserEntity user, Long balance) {
+    return AccountEntity.builder()
+        .id(id)
+        .accountNumber(accountNumber)
+        .accountStatus(AccountStatus.ACTIVATED)
+        .user(user)
+        .balance(balance)
+        .build();
+  }
+}
@@ -0,0 +1,143 @@
+package com.example.accountz.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.example.accountz.model.BatchTransferDto;
+import com.example.accountz.model.SendUnderMillionMoneyDto;
+import com.example.accountz.persist.entity.AccountEntity;
+import com.example.accountz.persist.entity.UserEntity;
+import com.example.accountz.persist.repository.AccountRepository;
+import com.example.accountz.persist.repository.UserRepository;
+import com.example.accountz.type.AccountStatus;
+import com.example.accountz.type.BatchMode;
+import com.example.accountz.type.ErrorCode;
+import com.example.accountz.type.TransactionResultType;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class BatchTransferServiceTest {
+
+  @Mock
+  private AccountRepository accountRepository;
+
+  @Mock
+  private UserRepository userRepository;
+
+  @Mock
+  private TransactionWriter transactionWriter;
+
+  @Mock
+  private HotAccountService hotAccountService;
+
+  @Mock
+  private TransactionIdGenerator transactionIdGenerator;
+
+  @InjectMocks
+  private BatchTransferService batchTransferService;
+
+  private UserEntity user;
+  private AccountEntity payer;
+  private AccountEntity employeeA;
+  private AccountEntity employeeB;
+
+  @BeforeEach
+  void setUp() {
+    user = UserEntity.builder().id(1L).name("회사").build();
+    UserEntity employee = UserEntity.builder().id(2L).name("직원").build();
+    payer = account(1L, "1000000001", user, 15000L);
+    employeeA = account(2L, "1000000002", employee, 0L);
+    employeeB = account(3L, "1000000003", employee, 0L);
+
+    when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+    when(accountRepository.findAllByAccountNumberInForUpdate(any()))
+        .thenReturn(List.of(payer, employeeA, employeeB));
+  }
+
+  @Test
+  void sendMoney_AllOrNothing_AbortsWhenOneItemFails() {
+    // Given: 두 번째 건에서 잔액 부족
+    List<SendUnderMillionMoneyDto.Request> items = List.of(
+        new SendUnderMillionMoneyDto.Request("1000000001", "1000000002",
+            10000L),
+        new SendUnderMillionMoneyDto.Request("1000000001", "1000000003",
+            10000L));
+
+    // When
+    List<BatchTransferDto> results = batchTransferService.sendMoney(
+        1L, BatchMode.ALL_OR_NOTHING, items);
+
+    // Then
+    assertEquals(ErrorCode.BATCH_ABORTED, results.get(0).getErrorCode());
+    assertEquals(ErrorCode.AMOUNT_EXCEED_BALANCE,
+        results.get(1).getErrorCode());
+    assertEquals(15000L, payer.getBalance());
+    assertEquals(0L, employeeA.getBalance());
+
+    ArgumentCaptor<List<TransactionWriter.Entry>> captor =
+        ArgumentCaptor.forClass(List.class);
+    verify(transactionWriter).saveAll(captor.capture());
+    assertEquals(1, captor.getValue().size());
+    TransactionWriter.Entry entry = captor.getValue().get(0);
+    assertEquals(TransactionResultType.FAIL,
+        entry.transaction().getTransactionResultType());
+    // 내역 행은 받는 사람 계좌 소유자 기준으로도 기록
+    assertEquals(2L, entry.receiver().userId());
+    assertEquals("직원", entry.receiver().name());
+  }
+
+  @Test
+  void sendMoney_PerItem_AppliesSuccessfulItems() {
+    // Given
+    List<SendUnderMillionMoneyDto.Request> items = List.of(
+        new SendUnderMillionMoneyDto.Request("1000000001", "1000000002",
+            10000L),
+        new SendUnderMillionMoneyDto.Request("1000000001", "1000000003",
+            10000L),
+        new SendUnderMillionMoneyDto.Request("1000000001", "1000000003",
+            5000L));
+
+    // When
+    List<BatchTransferDto> results = batchTransferService.sendMoney(
+        1L, BatchMode.PER_ITEM, items);
+
+    // Then
+    assertEquals(TransactionResultType.SUCCESS,
+        results.get(0).getTransactionResultType());
+    assertNull(results.get(0).getErrorCode());
+    assertEquals(ErrorCode.AMOUNT_EXCEED_BALANCE,
+        results.get(1).getErrorCode());
+    assertEquals(TransactionResultType.SUCCESS,
+        results.get(2).getTransactionResultType());
+    assertEquals(0L, payer.getBalance());
+    assertEquals(10000L, employeeA.getBalance());
+    assertEquals(5000L, employeeB.getBalance());
+
+    ArgumentCaptor<List<TransactionWriter.Entry>> captor =
+        ArgumentCaptor.forClass(List.class);
+    verify(transactionWriter).saveAll(captor.capture());
+    assertEquals(3, captor.getValue().size());
+  }
+
+  private static AccountEntity account(
+      Long id, String accountNumber, UserEntity user, Long balance) {
+    return AccountEntity.builder()
+        .id(id)
+        .accountNumber(accountNumber)
+        .user(user)
+        .balance(balance)
+        .accountStatus(AccountStatus.ACTIVATED)
+        .build();
+  }
+}
@@ -0,0 +1,85 @@
+package com.example.accountz.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.example.accountz.config.TransactionProperties;
+import com.example.accountz.model.FailedTransactionDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+class FailedTransactionRecorderTest {
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final TransactionProperties transactionProperties =
+      new TransactionProperties();
+
+  private TransactionService transactionService;
+  private FailedTransactionRecorder recorder;
+
+  @BeforeEach
+  void setUp() {
+    transactionService = mock(TransactionService.class);
+    transactionProperties.getFailureRecorder().setCapacity(2);
+    transactionProperties.getFailureRecorder().setOfferTimeout(Duration.ZERO);
+    transactionProperties.getFailureRecorder()
+        .setFlushInterval(Duration.ofMillis(10));
+    recorder = new FailedTransactionRecorder(
+        transactionService, transactionProperties, meterRegistry);
+  }
+
+  @AfterEach
+  void tearDown() throws InterruptedException {
+    recorder.stop();
+  }
+
+  @Test
+  void record_DropWhenQueueFull() {
+    // given: writer 미시작 -> 대기열이 비워지지 않음
+    recorder.record(1L, "1000000001", "1000000002", 1000L);
+    recorder.record(1L, "1000000001", "1000000002", 2000L);
+
+    // when
+    recorder.record(1L, "1000000001", "1000000002", 3000L);
+
+    // then
+    assertEquals(2.0, counter("enqueued"));
+    assertEquals(1.0, counter("dropped"));
+    verify(transactionService, never()).saveFailedUseTransactions(anyList());
+  }
+
+  @Test
+  void record_WrittenInBatchByBackgroundWriter() {
+    // given
+    when(transactionService.saveFailedUseTransactions(anyList()))
+        .thenAnswer(invocation ->
+            ((List<?>) invocation.getArgument(0)).size());
+    recorder.record(1L, "1000000001", "1000000002", 1000L);
+    recorder.record(1L, "1000000001", "1000000002", 2000L);
+
+    // when
+    recorder.start();
+
+    // then
+    ArgumentCaptor<List<FailedTransactionDto>> captor =
+        ArgumentCaptor.forClass(List.class);
+    verify(transactionService, timeout(1000))
+        .saveFailedUseTransactions(captor.capture());
+    assertEquals(2, captor.getValue().size());
+  }
+
+  private double counter(String name) {
+    return meterRegistry.get("transaction.failure.recorder." + name)
+        .counter().count();
+  }
+}
@@ -0,0 +1,91 @@
+package com.example.accountz.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.example.accountz.config.TransactionProperties;
+import com.example.accountz.model.TransactionDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+class GroupCommitExecutorTest {
+
+  private final TransactionProperties transactionProperties =
+      new TransactionProperties();
+
+  private TransactionService transactionService;
+  private GroupCommitExecutor executor;
+
+  @BeforeEach
+  void setUp() {
+    transactionService = mock(TransactionService.class);
+    transactionProperties.getGroupCommit().setEnabled(true);
+    transactionProperties.getGroupCommit().setWindow(Duration.ofMillis(200));
+    transactionProperties.getGroupCommit().setMaxBatchSize(2);
+    executor = new GroupCommitExecutor(transactionService,
+        transactionProperties, new SimpleMeterRegistry());
+    executor.start();
+  }
+
+  @AfterEach
+  void tearDown() throws InterruptedException {
+    executor.stop();
+  }
+
+  @Test
+  void saveMoney_ConcurrentCalls_ShareOneTransaction() {
+    // given
+    when(transactionService.applyGroup(anyList())).thenAnswer(invocation -> {
+      List<GroupCommitExecutor.Operation> operations =
+          invocation.getArgument(0);
+      return operations.stream()
+          .map(operation -> GroupCommitExecutor.Result.success(
+              TransactionDto.builder()
+                  .userAccountNumber(operation.accountNumber())
+                  .amount(operation.amount())
+                  .build()))
+          .toList();
+    });
+
+    // when
+    CompletableFuture<TransactionDto> first = CompletableFuture.supplyAsync(
+        () -> executor.saveMoney(1L, "1000000001", 1000L));
+    CompletableFuture<TransactionDto> second = CompletableFuture.supplyAsync(
+        () -> executor.saveMoney(2L, "1000000002", 2000L));
+
+    // then: maxBatchSize 2 건이 모여 한 번에 커밋
+    assertEquals(1000L, first.join().getAmount());
+    assertEquals(2000L, second.join().getAmount());
+    ArgumentCaptor<List<GroupCommitExecutor.Operation>> captor =
+        ArgumentCaptor.forClass(List.class);
+    verify(transactionService, times(1)).applyGroup(captor.capture());
+    assertEquals(2, captor.getValue().size());
+  }
+
+  @Test
+  void saveMoney_GroupAborted_RetriedAlone() {
+    // given
+    when(transactionService.applyGroup(anyList()))
+        .thenThrow(new IllegalStateException("optimistic lock"));
+    when(transactionService.saveMoney(1L, "1000000001", 1000L))
+        .thenReturn(TransactionDto.builder().amount(1000L).build());
+
+    // when
+    TransactionDto result = executor.saveMoney(1L, "1000000001", 1000L);
+
+    // then
+    assertEquals(1000L, result.getAmount());
+    verify(transactionService, times(1))
+        .saveMoney(1L, "1000000001", 1000L);
+  }
+}
@@ -0,0 +1,43 @@
+package com.example.accountz.service;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.example.accountz.config.TransactionProperties;
+import com.example.accountz.persist.repository.IdempotencyKeyRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class IdempotencyKeyServiceTest {
+
+  private final TransactionProperties transactionProperties =
+      new TransactionProperties();
+
+  private IdempotencyKeyRepository idempotencyKeyRepository;
+  private IdempotencyKeyService idempotencyKeyService;
+
+  @BeforeEach
+  void setUp() {
+    idempotencyKeyRepository = mock(IdempotencyKeyRepository.class);
+    transactionProperties.getIdempotency().setPurgeBatchSize(100);
+    idempotencyKeyService = new IdempotencyKeyService(
+        idempotencyKeyRepository, transactionProperties);
+  }
+
+  @Test
+  void purgeExpired_DeletesInBatchesUntilShortBatch() {
+    // given: 250 건 만료
+    when(idempotencyKeyRepository.deleteExpired(any(), eq(100)))
+        .thenReturn(100, 100, 50);
+
+    // when
+    idempotencyKeyService.purgeExpired();
+
+    // then
+    verify(idempotencyKeyRepository, times(3)).deleteExpired(any(), eq(100));
+  }
+}
@@ -0,0 +1,124 @@
+package com.example.accountz.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.example.accountz.config.TransactionProperties;
+import com.example.accountz.exception.GlobalException;
+import com.example.accountz.model.TransactionDto;
+import com.example.accountz.service.IdempotencyKeyService.StoredResponse;
+import com.example.accountz.type.ErrorCode;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class IdempotencyServiceTest {
+
+  private IdempotencyKeyService idempotencyKeyService;
+  private IdempotencyService idempotencyService;
+
+  @BeforeEach
+  void setUp() {
+    idempotencyKeyService = mock(IdempotencyKeyService.class);
+    idempotencyService = new IdempotencyService(
+        idempotencyKeyService, new TransactionProperties());
+    // 실제 구현처럼 전달된 거래를 실행하고 결과를 저장
+    when(idempotencyKeyService.executeOnce(
+        anyLong(), anyString(), anyString(), any()))
+        .thenAnswer(invocation -> {
+          Supplier<TransactionDto> action = invocation.getArgument(3);
+          return new StoredResponse(invocation.getArgument(2), action.get());
+        });
+  }
+
+  @Test
+  void execute_ReplayFromCache() {
+    // given
+    TransactionDto first = TransactionDto.builder()
+        .transactionId("tx-1").build();
+
+    // when
+    TransactionDto result1 = idempotencyService.execute(
+        1L, "key", "withdraw:1000000001:1000", () -> first);
+    TransactionDto result2 = idempotencyService.execute(
+        1L, "key", "withdraw:1000000001:1000",
+        () -> TransactionDto.builder().transactionId("tx-2").build());
+
+    // then
+    assertEquals("tx-1", result1.getTransactionId());
+    assertEquals("tx-1", result2.getTransactionId());
+    verify(idempotencyKeyService, times(1))
+        .executeOnce(anyLong(), anyString(), anyString(), any());
+  }
+
+  @Test
+  void execute_ReusedKeyForOtherRequest() {
+    // given
+    idempotencyService.execute(1L, "key", "withdraw:1000000001:1000",
+        () -> TransactionDto.builder().transactionId("tx-1").build());
+
+    // when
+    GlobalException exception = assertThrows(GlobalException.class,
+        () -> idempotencyService.execute(1L, "key",
+            "withdraw:1000000001:5000",
+            () -> TransactionDto.builder().build()));
+
+    // then
+    assertEquals(ErrorCode.IDEMPOTENCY_KEY_REUSED, exception.getErrorCode());
+  }
+
+  @Test
+  void execute_ConcurrentDuplicateWaitsForFirst() throws Exception {
+    // given
+    CountDownLatch started = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    TransactionDto first = TransactionDto.builder()
+        .transactionId("tx-1").build();
+    ExecutorService executor = Executors.newFixedThreadPool(2);
+
+    try {
+      // when
+      Future<TransactionDto> leader = executor.submit(() ->
+          idempotencyService.execute(1L, "key", "save-money:1", () -> {
+            started.countDown();
+            await(release);
+            return first;
+          }));
+      started.await(5, TimeUnit.SECONDS);
+      Future<TransactionDto> duplicate = executor.submit(() ->
+          idempotencyService.execute(1L, "key", "save-money:1",
+              () -> TransactionDto.builder().transactionId("tx-2").build()));
+      release.countDown();
+
+      // then
+      assertSame(first, leader.get(5, TimeUnit.SECONDS));
+      assertEquals("tx-1",
+          duplicate.get(5, TimeUnit.SECONDS).getTransactionId());
+      verify(idempotencyKeyService, times(1))
+          .executeOnce(anyLong(), anyString(), anyString(), any());
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  private static void await(CountDownLatch latch) {
+    try {
+      latch.await(5, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
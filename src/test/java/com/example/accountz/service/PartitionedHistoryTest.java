@@ -0,0 +1,122 @@
+package com.example.accountz.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.example.accountz.model.TransactionHistoryRow;
+import com.example.accountz.persist.entity.NameSortKey;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+
+class PartitionedHistoryTest {
+
+  private static final YearMonth DECEMBER = YearMonth.of(2023, 12);
+  private static final YearMonth NOVEMBER = YearMonth.of(2023, 11);
+
+  @Test
+  void recentFirst_PageSkipsEmptyPartitionAndStopsAtLimit() {
+    // when
+    List<TransactionHistoryRow> rows = PartitionedHistory.recentFirst(
+        List.of(DECEMBER, NOVEMBER), at(2024, 1, 1), 100L, 2,
+        (transactedAt, id, limit) -> List.of(),
+        (month, transactedAt, id, limit) -> month.equals(NOVEMBER)
+            ? List.of(row(5L, "a", at(2023, 11, 2)),
+                row(4L, "a", at(2023, 11, 1)))
+            : List.of());
+
+    // then
+    assertEquals(List.of(5L, 4L),
+        rows.stream().map(TransactionHistoryRow::id).toList());
+  }
+
+  @Test
+  void recentFirst_StreamSkipsRowsAlsoInHot() {
+    // given: 복사만 끝난(COPIED) 12월 행 3 은 hot 에도 있다
+    Stream<TransactionHistoryRow> hot = Stream.of(
+        row(9L, "a", at(2024, 1, 2)), row(3L, "a", at(2023, 12, 3)));
+    Map<YearMonth, List<TransactionHistoryRow>> partitions = Map.of(
+        DECEMBER, List.of(row(3L, "a", at(2023, 12, 3)),
+            row(2L, "a", at(2023, 12, 1))),
+        NOVEMBER, List.of(row(1L, "a", at(2023, 11, 1))));
+
+    // when
+    List<Long> ids = PartitionedHistory.recentFirst(hot,
+            List.of(DECEMBER, NOVEMBER),
+            month -> partitions.get(month).stream())
+        .map(TransactionHistoryRow::id)
+        .toList();
+
+    // then
+    assertEquals(List.of(9L, 3L, 2L, 1L), ids);
+  }
+
+  @Test
+  void byReceiver_MergesSortedSourcesByName() {
+    // given
+    Stream<TransactionHistoryRow> hot = Stream.of(
+        row(9L, "가나", at(2024, 1, 2)), row(3L, "다라", at(2023, 12, 3)));
+    Map<YearMonth, List<TransactionHistoryRow>> partitions = Map.of(
+        DECEMBER, List.of(row(3L, "다라", at(2023, 12, 3)),
+            row(2L, "마바", at(2023, 12, 1))),
+        NOVEMBER, List.of(row(1L, "나다", at(2023, 11, 1))));
+
+    // when
+    List<Long> ids;
+    try (Stream<TransactionHistoryRow> rows = PartitionedHistory.byReceiver(
+        hot, List.of(DECEMBER, NOVEMBER),
+        month -> partitions.get(month).stream())) {
+      ids = rows.map(TransactionHistoryRow::id).toList();
+    }
+
+    // then
+    assertEquals(List.of(9L, 1L, 3L, 2L), ids);
+  }
+
+  @Test
+  void byReceiver_PageDeduplicatesAndLimits() {
+    // when
+    List<TransactionHistoryRow> rows = PartitionedHistory.byReceiver(
+        List.of(DECEMBER), at(9999, 12, 31), Long.MAX_VALUE, 2,
+        (transactedAt, id, limit) -> List.of(
+            row(3L, "다라", at(2023, 12, 3)), row(9L, "마바", at(2024, 1, 2))),
+        (month, transactedAt, id, limit) -> List.of(
+            row(2L, "가나", at(2023, 12, 1)), row(3L, "다라", at(2023, 12, 3))));
+
+    // then
+    assertEquals(List.of(2L, 3L),
+        rows.stream().map(TransactionHistoryRow::id).toList());
+  }
+
+  @Test
+  void byReceiver_PageMergesSortedMonthsUpToLimit() {
+    // given: 달마다 이미 이름순으로 limit 개씩
+    Map<YearMonth, List<TransactionHistoryRow>> partitions = Map.of(
+        DECEMBER, List.of(row(6L, "나다", at(2023, 12, 5)),
+            row(5L, "라마", at(2023, 12, 4)), row(4L, "사아", at(2023, 12, 3))),
+        NOVEMBER, List.of(row(2L, "가나", at(2023, 11, 2)),
+            row(3L, "나다", at(2023, 11, 9)), row(1L, "바사", at(2023, 11, 1))));
+
+    // when
+    List<TransactionHistoryRow> rows = PartitionedHistory.byReceiver(
+        List.of(DECEMBER, NOVEMBER), at(9999, 12, 31), Long.MAX_VALUE, 3,
+        (transactedAt, id, limit) -> List.of(row(9L, "마바", at(2024, 1, 2))),
+        (month, transactedAt, id, limit) -> partitions.get(month));
+
+    // then
+    assertEquals(List.of(2L, 6L, 3L),
+        rows.stream().map(TransactionHistoryRow::id).toList());
+  }
+
+  private static LocalDateTime at(int year, int month, int day) {
+    return LocalDateTime.of(year, month, day, 12, 0);
+  }
+
+  private static TransactionHistoryRow row(Long id, String receiver,
+      LocalDateTime transactedAt) {
+    return new TransactionHistoryRow("1000000001", 1000L, transactedAt,
+        "John", receiver, id, NameSortKey.of(receiver));
+  }
+}
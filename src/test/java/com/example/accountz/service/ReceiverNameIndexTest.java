@@ -0,0 +1,86 @@
+package com.example.accountz.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class ReceiverNameIndexTest {
+
+  private final ReceiverNameIndex index = ReceiverNameIndex.of(List.of(
+      "김철수", "김춘자", "김민수", "박수민", "이광수", "수지", "Alice", "홍길동"));
+
+  @Test
+  void searchKey_DecomposesSyllablesAndCompoundJamo() {
+    assertEquals("ㄱㅗㅏㅇ", ReceiverNameIndex.searchKey("광"));
+    assertEquals("ㄷㅏㄹㄱ", ReceiverNameIndex.searchKey("닭"));
+    assertEquals("ㄷㅏㄹㄱ", ReceiverNameIndex.searchKey("다ㄺ"));
+    assertEquals("alice", ReceiverNameIndex.searchKey("Al ice"));
+  }
+
+  @Test
+  void search_SyllablePrefix() {
+    assertEquals(List.of("김민수", "김철수", "김춘자"), index.search("김", 10));
+  }
+
+  @Test
+  void search_JamoPrefix_WhileTyping() {
+    // "김ㅊ" / "김처" 는 "김철수" 를 입력하는 중간 상태
+    assertEquals(List.of("김철수", "김춘자"), index.search("김ㅊ", 10));
+    assertEquals(List.of("김철수"), index.search("김처", 10));
+    assertEquals(List.of("김민수", "김철수", "김춘자", "홍길동"),
+        index.search("기", 10));
+  }
+
+  @Test
+  void search_PrefixBeforeSubstring() {
+    // "수지" 는 앞부분 일치, 나머지는 중간 일치
+    assertEquals(List.of("수지", "김민수", "김철수", "박수민", "이광수"),
+        index.search("수", 10));
+    assertEquals(List.of("박수민"), index.search("수미", 10));
+  }
+
+  @Test
+  void search_Limit() {
+    assertEquals(List.of("김민수", "김철수"), index.search("김", 2));
+  }
+
+  @Test
+  void search_CaseInsensitiveLatin() {
+    assertEquals(List.of("Alice"), index.search("LI", 10));
+  }
+
+  @Test
+  void add_NewNameSearchable() {
+    // when
+    index.add("김철민");
+    index.add("김철민");
+
+    // then
+    assertEquals(9, index.size());
+    assertEquals(List.of("김철민", "김철수"), index.search("김철", 10));
+  }
+
+  @Test
+  void add_KeepsSearchKeyOrderLikeBuild() {
+    // given: 빈 색인에 하나씩 추가
+    List<String> names = List.of("홍길동", "Alice", "김철수", "수지", "김민수",
+        "이광수", "김 철수", "박수민", "김춘자");
+    ReceiverNameIndex added = ReceiverNameIndex.of(List.of());
+
+    // when
+    names.forEach(added::add);
+
+    // then
+    ReceiverNameIndex built = ReceiverNameIndex.of(names);
+    for (String query : List.of("김", "수", "ㄱ", "a", "길")) {
+      assertEquals(built.search(query, 10), added.search(query, 10));
+    }
+  }
+
+  @Test
+  void search_NoMatch() {
+    assertEquals(List.of(), index.search("최", 10));
+    assertEquals(List.of(), index.search(" ", 10));
+  }
+}
@@ -0,0 +1,118 @@
+package com.example.accountz.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.example.accountz.config.TransactionProperties;
+import com.example.accountz.exception.GlobalException;
+import com.example.accountz.model.ReceiverSearchDto;
+import com.example.accountz.persist.repository.TransactionHistoryRepository;
+import com.example.accountz.type.ErrorCode;
+import java.time.YearMonth;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ReceiverSearchServiceTest {
+
+  private final TransactionProperties transactionProperties =
+      new TransactionProperties();
+
+  private TransactionHistoryRepository transactionHistoryRepository;
+  private TransactionHistoryMonthReader monthReader;
+  private TransactionHistoryPartitionService partitionService;
+  private ReceiverSearchService receiverSearchService;
+
+  @BeforeEach
+  void setUp() {
+    transactionHistoryRepository = mock(TransactionHistoryRepository.class);
+    monthReader = mock(TransactionHistoryMonthReader.class);
+    partitionService = mock(TransactionHistoryPartitionService.class);
+    transactionProperties.getReceiverSearch().setMaxResults(2);
+    receiverSearchService = new ReceiverSearchService(
+        transactionHistoryRepository, monthReader, partitionService,
+        transactionProperties);
+
+    when(transactionHistoryRepository.findReceiverNamesByUserId(1L))
+        .thenReturn(List.of("김철수", "김춘자", "김민수"));
+  }
+
+  @Test
+  void search_BuildsIndexOncePerUser() {
+    // when
+    receiverSearchService.search(1L, "김", null);
+    ReceiverSearchDto result = receiverSearchService.search(1L, "김ㅊ", null);
+
+    // then
+    assertEquals(List.of("김철수", "김춘자"), result.getReceivers());
+    verify(transactionHistoryRepository, times(1))
+        .findReceiverNamesByUserId(1L);
+  }
+
+  @Test
+  void search_IncludesPartitionedMonths() {
+    // given: 옮겨진 달에만 있는 이름과 hot 에도 있는 이름
+    YearMonth month = YearMonth.of(2023, 1);
+    when(partitionService.months(null, null)).thenReturn(List.of(month));
+    when(monthReader.findReceiverNamesByUserId(month, 1L))
+        .thenReturn(List.of("박영수", "김철수"));
+
+    // when
+    ReceiverSearchDto result = receiverSearchService.search(1L, "박", 10);
+
+    // then
+    assertEquals(List.of("박영수"), result.getReceivers());
+  }
+
+  @Test
+  void search_LimitCappedAtMax() {
+    // when
+    ReceiverSearchDto result = receiverSearchService.search(1L, "김", 10);
+
+    // then
+    assertEquals(2, result.getReceivers().size());
+  }
+
+  @Test
+  void search_LimitBelowOne_Rejected() {
+    // when
+    GlobalException exception = assertThrows(GlobalException.class,
+        () -> receiverSearchService.search(1L, "김", 0));
+
+    // then
+    assertEquals(ErrorCode.INVALID_SEARCH_LIMIT, exception.getErrorCode());
+  }
+
+  @Test
+  void search_BlankQuery_SkipsIndex() {
+    // when
+    ReceiverSearchDto result = receiverSearchService.search(1L, "  ", null);
+
+    // then
+    assertEquals(List.of(), result.getReceivers());
+    verify(transactionHistoryRepository, never())
+        .findReceiverNamesByUserId(anyLong());
+  }
+
+  @Test
+  void addReceiver_UpdatesLoadedIndexOnly() {
+    // given
+    receiverSearchService.addReceiver(2L, "최영희");
+    receiverSearchService.search(1L, "김", null);
+
+    // when
+    receiverSearchService.addReceiver(1L, "김갑동");
+
+    // then
+    assertEquals(List.of("김갑동"),
+        receiverSearchService.search(1L, "김가", null).getReceivers());
+    verify(transactionHistoryRepository, never())
+        .findReceiverNamesByUserId(2L);
+  }
+}
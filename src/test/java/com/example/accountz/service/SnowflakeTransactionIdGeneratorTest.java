@@ -0,0 +1,121 @@
+package com.example.accountz.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.example.accountz.persist.entity.TransactionIdConverter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+class SnowflakeTransactionIdGeneratorTest {
+
+  private static final long EPOCH = 1_704_067_200_000L;
+
+  @Test
+  void nextId_SameMillisecond_SequenceIncreases() {
+    // given
+    SnowflakeTransactionIdGenerator generator =
+        new SnowflakeTransactionIdGenerator(3, EPOCH, () -> EPOCH + 1);
+
+    // when
+    long first = generator.nextId();
+    long second = generator.nextId();
+
+    // then: 시각 1 | 노드 3 | 순번 0, 1
+    assertEquals(1L << 22 | 3L << 12, first);
+    assertEquals(first + 1, second);
+  }
+
+  @Test
+  void nextId_ClockMovedBackwards_StillIncreases() {
+    // given
+    AtomicLong now = new AtomicLong(EPOCH + 1_000);
+    SnowflakeTransactionIdGenerator generator =
+        new SnowflakeTransactionIdGenerator(0, EPOCH, now::get);
+    long before = generator.nextId();
+
+    // when
+    now.set(EPOCH + 10);
+    long after = generator.nextId();
+
+    // then
+    assertTrue(after > before);
+  }
+
+  @Test
+  void nextId_SequenceExhausted_BorrowsNextMillisecond() {
+    // given
+    SnowflakeTransactionIdGenerator generator =
+        new SnowflakeTransactionIdGenerator(1, EPOCH, () -> EPOCH);
+
+    // when
+    long last = 0;
+    for (int i = 0; i < 4096 + 1; i++) {
+      last = generator.nextId();
+    }
+
+    // then: 4097 번째는 시각 1, 순번 0
+    assertEquals(1L << 22 | 1L << 12, last);
+  }
+
+  @Test
+  void constructor_NodeIdOutOfRange_Rejected() {
+    assertThrows(IllegalArgumentException.class,
+        () -> new SnowflakeTransactionIdGenerator(1024, EPOCH,
+            System::currentTimeMillis));
+  }
+
+  @Test
+  void nextId_ConcurrentNodes_AllUniqueAndFixedWidth() throws Exception {
+    // given: 같은 시계를 쓰는 노드 두 개
+    List<SnowflakeTransactionIdGenerator> nodes = List.of(
+        new SnowflakeTransactionIdGenerator(1, EPOCH,
+            System::currentTimeMillis),
+        new SnowflakeTransactionIdGenerator(2, EPOCH,
+            System::currentTimeMillis));
+    int threads = 32;
+    int perThread = 10_000;
+    Set<Long> issued = ConcurrentHashMap.newKeySet();
+    ExecutorService executor = Executors.newFixedThreadPool(threads);
+    CountDownLatch start = new CountDownLatch(1);
+    List<Future<?>> futures = new ArrayList<>();
+
+    // when: 스레드마다 발급 순서대로 증가하는지도 확인
+    try {
+      for (int t = 0; t < threads; t++) {
+        SnowflakeTransactionIdGenerator generator = nodes.get(t % 2);
+        futures.add(executor.submit(() -> {
+          start.await();
+          long previous = -1;
+          for (int i = 0; i < perThread; i++) {
+            long id = generator.nextId();
+            assertTrue(id > previous);
+            previous = id;
+            issued.add(id);
+          }
+          return null;
+        }));
+      }
+      start.countDown();
+      for (Future<?> future : futures) {
+        future.get();
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+
+    // then
+    assertEquals(threads * perThread, issued.size());
+    issued.forEach(id -> assertEquals(TransactionIdConverter.WIDTH,
+        TransactionIdConverter.format(id).length()));
+  }
+}
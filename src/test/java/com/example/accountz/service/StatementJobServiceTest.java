@@ -0,0 +1,230 @@
+package com.example.accountz.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.example.accountz.config.TransactionProperties;
+import com.example.accountz.exception.GlobalException;
+import com.example.accountz.model.MonthlyStatementDto;
+import com.example.accountz.model.StatementAccountRow;
+import com.example.accountz.model.StatementJobDto;
+import com.example.accountz.model.StatementLineRow;
+import com.example.accountz.persist.repository.AccountRepository;
+import com.example.accountz.persist.repository.DailyAccountSummaryRepository;
+import com.example.accountz.persist.repository.TransactionHistoryRepository;
+import com.example.accountz.type.ErrorCode;
+import com.example.accountz.type.TransactionDirection;
+import com.example.accountz.type.TransactionType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.data.domain.PageRequest;
+
+class StatementJobServiceTest {
+
+  private static final YearMonth MONTH = YearMonth.of(2024, 1);
+  private static final LocalDateTime FROM = MONTH.atDay(1).atStartOfDay();
+  private static final LocalDateTime TO =
+      MONTH.plusMonths(1).atDay(1).atStartOfDay();
+
+  @TempDir
+  Path outputDir;
+
+  private final TransactionProperties transactionProperties =
+      new TransactionProperties();
+
+  private AccountRepository accountRepository;
+  private TransactionHistoryRepository transactionHistoryRepository;
+  private TransactionHistoryMonthReader monthReader;
+  private TransactionHistoryPartitionService partitionService;
+  private DailyAccountSummaryRepository dailyAccountSummaryRepository;
+  private StatementJobService statementJobService;
+
+  @BeforeEach
+  void setUp() {
+    accountRepository = mock(AccountRepository.class);
+    transactionHistoryRepository = mock(TransactionHistoryRepository.class);
+    monthReader = mock(TransactionHistoryMonthReader.class);
+    partitionService = mock(TransactionHistoryPartitionService.class);
+    dailyAccountSummaryRepository = mock(DailyAccountSummaryRepository.class);
+    transactionProperties.getStatement().setOutputDir(outputDir.toString());
+    transactionProperties.getStatement().setChunkSize(2);
+    transactionProperties.getStatement().setParallelism(2);
+    statementJobService = new StatementJobService(accountRepository,
+        transactionHistoryRepository,
+        monthReader, partitionService, dailyAccountSummaryRepository,
+        transactionProperties, new ObjectMapper().findAndRegisterModules(),
+        new SimpleMeterRegistry());
+  }
+
+  @Test
+  void statement_LinesSignedFromAccountsPointOfView() {
+    // given: 기초 잔액 10000, 입금 / 송금 / 받은 송금 / 받은 쪽 입금 행(중복)
+    when(dailyAccountSummaryRepository.sumBalanceBefore(1L, MONTH.atDay(1)))
+        .thenReturn(10000L);
+    when(transactionHistoryRepository.findStatementLines(
+        1L, TransactionDirection.SENT, FROM, TO))
+        .thenReturn(List.of(
+            line(1L, TransactionDirection.SENT, TransactionType.DEPOSIT,
+                5000L, 1),
+            line(3L, TransactionDirection.SENT, TransactionType.USE,
+                2000L, 3)));
+    when(transactionHistoryRepository.findStatementLines(
+        1L, TransactionDirection.RECEIVED, FROM, TO))
+        .thenReturn(List.of(
+            line(1L, TransactionDirection.RECEIVED,
+                TransactionType.DEPOSIT, 5000L, 1),
+            line(2L, TransactionDirection.RECEIVED, TransactionType.USE,
+                1000L, 2)));
+
+    // when
+    MonthlyStatementDto statement = statementJobService.statement(
+        new StatementAccountRow(1L, 10L, "1000000001"), MONTH, FROM, TO);
+
+    // then
+    assertEquals(10000L, statement.getOpeningBalance());
+    assertEquals(14000L, statement.getClosingBalance());
+    assertEquals(3, statement.getLines().size());
+    assertEquals(5000L, statement.getLines().get(0).getAmount());
+    assertEquals(1000L, statement.getLines().get(1).getAmount());
+    assertEquals(-2000L, statement.getLines().get(2).getAmount());
+    assertEquals(14000L, statement.getLines().get(2).getBalance());
+  }
+
+  @Test
+  void statement_NoEarlierSummary_OpeningZero() {
+    // given: 그 달 이전 집계가 없고 그 달 이후 집계만 있는 계좌 (V11 이후 생성)
+    when(dailyAccountSummaryRepository.existsByAccountId(1L)).thenReturn(true);
+
+    // when
+    MonthlyStatementDto statement = statementJobService.statement(
+        new StatementAccountRow(1L, 10L, "1000000001"), MONTH, FROM, TO);
+
+    // then
+    assertEquals(0L, statement.getOpeningBalance());
+    verify(accountRepository, never()).findBalanceById(anyLong());
+  }
+
+  @Test
+  void statement_NoSummaryAtAll_OpeningFromCurrentBalance() {
+    // given
+    when(accountRepository.findBalanceById(1L)).thenReturn(2000L);
+
+    // when
+    MonthlyStatementDto statement = statementJobService.statement(
+        new StatementAccountRow(1L, 10L, "1000000001"), MONTH, FROM, TO);
+
+    // then
+    assertEquals(2000L, statement.getOpeningBalance());
+    assertEquals(2000L, statement.getClosingBalance());
+  }
+
+  @Test
+  void statement_PartitionedMonth_ReadsPartition() {
+    // given: 2024-01 은 월 파티션으로 옮겨짐
+    when(partitionService.isPartitioned(MONTH)).thenReturn(true);
+    when(monthReader.findStatementLines(
+        MONTH, 10L, 1L, TransactionDirection.SENT, FROM, TO))
+        .thenReturn(List.of(line(1L, TransactionDirection.SENT,
+            TransactionType.DEPOSIT, 5000L, 1)));
+
+    // when
+    MonthlyStatementDto statement = statementJobService.statement(
+        new StatementAccountRow(1L, 10L, "1000000001"), MONTH, FROM, TO);
+
+    // then
+    assertEquals(5000L, statement.getClosingBalance());
+    verify(transactionHistoryRepository, never()).findStatementLines(
+        anyLong(), any(), any(), any());
+  }
+
+  @Test
+  void signedAmount_CancelReversesTransfer() {
+    assertEquals(3000L, StatementJobService.signedAmount(line(1L,
+        TransactionDirection.SENT, TransactionType.CANCEL, 3000L, 1)));
+    assertEquals(-3000L, StatementJobService.signedAmount(line(1L,
+        TransactionDirection.RECEIVED, TransactionType.CANCEL, 3000L, 1)));
+  }
+
+  @Test
+  void run_WritesChunkFilesAndCheckpoint() throws Exception {
+    // given: 계좌 3개, chunkSize 2
+    when(accountRepository.findStatementAccounts(0L, TO,
+        PageRequest.of(0, 2)))
+        .thenReturn(List.of(new StatementAccountRow(1L, 10L, "1000000001"),
+            new StatementAccountRow(2L, 10L, "1000000002")));
+    when(accountRepository.findStatementAccounts(2L, TO,
+        PageRequest.of(0, 2)))
+        .thenReturn(List.of(new StatementAccountRow(5L, 10L, "1000000005")));
+    when(accountRepository.findStatementAccounts(5L, TO,
+        PageRequest.of(0, 2)))
+        .thenReturn(List.of());
+
+    // when
+    StatementJobDto.Response result = statementJobService.run(MONTH, false);
+
+    // then
+    assertEquals(3L, result.getAccounts());
+    assertEquals(0L, result.getResumedAfterAccountId());
+    Path directory = outputDir.resolve("2024-01");
+    assertTrue(Files.exists(directory.resolve("accounts-1-2.ndjson.gz")));
+    assertTrue(Files.exists(directory.resolve("accounts-5-5.ndjson.gz")));
+    assertEquals("5", Files.readString(directory.resolve("checkpoint")));
+  }
+
+  @Test
+  void run_ResumesAfterCheckpoint() throws Exception {
+    // given: 이전 실행이 계좌 2 까지 끝남
+    Path directory = Files.createDirectories(outputDir.resolve("2024-01"));
+    Files.writeString(directory.resolve("checkpoint"), "2");
+    when(accountRepository.findStatementAccounts(2L, TO,
+        PageRequest.of(0, 2)))
+        .thenReturn(List.of(new StatementAccountRow(5L, 10L, "1000000005")));
+    when(accountRepository.findStatementAccounts(5L, TO,
+        PageRequest.of(0, 2)))
+        .thenReturn(List.of());
+
+    // when
+    StatementJobDto.Response result = statementJobService.run(MONTH, false);
+
+    // then
+    assertEquals(1L, result.getAccounts());
+    assertEquals(2L, result.getResumedAfterAccountId());
+    verify(accountRepository, never())
+        .findStatementAccounts(eq(0L), any(), any());
+  }
+
+  @Test
+  void run_CurrentMonth_Fails() {
+    // when
+    GlobalException exception = assertThrows(GlobalException.class,
+        () -> statementJobService.run(YearMonth.now(), false));
+
+    // then
+    assertEquals(ErrorCode.INVALID_STATEMENT_MONTH, exception.getErrorCode());
+    verify(accountRepository, never())
+        .findStatementAccounts(anyLong(), any(), any());
+  }
+
+  private static StatementLineRow line(Long transactionId,
+      TransactionDirection direction, TransactionType transactionType,
+      Long amount, int day) {
+    return new StatementLineRow(transactionId, direction, transactionType,
+        amount, MONTH.atDay(day).atTime(12, 0), "보낸사람", "받는사람");
+  }
+}
@@ -0,0 +1,90 @@
+package com.example.accountz.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.example.accountz.exception.GlobalException;
+import com.example.accountz.model.TransactionHistoryRow;
+import com.example.accountz.persist.entity.NameSortKey;
+import com.example.accountz.persist.entity.UserEntity;
+import com.example.accountz.persist.repository.AccountRepository;
+import com.example.accountz.persist.repository.TransactionHistoryRepository;
+import com.example.accountz.persist.repository.UserRepository;
+import com.example.accountz.type.ErrorCode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+class TransactionExportServiceTest {
+
+  private TransactionHistoryRepository transactionHistoryRepository;
+  private UserRepository userRepository;
+  private TransactionExportService transactionExportService;
+
+  @BeforeEach
+  void setUp() {
+    transactionHistoryRepository = mock(TransactionHistoryRepository.class);
+    userRepository = mock(UserRepository.class);
+    transactionExportService = new TransactionExportService(
+        transactionHistoryRepository,
+        mock(TransactionHistoryMonthReader.class),
+        mock(TransactionHistoryPartitionService.class), userRepository,
+        mock(AccountRepository.class),
+        mock(PlatformTransactionManager.class),
+        new ObjectMapper().findAndRegisterModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS));
+  }
+
+  @Test
+  void exportTransaction_WritesOneLinePerRow() throws Exception {
+    // given
+    when(userRepository.findById(1L)).thenReturn(
+        Optional.of(UserEntity.builder().id(1L).name("John").build()));
+    when(transactionHistoryRepository.streamByUserId(1L))
+        .thenReturn(Stream.of(row(2L, 1000L), row(1L, 2000L)));
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+    // when
+    transactionExportService.exportTransaction(1L).writeTo(out);
+
+    // then
+    String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+    assertEquals(2, lines.length);
+    assertEquals("{\"accountNumber\":\"1000000001\",\"amount\":1000,"
+        + "\"date\":\"2024-01-31\",\"sender\":\"John\",\"receiver\":\"Jane\"}",
+        lines[0]);
+  }
+
+  @Test
+  void exportBetweenDate_WrongDate_FailsBeforeStreaming() {
+    // given
+    when(userRepository.findById(1L)).thenReturn(
+        Optional.of(UserEntity.builder().id(1L).build()));
+
+    // when
+    GlobalException exception = assertThrows(GlobalException.class,
+        () -> transactionExportService.exportBetweenDate(1L,
+            LocalDate.of(2024, 2, 1), LocalDate.of(2024, 1, 1)));
+
+    // then
+    assertEquals(ErrorCode.WRONG_DATE, exception.getErrorCode());
+    verifyNoInteractions(transactionHistoryRepository);
+  }
+
+  private static TransactionHistoryRow row(Long id, Long amount) {
+    return new TransactionHistoryRow("1000000001", amount,
+        LocalDateTime.of(2024, 1, 31, 12, 0), "John", "Jane", id,
+        NameSortKey.of("Jane"));
+  }
+}
@@ -0,0 +1,179 @@
+package com.example.accountz.service;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.example.accountz.config.TransactionProperties;
+import com.example.accountz.model.TransactionHistoryPartition;
+import com.example.accountz.persist.repository.ScheduledJobLockRepository;
+import com.example.accountz.persist.repository.TransactionHistoryPartitionRepository;
+import com.example.accountz.persist.repository.TransactionHistorySegmentRepository;
+import com.example.accountz.persist.repository.TransactionRepository;
+import com.example.accountz.type.PartitionStatus;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.transaction.PlatformTransactionManager;
+
+class TransactionHistoryArchiveServiceTest {
+
+  private final TransactionProperties transactionProperties =
+      new TransactionProperties();
+
+  private TransactionHistoryPartitionRepository partitionRepository;
+  private TransactionHistorySegmentRepository segmentRepository;
+  private TransactionRepository transactionRepository;
+  private TransactionHistoryPartitionService partitionService;
+  private ScheduledJobLockRepository jobLockRepository;
+  private TransactionHistoryArchiveService archiveService;
+
+  @BeforeEach
+  void setUp() {
+    partitionRepository = mock(TransactionHistoryPartitionRepository.class);
+    segmentRepository = mock(TransactionHistorySegmentRepository.class);
+    transactionRepository = mock(TransactionRepository.class);
+    partitionService = mock(TransactionHistoryPartitionService.class);
+    jobLockRepository = mock(ScheduledJobLockRepository.class);
+    when(jobLockRepository.tryLock(any(), any())).thenReturn(true);
+    archiveService = new TransactionHistoryArchiveService(partitionRepository,
+        segmentRepository, transactionRepository, partitionService,
+        jobLockRepository, transactionProperties,
+        mock(PlatformTransactionManager.class));
+  }
+
+  @Test
+  void archive_OldDetachedMonth_WritesSegmentThenPrunes() {
+    // given: 30 개월 전 분리된 달
+    YearMonth month = YearMonth.now().minusMonths(30);
+    when(partitionRepository.findAllPartitions()).thenReturn(List.of(
+        partition(month, PartitionStatus.DETACHED, null)));
+    when(transactionRepository.findMaxTransactionIdBetween(any(), any()))
+        .thenReturn(77L);
+    when(partitionRepository.streamArchiveRows(month))
+        .thenReturn(Stream.empty());
+
+    // when
+    archiveService.archive();
+
+    // then: 원 거래 행은 세그먼트에 담은 뒤에 지운다.
+    InOrder inOrder = inOrder(segmentRepository, transactionRepository);
+    inOrder.verify(segmentRepository).write(any(), any());
+    inOrder.verify(transactionRepository).deleteTransactedBetween(
+        month.atDay(1).atStartOfDay(),
+        month.plusMonths(1).atDay(1).atStartOfDay());
+    verify(partitionRepository).updatePrunedThrough(month, 77L);
+    verify(partitionRepository).updatePartitionStatus(month,
+        PartitionStatus.ARCHIVED);
+    verify(partitionRepository, never()).dropPartitionTable(any());
+    verify(partitionService).refresh();
+    verify(jobLockRepository).unlock("transaction_history_archive");
+  }
+
+  @Test
+  void archive_RecentDetachedMonth_KeepsTransactions() {
+    // given: 16 개월 전 분리된 달 (afterMonths 안)
+    YearMonth month = YearMonth.now().minusMonths(16);
+    when(partitionRepository.findAllPartitions()).thenReturn(List.of(
+        partition(month, PartitionStatus.DETACHED, null)));
+
+    // when
+    archiveService.archive();
+
+    // then: 세그먼트에 담기 전에는 transactions 행을 지우지 않는다.
+    verifyNoInteractions(segmentRepository, transactionRepository);
+    verify(partitionRepository, never()).updatePrunedThrough(any(),
+        anyLong());
+  }
+
+  @Test
+  void archive_ArchivedMonthNotPruned_Prunes() {
+    // given: 세그먼트를 쓴 뒤 정리 전에 멈춘 달
+    YearMonth month = YearMonth.now().minusMonths(30);
+    when(partitionRepository.findAllPartitions()).thenReturn(List.of(
+        partition(month, PartitionStatus.ARCHIVED, null)));
+
+    // when
+    archiveService.archive();
+
+    // then: 거래 행이 없던 달도 정리한 것으로 남긴다.
+    verify(partitionRepository).updatePrunedThrough(month, 0L);
+    verifyNoInteractions(segmentRepository);
+  }
+
+  @Test
+  void archive_ArchivedMonth_DropsPartitionAfterRefreshInterval() {
+    // given
+    YearMonth month = YearMonth.now().minusMonths(30);
+    when(partitionRepository.findAllPartitions()).thenReturn(List.of(
+        partition(month, PartitionStatus.ARCHIVED, 77L)));
+
+    // when
+    archiveService.archive();
+
+    // then
+    verify(partitionRepository).dropPartitionTable(month);
+    verify(transactionRepository, never()).deleteTransactedBetween(any(),
+        any());
+    verify(partitionRepository, never()).updatePrunedThrough(any(),
+        anyLong());
+  }
+
+  @Test
+  void archive_CopiedOrCancelableMonth_Skipped() {
+    // given: 아직 hot 에도 남은 달 / 취소 기간(1년) 안의 달
+    when(partitionRepository.findAllPartitions()).thenReturn(List.of(
+        partition(YearMonth.now().minusMonths(30), PartitionStatus.COPIED,
+            null),
+        partition(YearMonth.now().minusMonths(3), PartitionStatus.DETACHED,
+            null)));
+
+    // when
+    archiveService.archive();
+
+    // then
+    verifyNoInteractions(transactionRepository, segmentRepository);
+  }
+
+  @Test
+  void archive_LockedByOtherInstance_DoesNothing() {
+    // given
+    when(jobLockRepository.tryLock(any(), any())).thenReturn(false);
+
+    // when
+    archiveService.archive();
+
+    // then
+    verifyNoInteractions(partitionRepository, transactionRepository,
+        segmentRepository, partitionService);
+    verify(jobLockRepository, never()).unlock(any());
+  }
+
+  @Test
+  void archive_Disabled_DoesNothing() {
+    // given
+    transactionProperties.getArchive().setEnabled(false);
+
+    // when
+    archiveService.archive();
+
+    // then
+    verifyNoInteractions(partitionRepository, transactionRepository,
+        segmentRepository);
+  }
+
+  private static TransactionHistoryPartition partition(YearMonth month,
+      PartitionStatus status, Long prunedThrough) {
+    return new TransactionHistoryPartition(month, status, 10,
+        LocalDateTime.now().minusDays(1), prunedThrough);
+  }
+}
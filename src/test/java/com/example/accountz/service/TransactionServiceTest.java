@@ -1,33 +1,52 @@
 package com.example.accountz.service;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.example.accountz.config.TransactionProperties;
 import com.example.accountz.exception.GlobalException;
+import com.example.accountz.model.FailedTransactionDto;
+import com.example.accountz.model.TransactionCursor;
 import com.example.accountz.model.TransactionDto;
+import com.example.accountz.model.TransactionHistoryRow;
+import com.example.accountz.model.TransactionPageDto;
 import com.example.accountz.persist.entity.AccountEntity;
+import com.example.accountz.persist.entity.NameSortKey;
 import com.example.accountz.persist.entity.TransactionEntity;
 import com.example.accountz.persist.entity.UserEntity;
 import com.example.accountz.persist.repository.AccountRepository;
+import com.example.accountz.persist.repository.TransactionHistoryRepository;
 import com.example.accountz.persist.repository.TransactionRepository;
 import com.example.accountz.persist.repository.UserRepository;
 import com.example.accountz.type.AccountStatus;
+import com.example.accountz.type.BalanceUpdateMode;
+import com.example.accountz.type.ErrorCode;
 import com.example.accountz.type.TransactionResultType;
 import com.example.accountz.type.TransactionType;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
 import java.util.Optional;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
 @ExtendWith(MockitoExtension.class)
@@ -42,9 +61,31 @@ class TransactionServiceTest {
   @Mock
   private TransactionRepository transactionRepository;
 
+  @Mock
+  private TransactionHistoryRepository transactionHistoryRepository;
+
+  @Mock
+  private TransactionHistoryMonthReader monthReader;
+
+  @Mock
+  private TransactionHistoryPartitionService partitionService;
+
+  @Mock
+  private TransactionWriter transactionWriter;
+
   @Mock
   private PasswordEncoder passwordEncoder;
 
+  @Spy
+  private TransactionProperties transactionProperties =
+      new TransactionProperties();
+
+  @Mock
+  private HotAccountService hotAccountService;
+
+  @Mock
+  private TransactionIdGenerator transactionIdGenerator;
+
   @InjectMocks
   private TransactionService transactionService;
 
@@ -70,8 +111,8 @@ class TransactionServiceTest {
     when(userRepository.findById(userId)).thenReturn(Optional.of(user));
     when(accountRepository.findByAccountNumber(accountNumber)).thenReturn(
         Optional.of(account));
-    when(transactionRepository.save(
-        any(TransactionEntity.class))).thenReturn(
+    when(transactionWriter.save(
+        any(TransactionEntity.class), any(), any())).thenReturn(
         TransactionEntity.builder()
             .id(1L)
             .transactionType(TransactionType.USE)
@@ -79,7 +120,7 @@ class TransactionServiceTest {
             .account(account)
             .amount(amount)
             .balanceSnapshot(account.getBalance() + amount)
-            .transactionId("1234567890")
+            .transactionId(1234567890L)
             .transactedAt(LocalDateTime.now())
             .build()
     );
@@ -92,8 +133,8 @@ class TransactionServiceTest {
     verify(accountRepository, times(1))
         .findByAccountNumber(accountNumber);
     verify(userRepository, times(1)).findById(userId);
-    verify(transactionRepository, times(1)).save(
-        any(TransactionEntity.class));
+    verify(transactionWriter, times(1)).save(
+        any(TransactionEntity.class), any(), any());
     assertThat(transactionDto.getAmount()).isEqualTo(amount);
     assertThat(transactionDto.getTransactionResultType()).isEqualTo(
         TransactionResultType.SUCCESS);
@@ -158,8 +199,8 @@ class TransactionServiceTest {
     when(userRepository.findById(userId)).thenReturn(Optional.of(user));
     when(accountRepository.findByAccountNumber(accountNumber)).thenReturn(
         Optional.of(account));
-    when(transactionRepository.save(
-        any(TransactionEntity.class))).thenReturn(
+    when(transactionWriter.save(
+        any(TransactionEntity.class), any(), any())).thenReturn(
         TransactionEntity.builder()
             .id(1L)
             .transactionType(TransactionType.USE)
@@ -167,7 +208,7 @@ class TransactionServiceTest {
             .account(account)
             .amount(amount)
             .balanceSnapshot(account.getBalance() - amount)
-            .transactionId("1234567890")
+            .transactionId(1234567890L)
             .transactedAt(LocalDateTime.now())
             .build()
     );
@@ -180,13 +221,263 @@ class TransactionServiceTest {
     verify(accountRepository, times(1))
         .findByAccountNumber(accountNumber);
     verify(userRepository, times(1)).findById(userId);
-    verify(transactionRepository, times(1)).save(
-        any(TransactionEntity.class));
+    verify(transactionWriter, times(1)).save(
+        any(TransactionEntity.class), any(), any());
     assertThat(transactionDto.getAmount()).isEqualTo(amount);
     assertThat(transactionDto.getTransactionResultType()).isEqualTo(
         TransactionResultType.SUCCESS);
   }
 
+  @Test
+  void useBalance_ConditionalUpdate_Success() {
+    // Given
+    Long userId = 1L;
+    String accountNumber = "1234567890";
+    Long amount = 10000L;
+    transactionProperties.setBalanceUpdateMode(
+        BalanceUpdateMode.CONDITIONAL_UPDATE);
+
+    UserEntity user = UserEntity.builder()
+        .id(userId)
+        .build();
+    AccountEntity account = AccountEntity.builder()
+        .id(1L)
+        .accountNumber(accountNumber)
+        .user(user)
+        .accountStatus(AccountStatus.ACTIVATED)
+        .balance(20000L)
+        .build();
+
+    when(userRepository.findById(userId)).thenReturn(Optional.of(user));
+    when(accountRepository.findByAccountNumber(accountNumber)).thenReturn(
+        Optional.of(account));
+    when(accountRepository.withdrawIfSufficient(1L, amount)).thenReturn(1);
+    when(accountRepository.findBalanceById(1L)).thenReturn(10000L);
+    when(transactionWriter.save(any(TransactionEntity.class), any(), any()))
+        .thenAnswer(invocation -> invocation.getArgument(0));
+
+    // When
+    TransactionDto transactionDto = transactionService.useBalance(userId,
+        accountNumber, amount);
+
+    // Then
+    assertEquals(10000L, transactionDto.getBalanceSnapshot());
+    // 엔티티는 변경하지 않는다 (전체 행 UPDATE 없음)
+    assertEquals(20000L, account.getBalance());
+  }
+
+  @Test
+  void useBalance_ConditionalUpdate_AmountExceedBalance() {
+    // Given
+    Long userId = 1L;
+    String accountNumber = "1234567890";
+    Long amount = 10000L;
+    transactionProperties.setBalanceUpdateMode(
+        BalanceUpdateMode.CONDITIONAL_UPDATE);
+
+    UserEntity user = UserEntity.builder()
+        .id(userId)
+        .build();
+    AccountEntity account = AccountEntity.builder()
+        .id(1L)
+        .accountNumber(accountNumber)
+        .user(user)
+        .accountStatus(AccountStatus.ACTIVATED)
+        .balance(20000L)
+        .build();
+
+    when(userRepository.findById(userId)).thenReturn(Optional.of(user));
+    when(accountRepository.findByAccountNumber(accountNumber)).thenReturn(
+        Optional.of(account));
+    // 조회 이후 다른 트랜잭션이 잔액을 먼저 사용한 경우
+    when(accountRepository.withdrawIfSufficient(1L, amount)).thenReturn(0);
+
+    // When
+    GlobalException exception = assertThrows(GlobalException.class,
+        () -> transactionService.useBalance(userId, accountNumber, amount));
+
+    // Then
+    assertEquals(ErrorCode.AMOUNT_EXCEED_BALANCE, exception.getErrorCode());
+    verify(transactionWriter, never())
+        .save(any(TransactionEntity.class), any(), any());
+  }
+
+  @Test
+  void saveMoney_HotAccount_CreditsSlotWithoutRowLock() {
+    // Given
+    Long userId = 1L;
+    String accountNumber = "1234567890";
+    Long amount = 10000L;
+
+    UserEntity user = UserEntity.builder()
+        .id(userId)
+        .build();
+    AccountEntity account = AccountEntity.builder()
+        .id(1L)
+        .accountNumber(accountNumber)
+        .user(user)
+        .accountStatus(AccountStatus.ACTIVATED)
+        .balance(20000L)
+        .balanceSlotCount(4)
+        .build();
+
+    when(userRepository.findById(userId)).thenReturn(Optional.of(user));
+    when(hotAccountService.isHot(accountNumber)).thenReturn(true);
+    when(accountRepository.findByAccountNumber(accountNumber)).thenReturn(
+        Optional.of(account));
+    when(hotAccountService.getSlotBalance(account)).thenReturn(amount);
+    when(transactionWriter.save(any(TransactionEntity.class), any(), any()))
+        .thenAnswer(invocation -> invocation.getArgument(0));
+
+    // When
+    TransactionDto transactionDto = transactionService.saveMoney(userId,
+        accountNumber, amount);
+
+    // Then
+    verify(hotAccountService, times(1)).credit(account, amount);
+    verify(accountRepository, never())
+        .findByAccountNumberForUpdate(accountNumber);
+    assertEquals(20000L, account.getBalance());
+    assertEquals(30000L, transactionDto.getBalanceSnapshot());
+  }
+
+  @Test
+  void useBalance_HotAccount_SweepsSlotsBeforeWithdraw() {
+    // Given
+    Long userId = 1L;
+    String accountNumber = "1234567890";
+    Long amount = 25000L;
+
+    UserEntity user = UserEntity.builder()
+        .id(userId)
+        .build();
+    AccountEntity account = AccountEntity.builder()
+        .id(1L)
+        .accountNumber(accountNumber)
+        .user(user)
+        .accountStatus(AccountStatus.ACTIVATED)
+        .balance(20000L)
+        .balanceSlotCount(4)
+        .build();
+
+    when(userRepository.findById(userId)).thenReturn(Optional.of(user));
+    when(hotAccountService.isHot(accountNumber)).thenReturn(true);
+    when(accountRepository.findByAccountNumberForUpdate(accountNumber))
+        .thenReturn(Optional.of(account));
+    // 슬롯에 쌓인 입금 10000 원
+    when(hotAccountService.drainSlots(account)).thenReturn(10000L);
+    when(transactionWriter.save(any(TransactionEntity.class), any(), any()))
+        .thenAnswer(invocation -> invocation.getArgument(0));
+
+    // When
+    TransactionDto transactionDto = transactionService.useBalance(userId,
+        accountNumber, amount);
+
+    // Then
+    assertEquals(5000L, account.getBalance());
+    assertEquals(5000L, transactionDto.getBalanceSnapshot());
+  }
+
+  @Test
+  void useBalance_ConditionalUpdateHotAccount_SweepsSlotsWithUpdate() {
+    // Given
+    Long userId = 1L;
+    String accountNumber = "1234567890";
+    Long amount = 25000L;
+    transactionProperties.setBalanceUpdateMode(
+        BalanceUpdateMode.CONDITIONAL_UPDATE);
+
+    UserEntity user = UserEntity.builder()
+        .id(userId)
+        .build();
+    AccountEntity account = AccountEntity.builder()
+        .id(1L)
+        .accountNumber(accountNumber)
+        .user(user)
+        .accountStatus(AccountStatus.ACTIVATED)
+        .balance(20000L)
+        .balanceSlotCount(4)
+        .build();
+
+    when(userRepository.findById(userId)).thenReturn(Optional.of(user));
+    when(hotAccountService.isHot(accountNumber)).thenReturn(true);
+    when(accountRepository.findByAccountNumberForUpdate(accountNumber))
+        .thenReturn(Optional.of(account));
+    when(hotAccountService.drainSlots(account)).thenReturn(10000L);
+    when(accountRepository.depositIfActive(1L, 10000L)).thenReturn(1);
+    when(accountRepository.withdrawIfSufficient(1L, amount)).thenReturn(1);
+    when(accountRepository.findBalanceById(1L)).thenReturn(5000L);
+    when(transactionWriter.save(any(TransactionEntity.class), any(), any()))
+        .thenAnswer(invocation -> invocation.getArgument(0));
+
+    // When
+    TransactionDto transactionDto = transactionService.useBalance(userId,
+        accountNumber, amount);
+
+    // Then
+    // 조건부 UPDATE 가 영속성 컨텍스트를 비우므로 회수 금액도 UPDATE 로 반영한다.
+    InOrder inOrder = Mockito.inOrder(accountRepository);
+    inOrder.verify(accountRepository).depositIfActive(1L, 10000L);
+    inOrder.verify(accountRepository).withdrawIfSufficient(1L, amount);
+    assertEquals(5000L, transactionDto.getBalanceSnapshot());
+  }
+
+  @Test
+  void underMillionSendMoney_HotToHot_LocksSlotsInAccountIdOrder() {
+    // Given
+    Long userId = 1L;
+    String senderAccountNumber = "1234567890";
+    String receiverAccountNumber = "0987654321";
+    Long amount = 10000L;
+    transactionProperties.setBalanceUpdateMode(
+        BalanceUpdateMode.CONDITIONAL_UPDATE);
+
+    UserEntity user = UserEntity.builder()
+        .id(userId)
+        .build();
+    AccountEntity senderAccount = AccountEntity.builder()
+        .id(2L)
+        .accountNumber(senderAccountNumber)
+        .user(user)
+        .accountStatus(AccountStatus.ACTIVATED)
+        .balance(20000L)
+        .balanceSlotCount(4)
+        .build();
+    AccountEntity receiverAccount = AccountEntity.builder()
+        .id(1L)
+        .accountNumber(receiverAccountNumber)
+        .user(UserEntity.builder().id(2L).name("Jane Doe").build())
+        .accountStatus(AccountStatus.ACTIVATED)
+        .balance(0L)
+        .balanceSlotCount(4)
+        .build();
+
+    when(userRepository.findById(userId)).thenReturn(Optional.of(user));
+    when(hotAccountService.isHot(senderAccountNumber)).thenReturn(true);
+    when(hotAccountService.isHot(receiverAccountNumber)).thenReturn(true);
+    when(accountRepository.findAllByAccountNumberInForUpdate(
+        List.of(senderAccountNumber)))
+        .thenReturn(List.of(senderAccount));
+    when(accountRepository.findAllByAccountNumberIn(
+        List.of(receiverAccountNumber)))
+        .thenReturn(List.of(receiverAccount));
+    when(accountRepository.withdrawIfSufficient(2L, amount)).thenReturn(1);
+    when(accountRepository.findBalanceById(2L)).thenReturn(10000L);
+    when(transactionWriter.save(any(TransactionEntity.class), any(), any()))
+        .thenAnswer(invocation -> invocation.getArgument(0));
+
+    // When
+    transactionService.underMillionSendMoney(userId, senderAccountNumber,
+        receiverAccountNumber, amount);
+
+    // Then
+    // 입금 계좌(id 1)의 슬롯을 출금 계좌(id 2)의 슬롯보다 먼저 잠근다.
+    InOrder inOrder = Mockito.inOrder(hotAccountService, accountRepository);
+    inOrder.verify(hotAccountService).credit(receiverAccount, amount);
+    inOrder.verify(hotAccountService).drainSlots(senderAccount);
+    inOrder.verify(accountRepository).withdrawIfSufficient(2L, amount);
+  }
+
   @Test
   void overMillionSendMoney_Success() {
     // Given
@@ -215,6 +506,7 @@ class TransactionServiceTest {
     AccountEntity receiverAccount = AccountEntity.builder()
         .accountNumber(receiverAccountNumber)
         .accountStatus(AccountStatus.ACTIVATED)
+        .user(UserEntity.builder().id(2L).name("Jane Doe").build())
         .build();
     TransactionEntity transaction = TransactionEntity.builder()
         .transactionType(TransactionType.USE)
@@ -224,14 +516,13 @@ class TransactionServiceTest {
         .build();
 
     when(userRepository.findById(userId)).thenReturn(Optional.of(user));
-    when(accountRepository.findByAccountNumber(
-        senderAccountNumber)).thenReturn(Optional.of(senderAccount));
-    when(accountRepository.findByAccountNumber(
-        receiverAccountNumber)).thenReturn(Optional.of(receiverAccount));
+    when(accountRepository.findAllByAccountNumberIn(
+        List.of(senderAccountNumber, receiverAccountNumber)))
+        .thenReturn(List.of(senderAccount, receiverAccount));
     when(passwordEncoder.matches(userPassword,
         user.getPassword())).thenReturn(true);
-    when(transactionRepository.save(
-        any(TransactionEntity.class))).thenReturn(transaction);
+    when(transactionWriter.save(
+        any(TransactionEntity.class), any(), any())).thenReturn(transaction);
 
     // When
     TransactionDto result = transactionService.overMillionSendMoney(userId,
@@ -240,14 +531,12 @@ class TransactionServiceTest {
 
     // Then
     verify(userRepository, times(1)).findById(userId);
-    verify(accountRepository, times(1)).findByAccountNumber(
-        senderAccountNumber);
-    verify(accountRepository, times(1)).findByAccountNumber(
-        receiverAccountNumber);
+    verify(accountRepository, times(1)).findAllByAccountNumberIn(
+        List.of(senderAccountNumber, receiverAccountNumber));
     verify(passwordEncoder, times(1)).matches(userPassword,
         user.getPassword());
-    verify(transactionRepository, times(1)).save(
-        any(TransactionEntity.class));
+    verify(transactionWriter, times(1)).save(
+        any(TransactionEntity.class), any(), any());
     assertEquals(transaction.getTransactionType(),
         result.getTransactionType());
     assertEquals(transaction.getTransactionResultType(),
@@ -274,30 +563,20 @@ class TransactionServiceTest {
         .email(userEmail)
         .password(passwordEncoder.encode(userPassword))
         .build();
-    AccountEntity senderAccount = AccountEntity.builder()
-        .accountNumber(senderAccountNumber)
-        .accountStatus(AccountStatus.ACTIVATED)
-        .user(user)
-        .balance(amount * 2)
-        .build();
-    AccountEntity receiverAccount = AccountEntity.builder()
-        .accountNumber(receiverAccountNumber)
-        .accountStatus(AccountStatus.ACTIVATED)
-        .build();
 
     when(userRepository.findById(userId)).thenReturn(Optional.of(user));
-    when(accountRepository.findByAccountNumber(
-        senderAccountNumber)).thenReturn(Optional.of(senderAccount));
-    when(accountRepository.findByAccountNumber(
-        receiverAccountNumber)).thenReturn(Optional.of(receiverAccount));
     when(passwordEncoder.matches(userPassword,
         user.getPassword())).thenReturn(true);
 
     // When & Then
-    assertThrows(GlobalException.class,
+    GlobalException exception = assertThrows(GlobalException.class,
         () -> transactionService.overMillionSendMoney(userId,
             senderAccountNumber, userName, userBirthDay, userEmail,
             userPassword, receiverAccountNumber, amount));
+    assertEquals(ErrorCode.UNMATCHED_USER, exception.getErrorCode());
+    // 본인 확인 실패 시 계좌를 조회하지 않는다
+    verify(accountRepository, never())
+        .findAllByAccountNumberIn(any());
   }
 
   @Test
@@ -343,17 +622,235 @@ class TransactionServiceTest {
 
     Mockito.when(userRepository.findById(userId))
         .thenReturn(Optional.of(userEntity));
-    Mockito.when(
-            accountRepository.findByAccountNumber(senderAccountNumber))
-        .thenReturn(Optional.empty());
+    Mockito.when(passwordEncoder.matches(userPassword,
+        userEntity.getPassword())).thenReturn(true);
+    Mockito.when(accountRepository.findAllByAccountNumberIn(
+            List.of(senderAccountNumber, receiverAccountNumber)))
+        .thenReturn(List.of());
 
     // when, then
-    assertThrows(GlobalException.class, () -> {
+    GlobalException exception = assertThrows(GlobalException.class, () -> {
       transactionService.overMillionSendMoney(userId, senderAccountNumber,
           userName, userBirthDay, userEmail, userPassword,
           receiverAccountNumber, amount);
     });
+    assertEquals(ErrorCode.ACCOUNT_NOT_FOUND, exception.getErrorCode());
   }
 
+  @Test
+  void saveFailedUseTransactions_SkipMissingAccount() {
+    // given
+    UserEntity user = UserEntity.builder().id(1L).name("John").build();
+    AccountEntity userAccount = AccountEntity.builder()
+        .id(1L).accountNumber("1000000001").user(user).balance(500L)
+        .build();
+    AccountEntity receiverAccount = AccountEntity.builder()
+        .id(2L).accountNumber("1000000002").user(user).balance(0L)
+        .build();
+    List<FailedTransactionDto> failures = List.of(
+        new FailedTransactionDto(1L, "1000000001", "1000000002", 1000L,
+            LocalDateTime.now()),
+        new FailedTransactionDto(1L, "1000000001", "9999999999", 1000L,
+            LocalDateTime.now()));
+
+    when(accountRepository.findAllByAccountNumberIn(any()))
+        .thenReturn(List.of(userAccount, receiverAccount));
+    when(userRepository.getReferenceById(1L)).thenReturn(user);
+
+    // when
+    int saved = transactionService.saveFailedUseTransactions(failures);
+
+    // then
+    assertEquals(1, saved);
+    ArgumentCaptor<List<TransactionWriter.Entry>> captor =
+        ArgumentCaptor.forClass(List.class);
+    verify(transactionWriter, times(1)).saveAll(captor.capture());
+    TransactionEntity transaction = captor.getValue().get(0).transaction();
+    assertEquals(TransactionResultType.FAIL,
+        transaction.getTransactionResultType());
+    assertEquals(500L, transaction.getBalanceSnapshot());
+  }
+
+  @Test
+  void applyGroup_FailingItem_DoesNotPoisonOthers() {
+    // given: 같은 배치에서 첫 번째 출금은 잔액 부족, 두 번째 입금은 정상
+    UserEntity user = UserEntity.builder().id(1L).name("John").build();
+    AccountEntity account = AccountEntity.builder()
+        .id(1L).accountNumber("1000000001").user(user).balance(10000L)
+        .accountStatus(AccountStatus.ACTIVATED)
+        .build();
+    List<GroupCommitExecutor.Operation> operations = List.of(
+        new GroupCommitExecutor.Operation(
+            GroupCommitExecutor.Type.USE_BALANCE, 1L, "1000000001", 20000L,
+            null),
+        new GroupCommitExecutor.Operation(
+            GroupCommitExecutor.Type.SAVE_MONEY, 1L, "1000000001", 1000L,
+            null));
+
+    when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+    when(accountRepository.findByAccountNumber("1000000001"))
+        .thenReturn(Optional.of(account));
+    when(transactionWriter.save(any(TransactionEntity.class), any(), any()))
+        .thenAnswer(invocation -> invocation.getArgument(0));
+
+    // when
+    List<GroupCommitExecutor.Result> results =
+        transactionService.applyGroup(operations);
+
+    // then
+    assertEquals(ErrorCode.AMOUNT_EXCEED_BALANCE,
+        results.get(0).error().getErrorCode());
+    assertEquals(1000L, results.get(1).transaction().getAmount());
+    assertEquals(11000L, account.getBalance());
+  }
 
-}
\ No newline at end of file
+  @Test
+  void getTransaction_MoreRowsThanPage_ReturnsNextCursor() {
+    // given: size 2 요청에 3 건 조회 -> 다음 페이지 있음
+    UserEntity user = UserEntity.builder().id(1L).name("John").build();
+    LocalDateTime now = LocalDateTime.of(2024, 1, 31, 12, 0);
+    List<TransactionHistoryRow> rows = List.of(
+        historyRow(30L, now),
+        historyRow(20L, now),
+        historyRow(10L, now.minusDays(1)));
+
+    when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+    ArgumentCaptor<Pageable> pageable = ArgumentCaptor.forClass(Pageable.class);
+    when(transactionHistoryRepository.findPageByUserId(any(), any(), any(),
+        pageable.capture())).thenReturn(rows);
+
+    // when
+    TransactionPageDto page = transactionService.getTransaction(1L, null, 2);
+
+    // then
+    assertEquals(3, pageable.getValue().getPageSize());
+    assertEquals(2, page.getTransactions().size());
+    TransactionCursor next = TransactionCursor.decode(page.getNextCursor());
+    assertEquals(now, next.transactedAt());
+    assertEquals(20L, next.id());
+  }
+
+  @Test
+  void getTransaction_LastPage_NoNextCursor() {
+    // given
+    UserEntity user = UserEntity.builder().id(1L).name("John").build();
+    LocalDateTime transactedAt = LocalDateTime.of(2024, 1, 31, 12, 0);
+    String cursor = new TransactionCursor("", transactedAt, 20L).encode();
+
+    when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+    ArgumentCaptor<Pageable> pageable = ArgumentCaptor.forClass(Pageable.class);
+    when(transactionHistoryRepository.findPageByUserId(eq(1L), eq(transactedAt),
+        eq(20L), pageable.capture()))
+        .thenReturn(List.of(historyRow(10L, transactedAt)));
+
+    // when: 최대 크기보다 큰 요청
+    TransactionPageDto page =
+        transactionService.getTransaction(1L, cursor, 1000);
+
+    // then
+    assertEquals(transactionProperties.getHistory().getMaxPageSize() + 1,
+        pageable.getValue().getPageSize());
+    assertEquals(1, page.getTransactions().size());
+    assertNull(page.getNextCursor());
+  }
+
+  @Test
+  void getTransaction_HotExhausted_ContinuesIntoPartition() {
+    // given: hot 테이블에 1 건, 2023-12 파티션에서 나머지를 채움
+    UserEntity user = UserEntity.builder().id(1L).name("John").build();
+    LocalDateTime hotAt = LocalDateTime.of(2024, 1, 5, 12, 0);
+    LocalDateTime partitionAt = LocalDateTime.of(2023, 12, 20, 12, 0);
+    YearMonth month = YearMonth.of(2023, 12);
+
+    when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+    when(partitionService.months(any(), any())).thenReturn(List.of(month));
+    when(transactionHistoryRepository.findPageByUserId(any(), any(), any(),
+        any())).thenReturn(List.of(historyRow(30L, hotAt)));
+    when(monthReader.findPageByUserId(month, 1L, hotAt, 30L, 2))
+        .thenReturn(List.of(historyRow(20L, partitionAt),
+            historyRow(10L, partitionAt)));
+
+    // when
+    TransactionPageDto page = transactionService.getTransaction(1L, null, 2);
+
+    // then
+    assertEquals(2, page.getTransactions().size());
+    TransactionCursor next = TransactionCursor.decode(page.getNextCursor());
+    assertEquals(partitionAt, next.transactedAt());
+    assertEquals(20L, next.id());
+  }
+
+  @Test
+  void getTransaction_InvalidCursor_ThrowsGlobalException() {
+    // given
+    when(userRepository.findById(1L)).thenReturn(
+        Optional.of(UserEntity.builder().id(1L).build()));
+
+    // when
+    GlobalException exception = assertThrows(GlobalException.class,
+        () -> transactionService.getTransaction(1L, "not-a-cursor", 10));
+
+    // then
+    assertEquals(ErrorCode.INVALID_CURSOR, exception.getErrorCode());
+  }
+
+  @Test
+  void cancelBalance_PrunedTransaction_TooOldToCancel() {
+    // given: 취소 기간이 지나 transactions 에서 정리된 거래
+    String transactionId = "0000000000000000007";
+    when(userRepository.findById(1L)).thenReturn(
+        Optional.of(UserEntity.builder().id(1L).build()));
+    when(transactionRepository.findByTransactionId(7L))
+        .thenReturn(Optional.empty());
+    when(partitionService.isPrunedTransaction(7L)).thenReturn(true);
+
+    // when
+    GlobalException exception = assertThrows(GlobalException.class,
+        () -> transactionService.cancelBalance(1L, transactionId,
+            "1000000001", "1000000002", 1000L));
+
+    // then
+    assertEquals(ErrorCode.TOO_OLD_ORDER_TO_CANCEL, exception.getErrorCode());
+  }
+
+  @Test
+  void cancelBalance_OutOfRangeTransactionId_NotFound() {
+    // given: 19자리지만 long 범위를 넘는 거래 ID
+    when(userRepository.findById(1L)).thenReturn(
+        Optional.of(UserEntity.builder().id(1L).build()));
+
+    // when
+    GlobalException exception = assertThrows(GlobalException.class,
+        () -> transactionService.cancelBalance(1L, "9999999999999999999",
+            "1000000001", "1000000002", 1000L));
+
+    // then
+    assertEquals(ErrorCode.TRANSACTION_NOT_FOUND, exception.getErrorCode());
+    verify(transactionRepository, never()).findByTransactionId(any());
+  }
+
+  @Test
+  void getOrderByName_SeeksFromCursorReceiversSortKey() {
+    // given
+    LocalDateTime transactedAt = LocalDateTime.of(2024, 1, 31, 12, 0);
+    String cursor = new TransactionCursor("김철수", transactedAt, 20L).encode();
+    when(userRepository.findById(1L)).thenReturn(
+        Optional.of(UserEntity.builder().id(1L).build()));
+    ArgumentCaptor<byte[]> sortKey = ArgumentCaptor.forClass(byte[].class);
+    when(transactionHistoryRepository.findPageByUserIdOrderByReceiver(
+        eq(1L), sortKey.capture(), eq(transactedAt), eq(20L), any()))
+        .thenReturn(List.of());
+
+    // when
+    transactionService.getOrderByName(1L, cursor, 10);
+
+    // then
+    assertArrayEquals(NameSortKey.of("김철수"), sortKey.getValue());
+  }
+
+  private static TransactionHistoryRow historyRow(Long id,
+      LocalDateTime transactedAt) {
+    return new TransactionHistoryRow("1000000001", 1000L, transactedAt,
+        "John", "Jane", id, NameSortKey.of("Jane"));
+  }
+}
@@ -0,0 +1,246 @@
+package com.example.accountz.service;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.example.accountz.config.TransactionProperties;
+import com.example.accountz.persist.entity.NameSortKey;
+import com.example.accountz.persist.entity.TransactionEntity;
+import com.example.accountz.persist.entity.TransactionHistoryEntity;
+import com.example.accountz.persist.repository.DailyAccountSummaryRepository;
+import com.example.accountz.persist.repository.TransactionHistoryPartitionRepository;
+import com.example.accountz.persist.repository.TransactionHistoryRepository;
+import com.example.accountz.persist.repository.TransactionRepository;
+import com.example.accountz.type.TransactionDirection;
+import com.example.accountz.type.TransactionResultType;
+import com.example.accountz.type.TransactionType;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class TransactionWriterTest {
+
+  @Mock
+  private TransactionRepository transactionRepository;
+
+  @Mock
+  private TransactionHistoryRepository transactionHistoryRepository;
+
+  @Mock
+  private TransactionHistoryPartitionRepository partitionRepository;
+
+  @Mock
+  private TransactionHistoryPartitionService partitionService;
+
+  @Mock
+  private DailyAccountSummaryRepository dailyAccountSummaryRepository;
+
+  @Mock
+  private ReceiverSearchService receiverSearchService;
+
+  @Mock
+  private HotAccountService hotAccountService;
+
+  @Spy
+  private TransactionProperties transactionProperties =
+      new TransactionProperties();
+
+  @InjectMocks
+  private TransactionWriter transactionWriter;
+
+  private static final LocalDate DATE = LocalDate.of(2024, 1, 1);
+
+  private final TransactionWriter.Party sender =
+      new TransactionWriter.Party(1L, "보낸사람", 10L, "1000000001");
+  private final TransactionWriter.Party receiver =
+      new TransactionWriter.Party(2L, "받는사람", 20L, "1000000002");
+
+  @Test
+  void save_WritesSentAndReceivedHistory() {
+    // given
+    TransactionEntity transaction = transaction(TransactionType.USE);
+    when(transactionRepository.save(any())).thenReturn(transaction);
+
+    // when
+    transactionWriter.save(transaction, sender, receiver);
+
+    // then: 보낸 사람 / 받는 사람이 각자 자기 내역 행을 가진다
+    ArgumentCaptor<List<TransactionHistoryEntity>> captor =
+        ArgumentCaptor.forClass(List.class);
+    verify(transactionHistoryRepository).saveAll(captor.capture());
+    List<TransactionHistoryEntity> history = captor.getValue();
+    assertEquals(2, history.size());
+
+    TransactionHistoryEntity sent = history.get(0);
+    assertEquals(TransactionDirection.SENT, sent.getDirection());
+    assertEquals(1L, sent.getOwnerUserId());
+    assertEquals(10L, sent.getOwnerAccountId());
+
+    TransactionHistoryEntity received = history.get(1);
+    assertEquals(TransactionDirection.RECEIVED, received.getDirection());
+    assertEquals(2L, received.getOwnerUserId());
+    assertEquals(20L, received.getOwnerAccountId());
+
+    for (TransactionHistoryEntity row : history) {
+      assertEquals(7L, row.getTransactionId());
+      assertEquals("보낸사람", row.getSenderName());
+      assertEquals("1000000001", row.getSenderAccountNumber());
+      assertEquals("받는사람", row.getReceiverName());
+      assertArrayEquals(NameSortKey.of("받는사람"), row.getReceiverSortKey());
+      assertEquals("1000000002", row.getReceiverAccountNumber());
+      assertEquals(1000L, row.getAmount());
+      assertEquals(TransactionType.USE, row.getTransactionType());
+    }
+  }
+
+  @Test
+  void expire_UpdatesTransactionAndHistory() {
+    // given
+    TransactionEntity transaction = transaction(TransactionType.USE);
+
+    // when
+    transactionWriter.expire(transaction);
+
+    // then
+    assertEquals(TransactionResultType.EXPRIED_AFTER_SUCCESS,
+        transaction.getTransactionResultType());
+    verify(transactionHistoryRepository).updateResultType(
+        7L, TransactionResultType.EXPRIED_AFTER_SUCCESS);
+    verify(partitionRepository, never()).updateResultType(any(), any(), any());
+  }
+
+  @Test
+  void expire_PartitionedMonth_UpdatesPartitionToo() {
+    // given
+    TransactionEntity transaction = transaction(TransactionType.USE);
+    when(partitionService.isPartitioned(YearMonth.from(DATE)))
+        .thenReturn(true);
+
+    // when
+    transactionWriter.expire(transaction);
+
+    // then
+    verify(partitionRepository).updateResultType(YearMonth.from(DATE), 7L,
+        TransactionResultType.EXPRIED_AFTER_SUCCESS);
+  }
+
+  @Test
+  void save_Transfer_DebitsSenderAndCreditsReceiver() {
+    // given
+    TransactionEntity transaction = transaction(TransactionType.USE);
+    when(transactionRepository.save(any())).thenReturn(transaction);
+
+    // when
+    transactionWriter.save(transaction, sender, receiver);
+
+    // then
+    verify(dailyAccountSummaryRepository)
+        .merge(10L, DATE, 0, 0L, 1000L, 1);
+    verify(dailyAccountSummaryRepository)
+        .merge(20L, DATE, 0, 1000L, 0L, 1);
+  }
+
+  @Test
+  void save_Cancel_ReversesTransfer() {
+    // given
+    TransactionEntity transaction = transaction(TransactionType.CANCEL);
+    when(transactionRepository.save(any())).thenReturn(transaction);
+
+    // when
+    transactionWriter.save(transaction, sender, receiver);
+
+    // then: 받는 사람 계좌에서 보낸 사람 계좌로 되돌린다
+    verify(dailyAccountSummaryRepository)
+        .merge(10L, DATE, 0, 1000L, 0L, 1);
+    verify(dailyAccountSummaryRepository)
+        .merge(20L, DATE, 0, 0L, 1000L, 1);
+  }
+
+  @Test
+  void saveAll_SameAccountAndDay_MergedOnce() {
+    // when
+    transactionWriter.saveAll(List.of(
+        new TransactionWriter.Entry(
+            transaction(TransactionType.DEPOSIT), sender, sender),
+        new TransactionWriter.Entry(
+            transaction(TransactionType.WITHDRAW), sender, sender)));
+
+    // then
+    verify(dailyAccountSummaryRepository)
+        .merge(10L, DATE, 0, 1000L, 1000L, 2);
+  }
+
+  @Test
+  void save_HotReceiver_CreditsRandomShard() {
+    // given
+    TransactionEntity transaction = transaction(TransactionType.USE);
+    when(transactionRepository.save(any())).thenReturn(transaction);
+    when(hotAccountService.isHot("1000000002")).thenReturn(true);
+    transactionProperties.getSummary().setHotShards(4);
+
+    // when
+    transactionWriter.save(transaction, sender, receiver);
+
+    // then: 보낸 사람은 shard 0, hot 계좌인 받는 사람은 임의의 shard
+    verify(dailyAccountSummaryRepository)
+        .merge(10L, DATE, 0, 0L, 1000L, 1);
+    ArgumentCaptor<Integer> shard = ArgumentCaptor.forClass(Integer.class);
+    verify(dailyAccountSummaryRepository)
+        .merge(eq(20L), eq(DATE), shard.capture(), eq(1000L), eq(0L), eq(1));
+    assertTrue(shard.getValue() >= 0 && shard.getValue() < 4);
+  }
+
+  @Test
+  void saveAll_FailedTransaction_NotSummarized() {
+    // given
+    TransactionEntity failed = transaction(TransactionType.USE);
+    failed.setTransactionResultType(TransactionResultType.FAIL);
+
+    // when
+    transactionWriter.saveAll(List.of(
+        new TransactionWriter.Entry(failed, sender, receiver)));
+
+    // then
+    verify(dailyAccountSummaryRepository, never())
+        .merge(anyLong(), any(), anyInt(), anyLong(), anyLong(), anyInt());
+  }
+
+  @Test
+  void save_AddsReceiverToSendersSearchIndex() {
+    // given
+    TransactionEntity transaction = transaction(TransactionType.USE);
+    when(transactionRepository.save(any())).thenReturn(transaction);
+
+    // when: 트랜잭션 밖에서는 바로 반영
+    transactionWriter.save(transaction, sender, receiver);
+
+    // then
+    verify(receiverSearchService).addReceiver(1L, "받는사람");
+  }
+
+  private TransactionEntity transaction(TransactionType transactionType) {
+    return TransactionEntity.builder()
+        .transactionId(7L)
+        .transactionType(transactionType)
+        .amount(1000L)
+        .transactionResultType(TransactionResultType.SUCCESS)
+        .transactedAt(DATE.atTime(12, 0))
+        .build();
+  }
+}
@@ -19,6 +19,7 @@ import com.example.accountz.persist.repository.AccountRepository;
 import com.example.accountz.security.JwtTokenExtract;
 import com.example.accountz.security.TokenProvider;
 import com.example.accountz.service.AccountService;
+import com.example.accountz.service.HotAccountService;
 import com.example.accountz.service.UserService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import java.time.LocalDateTime;
@@ -46,6 +47,9 @@ class AccountControllerTest {
   @MockBean
   private AccountService accountService;
 
+  @MockBean
+  private HotAccountService hotAccountService;
+
   @MockBean
   private UserService userService;
 
@@ -4,15 +4,22 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import com.example.accountz.exception.GlobalException;
+import com.example.accountz.model.AccountSummaryDto;
 import com.example.accountz.model.CancelBalanceDto;
+import com.example.accountz.model.ReceiverSearchDto;
 import com.example.accountz.model.SendOverMillionMoneyDto;
 import com.example.accountz.model.SendUnderMillionMoneyDto;
 import com.example.accountz.model.TransactionDto;
@@ -20,14 +27,24 @@ import com.example.accountz.model.UseBalanceDto;
 import com.example.accountz.persist.entity.UserEntity;
 import com.example.accountz.security.JwtTokenExtract;
 import com.example.accountz.security.TokenProvider;
+import com.example.accountz.service.AccountSummaryService;
+import com.example.accountz.service.BalanceCommandEngine;
+import com.example.accountz.service.BatchTransferService;
+import com.example.accountz.service.FailedTransactionRecorder;
+import com.example.accountz.service.GroupCommitExecutor;
+import com.example.accountz.service.IdempotencyService;
+import com.example.accountz.service.ReceiverSearchService;
+import com.example.accountz.service.TransactionExportService;
 import com.example.accountz.service.TransactionService;
 import com.example.accountz.service.UserService;
+import com.example.accountz.type.ErrorCode;
 import com.example.accountz.type.TransactionResultType;
 import com.example.accountz.type.TransactionType;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.function.Supplier;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -38,6 +55,7 @@ import org.springframework.security.authentication.UsernamePasswordAuthenticatio
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.ResultActions;
 
 @WebMvcTest(TransactionController.class)
@@ -46,6 +64,30 @@ class TransactionControllerTest {
   @MockBean
   private TransactionService transactionService;
 
+  @MockBean
+  private BatchTransferService batchTransferService;
+
+  @MockBean
+  private BalanceCommandEngine balanceCommandEngine;
+
+  @MockBean
+  private GroupCommitExecutor groupCommitExecutor;
+
+  @MockBean
+  private IdempotencyService idempotencyService;
+
+  @MockBean
+  private FailedTransactionRecorder failedTransactionRecorder;
+
+  @MockBean
+  private TransactionExportService transactionExportService;
+
+  @MockBean
+  private AccountSummaryService accountSummaryService;
+
+  @MockBean
+  private ReceiverSearchService receiverSearchService;
+
   @MockBean
   private JwtTokenExtract jwtTokenExtract;
 
@@ -227,6 +269,147 @@ class TransactionControllerTest {
             jsonPath("$.transactionAt").value(localDateTime.toString()));
   }
 
+  @Test
+  @WithMockUser(username = "test@example.com", roles = "USER")
+  void underMillionSendMoney_EngineEnabled_RoutedToEngine() throws Exception {
+    // Given
+    String userAccountNumber = "1234567890";
+    String receiverAccountNumber = "0987654321";
+    Long amount = 100000L;
+    given(balanceCommandEngine.handles(userAccountNumber)).willReturn(true);
+    given(balanceCommandEngine.sendMoney(
+        anyLong(), anyString(), anyString(), anyLong()))
+        .willReturn(TransactionDto.builder()
+            .userAccountNumber(userAccountNumber)
+            .receiverAccountNumber(receiverAccountNumber)
+            .transactionType(TransactionType.USE)
+            .transactionResultType(
+                TransactionResultType.SUCCESS)
+            .amount(amount)
+            .transactionId("transactionIdForCancel")
+            .balanceSnapshot(500L)
+            .transactedAt(LocalDateTime.now())
+            .build());
+    // When & Then
+    SendUnderMillionMoneyDto.Request request = new SendUnderMillionMoneyDto.Request(
+        userAccountNumber, receiverAccountNumber, amount);
+    mockMvc.perform(post("/transaction/under-million-send-money")
+            .with(csrf())
+            .header("Authorization", accessToken)
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(objectMapper.writeValueAsString(request)))
+        .andExpect(status().isOk())
+        .andExpect(
+            jsonPath("$.userAccountNumber").value(userAccountNumber))
+        .andExpect(jsonPath("$.amount").value(amount));
+
+    verify(transactionService, never()).underMillionSendMoney(
+        anyLong(), anyString(), anyString(), anyLong());
+  }
+
+  @Test
+  @WithMockUser(username = "test@example.com", roles = "USER")
+  void underMillionSendMoney_IdempotencyKey_BypassesEngine() throws Exception {
+    // Given
+    String userAccountNumber = "1234567890";
+    String receiverAccountNumber = "0987654321";
+    Long amount = 100000L;
+    given(balanceCommandEngine.handles(userAccountNumber)).willReturn(true);
+    given(idempotencyService.execute(
+        anyLong(), anyString(), anyString(), any()))
+        .willAnswer(invocation ->
+            invocation.<Supplier<TransactionDto>>getArgument(3).get());
+    given(transactionService.underMillionSendMoney(
+        anyLong(), anyString(), anyString(), anyLong()))
+        .willReturn(TransactionDto.builder()
+            .userAccountNumber(userAccountNumber)
+            .receiverAccountNumber(receiverAccountNumber)
+            .transactionType(TransactionType.USE)
+            .transactionResultType(
+                TransactionResultType.SUCCESS)
+            .amount(amount)
+            .transactionId("transactionIdForCancel")
+            .balanceSnapshot(500L)
+            .transactedAt(LocalDateTime.now())
+            .build());
+    // When & Then
+    SendUnderMillionMoneyDto.Request request = new SendUnderMillionMoneyDto.Request(
+        userAccountNumber, receiverAccountNumber, amount);
+    mockMvc.perform(post("/transaction/under-million-send-money")
+            .with(csrf())
+            .header("Authorization", accessToken)
+            .header("Idempotency-Key", "key-1")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(objectMapper.writeValueAsString(request)))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.amount").value(amount));
+
+    verify(balanceCommandEngine, never()).sendMoney(
+        anyLong(), anyString(), anyString(), anyLong());
+  }
+
+  @Test
+  @WithMockUser(username = "test@example.com", roles = "USER")
+  void saveMoney_IdempotencyKey_BypassesGroupCommit() throws Exception {
+    // Given
+    String accountNumber = "1234567890";
+    Long amount = 100000L;
+    given(groupCommitExecutor.isEnabled()).willReturn(true);
+    given(idempotencyService.execute(
+        anyLong(), anyString(), anyString(), any()))
+        .willAnswer(invocation ->
+            invocation.<Supplier<TransactionDto>>getArgument(3).get());
+    given(transactionService.saveMoney(anyLong(), anyString(), anyLong()))
+        .willReturn(TransactionDto.builder()
+            .userAccountNumber(accountNumber)
+            .transactionType(TransactionType.DEPOSIT)
+            .transactionResultType(TransactionResultType.SUCCESS)
+            .amount(amount)
+            .transactionId("transactionId")
+            .balanceSnapshot(amount)
+            .transactedAt(LocalDateTime.now())
+            .build());
+    // When & Then
+    mockMvc.perform(post("/transaction/save-money")
+            .with(csrf())
+            .header("Authorization", accessToken)
+            .header("Idempotency-Key", "key-1")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(objectMapper.writeValueAsString(
+                new UseBalanceDto.Request(accountNumber, amount))))
+        .andExpect(status().isOk());
+
+    verify(groupCommitExecutor, never()).saveMoney(
+        anyLong(), anyString(), anyLong());
+  }
+
+  @Test
+  @WithMockUser(username = "test@example.com", roles = "USER")
+  void underMillionSendMoney_EngineTimeout_NotRecordedAsFailure()
+      throws Exception {
+    // Given
+    String userAccountNumber = "1234567890";
+    String receiverAccountNumber = "0987654321";
+    Long amount = 100000L;
+    given(balanceCommandEngine.handles(userAccountNumber)).willReturn(true);
+    given(balanceCommandEngine.sendMoney(
+        anyLong(), anyString(), anyString(), anyLong()))
+        .willThrow(new GlobalException(ErrorCode.TRANSACTION_RESULT_UNKNOWN));
+    // When & Then
+    SendUnderMillionMoneyDto.Request request = new SendUnderMillionMoneyDto.Request(
+        userAccountNumber, receiverAccountNumber, amount);
+    mockMvc.perform(post("/transaction/under-million-send-money")
+            .with(csrf())
+            .header("Authorization", accessToken)
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(objectMapper.writeValueAsString(request)))
+        .andExpect(jsonPath("$.errorCode")
+            .value(ErrorCode.TRANSACTION_RESULT_UNKNOWN.name()));
+
+    verify(failedTransactionRecorder, never()).record(
+        anyLong(), anyString(), anyString(), anyLong());
+  }
+
   @Test
   @WithMockUser(username = "test@example.com", roles = "USER")
   void overMillionSendMoney_Success() throws Exception {
@@ -320,4 +503,89 @@ class TransactionControllerTest {
             jsonPath("$.transactionAt").value(localDateTime.toString()));
   }
 
+  @Test
+  @WithMockUser(username = "test@example.com", roles = "USER")
+  void getTransaction_StreamMode_WritesNdjson() throws Exception {
+    // given
+    given(transactionExportService.exportTransaction(user.getId()))
+        .willReturn(out -> out.write(
+            "{\"amount\":1000}\n{\"amount\":2000}\n".getBytes()));
+
+    // when
+    MvcResult result = mockMvc.perform(get("/transaction/get-transaction")
+            .param("stream", "true")
+            .header("Authorization", accessToken))
+        .andExpect(request().asyncStarted())
+        .andReturn();
+
+    // then
+    mockMvc.perform(asyncDispatch(result))
+        .andExpect(status().isOk())
+        .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+        .andExpect(content().string(
+            "{\"amount\":1000}\n{\"amount\":2000}\n"));
+    verify(transactionService, never())
+        .getTransaction(anyLong(), any(), any());
+  }
+
+  @Test
+  @WithMockUser(username = "test@example.com", roles = "USER")
+  void getAccountSummary_ReturnsPeriodTotals() throws Exception {
+    // given
+    String accountNumber = "1000000001";
+    given(accountSummaryService.getAccountSummary(
+        user.getId(), accountNumber, 30))
+        .willReturn(AccountSummaryDto.builder()
+            .accountNumber(accountNumber)
+            .creditAmount(5000L)
+            .debitAmount(2000L)
+            .transactionCount(3L)
+            .days(List.of(AccountSummaryDto.Daily.builder()
+                .date(LocalDate.of(2024, 1, 1))
+                .creditAmount(5000L)
+                .debitAmount(2000L)
+                .transactionCount(3)
+                .closingBalance(3000L)
+                .build()))
+            .build());
+
+    // when
+    ResultActions resultActions = mockMvc.perform(
+        post("/transaction/get-account-summary")
+            .param("days", "30")
+            .with(csrf())
+            .header("Authorization", accessToken)
+            .contentType(MediaType.APPLICATION_JSON)
+            .content("{\"accountNumber\":\"" + accountNumber + "\"}"));
+
+    // then
+    resultActions
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.creditAmount").value(5000))
+        .andExpect(jsonPath("$.debitAmount").value(2000))
+        .andExpect(jsonPath("$.days[0].closingBalance").value(3000));
+  }
+
+  @Test
+  @WithMockUser(username = "test@example.com", roles = "USER")
+  void searchReceiver_ReturnsMatchingNames() throws Exception {
+    // given
+    given(receiverSearchService.search(user.getId(), "김ㅊ", null))
+        .willReturn(ReceiverSearchDto.builder()
+            .query("김ㅊ")
+            .receivers(List.of("김철수", "김춘자"))
+            .build());
+
+    // when
+    ResultActions resultActions = mockMvc.perform(
+        get("/transaction/search-receiver")
+            .param("query", "김ㅊ")
+            .header("Authorization", accessToken));
+
+    // then
+    resultActions
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.receivers[0]").value("김철수"))
+        .andExpect(jsonPath("$.receivers[1]").value("김춘자"));
+  }
 }